@@ -3,6 +3,7 @@ plugins {
     id("org.springframework.boot") version "3.4.1"
     id("io.spring.dependency-management") version "1.1.7"
     id("com.ewerk.gradle.plugins.querydsl") version "1.0.10" apply false
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.crypto.market"
@@ -27,6 +28,7 @@ repositories {
 dependencies {
     // Web
     implementation("org.springframework.boot:spring-boot-starter-web")
+    implementation("org.apache.httpcomponents.client5:httpclient5")
 
     // Data
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
@@ -74,8 +76,42 @@ dependencies {
     testRuntimeOnly("com.h2database:h2")
 }
 
+// 지표 SIMD 커널용 Vector API (인큐베이터 모듈). 모듈 없이 실행하면 스칼라 커널로 대체
+val vectorModule = listOf("--add-modules", "jdk.incubator.vector")
+
 tasks.withType<Test> {
     useJUnitPlatform()
+    jvmArgs(vectorModule)
+}
+
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+    jvmArgs(vectorModule)
+}
+
+// 부하 테스트(@Tag("load"))는 기본 test에서 제외 - ./gradlew loadTest
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("load")
+    }
+}
+
+tasks.register<Test>("loadTest") {
+    description = "Runs load tests tagged with 'load'."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+}
+
+// JMH 벤치마크 (src/jmh/java) - ./gradlew jmh
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+    profilers = listOf("gc")
+    jvmArgsAppend = vectorModule
 }
 
 // QueryDSL 설정
@@ -93,6 +129,12 @@ tasks.withType<JavaCompile> {
     options.generatedSourceOutputDirectory.set(file(querydslDir))
 }
 
+// jdk.incubator.vector를 import하는 곳은 main의 VectorKernels뿐이므로 main 컴파일에만 모듈을 추가한다.
+// 인큐베이터 모듈 사용 경고("using incubating module(s)")는 이 태스크에서 한 번 출력되며, 의도한 것이다
+tasks.named<JavaCompile>("compileJava") {
+    options.compilerArgs.addAll(vectorModule)
+}
+
 tasks.named("clean") {
     doLast {
         file(querydslDir).deleteRecursively()
@@ -0,0 +1,96 @@
+package com.crypto.market.insight.benchmark;
+
+import com.crypto.market.insight.domain.market.cache.OhlcKeyGenerator;
+import com.crypto.market.insight.domain.market.client.CoinGeckoClient;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+
+/**
+ * OHLC 캐시 키 생성/조회 비교
+ * <ul>
+ *     <li>spel: 기존 {@code #coinId + ':' + #vsCurrency + ':' + #days} SpEL 키 (파싱된 식 재사용, 호출마다 평가 컨텍스트 생성)</li>
+ *     <li>typed: {@link OhlcKeyGenerator}가 만드는 {@code OhlcKey} (해시 코드 미리 계산)</li>
+ * </ul>
+ * {@code *Lookup}은 키 생성 + 100개 항목 Caffeine 캐시 조회까지 측정합니다. {@code -prof gc}로 호출당 할당량을 함께 비교합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheKeyBenchmark {
+
+    private static final int COINS = 100;
+
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final OhlcKeyGenerator keyGenerator = new OhlcKeyGenerator();
+
+    private Method getOhlc;
+    private Expression spelKey;
+    private Object[][] arguments;
+    private Cache<Object, Object> spelCache;
+    private Cache<Object, Object> typedCache;
+    private int next;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        getOhlc = CoinGeckoClient.class.getMethod("getOhlc", String.class, String.class, String.class);
+        spelKey = new SpelExpressionParser().parseExpression("#coinId + ':' + #vsCurrency + ':' + #days");
+
+        arguments = new Object[COINS][];
+        spelCache = Caffeine.newBuilder().build();
+        typedCache = Caffeine.newBuilder().build();
+        for (int i = 0; i < COINS; i++) {
+            arguments[i] = new Object[]{"coin-" + i, "usd", "30"};
+            spelCache.put(spel(arguments[i]), Boolean.TRUE);
+            typedCache.put(typed(arguments[i]), Boolean.TRUE);
+        }
+    }
+
+    @Benchmark
+    public Object spel() {
+        return spel(nextArguments());
+    }
+
+    @Benchmark
+    public Object typed() {
+        return typed(nextArguments());
+    }
+
+    @Benchmark
+    public Object spelLookup() {
+        return spelCache.getIfPresent(spel(nextArguments()));
+    }
+
+    @Benchmark
+    public Object typedLookup() {
+        return typedCache.getIfPresent(typed(nextArguments()));
+    }
+
+    private Object[] nextArguments() {
+        next = (next + 1) % COINS;
+        return arguments[next];
+    }
+
+    private Object spel(Object[] args) {
+        MethodBasedEvaluationContext context =
+                new MethodBasedEvaluationContext(null, getOhlc, args, parameterNameDiscoverer);
+        return spelKey.getValue(context);
+    }
+
+    private Object typed(Object[] args) {
+        return keyGenerator.generate(null, getOhlc, args);
+    }
+}
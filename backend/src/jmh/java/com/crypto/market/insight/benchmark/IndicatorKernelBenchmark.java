@@ -0,0 +1,100 @@
+package com.crypto.market.insight.benchmark;
+
+import com.crypto.market.insight.domain.market.indicator.Indicators;
+import com.crypto.market.insight.domain.market.indicator.kernel.IndicatorKernels;
+import com.crypto.market.insight.domain.market.indicator.kernel.ScalarKernels;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 지표 커널 비교 (긴 시계열)
+ * <ul>
+ *     <li>scalar: {@link ScalarKernels}</li>
+ *     <li>vector: JDK Vector API 커널 ({@code --add-modules jdk.incubator.vector} 필요)</li>
+ *     <li>sma: 기존 {@link Indicators#sma} 순차 이동 합계 (기준선, kernel 값과 무관)</li>
+ * </ul>
+ * 커널은 호출자 배열에 기록하므로 호출당 할당은 분산의 임시 배열 2개뿐입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IndicatorKernelBenchmark {
+
+    private static final int PERIOD = 20;
+
+    @Param({"10000", "100000", "1000000"})
+    private int points;
+
+    @Param({"scalar", "vector"})
+    private String kernel;
+
+    private IndicatorKernels kernels;
+    private double[] high;
+    private double[] low;
+    private double[] close;
+    private double[] mean;
+    private double[] out;
+    private boolean[] signals;
+
+    @Setup
+    public void setUp() {
+        boolean vector = "vector".equals(kernel);
+        kernels = IndicatorKernels.select(vector);
+        if (vector && kernels == ScalarKernels.INSTANCE) {
+            throw new IllegalStateException("Vector API unavailable: run with --add-modules jdk.incubator.vector");
+        }
+        Random random = new Random(42);
+        high = new double[points];
+        low = new double[points];
+        close = new double[points];
+        double price = 61942.12;
+        for (int i = 0; i < points; i++) {
+            price += random.nextGaussian() * 150;
+            close[i] = price;
+            high[i] = price + random.nextDouble() * 80;
+            low[i] = price - random.nextDouble() * 80;
+        }
+        mean = new double[points];
+        out = new double[points];
+        signals = new boolean[points];
+        kernels.rollingMean(close, PERIOD, mean);
+    }
+
+    @Benchmark
+    public double[] rollingMean() {
+        kernels.rollingMean(close, PERIOD, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] rollingVariance() {
+        kernels.rollingVariance(close, PERIOD, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] trueRange() {
+        kernels.trueRange(high, low, close, out);
+        return out;
+    }
+
+    @Benchmark
+    public boolean[] crossAbove() {
+        kernels.crossAbove(close, mean, signals);
+        return signals;
+    }
+
+    @Benchmark
+    public double[] sma() {
+        Indicators.sma(close, PERIOD, out);
+        return out;
+    }
+}
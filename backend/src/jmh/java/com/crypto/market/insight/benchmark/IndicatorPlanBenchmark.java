@@ -0,0 +1,79 @@
+package com.crypto.market.insight.benchmark;
+
+import com.crypto.market.insight.domain.market.indicator.IndicatorCalculator;
+import com.crypto.market.insight.domain.market.indicator.IndicatorPlan;
+import com.crypto.market.insight.domain.market.indicator.IndicatorValues;
+import com.crypto.market.insight.domain.market.model.vo.IndicatorSpec;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 여러 지표 계산 비교 (EMA(12), EMA(26), MACD(12,26,9), RSI(14), 볼린저(20,2))
+ * <ul>
+ *     <li>naive: 지표마다 {@link IndicatorCalculator#compute(double[], IndicatorSpec)}로 따로 계산</li>
+ *     <li>fused: {@link IndicatorPlan#compute}로 공유 계산을 합쳐 한 번에 계산 (열별 배열, 캐시 적재 경로)</li>
+ *     <li>fusedBlock: 미리 만든 계획과 배열 하나에 {@link IndicatorPlan#execute} (스크리너/백테스트 경로)</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IndicatorPlanBenchmark {
+
+    /**
+     * 180: days=30 (4시간봉), 2000: days=max 수준, 100000: 백테스트 규모
+     */
+    @Param({"180", "2000", "100000"})
+    private int candles;
+
+    private List<IndicatorSpec> specs;
+    private double[] closes;
+    private IndicatorPlan plan;
+    private double[] block;
+
+    @Setup
+    public void setUp() {
+        specs = List.of("ema:12", "ema:26", "macd:12:26:9", "rsi:14", "bb:20:2").stream()
+                .map(IndicatorSpec::parse)
+                .toList();
+        Random random = new Random(42);
+        closes = new double[candles];
+        double price = 61942.12;
+        for (int i = 0; i < candles; i++) {
+            price *= 1 + random.nextGaussian() * 0.01;
+            closes[i] = price;
+        }
+        plan = IndicatorPlan.of(specs);
+        block = plan.newBlock(candles);
+    }
+
+    @Benchmark
+    public List<IndicatorValues> naive() {
+        List<IndicatorValues> results = new ArrayList<>(specs.size());
+        for (IndicatorSpec spec : specs) {
+            results.add(IndicatorCalculator.compute(closes, spec));
+        }
+        return results;
+    }
+
+    @Benchmark
+    public List<IndicatorValues> fused() {
+        return IndicatorPlan.of(specs).compute(closes);
+    }
+
+    @Benchmark
+    public double[] fusedBlock() {
+        plan.execute(closes, block);
+        return block;
+    }
+}
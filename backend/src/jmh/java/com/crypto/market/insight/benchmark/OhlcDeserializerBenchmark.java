@@ -0,0 +1,129 @@
+package com.crypto.market.insight.benchmark;
+
+import com.crypto.market.insight.domain.market.dto.OhlcColumnarParser;
+import com.crypto.market.insight.domain.market.dto.OhlcData;
+import com.crypto.market.insight.domain.market.model.vo.OhlcColumnBuffer;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * OHLC 응답 역직렬화 비교
+ * <ul>
+ *     <li>tree: 기존 JsonNode 트리 + asText() → BigDecimal 방식</li>
+ *     <li>streaming: 토큰 스트리밍 {@code OhlcDataDeserializer}</li>
+ *     <li>columnar: {@link OhlcColumnarParser}로 primitive 컬럼 버퍼에 기록</li>
+ * </ul>
+ * {@code -prof gc}로 호출당 할당량을 함께 비교합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OhlcDeserializerBenchmark {
+
+    /**
+     * 48: days=1 (30분봉), 180: days=30 (4시간봉), 2000: days=max 수준
+     */
+    @Param({"48", "180", "2000"})
+    private int candles;
+
+    private byte[] payload;
+    private ObjectMapper streamingMapper;
+    private ObjectMapper treeMapper;
+    private OhlcColumnBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("[");
+        long timestamp = 1709395200000L;
+        double price = 61942.12;
+        for (int i = 0; i < candles; i++) {
+            double open = price;
+            double close = price + random.nextGaussian() * 150;
+            double high = Math.max(open, close) + random.nextDouble() * 80;
+            double low = Math.min(open, close) - random.nextDouble() * 80;
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('[').append(timestamp)
+                    .append(',').append(round(open))
+                    .append(',').append(round(high))
+                    .append(',').append(round(low))
+                    .append(',').append(round(close))
+                    .append(']');
+            timestamp += 1_800_000L;
+            price = close;
+        }
+        payload = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+        streamingMapper = new ObjectMapper();
+        treeMapper = new ObjectMapper().addMixIn(OhlcData.class, TreeDeserializerMixIn.class);
+        buffer = new OhlcColumnBuffer(candles);
+    }
+
+    @Benchmark
+    public OhlcData[] tree() throws IOException {
+        return treeMapper.readValue(payload, OhlcData[].class);
+    }
+
+    @Benchmark
+    public OhlcData[] streaming() throws IOException {
+        return streamingMapper.readValue(payload, OhlcData[].class);
+    }
+
+    @Benchmark
+    public int columnar() throws IOException {
+        buffer.clear();
+        try (JsonParser parser = streamingMapper.getFactory().createParser(payload)) {
+            return OhlcColumnarParser.parse(parser, buffer);
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    @JsonDeserialize(using = TreeOhlcDataDeserializer.class)
+    abstract static class TreeDeserializerMixIn {
+    }
+
+    /**
+     * 스트리밍 전환 이전의 트리 기반 구현 (비교 기준)
+     */
+    public static class TreeOhlcDataDeserializer extends JsonDeserializer<OhlcData> {
+
+        @Override
+        public OhlcData deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonNode node = p.getCodec().readTree(p);
+
+            if (!node.isArray() || node.size() < 5) {
+                return null;
+            }
+
+            return new OhlcData(
+                    node.get(0).asLong(),
+                    new BigDecimal(node.get(1).asText()),
+                    new BigDecimal(node.get(2).asText()),
+                    new BigDecimal(node.get(3).asText()),
+                    new BigDecimal(node.get(4).asText())
+            );
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.crypto.market.insight.common.cache;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link OffHeapTier}에 보관할 캐시 값의 바이너리 직렬화
+ */
+public interface CacheValueCodec {
+
+    /**
+     * 직렬화할 수 있는 값인지 여부. 지원하지 않는 값은 L2에 보관하지 않는다.
+     */
+    boolean supports(Object value);
+
+    byte[] encode(Object value);
+
+    /**
+     * @param buffer {@link #encode}가 만든 바이트 (position 0부터 limit까지)
+     */
+    Object decode(ByteBuffer buffer);
+}
@@ -0,0 +1,116 @@
+package com.crypto.market.insight.common.cache;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link OffHeapTier}의 고정 크기 블록 저장소
+ * <p>
+ * direct 버퍼를 1MiB 청크 단위로 필요할 때만 할당해 {@link #BLOCK_BYTES} 블록으로 나누고,
+ * 항목이 제거되면 블록을 free list로 돌려 다음 항목에 재사용합니다.
+ * 청크는 GC에 맡기지 않고 계속 재사용하므로 off-heap 사용량은 {@code capacityBytes}를 넘지 않습니다.
+ * <p>
+ * 스레드 안전하지 않으므로 호출자가 동기화해야 합니다.
+ */
+final class OffHeapSlab {
+
+    static final int BLOCK_BYTES = 256;
+    private static final int BLOCKS_PER_CHUNK = 4096;
+
+    private final ByteBuffer[] chunks;
+    private final int maxBlocks;
+    private final int[] free;
+    private int freeCount;
+    private int allocatedChunks;
+    private int usedBlocks;
+
+    OffHeapSlab(long capacityBytes) {
+        long blocks = capacityBytes / BLOCK_BYTES;
+        if (blocks < 1 || blocks > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid off-heap capacity: " + capacityBytes);
+        }
+        this.maxBlocks = (int) blocks;
+        this.chunks = new ByteBuffer[(maxBlocks + BLOCKS_PER_CHUNK - 1) / BLOCKS_PER_CHUNK];
+        this.free = new int[maxBlocks];
+    }
+
+    static int blocksFor(int bytes) {
+        return (bytes + BLOCK_BYTES - 1) / BLOCK_BYTES;
+    }
+
+    /**
+     * 비어 있는 블록에 바이트를 기록한다.
+     *
+     * @return 기록한 블록 번호 (남은 블록이 부족하면 null)
+     */
+    int[] write(byte[] data) {
+        int needed = blocksFor(data.length);
+        while (freeCount < needed && growChunk()) {
+            // 용량 안에서 청크를 더 할당한다
+        }
+        if (freeCount < needed) {
+            return null;
+        }
+        int[] blocks = new int[needed];
+        for (int i = 0; i < needed; i++) {
+            int block = free[--freeCount];
+            int offset = i * BLOCK_BYTES;
+            chunk(block).put(position(block), data, offset, Math.min(BLOCK_BYTES, data.length - offset));
+            blocks[i] = block;
+        }
+        usedBlocks += needed;
+        return blocks;
+    }
+
+    byte[] read(int[] blocks, int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < blocks.length; i++) {
+            int offset = i * BLOCK_BYTES;
+            chunk(blocks[i]).get(position(blocks[i]), data, offset, Math.min(BLOCK_BYTES, length - offset));
+        }
+        return data;
+    }
+
+    void free(int[] blocks) {
+        for (int block : blocks) {
+            free[freeCount++] = block;
+        }
+        usedBlocks -= blocks.length;
+    }
+
+    boolean fits(int bytes) {
+        return blocksFor(bytes) <= maxBlocks;
+    }
+
+    long usedBytes() {
+        return (long) usedBlocks * BLOCK_BYTES;
+    }
+
+    long reservedBytes() {
+        long bytes = 0;
+        for (int i = 0; i < allocatedChunks; i++) {
+            bytes += chunks[i].capacity();
+        }
+        return bytes;
+    }
+
+    private boolean growChunk() {
+        if (allocatedChunks == chunks.length) {
+            return false;
+        }
+        int first = allocatedChunks * BLOCKS_PER_CHUNK;
+        int count = Math.min(BLOCKS_PER_CHUNK, maxBlocks - first);
+        chunks[allocatedChunks++] = ByteBuffer.allocateDirect(count * BLOCK_BYTES);
+        for (int block = first + count - 1; block >= first; block--) {
+            free[freeCount++] = block;
+        }
+        return true;
+    }
+
+    private ByteBuffer chunk(int block) {
+        return chunks[block / BLOCKS_PER_CHUNK];
+    }
+
+    private static int position(int block) {
+        return (block % BLOCKS_PER_CHUNK) * BLOCK_BYTES;
+    }
+}
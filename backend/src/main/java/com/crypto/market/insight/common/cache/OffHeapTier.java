@@ -0,0 +1,301 @@
+package com.crypto.market.insight.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 2단계 캐시의 L2 계층
+ * <p>
+ * 값을 {@link CacheValueCodec}으로 직렬화해 힙 밖 {@link OffHeapSlab} 블록에 보관합니다.
+ * 힙에는 키와 블록 번호만 남습니다. 항목이 만료·교체·제거되면 블록을 즉시 slab에 돌려주므로
+ * off-heap 사용량은 GC 시점과 관계없이 {@code maxBytes}를 넘지 않고, 블록이 모자라면 가장 오래 쓰이지 않은
+ * 항목부터 내보냅니다. 항목마다 기록 시각을 함께 저장해 {@code freshFor}보다 오래된 항목은 L1으로 승격하지 않으며,
+ * {@code expireAfter}가 지나면 제거합니다.
+ * <p>
+ * 메트릭: {@code cache.l2.gets{result=hit|miss|stale}}, {@code cache.l2.promotions},
+ * {@code cache.l2.demotions}, {@code cache.l2.size}, {@code cache.l2.bytes}, {@code cache.l2.reserved.bytes}
+ */
+@Slf4j
+public class OffHeapTier {
+
+    private final String name;
+    private final CacheValueCodec codec;
+    private final OffHeapSlab slab;
+    private final Cache<Object, Entry> entries;
+    private final Policy.Eviction<Object, Entry> eviction;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long freshForNanos;
+    private final Ticker ticker;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter stale;
+    private final Counter promotions;
+    private final Counter demotions;
+
+    public OffHeapTier(String name, CacheValueCodec codec, long maxBytes, Duration freshFor, Duration expireAfter,
+                       MeterRegistry meterRegistry) {
+        this(name, codec, maxBytes, freshFor, expireAfter, meterRegistry, Ticker.systemTicker());
+    }
+
+    public OffHeapTier(String name, CacheValueCodec codec, long maxBytes, Duration freshFor, Duration expireAfter,
+                       MeterRegistry meterRegistry, Ticker ticker) {
+        this.name = name;
+        this.codec = codec;
+        this.slab = new OffHeapSlab(maxBytes);
+        this.freshForNanos = freshFor.toNanos();
+        this.ticker = ticker;
+        // 모든 접근을 lock 안에서 하고 리스너도 호출 스레드에서 실행되므로 블록 반환이 조회와 겹치지 않는다
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Object key, Entry entry) -> entry.blocks().length * OffHeapSlab.BLOCK_BYTES)
+                .expireAfterWrite(expireAfter)
+                .executor(Runnable::run)
+                .ticker(ticker)
+                .removalListener((Object key, Entry entry, RemovalCause cause) -> release(entry))
+                .build();
+        this.eviction = entries.policy().eviction().orElseThrow();
+
+        this.hits = getsCounter(meterRegistry, "hit");
+        this.misses = getsCounter(meterRegistry, "miss");
+        this.stale = getsCounter(meterRegistry, "stale");
+        this.promotions = Counter.builder("cache.l2.promotions")
+                .description("L2에서 L1으로 승격된 항목 수")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.demotions = Counter.builder("cache.l2.demotions")
+                .description("L1에서 용량 초과로 밀려나 L2에만 남은 항목 수")
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("cache.l2.size", this, OffHeapTier::size)
+                .description("L2 항목 수")
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("cache.l2.bytes", this, OffHeapTier::bytes)
+                .description("L2 항목이 차지한 off-heap 블록 바이트 수")
+                .tag("cache", name)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("cache.l2.reserved.bytes", this, OffHeapTier::reservedBytes)
+                .description("L2가 할당해 둔 off-heap 바이트 수 (maxBytes 이하)")
+                .tag("cache", name)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 최신 항목을 역직렬화해 반환한다. 반환된 값은 호출자가 L1에 다시 넣으므로 승격으로 집계한다.
+     *
+     * @return 값 (없거나 최신성 기준을 넘겼으면 null)
+     */
+    public Object get(Object key) {
+        Object value = read(key, true);
+        if (value != null) {
+            promotions.increment();
+        }
+        return value;
+    }
+
+    /**
+     * L1으로 승격하지 않고 읽는다. 최신성 기준을 넘긴 항목도 만료 전이면 반환하므로 호출자가 {@link #ageOf}로
+     * 오래된 값인지 판단한다.
+     *
+     * @return 값 (없으면 null)
+     */
+    public Object peek(Object key) {
+        return read(key, false);
+    }
+
+    /**
+     * 항목이 L2에 기록된 뒤 지난 시간 (승격과 관계없이 원래 기록 시각 기준, 없으면 empty)
+     */
+    public Optional<Duration> ageOf(Object key) {
+        lock.lock();
+        try {
+            Entry entry = entries.getIfPresent(key);
+            return entry == null
+                    ? Optional.empty()
+                    : Optional.of(Duration.ofNanos(ticker.read() - entry.writtenAt()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * L2에 없으면 loader로 적재하고 결과를 L2에도 기록한다.
+     */
+    public Object get(Object key, Function<Object, Object> loader) {
+        Object value = get(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.apply(key);
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * L1 쓰기와 함께 호출되는 write-through. 직렬화할 수 없거나 용량보다 큰 값이면 이전 항목만 지운다.
+     */
+    public void put(Object key, Object value) {
+        byte[] encoded = value != null && codec.supports(value) ? codec.encode(value) : null;
+        lock.lock();
+        try {
+            entries.invalidate(key);
+            if (encoded == null || !slab.fits(encoded.length)) {
+                return;
+            }
+            int[] blocks = slab.write(encoded);
+            while (blocks == null && evictColdest()) {
+                blocks = slab.write(encoded);
+            }
+            if (blocks != null) {
+                entries.put(key, new Entry(ticker.read(), encoded.length, blocks));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * L1이 용량 초과로 항목을 내보낼 때 호출. write-through로 이미 L2에 있는 항목만 강등으로 집계한다.
+     */
+    public void demote(Object key) {
+        lock.lock();
+        try {
+            if (entries.asMap().containsKey(key)) {
+                demotions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void evict(Object key) {
+        lock.lock();
+        try {
+            entries.invalidate(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            entries.invalidateAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    public long bytes() {
+        lock.lock();
+        try {
+            return slab.usedBytes();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long reservedBytes() {
+        lock.lock();
+        try {
+            return slab.reservedBytes();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 블록이 모자랄 때 만료된 항목을 먼저 정리하고, 그래도 없으면 가장 오래 쓰이지 않은 항목을 내보낸다.
+     *
+     * @return 내보낸 항목이 있는지
+     */
+    private boolean evictColdest() {
+        long before = entries.estimatedSize();
+        entries.cleanUp();
+        if (entries.estimatedSize() < before) {
+            return true;
+        }
+        Iterator<Object> coldest = eviction.coldest(1).keySet().iterator();
+        if (!coldest.hasNext()) {
+            return false;
+        }
+        entries.invalidate(coldest.next());
+        return true;
+    }
+
+    /**
+     * @param fresh true면 최신성 기준({@code freshFor})을 넘긴 항목은 반환하지 않는다
+     */
+    private Object read(Object key, boolean fresh) {
+        byte[] data;
+        lock.lock();
+        try {
+            Entry entry = entries.getIfPresent(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (fresh && ticker.read() - entry.writtenAt() > freshForNanos) {
+                stale.increment();
+                return null;
+            }
+            data = slab.read(entry.blocks(), entry.length());
+        } finally {
+            lock.unlock();
+        }
+        try {
+            Object value = codec.decode(ByteBuffer.wrap(data));
+            hits.increment();
+            return value;
+        } catch (RuntimeException e) {
+            log.warn("L2 decode failed: cache={}, key={}, error={}", name, key, e.getMessage());
+            evict(key);
+            misses.increment();
+            return null;
+        }
+    }
+
+    private void release(Entry entry) {
+        lock.lock();
+        try {
+            slab.free(entry.blocks());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Counter getsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.l2.gets")
+                .description("L2 조회 수")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param writtenAt 기록 시각 (ticker 나노초)
+     * @param length    직렬화된 바이트 수
+     * @param blocks    값을 담은 slab 블록 번호
+     */
+    private record Entry(long writtenAt, int length, int[] blocks) {
+    }
+}
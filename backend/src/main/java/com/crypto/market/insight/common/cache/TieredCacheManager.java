@@ -0,0 +1,52 @@
+package com.crypto.market.insight.common.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+/**
+ * L2가 지정된 캐시를 {@link TieredCaffeineCache}로 등록하는 {@link CaffeineCacheManager}
+ * <p>
+ * L2 없이({@code null}) 등록한 캐시는 일반 {@link org.springframework.cache.caffeine.CaffeineCache}가 됩니다.
+ */
+public class TieredCacheManager extends CaffeineCacheManager {
+
+    private final Map<String, OffHeapTier> tiers = new ConcurrentHashMap<>();
+
+    public void registerCustomCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                                    OffHeapTier l2) {
+        registerTier(name, l2);
+        registerCustomCache(name, cache);
+    }
+
+    public void registerCustomCache(String name, AsyncCache<Object, Object> cache, OffHeapTier l2) {
+        registerTier(name, l2);
+        registerCustomCache(name, cache);
+    }
+
+    private void registerTier(String name, OffHeapTier l2) {
+        if (l2 != null) {
+            tiers.put(name, l2);
+        } else {
+            tiers.remove(name);
+        }
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        OffHeapTier l2 = tiers.get(name);
+        return l2 != null
+                ? new TieredCaffeineCache(name, cache, isAllowNullValues(), l2)
+                : super.adaptCaffeineCache(name, cache);
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, AsyncCache<Object, Object> cache) {
+        OffHeapTier l2 = tiers.get(name);
+        return l2 != null
+                ? new TieredCaffeineCache(name, cache, isAllowNullValues(), l2)
+                : super.adaptCaffeineCache(name, cache);
+    }
+}
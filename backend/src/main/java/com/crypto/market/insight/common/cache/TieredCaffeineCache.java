@@ -0,0 +1,103 @@
+package com.crypto.market.insight.common.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.util.concurrent.Callable;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * Caffeine L1 + {@link OffHeapTier} L2 캐시
+ * <p>
+ * L1에 쓰는 값은 L2에도 함께 기록합니다(write-through). L1 미스는 L2에서 찾아 L1으로 승격하고,
+ * L1이 용량 초과로 내보낸 항목은 L2에 남아 다시 요청될 때 업스트림 호출 없이 복원됩니다.
+ * <p>
+ * {@link LoadingCache}(refresh-ahead)인 경우 L1 미스는 캐시 로더가 처리하므로, 로더가
+ * {@link OffHeapTier#get(Object, java.util.function.Function)}로 L2를 먼저 조회해야 합니다.
+ * {@link CaffeineCache}를 상속하므로 네이티브 캐시({@link #getNativeCache()})는 L1입니다.
+ */
+public class TieredCaffeineCache extends CaffeineCache {
+
+    private final OffHeapTier l2;
+
+    public TieredCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues, OffHeapTier l2) {
+        super(name, cache, allowNullValues);
+        this.l2 = l2;
+    }
+
+    public TieredCaffeineCache(String name, AsyncCache<Object, Object> cache, boolean allowNullValues,
+                               OffHeapTier l2) {
+        super(name, cache, allowNullValues);
+        this.l2 = l2;
+    }
+
+    public OffHeapTier getL2() {
+        return l2;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = super.lookup(key);
+        if (value != null || getNativeCache() instanceof LoadingCache) {
+            return value;
+        }
+        value = l2.get(key);
+        if (value != null) {
+            getNativeCache().put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return super.get(key, () -> {
+            Object promoted = l2.get(key);
+            if (promoted != null) {
+                return (T) promoted;
+            }
+            T value = valueLoader.call();
+            l2.put(key, value);
+            return value;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        l2.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        if (existing == null) {
+            l2.put(key, value);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        l2.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        l2.evict(key);
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        l2.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        l2.clear();
+        return super.invalidate();
+    }
+}
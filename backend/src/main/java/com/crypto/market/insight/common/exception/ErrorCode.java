@@ -24,6 +24,7 @@ public enum ErrorCode {
     // Market
     COIN_NOT_FOUND(HttpStatus.NOT_FOUND, "코인 정보를 찾을 수 없습니다"),
     EXTERNAL_API_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "외부 API 호출 중 오류가 발생했습니다"),
+    MARKET_SNAPSHOT_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "마켓 스냅샷을 준비 중입니다"),
 
     // CoinGecko
     COINGECKO_RATE_LIMIT(HttpStatus.TOO_MANY_REQUESTS, "CoinGecko API 요청 한도를 초과했습니다"),
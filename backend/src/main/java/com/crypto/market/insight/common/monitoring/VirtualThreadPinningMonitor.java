@@ -0,0 +1,88 @@
+package com.crypto.market.insight.common.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드 pinning 진단
+ * <p>
+ * JFR {@code jdk.VirtualThreadPinned} 이벤트를 스트리밍으로 구독해 캐리어 스레드를 붙잡은 채 블로킹한 지점을
+ * 스택 트레이스와 함께 경고 로그로 남기고 {@code jvm.threads.virtual.pinned} 타이머에 기록합니다.
+ * 가상 스레드 모드({@code spring.threads.virtual.enabled=true})에서만 동작합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_LOGGED_FRAMES = 12;
+
+    private final Timer pinnedTimer;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${app.monitoring.virtual-thread-pinned-threshold}") long thresholdMillis) {
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Virtual thread pinned events longer than the JFR threshold")
+                .register(meterRegistry);
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started: threshold={}ms", threshold.toMillis());
+    }
+
+    void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+
+        RecordedThread thread = event.getThread();
+        log.warn("Virtual thread pinned: duration={}ms, thread={}{}",
+                event.getDuration().toMillis(),
+                thread != null ? thread.getJavaName() : "unknown",
+                format(event.getStackTrace()));
+    }
+
+    private static String format(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (int i = 0; i < Math.min(frames.size(), MAX_LOGGED_FRAMES); i++) {
+            RecordedFrame frame = frames.get(i);
+            sb.append(System.lineSeparator()).append("\tat ")
+                    .append(frame.getMethod().getType().getName()).append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':').append(frame.getLineNumber());
+        }
+        return sb.toString();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.crypto.market.insight.common.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 직렬화가 끝난 JSON 응답 본문 캐시
+ * <p>
+ * 정규화한 요청 키마다 응답 바이트(필요하면 gzip 바이트)와 강한 ETag를 보관하고, 응답을 만든 원본 데이터의
+ * 버전이 같으면 DTO 변환과 직렬화 없이 그대로 응답합니다. 반환한 {@link ResponseEntity}에 ETag가 있으므로
+ * {@code If-None-Match}가 일치하는 GET 요청은 Spring MVC가 본문 없이 {@code 304 Not Modified}로 바꿉니다.
+ * <p>
+ * 용량은 보관한 바이트 합({@code app.cache.response.max-bytes})으로 제한하며, 적중 여부는
+ * {@code http.response.cache.requests{result=hit|miss}}로 기록합니다.
+ */
+@Component
+public class ResponseBodyCache {
+
+    private static final String GZIP = "gzip";
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int gzipMinBytes;
+    private final Cache<String, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResponseBodyCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.response.enabled}") boolean enabled,
+            @Value("${app.cache.response.max-bytes}") long maxBytes,
+            @Value("${app.cache.response.gzip-min-bytes}") int gzipMinBytes) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.gzipMinBytes = gzipMinBytes;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Entry entry) -> entry.weight())
+                .build();
+        this.hits = Counter.builder("http.response.cache.requests")
+                .description("직렬화된 응답 캐시 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("http.response.cache.requests")
+                .description("직렬화된 응답 캐시 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 응답 본문을 반환하거나, 원본 버전이 바뀌었으면 새로 직렬화해 보관한다.
+     *
+     * @param key            정규화한 요청 키 (경로 + 의미 있는 파라미터)
+     * @param version        응답을 만든 원본 데이터의 버전. {@code equals}로 비교하며, 캐시에서 꺼낸 원본 객체를
+     *                       그대로 넘기면 대부분 참조 비교로 끝난다.
+     * @param acceptEncoding 요청의 {@code Accept-Encoding} 헤더 (없으면 null)
+     * @param body           캐시 미스 시 응답 DTO를 만드는 함수
+     */
+    public ResponseEntity<byte[]> respond(String key, Object version, String acceptEncoding, Supplier<?> body) {
+        Entry entry = enabled ? entries.getIfPresent(key) : null;
+        if (entry != null && Objects.equals(entry.version(), version)) {
+            hits.increment();
+        } else {
+            misses.increment();
+            entry = serialize(version, body.get());
+            if (enabled) {
+                entries.put(key, entry);
+            }
+        }
+
+        boolean gzip = entry.gzipBody() != null && acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(gzip ? entry.gzipEtag() : entry.etag())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+            return response.body(entry.gzipBody());
+        }
+        return response.body(entry.body());
+    }
+
+    private Entry serialize(Object version, Object value) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Response serialization failed", e);
+        }
+        String hash = DigestUtils.md5DigestAsHex(json);
+        byte[] gzipped = json.length >= gzipMinBytes ? gzip(json) : null;
+        return new Entry(version, json, "\"" + hash + "\"", gzipped, "\"" + hash + "-gz\"");
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * {@code gzip;q=0}처럼 명시적으로 거부한 경우는 제외한다.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private record Entry(Object version, byte[] body, String etag, byte[] gzipBody, String gzipEtag) {
+
+        int weight() {
+            return ENTRY_OVERHEAD + body.length + (gzipBody != null ? gzipBody.length : 0);
+        }
+    }
+}
@@ -1,38 +1,275 @@
 package com.crypto.market.insight.config;
 
+import com.crypto.market.insight.common.cache.OffHeapTier;
+import com.crypto.market.insight.common.cache.TieredCacheManager;
+import com.crypto.market.insight.domain.market.cache.MarketCacheCodec;
+import com.crypto.market.insight.domain.market.cache.MarketValueWeigher;
+import com.crypto.market.insight.domain.market.client.CoinDetailBatchLoader;
+import com.crypto.market.insight.domain.market.client.CoinGeckoClient;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter.Priority;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMetricsRegistrar;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import com.github.benmanes.caffeine.cache.Cache;
-import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
     public static final String COIN_MARKETS = "coinMarkets";
+    public static final String COIN_DETAIL = "coinDetail";
     public static final String OHLC = "ohlc";
+    public static final String INDICATOR = "indicator";
+
+    private static final Tag CACHE_MANAGER_TAG = Tag.of("cache.manager", "cacheManager");
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${app.cache.l2.enabled}")
+    private boolean l2Enabled;
+
+    @Value("${app.cache.l2.max-bytes}")
+    private long l2MaxBytes;                    // 캐시별 off-heap 용량
+
+    @Value("${app.cache.refresh-ahead}")
+    private boolean refreshAhead;
+
+    @Value("${app.cache.coin-markets.soft-ttl}")
+    private long coinMarketsSoftTtlSeconds;     // 시세: 1분 후 백그라운드 갱신
 
-    private static final long COIN_MARKETS_TTL_SECONDS = 60;      // 시세: 1분
-    private static final long OHLC_TTL_SECONDS = 300;             // OHLC: 5분
-    private static final long MAX_SIZE = 1000;
+    @Value("${app.cache.coin-markets.hard-ttl}")
+    private long coinMarketsHardTtlSeconds;
+
+    @Value("${app.cache.coin-markets.max-bytes}")
+    private long coinMarketsMaxBytes;           // 힙 예산 (추정 점유 바이트)
+
+    @Value("${app.cache.coin-detail.max-bytes}")
+    private long coinDetailMaxBytes;
+
+    @Value("${app.cache.ohlc.soft-ttl}")
+    private long ohlcSoftTtlSeconds;            // OHLC: 5분 후 백그라운드 갱신
+
+    @Value("${app.cache.ohlc.hard-ttl}")
+    private long ohlcHardTtlSeconds;
+
+    @Value("${app.cache.ohlc.max-bytes}")
+    private long ohlcMaxBytes;
+
+    @Value("${app.cache.indicator.ttl}")
+    private long indicatorTtlSeconds;           // 지표: OHLC 버전이 바뀌면 키가 바뀌므로 TTL은 정리용
+
+    @Value("${app.cache.indicator.max-bytes}")
+    private long indicatorMaxBytes;
 
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.registerCustomCache(COIN_MARKETS, buildCache(COIN_MARKETS_TTL_SECONDS));
-        cacheManager.registerCustomCache(OHLC, buildCache(OHLC_TTL_SECONDS));
+    public CacheManager cacheManager(ObjectProvider<CoinGeckoClient> coinGeckoClient,
+                                     ObjectProvider<CoinDetailBatchLoader> coinDetailBatchLoader,
+                                     @Qualifier(MarketExecutorConfig.MARKET_EXECUTOR) Executor marketExecutor,
+                                     MeterRegistry meterRegistry) {
+        TieredCacheManager cacheManager = new TieredCacheManager();
+        registerCache(cacheManager, marketExecutor, meterRegistry, COIN_MARKETS, coinMarketsMaxBytes,
+                coinMarketsSoftTtlSeconds, coinMarketsHardTtlSeconds,
+                key -> coinGeckoClient.getObject().load(key),
+                (key, oldValue) -> coinGeckoClient.getObject().load(key));
+        registerCache(cacheManager, marketExecutor, meterRegistry, COIN_DETAIL, coinDetailMaxBytes,
+                coinMarketsSoftTtlSeconds, coinMarketsHardTtlSeconds,
+                key -> coinDetailBatchLoader.getObject().load(key),
+                (key, oldValue) -> coinDetailBatchLoader.getObject().load(key),
+                key -> coinDetailBatchLoader.getObject().loadAsync(key).thenApply(value -> (Object) value));
+        registerCache(cacheManager, marketExecutor, meterRegistry, OHLC, ohlcMaxBytes,
+                ohlcSoftTtlSeconds, ohlcHardTtlSeconds,
+                key -> coinGeckoClient.getObject().load(key),
+                (key, oldValue) -> coinGeckoClient.getObject().reload(key, oldValue));
+        registerComputedCache(cacheManager, meterRegistry, INDICATOR, indicatorMaxBytes, indicatorTtlSeconds);
         return cacheManager;
     }
 
-    private Cache<Object, Object> buildCache(long ttlSeconds) {
-        return Caffeine.newBuilder()
-                .maximumSize(MAX_SIZE)
+    /**
+     * 커스텀 등록한 마켓 캐시를 캐시 이름 태그({@code cache})로 Micrometer에 바인딩한다.
+     * 적중/미스({@code cache.gets}), 적재 시간({@code cache.load.duration}), 제거({@code cache.evictions})가
+     * {@code /actuator/prometheus}로 노출된다. Boot 자동 바인딩과 같은 등록기와 태그를 쓰므로 중복 등록되지 않는다.
+     */
+    @Bean
+    public SmartInitializingSingleton marketCacheMetricsBinder(
+            CacheManager cacheManager, ObjectProvider<CacheMetricsRegistrar> cacheMetricsRegistrar) {
+        return () -> cacheMetricsRegistrar.ifAvailable(registrar -> Stream.of(COIN_MARKETS, COIN_DETAIL, OHLC, INDICATOR)
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .forEach(cache -> registrar.bindCacheToRegistry(cache, CACHE_MANAGER_TAG)));
+    }
+
+    /**
+     * refresh-ahead 모드에서는 soft TTL이 지난 항목을 그대로 응답하면서 키당 한 번만 백그라운드로 재적재하고,
+     * hard TTL이 지나면 항목을 만료시켜 최대 지연을 제한한다.
+     * 비활성화 시에는 soft TTL을 만료 시간으로 사용한다.
+     * 백그라운드 재적재는 사용자 요청보다 낮은 우선순위로 업스트림 토큰을 사용하고, {@code reloader}에 기존 값을
+     * 넘겨 최근 구간만 받아 합칠 수 있게 한다. 합친 값은 Caffeine이 기존 항목과 원자적으로 교체한다.
+     * <p>
+     * 가상 스레드 모드에서는 AsyncCache로 등록한다. 동기 캐시는 적재 함수(HTTP 호출)를 ConcurrentHashMap의
+     * synchronized 구간 안에서 실행해 가상 스레드를 캐리어에 고정(pinning)시키기 때문이다.
+     * AsyncCache는 구간 안에서 future만 등록하고 적재는 실행기에서 수행한다.
+     * <p>
+     * L2가 활성화되면 힙의 L1은 작게 유지하고, 적재한 값을 off-heap L2에도 기록한다. L1 미스는 soft TTL 이내에
+     * 기록된 L2 항목이 있으면 업스트림 대신 L2에서 승격한다.
+     * <p>
+     * L1 용량은 항목 수가 아니라 {@link MarketValueWeigher}로 추정한 힙 점유 바이트({@code maxBytes})로 제한한다.
+     */
+    private void registerCache(TieredCacheManager cacheManager, Executor executor, MeterRegistry meterRegistry,
+                               String name, long maxBytes, long softTtlSeconds, long hardTtlSeconds,
+                               Function<Object, Object> loader, BiFunction<Object, Object, Object> reloader) {
+        registerCache(cacheManager, executor, meterRegistry, name, maxBytes, softTtlSeconds, hardTtlSeconds,
+                loader, reloader, null);
+    }
+
+    /**
+     * {@code asyncLoader}가 있으면 AsyncCache 적재와 백그라운드 재적재를 실행기 스레드에서 블로킹하지 않고 그 future로
+     * 처리한다. 다른 작업(배치 flush 등)의 결과를 기다리는 로더가 실행기 스레드를 점유해 교착되지 않게 하기 위함이다.
+     */
+    private void registerCache(TieredCacheManager cacheManager, Executor executor, MeterRegistry meterRegistry,
+                               String name, long maxBytes, long softTtlSeconds, long hardTtlSeconds,
+                               Function<Object, Object> loader, BiFunction<Object, Object, Object> reloader,
+                               Function<Object, CompletableFuture<Object>> asyncLoader) {
+        long expireSeconds = refreshAhead ? Math.max(softTtlSeconds, hardTtlSeconds) : softTtlSeconds;
+        OffHeapTier l2 = l2Enabled
+                ? new OffHeapTier(name, MarketCacheCodec.INSTANCE, l2MaxBytes, Duration.ofSeconds(softTtlSeconds),
+                        Duration.ofSeconds(expireSeconds), meterRegistry)
+                : null;
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher(MarketValueWeigher.INSTANCE)
+                .executor(executor)
+                .recordStats();
+        if (l2 != null) {
+            builder.evictionListener((key, value, cause) -> {
+                if (cause == RemovalCause.SIZE) {
+                    l2.demote(key);
+                }
+            });
+        }
+
+        if (!refreshAhead) {
+            builder.expireAfterWrite(expireSeconds, TimeUnit.SECONDS);
+            if (virtualThreads) {
+                cacheManager.registerCustomCache(name, builder.buildAsync(), l2);
+            } else {
+                cacheManager.registerCustomCache(name, builder.build(), l2);
+            }
+            registerWeightGauges(meterRegistry, cacheManager, name);
+            return;
+        }
+
+        builder.refreshAfterWrite(softTtlSeconds, TimeUnit.SECONDS)
+                .expireAfterWrite(expireSeconds, TimeUnit.SECONDS);
+        CacheLoader<Object, Object> cacheLoader = new CacheLoader<>() {
+            @Override
+            public Object load(Object key) {
+                return l2 != null ? l2.get(key, loader) : loader.apply(key);
+            }
+
+            @Override
+            public Object reload(Object key, Object oldValue) {
+                return CoinGeckoRateLimiter.withPriority(Priority.BACKGROUND, () -> {
+                    Object value = reloader.apply(key, oldValue);
+                    if (l2 != null) {
+                        l2.put(key, value);
+                    }
+                    return value;
+                });
+            }
+
+            @Override
+            public CompletableFuture<?> asyncLoad(Object key, Executor loadExecutor) throws Exception {
+                if (asyncLoader == null) {
+                    return CacheLoader.super.asyncLoad(key, loadExecutor);
+                }
+                Object cached = l2 != null ? l2.get(key) : null;
+                return cached != null ? CompletableFuture.completedFuture(cached) : writeThrough(key);
+            }
+
+            @Override
+            public CompletableFuture<?> asyncReload(Object key, Object oldValue, Executor reloadExecutor)
+                    throws Exception {
+                if (asyncLoader == null) {
+                    return CacheLoader.super.asyncReload(key, oldValue, reloadExecutor);
+                }
+                // 배치 로더가 호출 스레드의 우선순위를 배치에 기록하므로 재적재 요청은 BACKGROUND로 넣는다
+                return CoinGeckoRateLimiter.withPriority(Priority.BACKGROUND, () -> writeThrough(key));
+            }
+
+            private CompletableFuture<Object> writeThrough(Object key) {
+                return asyncLoader.apply(key).thenApply(value -> {
+                    if (l2 != null) {
+                        l2.put(key, value);
+                    }
+                    return value;
+                });
+            }
+        };
+        if (virtualThreads) {
+            cacheManager.registerCustomCache(name, builder.buildAsync(cacheLoader), l2);
+        } else {
+            cacheManager.registerCustomCache(name, builder.build(cacheLoader), l2);
+        }
+        registerWeightGauges(meterRegistry, cacheManager, name);
+    }
+
+    /**
+     * 업스트림 없이 로컬에서 계산한 값을 보관하는 캐시. 적재는 호출 스레드의 짧은 CPU 연산이므로 refresh-ahead,
+     * L2, AsyncCache 없이 동기 캐시로 등록하고, 용량은 다른 마켓 캐시처럼 추정 바이트로 제한한다.
+     */
+    private static void registerComputedCache(TieredCacheManager cacheManager, MeterRegistry meterRegistry,
+                                              String name, long maxBytes, long ttlSeconds) {
+        cacheManager.registerCustomCache(name, Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher(MarketValueWeigher.INSTANCE)
                 .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
                 .recordStats()
-                .build();
+                .build(), null);
+        registerWeightGauges(meterRegistry, cacheManager, name);
+    }
+
+    /**
+     * 현재 가중치 합({@code cache.weighted.size})과 예산({@code cache.max.weight}) 게이지 (바이트)
+     */
+    private static void registerWeightGauges(MeterRegistry meterRegistry, CacheManager cacheManager, String name) {
+        CaffeineCache cache = (CaffeineCache) Objects.requireNonNull(cacheManager.getCache(name));
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = cache.getNativeCache();
+        Gauge.builder("cache.weighted.size", nativeCache, c -> c.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0L))
+                        .orElse(0L))
+                .description("캐시 항목의 추정 힙 점유 바이트 합")
+                .tag("cache", name)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("cache.max.weight", nativeCache, c -> c.policy().eviction()
+                        .map(eviction -> eviction.getMaximum())
+                        .orElse(0L))
+                .description("캐시 힙 예산 (바이트)")
+                .tag("cache", name)
+                .baseUnit("bytes")
+                .register(meterRegistry);
     }
 }
@@ -1,13 +1,17 @@
 package com.crypto.market.insight.config;
 
+import com.crypto.market.insight.domain.market.client.CoinGeckoMetricsInterceptor;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter;
 import com.crypto.market.insight.domain.market.exception.CoinGeckoApiException;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
 @Slf4j
@@ -17,19 +21,19 @@ public class CoinGeckoConfig {
     @Bean
     public RestClient coinGeckoRestClient(
             @Value("${app.coingecko.base-url}") String baseUrl,
-            @Value("${app.coingecko.connect-timeout}") int connectTimeout,
-            @Value("${app.coingecko.read-timeout}") int readTimeout
+            CoinGeckoRateLimiter rateLimiter,
+            ClientHttpRequestFactory coinGeckoRequestFactory,
+            MeterRegistry meterRegistry
     ) {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(connectTimeout);
-        factory.setReadTimeout(readTimeout);
-
         RestClient restClient = RestClient.builder()
                 .baseUrl(baseUrl)
-                .requestFactory(factory)
+                .requestFactory(coinGeckoRequestFactory)
+                .requestInterceptor(rateLimitInterceptor(rateLimiter))
+                .requestInterceptor(new CoinGeckoMetricsInterceptor(meterRegistry))
                 .requestInterceptor(loggingInterceptor())
                 .defaultStatusHandler(statusCode -> statusCode.value() == 429, (req, res) -> {
                     log.warn("CoinGecko Rate Limit exceeded: {}", req.getURI());
+                    rateLimiter.onRateLimited(res.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
                     throw CoinGeckoApiException.rateLimitExceeded();
                 })
                 .defaultStatusHandler(HttpStatusCode::is5xxServerError, (req, res) -> {
@@ -38,12 +42,18 @@ public class CoinGeckoConfig {
                 })
                 .build();
 
-        log.info("CoinGeckoRestClient initialized: baseUrl={}, connectTimeout={}ms, readTimeout={}ms",
-                baseUrl, connectTimeout, readTimeout);
+        log.info("CoinGeckoRestClient initialized: baseUrl={}", baseUrl);
 
         return restClient;
     }
 
+    private ClientHttpRequestInterceptor rateLimitInterceptor(CoinGeckoRateLimiter rateLimiter) {
+        return (request, body, execution) -> {
+            rateLimiter.acquire();
+            return execution.execute(request, body);
+        };
+    }
+
     private ClientHttpRequestInterceptor loggingInterceptor() {
         return (request, body, execution) -> {
             log.info("CoinGecko Request: {} {}", request.getMethod(), request.getURI());
@@ -0,0 +1,123 @@
+package com.crypto.market.insight.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.ToDoubleFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+/**
+ * CoinGecko RestClient용 HTTP 요청 팩토리
+ * <p>
+ * 기본값(pooled)은 Apache HttpClient 5 keep-alive 커넥션 풀을 사용해 캐시 미스마다 TLS 핸드셰이크를 반복하지 않습니다.
+ * {@code app.coingecko.http.client=simple}이면 기존 {@link SimpleClientHttpRequestFactory}를 사용합니다.
+ */
+@Slf4j
+@Configuration
+public class CoinGeckoHttpClientConfig {
+
+    private static final String POOL_METRIC = "coingecko.http.pool.connections";
+
+    @Configuration
+    @ConditionalOnProperty(name = "app.coingecko.http.client", havingValue = "pooled", matchIfMissing = true)
+    static class Pooled {
+
+        @Bean
+        public PoolingHttpClientConnectionManager coinGeckoConnectionManager(
+                @Value("${app.coingecko.connect-timeout}") int connectTimeout,
+                @Value("${app.coingecko.read-timeout}") int readTimeout,
+                @Value("${app.coingecko.http.max-connections}") int maxConnections,
+                @Value("${app.coingecko.http.max-per-route}") int maxPerRoute,
+                @Value("${app.coingecko.http.connection-ttl}") long connectionTtl,
+                MeterRegistry meterRegistry
+        ) {
+            PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                    .setMaxConnTotal(maxConnections)
+                    .setMaxConnPerRoute(maxPerRoute)
+                    .setDefaultConnectionConfig(ConnectionConfig.custom()
+                            .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
+                            .setSocketTimeout(Timeout.ofMilliseconds(readTimeout))
+                            .setTimeToLive(TimeValue.ofSeconds(connectionTtl))
+                            .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                            .build())
+                    .build();
+
+            registerPoolGauge(meterRegistry, connectionManager, "leased", PoolStats::getLeased);
+            registerPoolGauge(meterRegistry, connectionManager, "idle", PoolStats::getAvailable);
+            registerPoolGauge(meterRegistry, connectionManager, "pending", PoolStats::getPending);
+            registerPoolGauge(meterRegistry, connectionManager, "max", PoolStats::getMax);
+
+            log.info("CoinGecko HTTP client: pooled (maxConnections={}, maxPerRoute={}, connectTimeout={}ms, "
+                    + "readTimeout={}ms)", maxConnections, maxPerRoute, connectTimeout, readTimeout);
+            return connectionManager;
+        }
+
+        /**
+         * 429/503 재시도는 레이트 리미터와 상태 핸들러가 담당하므로 HttpClient 자동 재시도는 끈다.
+         */
+        @Bean
+        public CloseableHttpClient coinGeckoHttpClient(
+                PoolingHttpClientConnectionManager coinGeckoConnectionManager,
+                @Value("${app.coingecko.http.idle-evict}") long idleEvict
+        ) {
+            return HttpClients.custom()
+                    .setConnectionManager(coinGeckoConnectionManager)
+                    .evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.ofSeconds(idleEvict))
+                    .disableAutomaticRetries()
+                    .build();
+        }
+
+        @Bean
+        public ClientHttpRequestFactory coinGeckoRequestFactory(
+                CloseableHttpClient coinGeckoHttpClient,
+                @Value("${app.coingecko.read-timeout}") int readTimeout
+        ) {
+            HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(coinGeckoHttpClient);
+            factory.setReadTimeout(readTimeout);
+            return factory;
+        }
+
+        private static void registerPoolGauge(MeterRegistry meterRegistry,
+                                              PoolingHttpClientConnectionManager connectionManager,
+                                              String state, ToDoubleFunction<PoolStats> stat) {
+            Gauge.builder(POOL_METRIC, connectionManager, manager -> stat.applyAsDouble(manager.getTotalStats()))
+                    .tag("state", state)
+                    .description("CoinGecko HTTP connection pool connections by state")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "app.coingecko.http.client", havingValue = "simple")
+    static class Simple {
+
+        @Bean
+        public ClientHttpRequestFactory coinGeckoRequestFactory(
+                @Value("${app.coingecko.connect-timeout}") int connectTimeout,
+                @Value("${app.coingecko.read-timeout}") int readTimeout
+        ) {
+            SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+            factory.setConnectTimeout(connectTimeout);
+            factory.setReadTimeout(readTimeout);
+
+            log.info("CoinGecko HTTP client: simple (HttpURLConnection, connectTimeout={}ms, readTimeout={}ms)",
+                    connectTimeout, readTimeout);
+            return factory;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.crypto.market.insight.config;
+
+import com.crypto.market.insight.domain.market.indicator.kernel.IndicatorKernels;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 지표 커널 구현 선택
+ * <p>
+ * {@code app.market.indicator.vector-enabled=true}이고 JVM에 {@code jdk.incubator.vector} 모듈이 로드되어 있으면
+ * Vector API 커널을, 아니면 스칼라 커널을 사용합니다. 두 구현의 결과는 같습니다.
+ */
+@Slf4j
+@Configuration
+public class IndicatorKernelConfig {
+
+    @Bean
+    public IndicatorKernels indicatorKernels(@Value("${app.market.indicator.vector-enabled}") boolean vectorEnabled) {
+        IndicatorKernels kernels = IndicatorKernels.select(vectorEnabled);
+        if (vectorEnabled && !IndicatorKernels.vectorAvailable()) {
+            log.info("Vector API unavailable (requires --add-modules jdk.incubator.vector and 256-bit SIMD)");
+        }
+        log.info("Indicator kernels: {}", kernels.name());
+        return kernels;
+    }
+}
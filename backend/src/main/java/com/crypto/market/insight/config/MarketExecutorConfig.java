@@ -0,0 +1,53 @@
+package com.crypto.market.insight.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 마켓 도메인 내부 작업(배치 조회, 캐시 백그라운드 갱신)용 실행기
+ * <p>
+ * {@code spring.threads.virtual.enabled=true}이면 Tomcat 요청 처리와 함께 작업마다 가상 스레드를 사용하고,
+ * 아니면 {@code app.market.executor.threads} 크기의 플랫폼 스레드 풀을 사용합니다.
+ * <p>
+ * 스크리너의 코인별 지표 평가는 CPU 작업이라 공용 풀과 분리한 {@link ForkJoinPool}
+ * ({@code app.market.screener.parallelism}, 0이면 CPU 수)에서 실행합니다.
+ */
+@Slf4j
+@Configuration
+public class MarketExecutorConfig {
+
+    public static final String MARKET_EXECUTOR = "marketExecutor";
+    public static final String SCREENER_POOL = "screenerPool";
+
+    @Bean(name = MARKET_EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService marketExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${app.market.executor.threads}") int threads
+    ) {
+        if (virtualThreads) {
+            log.info("Market executor: virtual threads");
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("market-vt-", 0).factory());
+        }
+
+        log.info("Market executor: platform threads (size={})", threads);
+        return Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("market-", 0).daemon(true).factory());
+    }
+
+    @Bean(name = SCREENER_POOL, destroyMethod = "shutdownNow")
+    public ForkJoinPool screenerPool(@Value("${app.market.screener.parallelism}") int parallelism) {
+        int size = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        log.info("Screener pool: fork-join (parallelism={})", size);
+        return new ForkJoinPool(size, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("screener-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+}
@@ -0,0 +1,57 @@
+package com.crypto.market.insight.domain.market.cache;
+
+import java.util.Objects;
+
+/**
+ * {@code ohlc} 캐시의 종가 이력 키 ({@code /coins/{id}/market_chart})
+ * <p>
+ * 같은 캐시에 두지만 {@link OhlcKey}와 값의 형식(종가만 채운 시계열)이 다르므로 키 타입으로 구분합니다.
+ */
+public final class CloseHistoryKey implements MarketCacheKey {
+
+    private final String coinId;
+    private final String vsCurrency;
+    private final String days;
+    private final int hash;
+
+    public CloseHistoryKey(String coinId, String vsCurrency, String days) {
+        this.coinId = Objects.requireNonNull(coinId, "coinId");
+        this.vsCurrency = Objects.requireNonNull(vsCurrency, "vsCurrency");
+        this.days = Objects.requireNonNull(days, "days");
+        this.hash = 31 * (31 * coinId.hashCode() + vsCurrency.hashCode()) + days.hashCode();
+    }
+
+    public String coinId() {
+        return coinId;
+    }
+
+    public String vsCurrency() {
+        return vsCurrency;
+    }
+
+    public String days() {
+        return days;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof CloseHistoryKey other
+                && hash == other.hash
+                && coinId.equals(other.coinId)
+                && vsCurrency.equals(other.vsCurrency)
+                && days.equals(other.days);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "closes:" + coinId + ':' + vsCurrency + ':' + days;
+    }
+}
@@ -0,0 +1,23 @@
+package com.crypto.market.insight.domain.market.cache;
+
+import java.lang.reflect.Method;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code CoinGeckoClient.getCloseHistory(coinId, vsCurrency, days)} 파라미터로 {@link CloseHistoryKey}를 만드는
+ * {@link KeyGenerator}
+ */
+@Component(CloseHistoryKeyGenerator.BEAN_NAME)
+public class CloseHistoryKeyGenerator implements KeyGenerator {
+
+    public static final String BEAN_NAME = "closeHistoryKeyGenerator";
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        if (params.length != 3) {
+            throw new IllegalArgumentException("Expected (coinId, vsCurrency, days) parameters: " + method);
+        }
+        return new CloseHistoryKey((String) params[0], (String) params[1], (String) params[2]);
+    }
+}
@@ -0,0 +1,65 @@
+package com.crypto.market.insight.domain.market.cache;
+
+import java.util.Objects;
+
+/**
+ * {@code coinMarkets} 캐시 키
+ */
+public final class CoinMarketsKey implements MarketCacheKey {
+
+    private final String vsCurrency;
+    private final String ids;
+    private final int perPage;
+    private final int page;
+    private final int hash;
+
+    public CoinMarketsKey(String vsCurrency, String ids, int perPage, int page) {
+        this.vsCurrency = Objects.requireNonNull(vsCurrency, "vsCurrency");
+        this.ids = ids;
+        this.perPage = perPage;
+        this.page = page;
+        this.hash = 31 * (31 * (31 * vsCurrency.hashCode() + Objects.hashCode(ids)) + perPage) + page;
+    }
+
+    public String vsCurrency() {
+        return vsCurrency;
+    }
+
+    /**
+     * @return 코인 ID 목록 (전체 목록 조회면 null)
+     */
+    public String ids() {
+        return ids;
+    }
+
+    public int perPage() {
+        return perPage;
+    }
+
+    public int page() {
+        return page;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof CoinMarketsKey other
+                && hash == other.hash
+                && perPage == other.perPage
+                && page == other.page
+                && vsCurrency.equals(other.vsCurrency)
+                && Objects.equals(ids, other.ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return vsCurrency + ':' + ids + ':' + perPage + ':' + page;
+    }
+}
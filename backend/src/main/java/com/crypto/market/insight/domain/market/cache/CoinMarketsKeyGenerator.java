@@ -0,0 +1,23 @@
+package com.crypto.market.insight.domain.market.cache;
+
+import java.lang.reflect.Method;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code CoinGeckoClient.getCoinsMarkets(vsCurrency, ids, perPage, page)} 파라미터로 {@link CoinMarketsKey}를 만드는
+ * {@link KeyGenerator}
+ */
+@Component(CoinMarketsKeyGenerator.BEAN_NAME)
+public class CoinMarketsKeyGenerator implements KeyGenerator {
+
+    public static final String BEAN_NAME = "coinMarketsKeyGenerator";
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        if (params.length != 4) {
+            throw new IllegalArgumentException("Expected (vsCurrency, ids, perPage, page) parameters: " + method);
+        }
+        return new CoinMarketsKey((String) params[0], (String) params[1], (Integer) params[2], (Integer) params[3]);
+    }
+}
@@ -0,0 +1,76 @@
+package com.crypto.market.insight.domain.market.cache;
+
+import java.util.Objects;
+
+/**
+ * {@code indicator} 캐시 키
+ * <p>
+ * 지표를 계산한 OHLC 시계열을 버전과 길이로 식별합니다. OHLC 항목이 갱신되면 버전이 바뀌어 이전 결과는 더 이상
+ * 조회되지 않고 TTL/용량으로 밀려납니다. 길이는 같은 버전을 스냅샷 시각으로 자른 뷰를 구분합니다.
+ */
+public final class IndicatorKey {
+
+    private final String coinId;
+    private final String timeframe;
+    private final long seriesVersion;
+    private final int length;
+    private final String spec;
+    private final int hash;
+
+    /**
+     * @param spec 정규화된 지표 표기 ({@link com.crypto.market.insight.domain.market.model.vo.IndicatorSpec#key()})
+     */
+    public IndicatorKey(String coinId, String timeframe, long seriesVersion, int length, String spec) {
+        this.coinId = Objects.requireNonNull(coinId, "coinId");
+        this.timeframe = Objects.requireNonNull(timeframe, "timeframe");
+        this.seriesVersion = seriesVersion;
+        this.length = length;
+        this.spec = Objects.requireNonNull(spec, "spec");
+        this.hash = 31 * (31 * (31 * (31 * coinId.hashCode() + timeframe.hashCode())
+                + Long.hashCode(seriesVersion)) + length) + spec.hashCode();
+    }
+
+    public String coinId() {
+        return coinId;
+    }
+
+    public String timeframe() {
+        return timeframe;
+    }
+
+    public long seriesVersion() {
+        return seriesVersion;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public String spec() {
+        return spec;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof IndicatorKey other
+                && hash == other.hash
+                && seriesVersion == other.seriesVersion
+                && length == other.length
+                && coinId.equals(other.coinId)
+                && timeframe.equals(other.timeframe)
+                && spec.equals(other.spec);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return coinId + ':' + timeframe + ':' + seriesVersion + ':' + length + ':' + spec;
+    }
+}
@@ -0,0 +1,222 @@
+package com.crypto.market.insight.domain.market.cache;
+
+import com.crypto.market.insight.common.cache.CacheValueCodec;
+import com.crypto.market.insight.domain.market.dto.CoinMarketData;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 마켓 캐시 값의 L2 바이너리 형식
+ * <p>
+ * 첫 바이트가 값의 종류를 나타냅니다.
+ * <ul>
+ *   <li>{@link OhlcSeries}: 버전 + 캔들 수 + timestamp/open/high/low/close 컬럼 (캔들당 40바이트).
+ *   버전을 그대로 복원하므로 L2에서 승격한 시계열도 버전으로 묶인 지표 캐시를 다시 계산하지 않습니다</li>
+ *   <li>{@code List<CoinMarketData>}: 항목 수 + 항목별 필드</li>
+ *   <li>{@link CoinMarketData}: 필드 (문자열은 UTF-8, BigDecimal은 scale + unscaled 바이트, null은 -1 길이)</li>
+ * </ul>
+ */
+public final class MarketCacheCodec implements CacheValueCodec {
+
+    public static final MarketCacheCodec INSTANCE = new MarketCacheCodec();
+
+    private static final byte OHLC_SERIES = 1;
+    private static final byte COIN_LIST = 2;
+    private static final byte COIN = 3;
+    private static final int NULL_LENGTH = -1;
+
+    private MarketCacheCodec() {
+    }
+
+    @Override
+    public boolean supports(Object value) {
+        if (value instanceof OhlcSeries || value instanceof CoinMarketData) {
+            return true;
+        }
+        if (value instanceof List<?> list) {
+            for (Object element : list) {
+                if (!(element instanceof CoinMarketData)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            if (value instanceof OhlcSeries series) {
+                out.writeByte(OHLC_SERIES);
+                writeSeries(out, series);
+            } else if (value instanceof CoinMarketData coin) {
+                out.writeByte(COIN);
+                writeCoin(out, coin);
+            } else if (value instanceof List<?> coins) {
+                out.writeByte(COIN_LIST);
+                out.writeInt(coins.size());
+                for (Object coin : coins) {
+                    writeCoin(out, (CoinMarketData) coin);
+                }
+            } else {
+                throw new IllegalArgumentException("Unsupported cache value: " + value.getClass().getName());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object decode(ByteBuffer buffer) {
+        byte type = buffer.get();
+        return switch (type) {
+            case OHLC_SERIES -> readSeries(buffer);
+            case COIN -> readCoin(buffer);
+            case COIN_LIST -> {
+                CoinMarketData[] coins = new CoinMarketData[buffer.getInt()];
+                for (int i = 0; i < coins.length; i++) {
+                    coins[i] = readCoin(buffer);
+                }
+                yield List.of(coins);
+            }
+            default -> throw new IllegalArgumentException("Unknown cache value type: " + type);
+        };
+    }
+
+    private static void writeSeries(DataOutputStream out, OhlcSeries series) throws IOException {
+        int n = series.size();
+        out.writeLong(series.version());
+        out.writeInt(n);
+        for (int i = 0; i < n; i++) {
+            out.writeLong(series.timestamp(i));
+        }
+        for (int i = 0; i < n; i++) {
+            out.writeDouble(series.open(i));
+        }
+        for (int i = 0; i < n; i++) {
+            out.writeDouble(series.high(i));
+        }
+        for (int i = 0; i < n; i++) {
+            out.writeDouble(series.low(i));
+        }
+        for (int i = 0; i < n; i++) {
+            out.writeDouble(series.close(i));
+        }
+    }
+
+    private static OhlcSeries readSeries(ByteBuffer buffer) {
+        long version = buffer.getLong();
+        int n = buffer.getInt();
+        if (n == 0) {
+            return OhlcSeries.empty();
+        }
+        long[] timestamps = new long[n];
+        buffer.asLongBuffer().get(timestamps);
+        buffer.position(buffer.position() + n * Long.BYTES);
+        double[] open = readDoubles(buffer, n);
+        double[] high = readDoubles(buffer, n);
+        double[] low = readDoubles(buffer, n);
+        double[] close = readDoubles(buffer, n);
+        return OhlcSeries.restore(version, timestamps, open, high, low, close);
+    }
+
+    private static double[] readDoubles(ByteBuffer buffer, int n) {
+        double[] values = new double[n];
+        buffer.asDoubleBuffer().get(values);
+        buffer.position(buffer.position() + n * Double.BYTES);
+        return values;
+    }
+
+    private static void writeCoin(DataOutputStream out, CoinMarketData coin) throws IOException {
+        writeString(out, coin.id());
+        writeString(out, coin.symbol());
+        writeString(out, coin.name());
+        writeString(out, coin.image());
+        writeDecimal(out, coin.currentPrice());
+        writeDecimal(out, coin.marketCap());
+        out.writeBoolean(coin.marketCapRank() != null);
+        if (coin.marketCapRank() != null) {
+            out.writeInt(coin.marketCapRank());
+        }
+        writeDecimal(out, coin.totalVolume());
+        writeDecimal(out, coin.high24h());
+        writeDecimal(out, coin.low24h());
+        writeDecimal(out, coin.priceChange24h());
+        writeDecimal(out, coin.priceChangePercentage24h());
+        writeDecimal(out, coin.circulatingSupply());
+        writeDecimal(out, coin.totalSupply());
+        writeString(out, coin.lastUpdated());
+    }
+
+    private static CoinMarketData readCoin(ByteBuffer buffer) {
+        return new CoinMarketData(
+                readString(buffer),
+                readString(buffer),
+                readString(buffer),
+                readString(buffer),
+                readDecimal(buffer),
+                readDecimal(buffer),
+                buffer.get() != 0 ? buffer.getInt() : null,
+                readDecimal(buffer),
+                readDecimal(buffer),
+                readDecimal(buffer),
+                readDecimal(buffer),
+                readDecimal(buffer),
+                readDecimal(buffer),
+                readDecimal(buffer),
+                readString(buffer)
+        );
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.writeInt(unscaled.length);
+        out.write(unscaled);
+        out.writeInt(value.scale());
+    }
+
+    private static BigDecimal readDecimal(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] unscaled = new byte[length];
+        buffer.get(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), buffer.getInt());
+    }
+}
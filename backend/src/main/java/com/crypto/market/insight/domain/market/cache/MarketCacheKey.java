@@ -0,0 +1,10 @@
+package com.crypto.market.insight.domain.market.cache;
+
+/**
+ * 마켓 캐시 키
+ * <p>
+ * SpEL 문자열 연결 키 대신 파라미터를 그대로 담는 불변 키입니다. 해시 코드는 생성 시 한 번만 계산하고,
+ * {@link #toString()}은 로그용으로 기존과 같은 ':' 구분 형식을 반환합니다.
+ */
+public sealed interface MarketCacheKey permits CoinMarketsKey, OhlcKey, CloseHistoryKey {
+}
@@ -0,0 +1,99 @@
+package com.crypto.market.insight.domain.market.cache;
+
+import com.crypto.market.insight.domain.market.dto.CoinMarketData;
+import com.crypto.market.insight.domain.market.indicator.IndicatorValues;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import com.github.benmanes.caffeine.cache.Weigher;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 마켓 캐시 항목의 힙 점유량(바이트) 추정
+ * <p>
+ * 64비트 JVM, compressed oops 기준의 근사치입니다. 정확한 측정 대신 값의 크기에 비례하는 가중치를 주어
+ * 250개 코인 페이지와 단일 코인, 긴 OHLC 시계열과 짧은 시계열, 지표 결과가 캐시 예산을 크기만큼 차지하게 합니다.
+ */
+public final class MarketValueWeigher implements Weigher<Object, Object> {
+
+    public static final MarketValueWeigher INSTANCE = new MarketValueWeigher();
+
+    /** Caffeine 노드 + 키 객체 */
+    private static final int ENTRY_OVERHEAD = 96;
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int STRING = 24 + ARRAY_HEADER;
+    private static final int INTEGER = 16;
+    private static final int COMPACT_DECIMAL = 40;
+    private static final int BIG_INTEGER = 40 + ARRAY_HEADER;
+    private static final int OHLC_SERIES = OBJECT_HEADER + 8 + 5 * REFERENCE + 8 + 5 * ARRAY_HEADER;
+    private static final int COIN = OBJECT_HEADER + 15 * REFERENCE;
+    private static final int MAP_ENTRY = 32 + STRING;
+    /** 결과 레코드 + 지표 파라미터(List&lt;Double&gt;) + LinkedHashMap 본체 */
+    private static final int INDICATOR_VALUES = OBJECT_HEADER + 2 * REFERENCE + 160;
+
+    private MarketValueWeigher() {
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, ENTRY_OVERHEAD + estimate(value));
+    }
+
+    /**
+     * 값의 힙 점유량 추정 (바이트)
+     */
+    public static long estimate(Object value) {
+        if (value instanceof OhlcSeries series) {
+            return OHLC_SERIES + (long) series.size() * (Long.BYTES + 4 * Double.BYTES);
+        }
+        if (value instanceof CoinMarketData coin) {
+            return estimate(coin);
+        }
+        if (value instanceof IndicatorValues indicator) {
+            long bytes = INDICATOR_VALUES;
+            for (double[] line : indicator.lines().values()) {
+                bytes += MAP_ENTRY + ARRAY_HEADER + (long) line.length * Double.BYTES;
+            }
+            return bytes;
+        }
+        if (value instanceof List<?> list) {
+            long bytes = OBJECT_HEADER + ARRAY_HEADER + (long) list.size() * REFERENCE;
+            for (Object element : list) {
+                bytes += estimate(element);
+            }
+            return bytes;
+        }
+        return OBJECT_HEADER;
+    }
+
+    private static long estimate(CoinMarketData coin) {
+        return COIN
+                + string(coin.id()) + string(coin.symbol()) + string(coin.name()) + string(coin.image())
+                + decimal(coin.currentPrice()) + decimal(coin.marketCap())
+                + (coin.marketCapRank() != null ? INTEGER : 0)
+                + decimal(coin.totalVolume()) + decimal(coin.high24h()) + decimal(coin.low24h())
+                + decimal(coin.priceChange24h()) + decimal(coin.priceChangePercentage24h())
+                + decimal(coin.circulatingSupply()) + decimal(coin.totalSupply())
+                + string(coin.lastUpdated());
+    }
+
+    private static long string(String value) {
+        return value != null ? STRING + align(value.length()) : 0;
+    }
+
+    /**
+     * long 범위 unscaled 값은 BigDecimal 안에 보관되고, 그보다 크면 BigInteger가 추가된다.
+     */
+    private static long decimal(BigDecimal value) {
+        if (value == null) {
+            return 0;
+        }
+        return value.precision() <= 18 ? COMPACT_DECIMAL : COMPACT_DECIMAL + BIG_INTEGER + align(value.precision() / 2);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
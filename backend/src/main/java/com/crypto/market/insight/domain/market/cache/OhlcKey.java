@@ -0,0 +1,55 @@
+package com.crypto.market.insight.domain.market.cache;
+
+import java.util.Objects;
+
+/**
+ * {@code ohlc} 캐시 키
+ */
+public final class OhlcKey implements MarketCacheKey {
+
+    private final String coinId;
+    private final String vsCurrency;
+    private final String days;
+    private final int hash;
+
+    public OhlcKey(String coinId, String vsCurrency, String days) {
+        this.coinId = Objects.requireNonNull(coinId, "coinId");
+        this.vsCurrency = Objects.requireNonNull(vsCurrency, "vsCurrency");
+        this.days = Objects.requireNonNull(days, "days");
+        this.hash = 31 * (31 * coinId.hashCode() + vsCurrency.hashCode()) + days.hashCode();
+    }
+
+    public String coinId() {
+        return coinId;
+    }
+
+    public String vsCurrency() {
+        return vsCurrency;
+    }
+
+    public String days() {
+        return days;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof OhlcKey other
+                && hash == other.hash
+                && coinId.equals(other.coinId)
+                && vsCurrency.equals(other.vsCurrency)
+                && days.equals(other.days);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return coinId + ':' + vsCurrency + ':' + days;
+    }
+}
@@ -0,0 +1,24 @@
+package com.crypto.market.insight.domain.market.cache;
+
+import java.lang.reflect.Method;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code CoinGeckoClient.getOhlc(coinId, vsCurrency, days)} 파라미터로 {@link OhlcKey}를 만드는 {@link KeyGenerator}
+ * <p>
+ * 호출마다 SpEL 식을 평가하고 문자열을 연결하는 대신, 파라미터를 담은 작은 키 객체 하나만 생성합니다.
+ */
+@Component(OhlcKeyGenerator.BEAN_NAME)
+public class OhlcKeyGenerator implements KeyGenerator {
+
+    public static final String BEAN_NAME = "ohlcKeyGenerator";
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        if (params.length != 3) {
+            throw new IllegalArgumentException("Expected (coinId, vsCurrency, days) parameters: " + method);
+        }
+        return new OhlcKey((String) params[0], (String) params[1], (String) params[2]);
+    }
+}
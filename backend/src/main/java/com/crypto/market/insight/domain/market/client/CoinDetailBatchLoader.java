@@ -0,0 +1,225 @@
+package com.crypto.market.insight.domain.market.client;
+
+import com.crypto.market.insight.config.CacheConfig;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter.Priority;
+import com.crypto.market.insight.domain.market.dto.CoinMarketData;
+import com.crypto.market.insight.domain.market.exception.CoinGeckoApiException;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * 코인 상세 조회 캐시 미스를 짧은 시간 동안 모아 하나의 {@code /coins/markets?ids=a,b,c} 호출로 처리하는 로더
+ * <p>
+ * 결과는 요청한 코인별로 나뉘어 {@link CacheConfig#COIN_DETAIL} 캐시의 개별 항목으로 저장됩니다.
+ * 윈도우 타이머는 전용 스레드에서, 업스트림 호출(flush)은 배치마다 전용 가상 스레드에서 수행합니다.
+ * 캐시 적재/재적재가 마켓 실행기에서 배치 결과를 기다리므로, flush까지 같은 실행기에 두면 실행기 스레드가 모두
+ * 대기에 묶였을 때 flush가 실행되지 못해 교착됩니다. 결과 대기는 {@code timeout}으로 제한합니다.
+ * <p>
+ * flush 스레드에는 호출자의 우선순위가 없으므로, 배치에 합류한 호출자 중 가장 높은 우선순위
+ * ({@link CoinGeckoRateLimiter#currentPriority()})를 배치에 기록해 그 우선순위로 업스트림을 호출합니다.
+ * refresh-ahead 재적재만 모인 배치는 BACKGROUND로 호출되어 대화형 요청의 토큰을 쓰지 않습니다.
+ */
+@Slf4j
+@Component
+public class CoinDetailBatchLoader {
+
+    /**
+     * CoinGecko {@code ids} 파라미터 최대 개수
+     */
+    public static final int MAX_BATCH_SIZE = 250;
+
+    private final CoinGeckoClient coinGeckoClient;
+    private final CacheManager cacheManager;
+    private final long windowMillis;
+    private final long timeoutMillis;
+    private final ExecutorService flushExecutor;
+    private final ScheduledExecutorService scheduler;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Batch> pending = new HashMap<>();
+
+    public CoinDetailBatchLoader(
+            CoinGeckoClient coinGeckoClient,
+            CacheManager cacheManager,
+            @Value("${app.market.detail-batch.window}") long windowMillis,
+            @Value("${app.market.detail-batch.timeout}") long timeoutMillis) {
+        this.coinGeckoClient = coinGeckoClient;
+        this.cacheManager = cacheManager;
+        this.windowMillis = windowMillis;
+        this.timeoutMillis = timeoutMillis;
+        this.flushExecutor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("coin-detail-batch-", 0).factory());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("coin-detail-batch-timer").daemon(true).factory());
+    }
+
+    /**
+     * 코인 상세 데이터 조회. 캐시에 없으면 배치 요청에 합류한다.
+     *
+     * @param vsCurrency 기준 통화
+     * @param coinId     코인 ID
+     * @return 코인 마켓 데이터 (존재하지 않는 코인이면 null)
+     */
+    public CoinMarketData get(String vsCurrency, String coinId) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.COIN_DETAIL));
+        try {
+            return cache.get(key(vsCurrency, coinId), () -> await(loadAsync(vsCurrency, coinId)));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * refresh-ahead 캐시의 동기 적재 ("vsCurrency:coinId" 형식 키)
+     */
+    public CoinMarketData load(Object key) {
+        return await(loadAsync(key));
+    }
+
+    /**
+     * refresh-ahead 캐시의 비동기 적재/재적재. 호출 스레드를 막지 않고 배치 결과 future를 반환하며,
+     * {@code timeout} 안에 배치가 끝나지 않으면 {@link TimeoutException}으로 완료된다.
+     */
+    public CompletableFuture<CoinMarketData> loadAsync(Object key) {
+        String[] parts = key.toString().split(":", 2);
+        return loadAsync(parts[0], parts[1]);
+    }
+
+    public static String key(String vsCurrency, String coinId) {
+        return vsCurrency + ':' + coinId;
+    }
+
+    private CompletableFuture<CoinMarketData> loadAsync(String vsCurrency, String coinId) {
+        // 배치의 future를 공유하므로 대기 제한은 호출자별 사본에 건다
+        return enqueue(vsCurrency, coinId).copy().orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private CompletableFuture<CoinMarketData> enqueue(String vsCurrency, String coinId) {
+        Priority priority = CoinGeckoRateLimiter.currentPriority();
+        Batch full = null;
+        CompletableFuture<CoinMarketData> future;
+
+        lock.lock();
+        try {
+            Batch batch = pending.get(vsCurrency);
+            if (batch == null) {
+                batch = new Batch();
+                pending.put(vsCurrency, batch);
+                scheduler.schedule(() -> flushExecutor.execute(() -> flush(vsCurrency, null)),
+                        windowMillis, TimeUnit.MILLISECONDS);
+            }
+            future = batch.futures.computeIfAbsent(coinId, id -> new CompletableFuture<>());
+            if (priority.compareTo(batch.priority) < 0) {
+                batch.priority = priority;
+            }
+            if (batch.futures.size() >= MAX_BATCH_SIZE) {
+                full = pending.remove(vsCurrency);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (full != null) {
+            Batch batch = full;
+            flushExecutor.execute(() -> flush(vsCurrency, batch));
+        }
+        return future;
+    }
+
+    /**
+     * @param batch 가득 찬 배치 (null이면 윈도우 만료로 현재 대기 중인 배치를 가져온다)
+     */
+    private void flush(String vsCurrency, Batch batch) {
+        if (batch == null) {
+            lock.lock();
+            try {
+                batch = pending.remove(vsCurrency);
+            } finally {
+                lock.unlock();
+            }
+            if (batch == null) {
+                return;
+            }
+        }
+
+        Map<String, CompletableFuture<CoinMarketData>> futures = batch.futures;
+        Throwable failure = null;
+        try {
+            String ids = String.join(",", futures.keySet());
+            List<CoinMarketData> coins = CoinGeckoRateLimiter.withPriority(batch.priority,
+                    () -> coinGeckoClient.fetchCoinsMarkets(vsCurrency, ids, MAX_BATCH_SIZE, 1));
+            log.debug("Coin detail batch fetched: vsCurrency={}, requested={}, found={}, priority={}",
+                    vsCurrency, futures.size(), coins.size(), batch.priority);
+
+            Map<String, CoinMarketData> byId = new HashMap<>();
+            for (CoinMarketData coin : coins) {
+                byId.put(coin.id(), coin);
+            }
+            futures.forEach((coinId, future) -> future.complete(byId.get(coinId)));
+        } catch (Throwable e) {
+            failure = e;
+            if (e instanceof Error error) {
+                throw error;
+            }
+        } finally {
+            // Error로 끝나도 완료되지 않은 future를 실패시켜 호출자가 timeout까지 기다리지 않게 한다
+            Throwable cause = failure != null ? failure : new IllegalStateException("Coin detail batch aborted");
+            futures.values().forEach(future -> future.completeExceptionally(cause));
+        }
+    }
+
+    private CoinMarketData await(CompletableFuture<CoinMarketData> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof TimeoutException) {
+                throw CoinGeckoApiException.timeout(e.getCause());
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 통화별로 모으는 배치. {@code lock} 안에서만 수정한다.
+     */
+    private static final class Batch {
+
+        private final Map<String, CompletableFuture<CoinMarketData>> futures = new LinkedHashMap<>();
+
+        /**
+         * 합류한 호출자 중 가장 높은 우선순위
+         */
+        private Priority priority = Priority.BACKGROUND;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        flushExecutor.shutdownNow();
+    }
+}
@@ -1,9 +1,19 @@
 package com.crypto.market.insight.domain.market.client;
 
 import com.crypto.market.insight.config.CacheConfig;
+import com.crypto.market.insight.domain.market.cache.CloseHistoryKey;
+import com.crypto.market.insight.domain.market.cache.CloseHistoryKeyGenerator;
+import com.crypto.market.insight.domain.market.cache.CoinMarketsKey;
+import com.crypto.market.insight.domain.market.cache.CoinMarketsKeyGenerator;
+import com.crypto.market.insight.domain.market.cache.OhlcKey;
+import com.crypto.market.insight.domain.market.cache.OhlcKeyGenerator;
+import com.crypto.market.insight.domain.market.dto.CoinListEntry;
 import com.crypto.market.insight.domain.market.dto.CoinMarketData;
-import com.crypto.market.insight.domain.market.dto.OhlcData;
+import com.crypto.market.insight.domain.market.dto.MarketChartData;
 import com.crypto.market.insight.domain.market.exception.CoinGeckoApiException;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import com.crypto.market.insight.domain.market.store.CandleStore;
+import com.crypto.market.insight.domain.market.store.Granularity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -11,7 +21,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 @Slf4j
@@ -21,8 +33,14 @@ public class CoinGeckoClient {
 
     private static final String COINS_MARKETS_PATH = "/coins/markets";
     private static final String OHLC_PATH = "/coins/{id}/ohlc";
+    private static final String MARKET_CHART_PATH = "/coins/{id}/market_chart";
+    private static final String COINS_LIST_PATH = "/coins/list";
+    private static final String COINS_LIST = "coinsList";
+    private static final int HEAD_TRIM_DIVISOR = 10;
 
     private final RestClient coinGeckoRestClient;
+    private final RequestCoalescer requestCoalescer;
+    private final CandleStore candleStore;
 
     /**
      * 코인 마켓 데이터 조회
@@ -33,10 +51,17 @@ public class CoinGeckoClient {
      * @param page       페이지 번호
      * @return 코인 마켓 데이터 목록
      */
-    @Cacheable(value = CacheConfig.COIN_MARKETS, key = "#vsCurrency + ':' + #ids + ':' + #perPage + ':' + #page")
+    @Cacheable(value = CacheConfig.COIN_MARKETS, keyGenerator = CoinMarketsKeyGenerator.BEAN_NAME)
     public List<CoinMarketData> getCoinsMarkets(String vsCurrency, String ids, int perPage, int page) {
         log.info("Cache MISS - fetching coinMarkets: vsCurrency={}, ids={}", vsCurrency, ids);
-        return execute(() -> {
+        return fetchCoinsMarkets(vsCurrency, ids, perPage, page);
+    }
+
+    /**
+     * 캐시를 거치지 않고 코인 마켓 데이터를 업스트림에서 조회
+     */
+    public List<CoinMarketData> fetchCoinsMarkets(String vsCurrency, String ids, int perPage, int page) {
+        return execute(CacheConfig.COIN_MARKETS, new CoinMarketsKey(vsCurrency, ids, perPage, page), () -> {
             CoinMarketData[] response = coinGeckoRestClient.get()
                     .uri(uriBuilder -> uriBuilder
                             .path(COINS_MARKETS_PATH)
@@ -52,6 +77,20 @@ public class CoinGeckoClient {
         });
     }
 
+    /**
+     * 지원하는 전체 코인의 ID/심볼/이름 목록 조회 (캐시 없음, 한 번의 호출로 전체 반환)
+     */
+    public List<CoinListEntry> fetchCoinsList() {
+        return execute(COINS_LIST, COINS_LIST, () -> {
+            CoinListEntry[] response = coinGeckoRestClient.get()
+                    .uri(COINS_LIST_PATH)
+                    .retrieve()
+                    .body(CoinListEntry[].class);
+
+            return response != null ? List.of(response) : List.of();
+        });
+    }
+
     /**
      * 코인 마켓 데이터 조회 (기본값)
      *
@@ -69,31 +108,154 @@ public class CoinGeckoClient {
      * @param coinId     코인 ID (예: "bitcoin")
      * @param vsCurrency 기준 통화 (예: "usd")
      * @param days       조회 기간 (1, 7, 14, 30, 90, 180, 365, "max")
-     * @return OHLC 데이터 목록
+     * @return OHLC 시계열 (timestamp 오름차순)
      */
-    @Cacheable(value = CacheConfig.OHLC, key = "#coinId + ':' + #vsCurrency + ':' + #days")
-    public List<OhlcData> getOhlc(String coinId, String vsCurrency, String days) {
+    @Cacheable(value = CacheConfig.OHLC, keyGenerator = OhlcKeyGenerator.BEAN_NAME)
+    public OhlcSeries getOhlc(String coinId, String vsCurrency, String days) {
         log.info("Cache MISS - fetching OHLC: coinId={}, vsCurrency={}, days={}", coinId, vsCurrency, days);
-        return execute(() -> {
-            OhlcData[] response = coinGeckoRestClient.get()
+        return fetchOhlc(coinId, vsCurrency, days);
+    }
+
+    /**
+     * 캐시를 거치지 않고 OHLC 데이터를 조회
+     * <p>
+     * 로컬 캔들 저장소에 이력이 있으면 업스트림에서는 최근 구간만 받아 이어 붙인다.
+     */
+    public OhlcSeries fetchOhlc(String coinId, String vsCurrency, String days) {
+        return execute(CacheConfig.OHLC, new OhlcKey(coinId, vsCurrency, days),
+                () -> candleStore.load(coinId, vsCurrency, days, d -> requestOhlc(coinId, vsCurrency, d)));
+    }
+
+    /**
+     * 캐시된 OHLC 시계열의 백그라운드 갱신
+     * <p>
+     * 전체 구간을 다시 받는 대신 마지막 캔들 이후를 같은 간격으로 덮는 가장 작은 days로 최근 구간만 받아
+     * 진행 중이던 캔들은 바꾸고 새로 마감된 캔들은 뒤에 붙인다. 더 작은 days가 없거나(days=1, max)
+     * 받은 구간이 캐시된 마지막 캔들과 겹치지 않으면 전체를 다시 받는다.
+     *
+     * @param key    OHLC 캐시 키
+     * @param cached 현재 캐시된 시계열
+     * @return 합친 시계열 (새 버전)
+     */
+    public OhlcSeries refreshOhlc(OhlcKey key, OhlcSeries cached) {
+        String days = key.days();
+        if (cached.isEmpty() || Granularity.isMax(days)) {
+            return fetchOhlc(key.coinId(), key.vsCurrency(), days);
+        }
+        long now = System.currentTimeMillis();
+        Duration gap = Duration.ofMillis(Math.max(0, now - cached.lastTimestamp()));
+        Optional<String> tailDays = Granularity.fromDays(days).tailDays(gap, days);
+        if (tailDays.isEmpty()) {
+            return fetchOhlc(key.coinId(), key.vsCurrency(), days);
+        }
+
+        String d = tailDays.get();
+        OhlcSeries tail = execute(CacheConfig.OHLC, new OhlcKey(key.coinId(), key.vsCurrency(), d),
+                () -> requestOhlc(key.coinId(), key.vsCurrency(), d));
+        if (tail.isEmpty() || tail.firstTimestamp() > cached.lastTimestamp()) {
+            return fetchOhlc(key.coinId(), key.vsCurrency(), days);
+        }
+        candleStore.record(key.coinId(), key.vsCurrency(), d, tail);
+        log.debug("OHLC tail refresh: key={}, tailDays={}, cached={}, fetched={}", key, d, cached.size(), tail.size());
+        return cached.mergeTail(tail, retainFrom(cached, Duration.ofDays(Long.parseLong(days)).toMillis(), now));
+    }
+
+    /**
+     * 합칠 때 유지할 구간의 시작 시각
+     * <p>
+     * 조회 기간 밖으로 밀려난 캔들을 갱신할 때마다 버리면 시계열 앞부분이 매번 바뀌어 지표를 이어서 계산할 수 없으므로,
+     * 밀려난 구간이 조회 기간의 10%만큼 쌓였을 때 한 번에 버린다. 그 사이에는 조회 기간보다 조금 긴 시계열을 응답한다.
+     */
+    private static long retainFrom(OhlcSeries cached, long windowMillis, long now) {
+        long from = now - windowMillis;
+        return cached.firstTimestamp() >= from - windowMillis / HEAD_TRIM_DIVISOR ? cached.firstTimestamp() : from;
+    }
+
+    private OhlcSeries requestOhlc(String coinId, String vsCurrency, String days) {
+        OhlcSeries response = coinGeckoRestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(OHLC_PATH)
+                        .queryParam("vs_currency", vsCurrency)
+                        .queryParam("days", days)
+                        .build(coinId))
+                .retrieve()
+                .body(OhlcSeries.class);
+
+        return response != null ? response : OhlcSeries.empty();
+    }
+
+    /**
+     * 종가 이력 조회 ({@code /market_chart}의 가격을 종가만 채운 시계열로)
+     * <p>
+     * OHLC보다 긴 기간을 촘촘한 간격으로 받을 수 있어 긴 지표를 평가하는 스크리너가 사용한다.
+     * 점은 timestamp 시각의 가격이므로 봉 시작 시각 기준으로 리샘플링한다.
+     *
+     * @param days 조회 기간 (2~90이면 1시간 간격, 그보다 길면 일 간격)
+     */
+    @Cacheable(value = CacheConfig.OHLC, keyGenerator = CloseHistoryKeyGenerator.BEAN_NAME)
+    public OhlcSeries getCloseHistory(String coinId, String vsCurrency, String days) {
+        log.info("Cache MISS - fetching close history: coinId={}, vsCurrency={}, days={}", coinId, vsCurrency, days);
+        return fetchCloseHistory(coinId, vsCurrency, days);
+    }
+
+    /**
+     * 캐시를 거치지 않고 종가 이력을 조회 (최근 구간만 받아 합치지 않고 항상 전체를 받는다)
+     */
+    public OhlcSeries fetchCloseHistory(String coinId, String vsCurrency, String days) {
+        return execute(CacheConfig.OHLC, new CloseHistoryKey(coinId, vsCurrency, days), () -> {
+            MarketChartData response = coinGeckoRestClient.get()
                     .uri(uriBuilder -> uriBuilder
-                            .path(OHLC_PATH)
+                            .path(MARKET_CHART_PATH)
                             .queryParam("vs_currency", vsCurrency)
                             .queryParam("days", days)
                             .build(coinId))
                     .retrieve()
-                    .body(OhlcData[].class);
+                    .body(MarketChartData.class);
 
-            return response != null ? List.of(response) : List.of();
+            return response != null ? response.toCloseSeries() : OhlcSeries.empty();
         });
     }
 
-    private <T> T execute(Supplier<T> request) {
-        try {
-            return request.get();
-        } catch (ResourceAccessException e) {
-            log.error("CoinGecko Timeout: {}", e.getMessage());
-            throw CoinGeckoApiException.timeout(e);
+    /**
+     * refresh-ahead 캐시의 적재/백그라운드 재적재
+     *
+     * @param key 캐시 키 ({@link CoinMarketsKey}, {@link OhlcKey} 또는 {@link CloseHistoryKey})
+     * @return 업스트림 조회 결과
+     */
+    public Object load(Object key) {
+        return switch (key) {
+            case CoinMarketsKey k -> fetchCoinsMarkets(k.vsCurrency(), k.ids(), k.perPage(), k.page());
+            case OhlcKey k -> fetchOhlc(k.coinId(), k.vsCurrency(), k.days());
+            case CloseHistoryKey k -> fetchCloseHistory(k.coinId(), k.vsCurrency(), k.days());
+            default -> throw new IllegalArgumentException("Unknown cache key: " + key);
+        };
+    }
+
+    /**
+     * refresh-ahead 캐시의 백그라운드 재적재. OHLC는 기존 값에 최근 구간만 합친다.
+     *
+     * @param key      캐시 키 ({@link CoinMarketsKey}, {@link OhlcKey} 또는 {@link CloseHistoryKey})
+     * @param oldValue 현재 캐시된 값
+     */
+    public Object reload(Object key, Object oldValue) {
+        if (key instanceof OhlcKey k && oldValue instanceof OhlcSeries cached) {
+            return refreshOhlc(k, cached);
         }
+        return load(key);
+    }
+
+    /**
+     * 동일 키의 동시 캐시 미스는 {@link RequestCoalescer}로 합쳐 업스트림을 한 번만 호출한다.
+     * 호출자의 우선순위를 명시적으로 넘겨 합류 여부와 leader의 토큰 우선순위를 정한다.
+     */
+    private <T> T execute(String name, Object key, Supplier<T> request) {
+        return requestCoalescer.execute(name, key, CoinGeckoRateLimiter.currentPriority(), () -> {
+            try {
+                return request.get();
+            } catch (ResourceAccessException e) {
+                log.error("CoinGecko Timeout: {}", e.getMessage());
+                throw CoinGeckoApiException.timeout(e);
+            }
+        });
     }
 }
@@ -0,0 +1,93 @@
+package com.crypto.market.insight.domain.market.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * CoinGecko 업스트림 호출 시간 측정
+ * <p>
+ * {@code coingecko.http.requests{path, status, outcome}} 타이머에 percentile 히스토그램과 함께 기록합니다.
+ * {@code path}는 코인 ID를 제외한 템플릿({@code /coins/markets}, {@code /coins/list}, {@code /coins/{id}/ohlc})이며,
+ * 레이트 리미터 대기 시간이 섞이지 않도록 리미터 인터셉터 다음에 등록해야 합니다.
+ */
+public class CoinGeckoMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final String METRIC_NAME = "coingecko.http.requests";
+
+    private static final String COINS_MARKETS = "/coins/markets";
+    private static final String COINS_LIST = "/coins/list";
+    private static final String OHLC = "/coins/{id}/ohlc";
+
+    private final MeterRegistry meterRegistry;
+
+    public CoinGeckoMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String path = pathTemplate(request.getURI().getPath());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            int status = response.getStatusCode().value();
+            sample.stop(timer(path, String.valueOf(status), outcome(status)));
+            return response;
+        } catch (IOException | RuntimeException e) {
+            sample.stop(timer(path, "IO_ERROR", "UNKNOWN"));
+            throw e;
+        }
+    }
+
+    /**
+     * 요청 경로를 태그용 템플릿으로 변환 (base-url 접두사 무시)
+     */
+    public static String pathTemplate(String path) {
+        if (path == null) {
+            return "other";
+        }
+        if (path.endsWith(COINS_MARKETS)) {
+            return COINS_MARKETS;
+        }
+        if (path.endsWith(COINS_LIST)) {
+            return COINS_LIST;
+        }
+        int coins = path.lastIndexOf("/coins/");
+        if (path.endsWith("/ohlc") && coins >= 0 && path.indexOf('/', coins + 7) == path.length() - 5) {
+            return OHLC;
+        }
+        return "other";
+    }
+
+    private static String outcome(int status) {
+        if (status >= 200 && status < 300) {
+            return "SUCCESS";
+        }
+        if (status >= 300 && status < 400) {
+            return "REDIRECTION";
+        }
+        if (status >= 400 && status < 500) {
+            return "CLIENT_ERROR";
+        }
+        if (status >= 500 && status < 600) {
+            return "SERVER_ERROR";
+        }
+        return "UNKNOWN";
+    }
+
+    private Timer timer(String path, String status, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .description("CoinGecko 업스트림 호출 시간")
+                .tag("path", path)
+                .tag("status", status)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,234 @@
+package com.crypto.market.insight.domain.market.client;
+
+import com.crypto.market.insight.domain.market.exception.CoinGeckoApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * CoinGecko 호출 전 토큰을 발급하는 클라이언트 측 레이트 리미터
+ * <p>
+ * 요금제의 분당 요청 수에 맞춘 토큰 버킷으로 업스트림 한도를 넘지 않도록 호출을 조절합니다.
+ * <ul>
+ *     <li>INTERACTIVE 요청이 대기 중이면 BACKGROUND 요청은 토큰을 받지 않으며,
+ *     BACKGROUND 요청은 예약분({@code background-reserve})을 남겨두고만 토큰을 사용합니다.</li>
+ *     <li>429 응답의 {@code Retry-After} 동안은 모든 요청을 대기시키며, 그 시각이 최대 대기 시간을 넘으면
+ *     기다리지 않고 바로 거절합니다.</li>
+ *     <li>레인별 대기열 길이와 최대 대기 시간을 넘으면 {@link CoinGeckoApiException#rateLimitExceeded()}로 거절합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class CoinGeckoRateLimiter {
+
+    public enum Priority {
+        INTERACTIVE,
+        BACKGROUND
+    }
+
+    private static final ThreadLocal<Priority> CURRENT_PRIORITY = ThreadLocal.withInitial(() -> Priority.INTERACTIVE);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final double backgroundReserve;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final Duration defaultRetryAfter;
+    private final int[] waiting = new int[Priority.values().length];
+    private final MeterRegistry meterRegistry;
+
+    private double tokens;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+
+    public CoinGeckoRateLimiter(
+            @Value("${app.coingecko.rate-limit.requests-per-minute}") int requestsPerMinute,
+            @Value("${app.coingecko.rate-limit.burst}") int burst,
+            @Value("${app.coingecko.rate-limit.background-reserve}") int backgroundReserve,
+            @Value("${app.coingecko.rate-limit.max-queue}") int maxQueue,
+            @Value("${app.coingecko.rate-limit.max-wait}") long maxWaitMillis,
+            @Value("${app.coingecko.rate-limit.default-retry-after}") long defaultRetryAfterSeconds,
+            MeterRegistry meterRegistry) {
+        this.capacity = Math.max(1, burst);
+        this.tokensPerNano = requestsPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.backgroundReserve = Math.min(backgroundReserve, capacity - 1);
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.defaultRetryAfter = Duration.ofSeconds(defaultRetryAfterSeconds);
+        this.meterRegistry = meterRegistry;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+
+        for (Priority priority : Priority.values()) {
+            Gauge.builder("coingecko.rate.limiter.waiting", this, limiter -> limiter.waitingCount(priority))
+                    .description("토큰 대기 중인 요청 수")
+                    .tag("priority", priority.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 현재 스레드의 업스트림 호출 우선순위를 지정해 작업을 실행한다.
+     *
+     * @param priority 우선순위
+     * @param task     실행할 작업
+     * @return 작업 결과
+     */
+    public static <T> T withPriority(Priority priority, Supplier<T> task) {
+        Priority previous = CURRENT_PRIORITY.get();
+        CURRENT_PRIORITY.set(priority);
+        try {
+            return task.get();
+        } finally {
+            CURRENT_PRIORITY.set(previous);
+        }
+    }
+
+    /**
+     * 현재 스레드의 업스트림 호출 우선순위 (지정하지 않았으면 INTERACTIVE)
+     */
+    public static Priority currentPriority() {
+        return CURRENT_PRIORITY.get();
+    }
+
+    /**
+     * 현재 스레드 우선순위로 토큰 하나를 획득한다. 최대 대기 시간 안에 얻지 못하면 예외가 발생한다.
+     */
+    public void acquire() {
+        acquire(CURRENT_PRIORITY.get());
+    }
+
+    public void acquire(Priority priority) {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        lock.lock();
+        try {
+            if (waiting[priority.ordinal()] >= maxQueue) {
+                throw reject(priority, "queue full");
+            }
+            waiting[priority.ordinal()]++;
+            try {
+                while (true) {
+                    long now = System.nanoTime();
+                    refill(now);
+                    long waitNanos = waitNanos(priority, now);
+                    if (waitNanos <= 0) {
+                        tokens -= 1;
+                        counter(priority, "granted").increment();
+                        return;
+                    }
+                    long remaining = deadline - now;
+                    if (remaining <= 0) {
+                        throw reject(priority, "max wait exceeded");
+                    }
+                    if (now < pausedUntilNanos && pausedUntilNanos - deadline > 0) {
+                        throw reject(priority, "retry-after exceeds max wait");
+                    }
+                    changed.awaitNanos(Math.min(waitNanos, remaining));
+                }
+            } finally {
+                waiting[priority.ordinal()]--;
+                changed.signalAll();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject(priority, "interrupted");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 429 응답을 받았을 때 {@code Retry-After} 동안 모든 요청을 멈춘다.
+     *
+     * @param retryAfter Retry-After 헤더 값 (초 또는 HTTP-date, 없으면 기본값 사용)
+     */
+    public void onRateLimited(String retryAfter) {
+        Duration pause = parseRetryAfter(retryAfter);
+        lock.lock();
+        try {
+            pausedUntilNanos = Math.max(pausedUntilNanos, System.nanoTime() + pause.toNanos());
+            tokens = 0;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        log.warn("CoinGecko rate limited - pausing upstream calls for {}s", pause.toSeconds());
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+
+    private long waitNanos(Priority priority, long now) {
+        if (now < pausedUntilNanos) {
+            return pausedUntilNanos - now;
+        }
+        double required = 1;
+        if (priority == Priority.BACKGROUND) {
+            if (waiting[Priority.INTERACTIVE.ordinal()] > 0) {
+                return nanosFor(1);
+            }
+            required += backgroundReserve;
+        }
+        return tokens >= required ? 0 : nanosFor(required - tokens);
+    }
+
+    private long nanosFor(double missingTokens) {
+        return Math.max(1, (long) Math.ceil(missingTokens / tokensPerNano));
+    }
+
+    private Duration parseRetryAfter(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return defaultRetryAfter;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime until = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration pause = Duration.between(ZonedDateTime.now(until.getZone()), until);
+                return pause.isNegative() ? Duration.ZERO : pause;
+            } catch (DateTimeParseException ignored) {
+                return defaultRetryAfter;
+            }
+        }
+    }
+
+    private int waitingCount(Priority priority) {
+        lock.lock();
+        try {
+            return waiting[priority.ordinal()];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CoinGeckoApiException reject(Priority priority, String reason) {
+        counter(priority, "rejected").increment();
+        log.warn("CoinGecko request rejected by rate limiter: priority={}, reason={}", priority, reason);
+        return CoinGeckoApiException.rateLimitExceeded();
+    }
+
+    private Counter counter(Priority priority, String result) {
+        return Counter.builder("coingecko.rate.limiter.requests")
+                .description("레이트 리미터 토큰 요청 수")
+                .tag("priority", priority.name())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,114 @@
+package com.crypto.market.insight.domain.market.client;
+
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter.Priority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동일 키에 대한 동시 업스트림 호출을 하나로 합치는 single-flight 실행기
+ * <p>
+ * 캐시 만료 직후 같은 키로 몰린 요청 중 첫 요청(leader)만 실제 호출을 수행하고,
+ * 나머지(follower)는 그 결과 또는 예외({@link Error} 포함)를 그대로 공유합니다.
+ * <p>
+ * 호출 우선순위({@link Priority})는 명시적으로 전달받아 leader가 그 우선순위로 토큰을 받습니다.
+ * INTERACTIVE 요청이 BACKGROUND leader에 합류하면 백그라운드 예약분 제한을 그대로 물려받으므로,
+ * INTERACTIVE 요청은 INTERACTIVE 호출에만 합류하고 BACKGROUND 요청은 어느 호출에든 합류합니다.
+ */
+@Component
+public class RequestCoalescer {
+
+    private static final String METRIC_NAME = "coingecko.coalescer.requests";
+
+    private final ConcurrentMap<Flight, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("coingecko.coalescer.in.flight", inFlight, ConcurrentMap::size)
+                .description("진행 중인 업스트림 호출 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 스레드 우선순위({@link CoinGeckoRateLimiter#currentPriority()})로 {@link #execute(String, Object,
+     * Priority, Supplier)}를 호출한다.
+     */
+    public <T> T execute(String name, Object key, Supplier<T> loader) {
+        return execute(name, key, CoinGeckoRateLimiter.currentPriority(), loader);
+    }
+
+    /**
+     * 같은 (name, key)로 합류할 수 있는 호출이 진행 중이면 그 결과를 기다리고, 없으면 직접 호출한다.
+     *
+     * @param name     호출 종류 (메트릭 태그, 예: "coinMarkets")
+     * @param key      호출 파라미터로 구성한 키
+     * @param priority 호출 우선순위 (leader가 되면 이 우선순위로 업스트림을 호출한다)
+     * @param loader   실제 업스트림 호출
+     * @return 호출 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object key, Priority priority, Supplier<T> loader) {
+        Flight interactive = new Flight(name, key, Priority.INTERACTIVE);
+        if (priority == Priority.BACKGROUND) {
+            CompletableFuture<Object> existing = inFlight.get(interactive);
+            if (existing != null) {
+                counter(name, "follower").increment();
+                return (T) await(existing);
+            }
+        }
+
+        Flight flight = new Flight(name, key, priority);
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flight, created);
+
+        if (existing != null) {
+            counter(name, "follower").increment();
+            return (T) await(existing);
+        }
+
+        counter(name, "leader").increment();
+        try {
+            T value = CoinGeckoRateLimiter.withPriority(priority, loader);
+            created.complete(value);
+            return value;
+        } catch (Throwable e) {
+            // Error도 전달해야 follower가 영원히 기다리지 않는다
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flight, created);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(String name, String role) {
+        return Counter.builder(METRIC_NAME)
+                .description("업스트림 호출 요청 수 (leader: 실제 호출, follower: 합류)")
+                .tag("name", name)
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+
+    private record Flight(String name, Object key, Priority priority) {
+    }
+}
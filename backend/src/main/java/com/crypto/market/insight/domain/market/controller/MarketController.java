@@ -1,24 +1,37 @@
 package com.crypto.market.insight.domain.market.controller;
 
+import com.crypto.market.insight.common.web.ResponseBodyCache;
 import com.crypto.market.insight.domain.market.dto.CoinMarketData;
 import com.crypto.market.insight.domain.market.dto.MarketDto.CoinListResponse;
-import com.crypto.market.insight.domain.market.dto.MarketDto.CoinSummary;
-import com.crypto.market.insight.domain.market.dto.MarketDto.OhlcvDataDto;
+import com.crypto.market.insight.domain.market.dto.MarketDto.IndicatorResponse;
 import com.crypto.market.insight.domain.market.dto.MarketDto.OhlcvResponse;
-import com.crypto.market.insight.domain.market.dto.OhlcData;
+import com.crypto.market.insight.domain.market.dto.MarketDto.ScreenerResponse;
+import com.crypto.market.insight.domain.market.model.vo.IndicatorSpec;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
 import com.crypto.market.insight.domain.market.model.vo.Timeframe;
+import com.crypto.market.insight.domain.market.screener.ScreenerCondition;
+import com.crypto.market.insight.domain.market.screener.ScreenerResult;
+import com.crypto.market.insight.domain.market.screener.ScreenerService;
+import com.crypto.market.insight.domain.market.service.CoinListing;
 import com.crypto.market.insight.domain.market.service.MarketService;
+import com.crypto.market.insight.domain.market.universe.MarketUniverse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -31,56 +44,176 @@ import org.springframework.web.bind.annotation.RestController;
 public class MarketController {
 
     private final MarketService marketService;
+    private final ScreenerService screenerService;
+    private final ResponseBodyCache responseBodyCache;
 
     @Operation(
             summary = "코인 목록 조회",
-            description = "암호화폐 시장 데이터 목록을 페이지네이션으로 조회합니다."
+            description = "암호화폐 시장 데이터 목록을 페이지네이션으로 조회합니다. "
+                    + "keyword가 있으면 전체 코인에서 symbol/name/ID 완전·접두사·부분 일치 순, "
+                    + "같은 일치 안에서는 시가총액 순위순으로 검색합니다. "
+                    + "keyword가 없으면 주기적으로 갱신되는 마켓 스냅샷에서 sort/order로 정렬해 응답합니다. "
+                    + "스냅샷 밖 페이지는 업스트림 시가총액 내림차순만 지원하므로 다른 정렬은 400, "
+                    + "스냅샷이 아직 없으면 503을 응답합니다. "
+                    + "스냅샷에서 응답하면 X-Market-Version 헤더로 버전을 알리며, 요청에 같은 헤더를 보내면 "
+                    + "보관 중인 그 버전으로 응답합니다. "
+                    + "If-None-Match가 현재 ETag와 같으면 304를 응답합니다."
     )
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = CoinListResponse.class)))
     @GetMapping("/coins")
-    public ResponseEntity<CoinListResponse> getCoins(
+    public ResponseEntity<byte[]> getCoins(
             @Parameter(description = "페이지 번호 (1부터 시작)", example = "1")
             @RequestParam(defaultValue = "1") @Min(1) int page,
             @Parameter(description = "페이지당 개수 (1-250)", example = "10")
             @RequestParam(defaultValue = "10") @Min(1) @Max(250) int size,
             @Parameter(description = "검색 키워드 (symbol, name)", example = "btc")
-            @RequestParam(required = false) String keyword
+            @RequestParam(required = false) String keyword,
+            @Parameter(description = "정렬 기준 (market_cap, volume, price_change_24h, 검색 시 무시)",
+                    example = "market_cap")
+            @RequestParam(defaultValue = "market_cap") String sort,
+            @Parameter(description = "정렬 방향 (asc, desc)", example = "desc")
+            @RequestParam(defaultValue = "desc") String order,
+            @Parameter(description = "고정할 마켓 스냅샷 버전 (이전 응답의 X-Market-Version)")
+            @RequestHeader(value = MarketUniverse.VERSION_HEADER, required = false) Long marketVersion,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
-        List<CoinMarketData> coins = marketService.getCoins(page, size, keyword);
-        List<CoinSummary> coinSummaries = coins.stream()
-                .map(CoinSummary::from)
-                .toList();
-        return ResponseEntity.ok(CoinListResponse.of(coinSummaries, page, size));
+        CoinListing listing = marketService.getCoins(page, size, keyword, sort, order, marketVersion);
+        ResponseEntity<byte[]> response = responseBodyCache.respond(
+                listing.cacheKey(), listing.source(), acceptEncoding, listing.body());
+        return listing.universe() != null ? withVersion(response, listing.universe()) : response;
     }
 
     @Operation(
             summary = "코인 상세 조회",
-            description = "특정 코인의 상세 시장 데이터를 조회합니다."
+            description = "특정 코인의 상세 시장 데이터를 조회합니다. "
+                    + "마켓 스냅샷에 있는 코인이면 목록과 같은 스냅샷 값으로 응답하고 X-Market-Version 헤더로 버전을 알립니다."
     )
     @GetMapping("/coins/{coinId}")
     public ResponseEntity<CoinMarketData> getCoinDetail(
             @Parameter(description = "코인 ID", example = "bitcoin")
-            @PathVariable String coinId
+            @PathVariable String coinId,
+            @Parameter(description = "고정할 마켓 스냅샷 버전 (이전 응답의 X-Market-Version)")
+            @RequestHeader(value = MarketUniverse.VERSION_HEADER, required = false) Long marketVersion
     ) {
+        MarketUniverse universe = marketService.getUniverse(marketVersion);
+        CoinMarketData snapshotCoin = universe != null ? universe.find(coinId) : null;
+        if (snapshotCoin != null) {
+            return withVersion(ResponseEntity.ok(snapshotCoin), universe);
+        }
         CoinMarketData coin = marketService.getCoinDetail(coinId);
         return ResponseEntity.ok(coin);
     }
 
     @Operation(
             summary = "OHLCV 차트 데이터 조회",
-            description = "특정 코인의 OHLCV(시가, 고가, 저가, 종가) 차트 데이터를 조회합니다."
+            description = "특정 코인의 OHLCV(시가, 고가, 저가, 종가) 차트 데이터를 조회합니다. "
+                    + "X-Market-Version 헤더로 버전을 고정하면 그 스냅샷 시각 이후의 봉은 제외합니다. "
+                    + "If-None-Match가 현재 ETag와 같으면 304를 응답합니다."
     )
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = OhlcvResponse.class)))
     @GetMapping("/coins/{coinId}/ohlcv")
-    public ResponseEntity<OhlcvResponse> getOhlcv(
+    public ResponseEntity<byte[]> getOhlcv(
             @Parameter(description = "코인 ID", example = "bitcoin")
             @PathVariable String coinId,
             @Parameter(description = "타임프레임 (1h, 4h, 1d, 1w)", example = "1d")
+            @RequestParam(defaultValue = "1d") String timeframe,
+            @Parameter(description = "고정할 마켓 스냅샷 버전 (이전 응답의 X-Market-Version)")
+            @RequestHeader(value = MarketUniverse.VERSION_HEADER, required = false) Long marketVersion,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        Timeframe tf = marketService.parseTimeframe(timeframe);
+        OhlcSeries base = marketService.getOhlcvBase(coinId, tf);
+        MarketUniverse universe = marketVersion != null ? marketService.getUniverse(marketVersion) : null;
+        if (universe != null) {
+            OhlcSeries pinned = marketService.asOf(base, universe);
+            return withVersion(responseBodyCache.respond(
+                    "ohlcv:" + coinId + ":" + tf.getValue() + ":" + universe.version(), base.version(),
+                    acceptEncoding, () -> OhlcvResponse.of(coinId, tf.getValue(), marketService.resample(pinned, tf))),
+                    universe);
+        }
+        return responseBodyCache.respond("ohlcv:" + coinId + ":" + tf.getValue(), base.version(), acceptEncoding,
+                () -> OhlcvResponse.of(coinId, tf.getValue(), marketService.resample(base, tf)));
+    }
+
+    @Operation(
+            summary = "기술적 지표 조회",
+            description = "OHLCV 종가로 계산한 기술적 지표를 봉 타임스탬프와 같은 순서의 배열로 조회합니다. "
+                    + "indicators는 '종류[:파라미터...]'를 쉼표로 구분합니다 "
+                    + "(sma:기간, ema:기간, rsi:기간, macd:단기:장기:시그널, bb:기간:표준편차배수, 생략 시 기본값). "
+                    + "워밍업 구간의 값은 null입니다. X-Market-Version 헤더로 버전을 고정하면 그 스냅샷 시각 이후의 봉은 "
+                    + "제외합니다. If-None-Match가 현재 ETag와 같으면 304를 응답합니다."
+    )
+    @ApiResponse(responseCode = "200",
+            content = @Content(schema = @Schema(implementation = IndicatorResponse.class)))
+    @GetMapping("/coins/{coinId}/indicators")
+    public ResponseEntity<byte[]> getIndicators(
+            @Parameter(description = "코인 ID", example = "bitcoin")
+            @PathVariable String coinId,
+            @Parameter(description = "타임프레임 (1h, 4h, 1d, 1w)", example = "4h")
+            @RequestParam(defaultValue = "1d") String timeframe,
+            @Parameter(description = "지표 목록 (최대 10개)", example = "sma:20,rsi:14,macd:12:26:9,bb:20:2")
+            @RequestParam(defaultValue = "sma:20,ema:20,rsi:14,macd,bb") List<String> indicators,
+            @Parameter(description = "고정할 마켓 스냅샷 버전 (이전 응답의 X-Market-Version)")
+            @RequestHeader(value = MarketUniverse.VERSION_HEADER, required = false) Long marketVersion,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        Timeframe tf = marketService.parseTimeframe(timeframe);
+        List<IndicatorSpec> specs = marketService.parseIndicators(indicators);
+        OhlcSeries base = marketService.getOhlcvBase(coinId, tf);
+        MarketUniverse universe = marketVersion != null ? marketService.getUniverse(marketVersion) : null;
+        OhlcSeries source = universe != null ? marketService.asOf(base, universe) : base;
+
+        String key = "indicators:" + coinId + ":" + tf.getValue() + ":"
+                + specs.stream().map(IndicatorSpec::key).collect(Collectors.joining(","))
+                + (universe != null ? ":" + universe.version() : "");
+        ResponseEntity<byte[]> response = responseBodyCache.respond(key, base.version(), acceptEncoding, () -> {
+            OhlcSeries series = marketService.resample(source, tf);
+            return IndicatorResponse.of(coinId, tf.getValue(), series,
+                    marketService.computeIndicators(coinId, tf, series, specs));
+        });
+        return universe != null ? withVersion(response, universe) : response;
+    }
+
+    @Operation(
+            summary = "지표 조건 스크리너",
+            description = "시가총액 상위 코인 전체(마켓 스냅샷 기준)에서 조건을 모두 만족하는 코인을 조회합니다. "
+                    + "조건은 '피연산자 비교 피연산자'를 and로 잇고, 피연산자는 close, 숫자, 지표"
+                    + "(rsi:14 또는 rsi(14), 여러 선을 내는 지표는 macd.signal, bb:20:2.lower처럼 선 이름을 붙임), "
+                    + "비교는 <, <=, >, >=, below, above입니다. 값은 마지막 봉 기준입니다. 지표는 종가 이력"
+                    + "(1h/4h는 1시간 간격, 1d/1w는 1년치 일 종가)으로 계산하며 타임프레임별 봉 수는 "
+                    + "1h 240개, 4h 240개, 1d 365개, 1w 52개입니다. 워밍업이 이보다 긴 지표(예: 1w의 sma(200))는 "
+                    + "400으로 거부합니다. 상장 직후라 봉이 부족한 코인은 만족하지 않은 것으로 봅니다. 시계열은 "
+                    + "캐시에서 읽고 캐시에 없는 코인은 요청당 정해진 수만큼만 업스트림에서 조회하므로, 평가하지 "
+                    + "못했거나 갱신 주기가 지난 값 또는 봉이 부족한 코인이 있으면 partial이 true입니다. "
+                    + "스냅샷에서 대상을 가져오면 X-Market-Version 헤더로 버전을 알립니다."
+    )
+    @GetMapping("/screener")
+    public ResponseEntity<ScreenerResponse> screen(
+            @Parameter(description = "조건 (최대 10개, and로 연결)", example = "rsi(14) < 30 and close above sma(200)")
+            @RequestParam String conditions,
+            @Parameter(description = "타임프레임 (1h, 4h, 1d, 1w)", example = "4h")
             @RequestParam(defaultValue = "1d") String timeframe
     ) {
         Timeframe tf = marketService.parseTimeframe(timeframe);
-        List<OhlcData> ohlcData = marketService.getOhlcv(coinId, tf);
-        List<OhlcvDataDto> ohlcvDataDtos = ohlcData.stream()
-                .map(OhlcvDataDto::from)
-                .toList();
-        return ResponseEntity.ok(OhlcvResponse.of(coinId, tf.getValue(), ohlcvDataDtos));
+        List<ScreenerCondition> parsed = screenerService.parseConditions(conditions);
+        ScreenerResult result = screenerService.screen(tf, parsed);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (result.marketVersion() != null) {
+            response.header(MarketUniverse.VERSION_HEADER, String.valueOf(result.marketVersion()));
+        }
+        return response.body(ScreenerResponse.from(result));
+    }
+
+    /**
+     * 응답이 만들어진 마켓 스냅샷 버전을 헤더로 붙인다.
+     */
+    private static <T> ResponseEntity<T> withVersion(ResponseEntity<T> response, MarketUniverse universe) {
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(MarketUniverse.VERSION_HEADER, String.valueOf(universe.version()))
+                .body(response.getBody());
     }
 }
@@ -0,0 +1,15 @@
+package com.crypto.market.insight.domain.market.dto;
+
+/**
+ * CoinGecko coins/list API 응답 DTO (지원하는 전체 코인 목록)
+ *
+ * @param id     코인 ID (예: "bitcoin")
+ * @param symbol 코인 심볼 (예: "btc")
+ * @param name   코인 이름 (예: "Bitcoin")
+ */
+public record CoinListEntry(
+        String id,
+        String symbol,
+        String name
+) {
+}
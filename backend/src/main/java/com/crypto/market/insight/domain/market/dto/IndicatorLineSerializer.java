@@ -0,0 +1,25 @@
+package com.crypto.market.insight.domain.market.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import java.io.IOException;
+
+/**
+ * 지표 값 배열 시리얼라이저. 워밍업 구간의 NaN은 JSON 숫자가 아니므로 null로 쓴다.
+ */
+public class IndicatorLineSerializer extends JsonSerializer<double[]> {
+
+    @Override
+    public void serialize(double[] values, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartArray(values, values.length);
+        for (double value : values) {
+            if (Double.isNaN(value)) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(value);
+            }
+        }
+        gen.writeEndArray();
+    }
+}
@@ -0,0 +1,32 @@
+package com.crypto.market.insight.domain.market.dto;
+
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+
+/**
+ * CoinGecko market_chart API 응답 DTO (가격만 사용, 시가총액/거래량은 무시)
+ * <p>
+ * 조회 기간에 따라 간격이 정해집니다 (1일은 5분, 2~90일은 1시간, 그보다 길면 일 단위 00:00 UTC).
+ * 마지막 점은 조회 시각의 현재가입니다.
+ *
+ * @param prices [timestamp(Unix 밀리초), 가격] 배열 (timestamp 오름차순)
+ */
+public record MarketChartData(
+        double[][] prices
+) {
+    /**
+     * 가격을 시가/고가/저가/종가에 모두 채운 시계열 (종가만 의미가 있다)
+     */
+    public OhlcSeries toCloseSeries() {
+        if (prices == null || prices.length == 0) {
+            return OhlcSeries.empty();
+        }
+        int n = prices.length;
+        long[] timestamps = new long[n];
+        double[] closes = new double[n];
+        for (int i = 0; i < n; i++) {
+            timestamps[i] = (long) prices[i][0];
+            closes[i] = prices[i][1];
+        }
+        return OhlcSeries.of(timestamps, closes, closes, closes, closes);
+    }
+}
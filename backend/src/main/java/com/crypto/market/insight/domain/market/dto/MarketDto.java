@@ -1,8 +1,15 @@
 package com.crypto.market.insight.domain.market.dto;
 
+import com.crypto.market.insight.domain.market.indicator.IndicatorValues;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import com.crypto.market.insight.domain.market.screener.ScreenerCondition;
+import com.crypto.market.insight.domain.market.screener.ScreenerResult;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 
 public class MarketDto {
 
@@ -70,39 +77,159 @@ public class MarketDto {
             @Schema(description = "타임프레임", example = "1d")
             String timeframe,
 
-            @Schema(description = "OHLCV 데이터 목록")
-            List<OhlcvDataDto> data
+            @ArraySchema(arraySchema = @Schema(description = "OHLCV 데이터 목록"),
+                    schema = @Schema(implementation = OhlcvDataDto.class))
+            @JsonSerialize(using = OhlcSeriesSerializer.class)
+            OhlcSeries data
     ) {
-        public static OhlcvResponse of(String coinId, String timeframe, List<OhlcvDataDto> data) {
+        public static OhlcvResponse of(String coinId, String timeframe, OhlcSeries data) {
             return new OhlcvResponse(coinId, timeframe, data);
         }
     }
 
+    /**
+     * OHLCV 캔들 응답 스키마. 실제 응답은 {@link OhlcSeriesSerializer}가 같은 형식으로 씁니다.
+     */
     @Schema(description = "OHLCV 데이터")
     public record OhlcvDataDto(
             @Schema(description = "타임스탬프 (Unix 밀리초)", example = "1709395200000")
-            Long timestamp,
+            long timestamp,
 
             @Schema(description = "시가", example = "61942.00")
-            BigDecimal open,
+            double open,
 
             @Schema(description = "고가", example = "62211.00")
-            BigDecimal high,
+            double high,
 
             @Schema(description = "저가", example = "61721.00")
-            BigDecimal low,
+            double low,
 
             @Schema(description = "종가", example = "61845.00")
-            BigDecimal close
+            double close
     ) {
-        public static OhlcvDataDto from(OhlcData data) {
+        public static OhlcvDataDto from(OhlcSeries series, int index) {
             return new OhlcvDataDto(
-                    data.timestamp(),
-                    data.open(),
-                    data.high(),
-                    data.low(),
-                    data.close()
+                    series.timestamp(index),
+                    series.open(index),
+                    series.high(index),
+                    series.low(index),
+                    series.close(index)
             );
         }
     }
+
+    @Schema(description = "기술적 지표 응답")
+    public record IndicatorResponse(
+            @Schema(description = "코인 ID", example = "bitcoin")
+            String coinId,
+
+            @Schema(description = "타임프레임", example = "1d")
+            String timeframe,
+
+            @Schema(description = "봉 타임스탬프 (Unix 밀리초). 지표 값 배열과 같은 순서/길이")
+            long[] timestamps,
+
+            @Schema(description = "지표 목록 (요청 순서)")
+            List<IndicatorDto> indicators
+    ) {
+        public static IndicatorResponse of(String coinId, String timeframe, OhlcSeries series,
+                                           List<IndicatorValues> values) {
+            return new IndicatorResponse(coinId, timeframe, series.timestamps(), values.stream()
+                    .map(IndicatorDto::from)
+                    .toList());
+        }
+    }
+
+    @Schema(description = "기술적 지표")
+    public record IndicatorDto(
+            @Schema(description = "정규화된 지표 표기", example = "macd(12,26,9)")
+            String key,
+
+            @Schema(description = "지표 종류 (sma, ema, rsi, macd, bb)", example = "macd")
+            String type,
+
+            @Schema(description = "파라미터 (기본값 포함)", example = "[12, 26, 9]")
+            List<Double> params,
+
+            @Schema(description = "출력 선별 값 (sma/ema/rsi: 지표명, macd: macd/signal/histogram, "
+                    + "bb: middle/upper/lower). 워밍업 구간은 null")
+            @JsonSerialize(contentUsing = IndicatorLineSerializer.class)
+            Map<String, double[]> lines
+    ) {
+        public static IndicatorDto from(IndicatorValues values) {
+            return new IndicatorDto(values.spec().key(), values.spec().type().getValue(), values.spec().params(),
+                    values.lines());
+        }
+    }
+
+    @Schema(description = "스크리너 응답")
+    public record ScreenerResponse(
+            @Schema(description = "타임프레임", example = "1d")
+            String timeframe,
+
+            @Schema(description = "모두 만족해야 하는 정규화된 조건", example = "[\"rsi(14) < 30\", \"close > sma(20)\"]")
+            List<String> conditions,
+
+            @Schema(description = "대상 코인 목록을 가져온 마켓 스냅샷 버전 (스냅샷이 없었으면 null)", example = "42")
+            Long marketVersion,
+
+            @Schema(description = "대상 코인 수", example = "250")
+            int screened,
+
+            @Schema(description = "조건을 평가한 코인 수", example = "243")
+            int evaluated,
+
+            @Schema(description = "봉이 부족해 값이 없는 지표가 있던 코인 수", example = "3")
+            int insufficient,
+
+            @Schema(description = "시계열이 없어 평가하지 못한 코인 수 (업스트림 예산 초과/실패)", example = "7")
+            int missing,
+
+            @Schema(description = "이번 요청에서 업스트림으로 조회한 시계열 수", example = "20")
+            int fetched,
+
+            @Schema(description = "갱신 주기가 지난 캐시 값으로 평가한 코인 수", example = "12")
+            int stale,
+
+            @Schema(description = "누락되거나 오래된 값으로 평가한 코인이 있어 전체 결과가 아닌지", example = "true")
+            boolean partial,
+
+            @Schema(description = "조건을 모두 만족한 코인 (시가총액 순위순)")
+            List<ScreenerMatchDto> matches
+    ) {
+        public static ScreenerResponse from(ScreenerResult result) {
+            return new ScreenerResponse(
+                    result.timeframe().getValue(),
+                    result.conditions().stream().map(ScreenerCondition::key).toList(),
+                    result.marketVersion(),
+                    result.screened(),
+                    result.evaluated(),
+                    result.insufficient(),
+                    result.missing(),
+                    result.fetched(),
+                    result.stale(),
+                    result.partial(),
+                    result.matches().stream().map(ScreenerMatchDto::from).toList()
+            );
+        }
+    }
+
+    @Schema(description = "스크리너 조건을 만족한 코인")
+    public record ScreenerMatchDto(
+            @Schema(description = "코인 요약 정보")
+            CoinSummary coin,
+
+            @Schema(description = "마지막 봉 종가", example = "61845.0")
+            double close,
+
+            @Schema(description = "조건 피연산자별 마지막 봉 값", example = "{\"rsi(14)\": 27.4, \"close\": 61845.0}")
+            Map<String, Double> values,
+
+            @Schema(description = "갱신 주기가 지난 캐시 값으로 평가했는지", example = "false")
+            boolean stale
+    ) {
+        public static ScreenerMatchDto from(ScreenerResult.Match match) {
+            return new ScreenerMatchDto(CoinSummary.from(match.coin()), match.close(), match.values(), match.stale());
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package com.crypto.market.insight.domain.market.dto;
+
+import static com.crypto.market.insight.domain.market.dto.OhlcDataDeserializer.nextValue;
+import static com.crypto.market.insight.domain.market.dto.OhlcDataDeserializer.skipToEndArray;
+
+import com.crypto.market.insight.domain.market.model.vo.OhlcColumnBuffer;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+
+/**
+ * CoinGecko {@code /coins/{id}/ohlc} 응답(배열의 배열)을 {@link OhlcColumnBuffer}에 바로 기록하는 스트리밍 파서
+ * <p>
+ * 캔들별 객체나 BigDecimal을 만들지 않고 {@link JsonParser}의 숫자를 primitive로 읽습니다.
+ * 배열이 아니거나 요소가 5개 미만인 캔들은 건너뜁니다.
+ */
+public final class OhlcColumnarParser {
+
+    private OhlcColumnarParser() {
+    }
+
+    /**
+     * @param p      OHLC 응답 배열 시작 위치(또는 아직 읽지 않은 상태)의 파서
+     * @param buffer 캔들을 기록할 버퍼
+     * @return 기록한 캔들 수
+     */
+    public static int parse(JsonParser p, OhlcColumnBuffer buffer) throws IOException {
+        JsonToken token = p.currentToken() != null ? p.currentToken() : p.nextToken();
+        if (token != JsonToken.START_ARRAY) {
+            p.skipChildren();
+            return 0;
+        }
+
+        int added = 0;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token != JsonToken.START_ARRAY) {
+                p.skipChildren();
+                continue;
+            }
+            if (readCandle(p, buffer)) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    private static boolean readCandle(JsonParser p, OhlcColumnBuffer buffer) throws IOException {
+        if (!nextValue(p)) {
+            return false;
+        }
+        long timestamp = p.getValueAsLong();
+        if (!nextValue(p)) {
+            return false;
+        }
+        double open = readDouble(p);
+        if (!nextValue(p)) {
+            return false;
+        }
+        double high = readDouble(p);
+        if (!nextValue(p)) {
+            return false;
+        }
+        double low = readDouble(p);
+        if (!nextValue(p)) {
+            return false;
+        }
+        double close = readDouble(p);
+
+        skipToEndArray(p);
+        buffer.add(timestamp, open, high, low, close);
+        return true;
+    }
+
+    private static double readDouble(JsonParser p) throws IOException {
+        return switch (p.currentToken()) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> p.getDoubleValue();
+            case VALUE_STRING -> Double.parseDouble(p.getText());
+            default -> throw new JsonParseException(p, "Unexpected OHLC price token: " + p.currentToken());
+        };
+    }
+}
@@ -1,9 +1,9 @@
 package com.crypto.market.insight.domain.market.dto;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 import java.io.IOException;
 import java.math.BigDecimal;
 
@@ -11,23 +11,68 @@ import java.math.BigDecimal;
  * CoinGecko OHLC 응답 배열을 OhlcData record로 변환하는 디시리얼라이저
  * <p>
  * API 응답 형식: [timestamp, open, high, low, close]
+ * <p>
+ * JsonNode 트리를 만들지 않고 토큰 스트림에서 숫자를 바로 읽습니다.
+ * 배열이 아니거나 요소가 5개 미만이면 null을 반환합니다.
  */
 public class OhlcDataDeserializer extends JsonDeserializer<OhlcData> {
 
     @Override
     public OhlcData deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
-        JsonNode node = p.getCodec().readTree(p);
+        if (!p.isExpectedStartArrayToken()) {
+            p.skipChildren();
+            return null;
+        }
+
+        if (!nextValue(p)) {
+            return null;
+        }
+        long timestamp = p.getValueAsLong();
 
-        if (!node.isArray() || node.size() < 5) {
+        if (!nextValue(p)) {
+            return null;
+        }
+        BigDecimal open = readDecimal(p, ctxt);
+        if (!nextValue(p)) {
+            return null;
+        }
+        BigDecimal high = readDecimal(p, ctxt);
+        if (!nextValue(p)) {
             return null;
         }
+        BigDecimal low = readDecimal(p, ctxt);
+        if (!nextValue(p)) {
+            return null;
+        }
+        BigDecimal close = readDecimal(p, ctxt);
+
+        skipToEndArray(p);
+        return new OhlcData(timestamp, open, high, low, close);
+    }
+
+    /**
+     * 다음 배열 요소로 이동한다. 배열이 끝났으면 false.
+     */
+    static boolean nextValue(JsonParser p) throws IOException {
+        JsonToken token = p.nextToken();
+        return token != JsonToken.END_ARRAY && token != null;
+    }
+
+    /**
+     * 현재 배열의 남은 요소를 건너뛰어 END_ARRAY에 위치시킨다.
+     */
+    static void skipToEndArray(JsonParser p) throws IOException {
+        JsonToken token;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            p.skipChildren();
+        }
+    }
 
-        return new OhlcData(
-                node.get(0).asLong(),
-                new BigDecimal(node.get(1).asText()),
-                new BigDecimal(node.get(2).asText()),
-                new BigDecimal(node.get(3).asText()),
-                new BigDecimal(node.get(4).asText())
-        );
+    private static BigDecimal readDecimal(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return switch (p.currentToken()) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> p.getDecimalValue();
+            case VALUE_STRING -> new BigDecimal(p.getText());
+            default -> (BigDecimal) ctxt.handleUnexpectedToken(BigDecimal.class, p);
+        };
     }
 }
@@ -0,0 +1,28 @@
+package com.crypto.market.insight.domain.market.dto;
+
+import com.crypto.market.insight.domain.market.model.vo.OhlcColumnBuffer;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import java.io.IOException;
+
+/**
+ * CoinGecko OHLC 응답 배열을 {@link OhlcSeries}로 변환하는 디시리얼라이저
+ * <p>
+ * {@link OhlcColumnarParser}로 컬럼 버퍼에 바로 기록하므로 캔들별 객체를 만들지 않습니다.
+ */
+public class OhlcSeriesDeserializer extends JsonDeserializer<OhlcSeries> {
+
+    @Override
+    public OhlcSeries deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        OhlcColumnBuffer buffer = new OhlcColumnBuffer();
+        OhlcColumnarParser.parse(p, buffer);
+        return OhlcSeries.from(buffer);
+    }
+
+    @Override
+    public OhlcSeries getNullValue(DeserializationContext ctxt) {
+        return OhlcSeries.empty();
+    }
+}
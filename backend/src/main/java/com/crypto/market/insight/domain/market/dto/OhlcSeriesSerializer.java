@@ -0,0 +1,47 @@
+package com.crypto.market.insight.domain.market.dto;
+
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * {@link OhlcSeries}를 {@link MarketDto.OhlcvDataDto} 형식의 객체 배열로 직렬화하는 시리얼라이저
+ * <p>
+ * 캔들별 DTO를 만들지 않고 컬럼에서 바로 씁니다. 가격은 {@code double}을 그대로 쓰면 {@code 1.234E-5} 같은
+ * 지수 표기가 되므로, {@code BigDecimal}로 응답하던 때처럼 지수 없는 평문 소수로 쓰고 정수 가격도
+ * 업스트림 표기대로 소수점 한 자리({@code 61942.0})를 유지합니다.
+ */
+public class OhlcSeriesSerializer extends JsonSerializer<OhlcSeries> {
+
+    @Override
+    public void serialize(OhlcSeries series, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        int size = series.size();
+        gen.writeStartArray(series, size);
+        for (int i = 0; i < size; i++) {
+            gen.writeStartObject();
+            gen.writeNumberField("timestamp", series.timestamp(i));
+            writePrice(gen, "open", series.open(i));
+            writePrice(gen, "high", series.high(i));
+            writePrice(gen, "low", series.low(i));
+            writePrice(gen, "close", series.close(i));
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+
+    private static void writePrice(JsonGenerator gen, String name, double value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeNumber(plain(value));
+    }
+
+    /**
+     * 지수 표기 없는 최단 소수 표기 (예: {@code 0.00001234}, {@code 61942.0}, {@code 12345678.0})
+     */
+    private static String plain(double value) {
+        BigDecimal decimal = BigDecimal.valueOf(value).stripTrailingZeros();
+        return (decimal.scale() < 1 ? decimal.setScale(1) : decimal).toPlainString();
+    }
+}
@@ -0,0 +1,109 @@
+package com.crypto.market.insight.domain.market.indicator;
+
+/**
+ * 스트리밍 볼린저 밴드. 원형 버퍼의 합과 제곱편차 합을 봉 하나당 O(1)로 갱신한다
+ * (창이 처음 찼을 때만 {@code period}개를 한 번 훑는다).
+ */
+public final class BollingerBands implements StreamingIndicator {
+
+    private final int period;
+    private final double multiplier;
+    private final double[] window;
+    private int position;
+    private long count;
+    private double sum;
+    private double m2;
+    private double middle = Double.NaN;
+    private double upper = Double.NaN;
+    private double lower = Double.NaN;
+
+    public BollingerBands(int period, double multiplier) {
+        this.period = period;
+        this.multiplier = multiplier;
+        this.window = new double[period];
+    }
+
+    private BollingerBands(BollingerBands source) {
+        this.period = source.period;
+        this.multiplier = source.multiplier;
+        this.window = source.window.clone();
+        this.position = source.position;
+        this.count = source.count;
+        this.sum = source.sum;
+        this.m2 = source.m2;
+        this.middle = source.middle;
+        this.upper = source.upper;
+        this.lower = source.lower;
+    }
+
+    /**
+     * @return 갱신한 가운데 선 (워밍업 중이면 NaN)
+     */
+    @Override
+    public double update(double input) {
+        double removed = window[position];
+        boolean full = count >= period;
+        sum += input;
+        if (full) {
+            sum -= removed;
+        }
+        window[position] = input;
+        position = position + 1 == period ? 0 : position + 1;
+        count++;
+        if (count < period) {
+            return middle;
+        }
+
+        double mean = sum / period;
+        if (!full) {
+            // 방금 창이 찼으므로 position은 0이고 버퍼가 입력 순서대로 놓여 있다
+            m2 = 0;
+            for (int j = 0; j < period; j++) {
+                double deviation = window[j] - mean;
+                m2 += deviation * deviation;
+            }
+        } else {
+            m2 += (input - removed) * (input - mean + removed - middle);
+        }
+
+        double band = multiplier * Indicators.standardDeviation(m2, period);
+        middle = mean;
+        upper = mean + band;
+        lower = mean - band;
+        return middle;
+    }
+
+    /**
+     * @param index 0: 가운데 선, 1: 상단, 2: 하단
+     */
+    @Override
+    public double line(int index) {
+        return switch (index) {
+            case 0 -> middle;
+            case 1 -> upper;
+            case 2 -> lower;
+            default -> throw new IndexOutOfBoundsException(index);
+        };
+    }
+
+    @Override
+    public BollingerBands copy() {
+        return new BollingerBands(this);
+    }
+
+    public double middle() {
+        return middle;
+    }
+
+    public double upper() {
+        return upper;
+    }
+
+    public double lower() {
+        return lower;
+    }
+
+    public boolean isReady() {
+        return count >= period;
+    }
+}
@@ -0,0 +1,61 @@
+package com.crypto.market.insight.domain.market.indicator;
+
+/**
+ * 스트리밍 지수 이동평균. 첫 {@code period}개의 단순 평균으로 시작해 봉 하나당 O(1)로 갱신한다.
+ */
+public final class Ema implements StreamingIndicator {
+
+    private final int period;
+    private final double alpha;
+    private long count;
+    private double sum;
+    private double value = Double.NaN;
+
+    public Ema(int period) {
+        this.period = period;
+        this.alpha = Indicators.alpha(period);
+    }
+
+    private Ema(Ema source) {
+        this.period = source.period;
+        this.alpha = source.alpha;
+        this.count = source.count;
+        this.sum = source.sum;
+        this.value = source.value;
+    }
+
+    /**
+     * @return 갱신한 지수 이동평균 (워밍업 중이면 NaN)
+     */
+    @Override
+    public double update(double input) {
+        count++;
+        if (count < period) {
+            sum += input;
+        } else if (count == period) {
+            sum += input;
+            value = sum / period;
+        } else {
+            value += alpha * (input - value);
+        }
+        return value;
+    }
+
+    @Override
+    public double line(int index) {
+        return value;
+    }
+
+    @Override
+    public Ema copy() {
+        return new Ema(this);
+    }
+
+    public double value() {
+        return value;
+    }
+
+    public boolean isReady() {
+        return count >= period;
+    }
+}
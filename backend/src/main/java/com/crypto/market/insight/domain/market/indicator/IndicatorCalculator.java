@@ -0,0 +1,43 @@
+package com.crypto.market.insight.domain.market.indicator;
+
+import com.crypto.market.insight.domain.market.model.vo.IndicatorSpec;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OHLC 시계열에 지표를 일괄 계산
+ * <p>
+ * 여러 지표는 {@link IndicatorPlan}으로 공유하는 계산을 합쳐 종가를 한 번만 훑고, 지표 하나는 {@link Indicators}로
+ * 직접 계산합니다. 두 방식의 결과는 비트 단위로 같습니다.
+ */
+public final class IndicatorCalculator {
+
+    private IndicatorCalculator() {
+    }
+
+    public static List<IndicatorValues> compute(OhlcSeries series, List<IndicatorSpec> specs) {
+        return IndicatorPlan.of(specs).compute(series.closes());
+    }
+
+    public static IndicatorValues compute(double[] closes, IndicatorSpec spec) {
+        int n = closes.length;
+        Map<String, double[]> lines = new LinkedHashMap<>();
+        for (String line : spec.type().getLines()) {
+            lines.put(line, new double[n]);
+        }
+        List<double[]> outputs = List.copyOf(lines.values());
+
+        switch (spec.type()) {
+            case SMA -> Indicators.sma(closes, spec.period(), outputs.get(0));
+            case EMA -> Indicators.ema(closes, spec.period(), outputs.get(0));
+            case RSI -> Indicators.rsi(closes, spec.period(), outputs.get(0));
+            case MACD -> Indicators.macd(closes, spec.period(), spec.slowPeriod(), spec.signalPeriod(),
+                    outputs.get(0), outputs.get(1), outputs.get(2));
+            case BOLLINGER -> Indicators.bollinger(closes, spec.period(), spec.multiplier(),
+                    outputs.get(0), outputs.get(1), outputs.get(2));
+        }
+        return new IndicatorValues(spec, lines);
+    }
+}
@@ -0,0 +1,464 @@
+package com.crypto.market.insight.domain.market.indicator;
+
+import com.crypto.market.insight.domain.market.model.vo.IndicatorSpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 시계열에 여러 지표를 한 번에 계산하는 실행 계획
+ * <p>
+ * 요청한 지표를 공유 가능한 단위(노드)로 나눠 중복을 없앱니다. 같은 기간의 SMA와 볼린저 가운데 선은 이동 합계 하나,
+ * MACD의 단기/장기 EMA는 같은 기간의 EMA 요청과 같은 노드, 파라미터가 같은 출력 선은 같은 열을 씁니다. 실행은
+ * 종가를 캐시에 들어가는 구간 단위로 한 번만 훑으며 구간마다 모든 노드를 갱신하고, 결과를 미리 크기를 정한 배열
+ * 하나({@link #execute})나 열별 배열({@link #compute})에 기록합니다.
+ * <p>
+ * 노드별 연산 순서가 {@link Indicators}와 같아서 결과가 비트 단위로 같습니다. 계획은 불변이므로 여러 시계열에
+ * 재사용할 수 있습니다.
+ */
+public final class IndicatorPlan {
+
+    private enum Source {
+        MEAN, UPPER, LOWER, EMA, RSI, MACD, SIGNAL, HISTOGRAM
+    }
+
+    /**
+     * 출력 열 하나. 값은 {@code source} 종류의 {@code node}번째 노드에서 나오고, 볼린저 상/하단만
+     * {@code multiplier}를 쓴다.
+     */
+    private record Column(Source source, int node, double multiplier) {
+    }
+
+    /**
+     * 한 번에 처리하는 봉 수. 종가와 기록 중인 열 구간이 L1/L2 캐시에 들어가는 크기
+     */
+    private static final int CHUNK = 512;
+
+    private final List<IndicatorSpec> specs;
+    private final int[][] specColumns;
+
+    private final int width;
+
+    // 노드 (중복 제거). 열 인덱스가 -1이면 출력하지 않고 임시 버퍼에만 기록한다.
+    private final int[] windows;
+    private final boolean[] deviations;
+    private final int[] windowColumns;
+    private final int[] emas;
+    private final int[] emaColumns;
+    private final int[] rsis;
+    private final int[] rsiColumns;
+    private final int[] macdFast;
+    private final int[] macdSlow;
+    private final int[] macdColumns;
+    private final int[] signalMacd;
+    private final int[] signalPeriods;
+    private final int[] signalColumns;
+    private final int[] histogramColumns;
+
+    // 볼린저 상/하단 열
+    private final int[] bandColumns;
+    private final int[] bandWindows;
+    private final double[] bandOffsets;
+
+    private IndicatorPlan(List<IndicatorSpec> specs) {
+        this.specs = List.copyOf(specs);
+        this.specColumns = new int[this.specs.size()][];
+
+        Map<Integer, Integer> windowNodes = new LinkedHashMap<>();
+        List<Boolean> windowDeviations = new ArrayList<>();
+        Map<Integer, Integer> emaNodes = new LinkedHashMap<>();
+        Map<Integer, Integer> rsiNodes = new LinkedHashMap<>();
+        Map<List<Integer>, Integer> macdNodes = new LinkedHashMap<>();
+        Map<List<Integer>, Integer> signalNodes = new LinkedHashMap<>();
+        Map<Column, Integer> columns = new LinkedHashMap<>();
+
+        for (int s = 0; s < this.specs.size(); s++) {
+            IndicatorSpec spec = this.specs.get(s);
+            int[] lines = switch (spec.type()) {
+                case SMA -> new int[] {column(columns, Source.MEAN, window(windowNodes, windowDeviations,
+                        spec.period(), false), 0)};
+                case EMA -> new int[] {column(columns, Source.EMA, node(emaNodes, spec.period()), 0)};
+                case RSI -> new int[] {column(columns, Source.RSI, node(rsiNodes, spec.period()), 0)};
+                case MACD -> {
+                    int macd = node(macdNodes, List.of(node(emaNodes, spec.period()),
+                            node(emaNodes, spec.slowPeriod())));
+                    int signal = node(signalNodes, List.of(macd, spec.signalPeriod()));
+                    yield new int[] {
+                            column(columns, Source.MACD, macd, 0),
+                            column(columns, Source.SIGNAL, signal, 0),
+                            column(columns, Source.HISTOGRAM, signal, 0)};
+                }
+                case BOLLINGER -> {
+                    int window = window(windowNodes, windowDeviations, spec.period(), true);
+                    yield new int[] {
+                            column(columns, Source.MEAN, window, 0),
+                            column(columns, Source.UPPER, window, spec.multiplier()),
+                            column(columns, Source.LOWER, window, spec.multiplier())};
+                }
+            };
+            specColumns[s] = lines;
+        }
+        this.width = columns.size();
+
+        this.windows = toArray(windowNodes.keySet());
+        this.deviations = new boolean[windows.length];
+        for (int w = 0; w < windows.length; w++) {
+            deviations[w] = windowDeviations.get(w);
+        }
+        this.emas = toArray(emaNodes.keySet());
+        this.rsis = toArray(rsiNodes.keySet());
+        this.macdFast = new int[macdNodes.size()];
+        this.macdSlow = new int[macdNodes.size()];
+        int m = 0;
+        for (List<Integer> macd : macdNodes.keySet()) {
+            macdFast[m] = macd.get(0);
+            macdSlow[m++] = macd.get(1);
+        }
+        this.signalMacd = new int[signalNodes.size()];
+        this.signalPeriods = new int[signalNodes.size()];
+        int g = 0;
+        for (List<Integer> signal : signalNodes.keySet()) {
+            signalMacd[g] = signal.get(0);
+            signalPeriods[g++] = signal.get(1);
+        }
+
+        this.windowColumns = columnsOf(columns, Source.MEAN, windows.length);
+        this.emaColumns = columnsOf(columns, Source.EMA, emas.length);
+        this.rsiColumns = columnsOf(columns, Source.RSI, rsis.length);
+        this.macdColumns = columnsOf(columns, Source.MACD, macdFast.length);
+        this.signalColumns = columnsOf(columns, Source.SIGNAL, signalPeriods.length);
+        this.histogramColumns = columnsOf(columns, Source.HISTOGRAM, signalPeriods.length);
+        List<Map.Entry<Column, Integer>> bands = columns.entrySet().stream()
+                .filter(entry -> entry.getKey().source() == Source.UPPER || entry.getKey().source() == Source.LOWER)
+                .toList();
+        this.bandColumns = bands.stream().mapToInt(Map.Entry::getValue).toArray();
+        this.bandWindows = bands.stream().mapToInt(entry -> entry.getKey().node()).toArray();
+        // 하단은 음수 배수로 더한다 (mean + (-k * sd)는 mean - k * sd와 같다)
+        this.bandOffsets = bands.stream()
+                .mapToDouble(entry -> entry.getKey().source() == Source.LOWER
+                        ? -entry.getKey().multiplier()
+                        : entry.getKey().multiplier())
+                .toArray();
+    }
+
+    public static IndicatorPlan of(List<IndicatorSpec> specs) {
+        return new IndicatorPlan(specs);
+    }
+
+    public List<IndicatorSpec> specs() {
+        return specs;
+    }
+
+    /**
+     * 중복을 없앤 출력 선(열) 수
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * {@code spec}번째 지표의 {@code line}번째 출력 선({@link IndicatorSpec#type()}의 선 순서)이 기록되는 열
+     */
+    public int column(int spec, int line) {
+        return specColumns[spec][line];
+    }
+
+    /**
+     * 길이 {@code length}인 시계열의 결과를 담을 배열 ({@code width() * length})
+     */
+    public double[] newBlock(int length) {
+        return new double[width() * length];
+    }
+
+    /**
+     * 종가를 한 번 훑어 모든 열을 {@code block}에 기록한다 (열 {@code c}의 봉 {@code i}는
+     * {@code block[c * length + i]}).
+     *
+     * @param block {@link #newBlock}으로 만든(또는 그 이상 크기의) 배열
+     */
+    public void execute(double[] closes, double[] block) {
+        int n = closes.length;
+        double[][] rows = new double[width][];
+        int[] bases = new int[width];
+        for (int c = 0; c < width; c++) {
+            rows[c] = block;
+            bases[c] = c * n;
+        }
+        run(closes, rows, bases);
+    }
+
+    /**
+     * 새 배열에 실행해 지표별 결과를 만든다. 결과는 지표마다 따로 캐시되므로 한 배열 대신 열마다 배열을 만들어
+     * 바로 기록하고(복사 없음), 여러 지표가 같은 열을 쓰면(SMA와 볼린저 가운데 선 등) 같은 배열을 공유한다.
+     */
+    public List<IndicatorValues> compute(double[] closes) {
+        int n = closes.length;
+        double[][] rows = new double[width][];
+        for (int c = 0; c < width; c++) {
+            rows[c] = new double[n];
+        }
+        run(closes, rows, new int[width]);
+
+        List<IndicatorValues> results = new ArrayList<>(specs.size());
+        for (int s = 0; s < specs.size(); s++) {
+            IndicatorSpec spec = specs.get(s);
+            List<String> names = spec.type().getLines();
+            Map<String, double[]> lines = new LinkedHashMap<>();
+            for (int line = 0; line < names.size(); line++) {
+                lines.put(names.get(line), rows[specColumns[s][line]]);
+            }
+            results.add(new IndicatorValues(spec, lines));
+        }
+        return results;
+    }
+
+    /**
+     * 종가를 {@value #CHUNK}봉 구간씩 한 번 훑으며 열 {@code c}의 봉 {@code i}를 {@code rows[c][bases[c] + i]}에
+     * 기록한다. 구간마다 노드를 의존 순서대로 실행하므로 앞 노드가 읽은 종가와 기록한 값(MACD가 읽는 EMA 등)이
+     * 캐시에 남아 있을 때 다음 노드가 읽고, 노드 상태는 구간 안에서 지역 변수로 갱신한다.
+     */
+    private void run(double[] closes, double[][] rows, int[] bases) {
+        int n = closes.length;
+        int chunk = Math.min(CHUNK, n);
+        WindowState[] windowStates = new WindowState[windows.length];
+        for (int w = 0; w < windows.length; w++) {
+            windowStates[w] = new WindowState(deviations[w] ? new double[chunk] : null);
+        }
+        EmaState[] emaStates = new EmaState[emas.length];
+        for (int e = 0; e < emas.length; e++) {
+            emaStates[e] = new EmaState(emaColumns[e] < 0 ? new double[chunk] : null);
+        }
+        double[][] rsiStates = new double[rsis.length][2];
+        EmaState[] signalStates = new EmaState[signalPeriods.length];
+        for (int g = 0; g < signalPeriods.length; g++) {
+            signalStates[g] = new EmaState(null);
+        }
+
+        for (int start = 0; start < n; start += CHUNK) {
+            int end = Math.min(n, start + CHUNK);
+            for (int w = 0; w < windows.length; w++) {
+                int column = windowColumns[w];
+                window(closes, start, end, windows[w], windowStates[w], rows[column], bases[column]);
+            }
+            for (int b = 0; b < bandColumns.length; b++) {
+                int window = bandWindows[b];
+                double offset = bandOffsets[b];
+                double[] deviation = windowStates[window].deviation;
+                double[] means = rows[windowColumns[window]];
+                int mean = bases[windowColumns[window]];
+                double[] bands = rows[bandColumns[b]];
+                int band = bases[bandColumns[b]];
+                for (int i = start; i < end; i++) {
+                    bands[band + i] = means[mean + i] + offset * deviation[i - start];
+                }
+            }
+            for (int e = 0; e < emas.length; e++) {
+                EmaState state = emaStates[e];
+                if (state.buffer == null) {
+                    emaOver(closes, 0, 0, start, end, emas[e], state, rows[emaColumns[e]], bases[emaColumns[e]]);
+                } else {
+                    emaOver(closes, 0, 0, start, end, emas[e], state, state.buffer, -start);
+                }
+            }
+            for (int r = 0; r < rsis.length; r++) {
+                rsi(closes, start, end, rsis[r], rsiStates[r], rows[rsiColumns[r]], bases[rsiColumns[r]]);
+            }
+            for (int m = 0; m < macdFast.length; m++) {
+                double[] macdValues = rows[macdColumns[m]];
+                int macd = bases[macdColumns[m]];
+                EmaState fast = emaStates[macdFast[m]];
+                EmaState slow = emaStates[macdSlow[m]];
+                double[] fastValues = fast.buffer != null ? fast.buffer : rows[emaColumns[macdFast[m]]];
+                double[] slowValues = slow.buffer != null ? slow.buffer : rows[emaColumns[macdSlow[m]]];
+                int fastBase = fast.buffer != null ? -start : bases[emaColumns[macdFast[m]]];
+                int slowBase = slow.buffer != null ? -start : bases[emaColumns[macdSlow[m]]];
+                for (int i = start; i < end; i++) {
+                    macdValues[macd + i] = fastValues[fastBase + i] - slowValues[slowBase + i];
+                }
+            }
+            for (int g = 0; g < signalPeriods.length; g++) {
+                double[] macdValues = rows[macdColumns[signalMacd[g]]];
+                int macd = bases[macdColumns[signalMacd[g]]];
+                double[] signalValues = rows[signalColumns[g]];
+                int signal = bases[signalColumns[g]];
+                double[] histogramValues = rows[histogramColumns[g]];
+                int histogram = bases[histogramColumns[g]];
+                // 장기 EMA가 처음 정해지는 봉부터 MACD 선의 EMA를 시작한다
+                int from = emas[macdSlow[signalMacd[g]]] - 1;
+                emaOver(macdValues, macd, from, start, end, signalPeriods[g], signalStates[g], signalValues, signal);
+                for (int i = start; i < end; i++) {
+                    histogramValues[histogram + i] = macdValues[macd + i] - signalValues[signal + i];
+                }
+            }
+        }
+    }
+
+    /**
+     * 이동 합계와 제곱편차 합 ({@link Indicators#sma}, {@link Indicators#bollinger}와 같은 연산 순서). 평균은
+     * {@code out[base + i]}에, 표준편차는 상태의 구간 버퍼에 기록한다.
+     */
+    private static void window(double[] values, int start, int end, int period, WindowState state,
+                               double[] out, int base) {
+        double sum = state.sum;
+        double m2 = state.m2;
+        double previousMean = state.previousMean;
+        double[] deviation = state.deviation;
+        for (int i = start; i < end; i++) {
+            sum += values[i];
+            if (i >= period) {
+                sum -= values[i - period];
+            }
+            if (i < period - 1) {
+                out[base + i] = Double.NaN;
+                if (deviation != null) {
+                    deviation[i - start] = Double.NaN;
+                }
+                continue;
+            }
+            double mean = sum / period;
+            if (deviation != null) {
+                if (i == period - 1) {
+                    m2 = 0;
+                    for (int j = 0; j < period; j++) {
+                        double d = values[j] - mean;
+                        m2 += d * d;
+                    }
+                } else {
+                    double removed = values[i - period];
+                    m2 += (values[i] - removed) * (values[i] - mean + removed - previousMean);
+                }
+                deviation[i - start] = Indicators.standardDeviation(m2, period);
+            }
+            previousMean = mean;
+            out[base + i] = mean;
+        }
+        state.sum = sum;
+        state.m2 = m2;
+        state.previousMean = previousMean;
+    }
+
+    /**
+     * {@code values[valueBase + i]}의 지수 이동평균 ({@link Indicators#ema}와 같은 연산 순서).
+     * {@code from} 이전은 NaN이고, 결과는 {@code out[base + i]}에 기록한다.
+     */
+    private static void emaOver(double[] values, int valueBase, int from, int start, int end, int period,
+                                EmaState state, double[] out, int base) {
+        double alpha = Indicators.alpha(period);
+        double sum = state.sum;
+        double ema = state.value;
+        for (int i = start; i < end; i++) {
+            if (i < from) {
+                out[base + i] = Double.NaN;
+                continue;
+            }
+            double value = values[valueBase + i];
+            int count = i - from + 1;
+            if (count < period) {
+                sum += value;
+            } else if (count == period) {
+                sum += value;
+                ema = sum / period;
+            } else {
+                ema += alpha * (value - ema);
+            }
+            out[base + i] = ema;
+        }
+        state.sum = sum;
+        state.value = ema;
+    }
+
+    /**
+     * Wilder RSI ({@link Indicators#rsi}와 같은 연산 순서). 상태는 {@code [평균 상승폭, 평균 하락폭]}.
+     */
+    private static void rsi(double[] values, int start, int end, int period, double[] state,
+                            double[] out, int base) {
+        double avgGain = state[0];
+        double avgLoss = state[1];
+        for (int i = start; i < end; i++) {
+            if (i == 0) {
+                out[base + i] = Double.NaN;
+                continue;
+            }
+            double change = values[i] - values[i - 1];
+            double gain = Math.max(change, 0);
+            double loss = Math.max(-change, 0);
+            if (i < period) {
+                avgGain += gain;
+                avgLoss += loss;
+                out[base + i] = Double.NaN;
+                continue;
+            }
+            if (i == period) {
+                avgGain = (avgGain + gain) / period;
+                avgLoss = (avgLoss + loss) / period;
+            } else {
+                avgGain = (avgGain * (period - 1) + gain) / period;
+                avgLoss = (avgLoss * (period - 1) + loss) / period;
+            }
+            out[base + i] = Indicators.rsiValue(avgGain, avgLoss);
+        }
+        state[0] = avgGain;
+        state[1] = avgLoss;
+    }
+
+    private static int window(Map<Integer, Integer> nodes, List<Boolean> deviations, int period,
+                              boolean deviation) {
+        Integer existing = nodes.get(period);
+        if (existing != null) {
+            deviations.set(existing, deviations.get(existing) || deviation);
+            return existing;
+        }
+        nodes.put(period, nodes.size());
+        deviations.add(deviation);
+        return nodes.size() - 1;
+    }
+
+    private static int[] columnsOf(Map<Column, Integer> columns, Source source, int nodes) {
+        int[] result = new int[nodes];
+        Arrays.fill(result, -1);
+        columns.forEach((column, index) -> {
+            if (column.source() == source) {
+                result[column.node()] = index;
+            }
+        });
+        return result;
+    }
+
+    private static <K> int node(Map<K, Integer> nodes, K key) {
+        return nodes.computeIfAbsent(key, ignored -> nodes.size());
+    }
+
+    private static int column(Map<Column, Integer> columns, Source source, int node, double multiplier) {
+        return node(columns, new Column(source, node, multiplier));
+    }
+
+    private static int[] toArray(Collection<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static final class WindowState {
+
+        private final double[] deviation;
+        private double sum;
+        private double m2;
+        private double previousMean = Double.NaN;
+
+        private WindowState(double[] deviation) {
+            this.deviation = deviation;
+        }
+    }
+
+    private static final class EmaState {
+
+        private final double[] buffer;
+        private double sum;
+        private double value = Double.NaN;
+
+        private EmaState(double[] buffer) {
+            this.buffer = buffer;
+        }
+    }
+}
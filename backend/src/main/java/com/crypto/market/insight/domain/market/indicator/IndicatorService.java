@@ -0,0 +1,121 @@
+package com.crypto.market.insight.domain.market.indicator;
+
+import com.crypto.market.insight.config.CacheConfig;
+import com.crypto.market.insight.domain.market.cache.IndicatorKey;
+import com.crypto.market.insight.domain.market.cache.MarketValueWeigher;
+import com.crypto.market.insight.domain.market.model.vo.IndicatorSpec;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import com.crypto.market.insight.domain.market.model.vo.Timeframe;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+/**
+ * 지표 계산 결과를 {@code indicator} 캐시에 두고 재사용
+ * <p>
+ * 지표 하나({@link IndicatorSpec#key()}) 단위로 캐시하므로 요청마다 지표 조합이 달라도 같은 지표는 한 번만
+ * 계산합니다. 같은 키를 동시에 요청하면 한 스레드만 계산하고 나머지는 그 결과를 기다립니다. 캐시된 배열은 여러
+ * 요청이 공유하므로 호출자는 수정하지 않습니다.
+ * <p>
+ * OHLC 갱신으로 시계열 버전이 바뀌면 (코인, 타임프레임, 지표)별 {@link IndicatorStream}에서 이어서 계산합니다.
+ * 갱신은 진행 중이던 마지막 봉을 바꾸고 새로 마감된 봉을 뒤에 붙이므로 앞부분이 그대로면 붙은 봉만 봉당 O(1)로
+ * 갱신합니다. 앞부분이 바뀌었거나(조회 기간 밖 캔들 정리, 전체 재조회) 상태가 없으면 일괄 계산합니다.
+ * <p>
+ * 일괄 계산은 요청에서 처음 캐시 미스가 난 지표부터 나머지 지표를 {@link IndicatorPlan} 하나로 함께 계산해(종가 한
+ * 번 순회, 공유 계산 중복 제거) 이후 미스에 사용합니다. 그 사이 이미 캐시된 지표의 계산 결과는 버립니다.
+ */
+@Service
+public class IndicatorService {
+
+    private final Cache cache;
+    private final ConcurrentMap<StreamKey, IndicatorStream> streams;
+
+    public IndicatorService(CacheManager cacheManager,
+                            @Value("${app.cache.indicator.ttl}") long ttlSeconds,
+                            @Value("${app.cache.indicator.stream-max-bytes}") long streamMaxBytes) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.INDICATOR), CacheConfig.INDICATOR);
+        this.streams = Caffeine.newBuilder()
+                .maximumWeight(streamMaxBytes)
+                .weigher((StreamKey key, IndicatorStream stream) ->
+                        MarketValueWeigher.INSTANCE.weigh(key, stream.values()) + stream.stateBytes())
+                .expireAfterAccess(ttlSeconds, TimeUnit.SECONDS)
+                .build()
+                .asMap();
+    }
+
+    /**
+     * @param series 지표를 계산할(리샘플링까지 끝난) 시계열
+     * @return 요청 순서대로의 지표 결과
+     */
+    public List<IndicatorValues> compute(String coinId, Timeframe timeframe, OhlcSeries series,
+                                         List<IndicatorSpec> specs) {
+        Batch batch = new Batch(series, specs);
+        List<IndicatorValues> results = new ArrayList<>(specs.size());
+        for (int i = 0; i < specs.size(); i++) {
+            int index = i;
+            IndicatorSpec spec = specs.get(i);
+            IndicatorKey key = new IndicatorKey(coinId, timeframe.getValue(), series.version(), series.size(),
+                    spec.key());
+            StreamKey streamKey = new StreamKey(coinId, timeframe.getValue(), spec.key());
+            results.add(cache.get(key, () -> stream(streamKey, series, () -> batch.get(index))));
+        }
+        return results;
+    }
+
+    /**
+     * 스트리밍 상태에서 이어서 계산하고, 이어서 계산할 수 없으면 일괄 계산한 결과로 상태를 새로 만든다.
+     * 스냅샷 시각으로 자른 과거 뷰처럼 기존 상태보다 오래된 시계열은 상태를 바꾸지 않는다.
+     */
+    private IndicatorValues stream(StreamKey key, OhlcSeries series, Supplier<IndicatorValues> batch) {
+        if (series.isEmpty()) {
+            return batch.get();
+        }
+        IndicatorStream current = streams.get(key);
+        IndicatorStream next = current != null ? current.advance(series) : null;
+        if (next == null) {
+            IndicatorValues values = batch.get();
+            if (current != null && current.isNewerThan(series)) {
+                return values;
+            }
+            next = IndicatorStream.seed(series, values);
+        }
+        streams.merge(key, next, (existing, candidate) -> existing.isNewerThan(series) ? existing : candidate);
+        return next.values();
+    }
+
+    /**
+     * 첫 캐시 미스에서 그 지표부터 끝까지를 한 번에 계산해 두고, 이후 미스는 그 결과를 꺼낸다.
+     * 적재 함수는 요청 순서대로 호출되므로 이후 미스의 인덱스는 항상 계산한 범위 안에 있다.
+     */
+    private static final class Batch {
+
+        private final OhlcSeries series;
+        private final List<IndicatorSpec> specs;
+        private List<IndicatorValues> values;
+        private int from;
+
+        private Batch(OhlcSeries series, List<IndicatorSpec> specs) {
+            this.series = series;
+            this.specs = specs;
+        }
+
+        private IndicatorValues get(int index) {
+            if (values == null) {
+                from = index;
+                values = IndicatorPlan.of(specs.subList(index, specs.size())).compute(series.closes());
+            }
+            return values.get(index - from);
+        }
+    }
+
+    private record StreamKey(String coinId, String timeframe, String spec) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.crypto.market.insight.domain.market.indicator;
+
+import com.crypto.market.insight.domain.market.model.vo.IndicatorSpec;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 (코인, 타임프레임, 지표)의 스트리밍 상태
+ * <p>
+ * 마지막으로 계산한 시계열의 마감된 봉(마지막 봉 제외)까지 갱신한 {@link StreamingIndicator}와 그 결과를 보관합니다.
+ * 마지막 봉은 진행 중이라 다음 갱신에서 값이 바뀌므로 상태에 넣지 않고, 결과를 만들 때 상태의 복사본으로만 계산합니다.
+ * 새 시계열의 앞부분(첫 봉과 마지막으로 넣은 마감 봉)이 그대로면 뒤에 붙은 봉만 봉당 O(1)로 이어서 갱신하고,
+ * 아니면 {@link #advance}가 null을 반환해 호출자가 일괄 계산하게 합니다.
+ * <p>
+ * 불변이므로 여러 스레드가 공유해도 됩니다. 이어서 갱신하면 새 상태를 만들고, 결과 배열은 캐시된 지표 결과와 공유하므로
+ * 수정하지 않습니다.
+ */
+final class IndicatorStream {
+
+    private static final int OVERHEAD = 96;
+
+    private final StreamingIndicator closed;
+    private final IndicatorValues values;
+    private final int count;
+    private final long firstTimestamp;
+    private final long lastTimestamp;
+    private final double lastClose;
+    private final int stateBytes;
+
+    private IndicatorStream(StreamingIndicator closed, IndicatorValues values, OhlcSeries series, int stateBytes) {
+        this.closed = closed;
+        this.values = values;
+        this.count = series.size() - 1;
+        this.firstTimestamp = series.timestamp(0);
+        this.lastTimestamp = count > 0 ? series.timestamp(count - 1) : Long.MIN_VALUE;
+        this.lastClose = count > 0 ? series.close(count - 1) : Double.NaN;
+        this.stateBytes = stateBytes;
+    }
+
+    /**
+     * 일괄 계산한 결과와 같은 시계열의 마감된 봉을 스트리밍 지표에 넣어 상태를 만든다 (O(n), 앞부분이 바뀐 경우에만).
+     *
+     * @param series 비어 있지 않은 시계열
+     * @param values {@code series}를 일괄 계산한 결과 (그대로 보관해 다음 갱신에서 앞부분을 복사한다)
+     */
+    static IndicatorStream seed(OhlcSeries series, IndicatorValues values) {
+        IndicatorSpec spec = values.spec();
+        StreamingIndicator indicator = StreamingIndicator.of(spec);
+        int closedCount = series.size() - 1;
+        for (int i = 0; i < closedCount; i++) {
+            indicator.update(series.close(i));
+        }
+        return new IndicatorStream(indicator, values, series, stateBytes(spec));
+    }
+
+    /**
+     * 마지막으로 계산한 시계열에 봉이 붙거나 진행 중이던 마지막 봉만 바뀐 시계열이면 이어서 갱신한다.
+     *
+     * @return 새 상태 (결과는 {@link #values()}), 앞부분이 바뀌었거나 마감된 봉이 줄었으면 null
+     */
+    IndicatorStream advance(OhlcSeries series) {
+        int n = series.size();
+        if (n - 1 < count || series.timestamp(0) != firstTimestamp) {
+            return null;
+        }
+        if (count > 0 && (series.timestamp(count - 1) != lastTimestamp
+                || Double.compare(series.close(count - 1), lastClose) != 0)) {
+            return null;
+        }
+
+        List<String> names = values.spec().type().getLines();
+        double[][] lines = new double[names.size()][];
+        int line = 0;
+        for (double[] previous : values.lines().values()) {
+            lines[line] = new double[n];
+            System.arraycopy(previous, 0, lines[line], 0, count);
+            line++;
+        }
+
+        StreamingIndicator next = n - 1 > count ? closed.copy() : closed;
+        for (int i = count; i < n - 1; i++) {
+            next.update(series.close(i));
+            write(next, lines, i);
+        }
+        StreamingIndicator open = next.copy();
+        open.update(series.close(n - 1));
+        write(open, lines, n - 1);
+
+        Map<String, double[]> result = new LinkedHashMap<>();
+        for (int l = 0; l < names.size(); l++) {
+            result.put(names.get(l), lines[l]);
+        }
+        return new IndicatorStream(next, new IndicatorValues(values.spec(), result), series, stateBytes);
+    }
+
+    /**
+     * 마지막으로 계산한 시계열의 지표 결과
+     */
+    IndicatorValues values() {
+        return values;
+    }
+
+    /**
+     * 이 상태가 {@code series}보다 새 봉까지 들어 있는지. 스냅샷 시각으로 자른 과거 뷰가 최신 상태를 덮지 않게 한다.
+     */
+    boolean isNewerThan(OhlcSeries series) {
+        return count > 0 && lastTimestamp >= series.lastTimestamp();
+    }
+
+    /**
+     * 결과 배열을 제외한 상태의 추정 힙 점유 바이트 (원형 버퍼 포함)
+     */
+    int stateBytes() {
+        return stateBytes;
+    }
+
+    private static void write(StreamingIndicator indicator, double[][] lines, int index) {
+        for (int line = 0; line < lines.length; line++) {
+            lines[line][index] = indicator.line(line);
+        }
+    }
+
+    private static int stateBytes(IndicatorSpec spec) {
+        return switch (spec.type()) {
+            case SMA, BOLLINGER -> OVERHEAD + spec.period() * Double.BYTES;
+            case EMA, RSI -> OVERHEAD;
+            case MACD -> OVERHEAD * 3;
+        };
+    }
+}
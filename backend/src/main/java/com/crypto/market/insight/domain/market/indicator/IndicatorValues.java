@@ -0,0 +1,14 @@
+package com.crypto.market.insight.domain.market.indicator;
+
+import com.crypto.market.insight.domain.market.model.vo.IndicatorSpec;
+import java.util.Map;
+
+/**
+ * 한 지표의 계산 결과
+ *
+ * @param spec  지표와 파라미터
+ * @param lines 출력 선 이름({@link com.crypto.market.insight.domain.market.model.vo.IndicatorType#getLines()} 순서)별
+ *              값. 시계열과 같은 길이이며 워밍업 구간은 NaN
+ */
+public record IndicatorValues(IndicatorSpec spec, Map<String, double[]> lines) {
+}
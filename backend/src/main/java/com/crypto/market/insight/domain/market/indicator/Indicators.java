@@ -0,0 +1,170 @@
+package com.crypto.market.insight.domain.market.indicator;
+
+import java.util.Arrays;
+
+/**
+ * 기술적 지표 일괄 계산
+ * <p>
+ * 입력 배열을 한 번 순회하며 호출자가 넘긴 출력 배열(입력과 같은 길이)에 직접 기록하므로 점마다 객체를 만들지
+ * 않습니다. 값이 정해지기 전 구간(워밍업)은 {@link Double#NaN}입니다. 연산 순서가 스트리밍 구현({@link Sma},
+ * {@link Ema}, {@link Rsi}, {@link Macd}, {@link BollingerBands})과 같아서 같은 입력이면 결과가 비트 단위로 같습니다.
+ */
+public final class Indicators {
+
+    private Indicators() {
+    }
+
+    static double alpha(int period) {
+        return 2.0 / (period + 1);
+    }
+
+    /**
+     * 평균 하락폭이 0이면 100(변화가 전혀 없으면 50)
+     */
+    static double rsiValue(double avgGain, double avgLoss) {
+        if (avgLoss == 0) {
+            return avgGain == 0 ? 50 : 100;
+        }
+        return 100 - 100 / (1 + avgGain / avgLoss);
+    }
+
+    /**
+     * 모집단 표준편차. 반올림 오차로 제곱편차 합이 음수가 되면 0으로 본다.
+     */
+    static double standardDeviation(double m2, int period) {
+        return Math.sqrt(Math.max(m2, 0) / period);
+    }
+
+    /**
+     * 단순 이동평균. 누적 합에 새 값을 더하고 창을 벗어난 값을 빼서 점마다 O(1)로 갱신한다.
+     */
+    public static void sma(double[] values, int period, double[] out) {
+        double sum = 0;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+            if (i >= period) {
+                sum -= values[i - period];
+            }
+            out[i] = i >= period - 1 ? sum / period : Double.NaN;
+        }
+    }
+
+    /**
+     * 지수 이동평균. 첫 {@code period}개의 단순 평균으로 시작한다.
+     */
+    public static void ema(double[] values, int period, double[] out) {
+        ema(values, 0, period, out);
+    }
+
+    /**
+     * {@code from} 이전은 NaN으로 두고 {@code from}부터 지수 이동평균을 계산한다 (앞쪽이 NaN인 입력용).
+     */
+    static void ema(double[] values, int from, int period, double[] out) {
+        Arrays.fill(out, 0, Math.min(from, out.length), Double.NaN);
+        double alpha = alpha(period);
+        double sum = 0;
+        double ema = Double.NaN;
+        for (int i = from; i < values.length; i++) {
+            int count = i - from + 1;
+            if (count < period) {
+                sum += values[i];
+            } else if (count == period) {
+                sum += values[i];
+                ema = sum / period;
+            } else {
+                ema += alpha * (values[i] - ema);
+            }
+            out[i] = ema;
+        }
+    }
+
+    /**
+     * Wilder 방식 RSI. 첫 {@code period}개 변화량의 평균으로 시작해 {@code (평균 * (period - 1) + 값) / period}로
+     * 평활한다.
+     */
+    public static void rsi(double[] values, int period, double[] out) {
+        double avgGain = 0;
+        double avgLoss = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (i == 0) {
+                out[i] = Double.NaN;
+                continue;
+            }
+            double change = values[i] - values[i - 1];
+            double gain = Math.max(change, 0);
+            double loss = Math.max(-change, 0);
+            if (i < period) {
+                avgGain += gain;
+                avgLoss += loss;
+                out[i] = Double.NaN;
+                continue;
+            }
+            if (i == period) {
+                avgGain = (avgGain + gain) / period;
+                avgLoss = (avgLoss + loss) / period;
+            } else {
+                avgGain = (avgGain * (period - 1) + gain) / period;
+                avgLoss = (avgLoss * (period - 1) + loss) / period;
+            }
+            out[i] = rsiValue(avgGain, avgLoss);
+        }
+    }
+
+    /**
+     * MACD 선(단기 EMA - 장기 EMA), 시그널 선(MACD 선의 EMA), 히스토그램(MACD - 시그널)
+     */
+    public static void macd(double[] values, int fast, int slow, int signal,
+                            double[] macd, double[] signalOut, double[] histogram) {
+        // 히스토그램 배열을 장기 EMA 임시 버퍼로 쓴다
+        ema(values, 0, fast, macd);
+        ema(values, 0, slow, histogram);
+        for (int i = 0; i < values.length; i++) {
+            macd[i] -= histogram[i];
+        }
+        ema(macd, slow - 1, signal, signalOut);
+        for (int i = 0; i < values.length; i++) {
+            histogram[i] = macd[i] - signalOut[i];
+        }
+    }
+
+    /**
+     * 볼린저 밴드. 가운데 선은 {@link #sma}와 같고, 모집단 표준편차는 창이 처음 찼을 때 한 번 직접 구한 뒤
+     * 창이 한 칸씩 밀릴 때마다 제곱편차 합을 O(1)로 갱신한다 (합의 제곱에서 빼는 방식보다 상쇄 오차가 작다).
+     */
+    public static void bollinger(double[] values, int period, double multiplier,
+                                 double[] middle, double[] upper, double[] lower) {
+        double sum = 0;
+        double m2 = 0;
+        double previousMean = Double.NaN;
+        for (int i = 0; i < values.length; i++) {
+            sum += values[i];
+            if (i >= period) {
+                sum -= values[i - period];
+            }
+            if (i < period - 1) {
+                middle[i] = Double.NaN;
+                upper[i] = Double.NaN;
+                lower[i] = Double.NaN;
+                continue;
+            }
+
+            double mean = sum / period;
+            if (i == period - 1) {
+                m2 = 0;
+                for (int j = 0; j < period; j++) {
+                    double deviation = values[j] - mean;
+                    m2 += deviation * deviation;
+                }
+            } else {
+                double removed = values[i - period];
+                m2 += (values[i] - removed) * (values[i] - mean + removed - previousMean);
+            }
+            previousMean = mean;
+
+            double band = multiplier * standardDeviation(m2, period);
+            middle[i] = mean;
+            upper[i] = mean + band;
+            lower[i] = mean - band;
+        }
+    }
+}
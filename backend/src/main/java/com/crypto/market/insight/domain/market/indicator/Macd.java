@@ -0,0 +1,76 @@
+package com.crypto.market.insight.domain.market.indicator;
+
+/**
+ * 스트리밍 MACD. 단기/장기 EMA와 MACD 선의 EMA(시그널)를 봉 하나당 O(1)로 갱신한다.
+ */
+public final class Macd implements StreamingIndicator {
+
+    private final Ema fast;
+    private final Ema slow;
+    private final Ema signal;
+    private double macd = Double.NaN;
+    private double histogram = Double.NaN;
+
+    public Macd(int fastPeriod, int slowPeriod, int signalPeriod) {
+        this.fast = new Ema(fastPeriod);
+        this.slow = new Ema(slowPeriod);
+        this.signal = new Ema(signalPeriod);
+    }
+
+    private Macd(Macd source) {
+        this.fast = source.fast.copy();
+        this.slow = source.slow.copy();
+        this.signal = source.signal.copy();
+        this.macd = source.macd;
+        this.histogram = source.histogram;
+    }
+
+    /**
+     * @return 갱신한 MACD 선 (장기 EMA 워밍업 중이면 NaN)
+     */
+    @Override
+    public double update(double input) {
+        double fastValue = fast.update(input);
+        double slowValue = slow.update(input);
+        if (!slow.isReady()) {
+            return macd;
+        }
+        macd = fastValue - slowValue;
+        histogram = macd - signal.update(macd);
+        return macd;
+    }
+
+    /**
+     * @param index 0: MACD 선, 1: 시그널, 2: 히스토그램
+     */
+    @Override
+    public double line(int index) {
+        return switch (index) {
+            case 0 -> macd;
+            case 1 -> signal.value();
+            case 2 -> histogram;
+            default -> throw new IndexOutOfBoundsException(index);
+        };
+    }
+
+    @Override
+    public Macd copy() {
+        return new Macd(this);
+    }
+
+    public double macd() {
+        return macd;
+    }
+
+    public double signal() {
+        return signal.value();
+    }
+
+    public double histogram() {
+        return histogram;
+    }
+
+    public boolean isReady() {
+        return signal.isReady();
+    }
+}
@@ -0,0 +1,75 @@
+package com.crypto.market.insight.domain.market.indicator;
+
+/**
+ * 스트리밍 RSI (Wilder 평활). 직전 종가와 평균 상승/하락폭만 보관해 봉 하나당 O(1)로 갱신한다.
+ */
+public final class Rsi implements StreamingIndicator {
+
+    private final int period;
+    private long count;
+    private double previous;
+    private double avgGain;
+    private double avgLoss;
+    private double value = Double.NaN;
+
+    public Rsi(int period) {
+        this.period = period;
+    }
+
+    private Rsi(Rsi source) {
+        this.period = source.period;
+        this.count = source.count;
+        this.previous = source.previous;
+        this.avgGain = source.avgGain;
+        this.avgLoss = source.avgLoss;
+        this.value = source.value;
+    }
+
+    /**
+     * @return 갱신한 RSI (워밍업 중이면 NaN)
+     */
+    @Override
+    public double update(double input) {
+        long index = count++;
+        double change = input - previous;
+        previous = input;
+        if (index == 0) {
+            return value;
+        }
+
+        double gain = Math.max(change, 0);
+        double loss = Math.max(-change, 0);
+        if (index < period) {
+            avgGain += gain;
+            avgLoss += loss;
+            return value;
+        }
+        if (index == period) {
+            avgGain = (avgGain + gain) / period;
+            avgLoss = (avgLoss + loss) / period;
+        } else {
+            avgGain = (avgGain * (period - 1) + gain) / period;
+            avgLoss = (avgLoss * (period - 1) + loss) / period;
+        }
+        value = Indicators.rsiValue(avgGain, avgLoss);
+        return value;
+    }
+
+    @Override
+    public double line(int index) {
+        return value;
+    }
+
+    @Override
+    public Rsi copy() {
+        return new Rsi(this);
+    }
+
+    public double value() {
+        return value;
+    }
+
+    public boolean isReady() {
+        return count > period;
+    }
+}
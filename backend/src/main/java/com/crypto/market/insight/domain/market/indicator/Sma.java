@@ -0,0 +1,62 @@
+package com.crypto.market.insight.domain.market.indicator;
+
+/**
+ * 스트리밍 단순 이동평균. 최근 {@code period}개 값을 원형 버퍼에 두고 봉 하나당 O(1)로 갱신한다.
+ */
+public final class Sma implements StreamingIndicator {
+
+    private final int period;
+    private final double[] window;
+    private int position;
+    private long count;
+    private double sum;
+    private double value = Double.NaN;
+
+    public Sma(int period) {
+        this.period = period;
+        this.window = new double[period];
+    }
+
+    private Sma(Sma source) {
+        this.period = source.period;
+        this.window = source.window.clone();
+        this.position = source.position;
+        this.count = source.count;
+        this.sum = source.sum;
+        this.value = source.value;
+    }
+
+    /**
+     * @return 갱신한 이동평균 (워밍업 중이면 NaN)
+     */
+    @Override
+    public double update(double input) {
+        sum += input;
+        if (count >= period) {
+            sum -= window[position];
+        }
+        window[position] = input;
+        position = position + 1 == period ? 0 : position + 1;
+        count++;
+        value = count >= period ? sum / period : Double.NaN;
+        return value;
+    }
+
+    @Override
+    public double line(int index) {
+        return value;
+    }
+
+    @Override
+    public Sma copy() {
+        return new Sma(this);
+    }
+
+    public double value() {
+        return value;
+    }
+
+    public boolean isReady() {
+        return count >= period;
+    }
+}
@@ -0,0 +1,39 @@
+package com.crypto.market.insight.domain.market.indicator;
+
+import com.crypto.market.insight.domain.market.model.vo.IndicatorSpec;
+
+/**
+ * 종가 하나씩 봉당 O(1)로 갱신하는 지표
+ * <p>
+ * 연산 순서가 {@link Indicators}와 같아서 처음부터 같은 종가를 넣으면 일괄 계산과 비트 단위로 같은 값이 나옵니다.
+ */
+public interface StreamingIndicator {
+
+    /**
+     * 종가 하나로 갱신한다.
+     *
+     * @return 갱신한 첫 번째 출력 선 값 (워밍업 중이면 NaN)
+     */
+    double update(double input);
+
+    /**
+     * 마지막 갱신 후 출력 선 값 ({@link com.crypto.market.insight.domain.market.model.vo.IndicatorType#getLines()}
+     * 순서, 워밍업 중이면 NaN)
+     */
+    double line(int index);
+
+    /**
+     * 같은 상태의 독립된 복사본 (복사본을 갱신해도 원본은 바뀌지 않는다)
+     */
+    StreamingIndicator copy();
+
+    static StreamingIndicator of(IndicatorSpec spec) {
+        return switch (spec.type()) {
+            case SMA -> new Sma(spec.period());
+            case EMA -> new Ema(spec.period());
+            case RSI -> new Rsi(spec.period());
+            case MACD -> new Macd(spec.period(), spec.slowPeriod(), spec.signalPeriod());
+            case BOLLINGER -> new BollingerBands(spec.period(), spec.multiplier());
+        };
+    }
+}
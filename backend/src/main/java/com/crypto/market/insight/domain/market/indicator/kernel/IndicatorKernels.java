@@ -0,0 +1,101 @@
+package com.crypto.market.insight.domain.market.indicator.kernel;
+
+/**
+ * 긴 시계열(스윕, 스크리너, 백테스트)용 지표 연산 커널
+ * <p>
+ * 모든 메서드는 입력 배열을 읽어 호출자가 넘긴 같은 길이의 출력 배열에 기록합니다. 구현은 스칼라
+ * ({@link ScalarKernels})와 JDK Vector API({@link VectorKernels}) 두 가지이며, 같은 입력이면 결과가 비트 단위로
+ * 같습니다. 이를 위해 이동 합계는 순차 누적 대신 4개씩 묶은 블록 누적합(블록 안은 2단계 트리 덧셈)으로 정의하고,
+ * 스칼라 구현도 같은 순서로 더합니다. 최댓값은 {@code x < y ? y : x}로 정의합니다.
+ * <p>
+ * 값이 정해지기 전 구간(워밍업)은 {@link Double#NaN}입니다.
+ */
+public interface IndicatorKernels {
+
+    /**
+     * 구현 이름 (로그/벤치마크용)
+     */
+    String name();
+
+    /**
+     * 최근 {@code period}개 값의 합
+     */
+    void rollingSum(double[] values, int period, double[] out);
+
+    /**
+     * 최근 {@code period}개 값의 평균
+     */
+    void rollingMean(double[] values, int period, double[] out);
+
+    /**
+     * 최근 {@code period}개 값의 모집단 분산 (볼린저 밴드용). 상쇄 오차를 줄이려고 첫 값을 뺀 값으로 합계를 구하고,
+     * 반올림으로 음수가 되면 0으로 본다.
+     */
+    void rollingVariance(double[] values, int period, double[] out);
+
+    /**
+     * True Range: {@code max(고가 - 저가, |고가 - 직전 종가|, |저가 - 직전 종가|)}. 첫 봉은 고가 - 저가.
+     */
+    void trueRange(double[] high, double[] low, double[] close, double[] out);
+
+    /**
+     * {@code a[i] > b[i]} (NaN이 있으면 false)
+     */
+    void greaterThan(double[] a, double[] b, boolean[] out);
+
+    /**
+     * {@code a[i] < b[i]} (NaN이 있으면 false)
+     */
+    void lessThan(double[] a, double[] b, boolean[] out);
+
+    /**
+     * {@code a[i] >= b[i]} (NaN이 있으면 false)
+     */
+    void greaterOrEqual(double[] a, double[] b, boolean[] out);
+
+    /**
+     * {@code a[i] <= b[i]} (NaN이 있으면 false)
+     */
+    void lessOrEqual(double[] a, double[] b, boolean[] out);
+
+    /**
+     * {@code a[i] > threshold} (예: RSI 과매수)
+     */
+    void greaterThan(double[] a, double threshold, boolean[] out);
+
+    /**
+     * {@code a[i] < threshold} (예: RSI 과매도)
+     */
+    void lessThan(double[] a, double threshold, boolean[] out);
+
+    /**
+     * 상향 돌파: {@code a[i] > b[i] && a[i - 1] <= b[i - 1]} (첫 봉은 false)
+     */
+    void crossAbove(double[] a, double[] b, boolean[] out);
+
+    /**
+     * 하향 돌파: {@code a[i] < b[i] && a[i - 1] >= b[i - 1]} (첫 봉은 false)
+     */
+    void crossBelow(double[] a, double[] b, boolean[] out);
+
+    /**
+     * Vector API 커널을 요청했고 쓸 수 있으면 그 구현을, 아니면 스칼라 구현을 반환한다.
+     */
+    static IndicatorKernels select(boolean vectorEnabled) {
+        return vectorEnabled && vectorAvailable() ? VectorKernels.INSTANCE : ScalarKernels.INSTANCE;
+    }
+
+    /**
+     * {@code jdk.incubator.vector} 모듈이 로드되어 있고({@code --add-modules}) 256비트 이상 SIMD를 쓸 수 있는지
+     */
+    static boolean vectorAvailable() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return VectorKernels.isSupported();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
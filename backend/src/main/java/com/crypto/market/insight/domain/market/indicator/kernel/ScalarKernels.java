@@ -0,0 +1,186 @@
+package com.crypto.market.insight.domain.market.indicator.kernel;
+
+import java.util.Arrays;
+
+/**
+ * {@link IndicatorKernels}의 스칼라 구현 (Vector API를 쓸 수 없을 때의 대체 구현)
+ * <p>
+ * 이동 합계의 블록 누적합은 {@link VectorKernels}의 4레인 시프트-덧셈과 같은 순서로 더하므로 결과가 비트 단위로
+ * 같습니다.
+ */
+public final class ScalarKernels implements IndicatorKernels {
+
+    public static final ScalarKernels INSTANCE = new ScalarKernels();
+
+    /**
+     * 블록 누적합의 블록 크기 ({@link VectorKernels}의 256비트 레인 수)
+     */
+    static final int SCAN_BLOCK = 4;
+
+    private ScalarKernels() {
+    }
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    @Override
+    public void rollingSum(double[] values, int period, double[] out) {
+        int n = values.length;
+        int head = Math.min(period, n);
+        System.arraycopy(values, 0, out, 0, head);
+        for (int i = head; i < n; i++) {
+            out[i] = values[i] - values[i - period];
+        }
+        prefixSum(out, n);
+        Arrays.fill(out, 0, Math.min(period - 1, n), Double.NaN);
+    }
+
+    @Override
+    public void rollingMean(double[] values, int period, double[] out) {
+        rollingSum(values, period, out);
+        double divisor = period;
+        for (int i = period - 1; i < values.length; i++) {
+            out[i] = out[i] / divisor;
+        }
+    }
+
+    @Override
+    public void rollingVariance(double[] values, int period, double[] out) {
+        int n = values.length;
+        if (n == 0) {
+            return;
+        }
+        double reference = values[0];
+        double[] shifted = new double[n];
+        double[] squares = new double[n];
+        for (int i = 0; i < n; i++) {
+            double x = values[i] - reference;
+            shifted[i] = x;
+            squares[i] = x * x;
+        }
+        rollingSum(shifted, period, out);
+        rollingSum(squares, period, shifted);
+        double divisor = period;
+        for (int i = period - 1; i < n; i++) {
+            double sum = out[i];
+            double variance = (shifted[i] - sum * sum / divisor) / divisor;
+            out[i] = variance < 0 ? 0 : variance;
+        }
+    }
+
+    @Override
+    public void trueRange(double[] high, double[] low, double[] close, double[] out) {
+        int n = high.length;
+        if (n == 0) {
+            return;
+        }
+        out[0] = high[0] - low[0];
+        for (int i = 1; i < n; i++) {
+            double previous = close[i - 1];
+            out[i] = max(high[i] - low[i], max(Math.abs(high[i] - previous), Math.abs(low[i] - previous)));
+        }
+    }
+
+    @Override
+    public void greaterThan(double[] a, double[] b, boolean[] out) {
+        for (int i = 0; i < a.length; i++) {
+            out[i] = a[i] > b[i];
+        }
+    }
+
+    @Override
+    public void lessThan(double[] a, double[] b, boolean[] out) {
+        for (int i = 0; i < a.length; i++) {
+            out[i] = a[i] < b[i];
+        }
+    }
+
+    @Override
+    public void greaterOrEqual(double[] a, double[] b, boolean[] out) {
+        for (int i = 0; i < a.length; i++) {
+            out[i] = a[i] >= b[i];
+        }
+    }
+
+    @Override
+    public void lessOrEqual(double[] a, double[] b, boolean[] out) {
+        for (int i = 0; i < a.length; i++) {
+            out[i] = a[i] <= b[i];
+        }
+    }
+
+    @Override
+    public void greaterThan(double[] a, double threshold, boolean[] out) {
+        for (int i = 0; i < a.length; i++) {
+            out[i] = a[i] > threshold;
+        }
+    }
+
+    @Override
+    public void lessThan(double[] a, double threshold, boolean[] out) {
+        for (int i = 0; i < a.length; i++) {
+            out[i] = a[i] < threshold;
+        }
+    }
+
+    @Override
+    public void crossAbove(double[] a, double[] b, boolean[] out) {
+        if (a.length == 0) {
+            return;
+        }
+        out[0] = false;
+        for (int i = 1; i < a.length; i++) {
+            out[i] = a[i] > b[i] && a[i - 1] <= b[i - 1];
+        }
+    }
+
+    @Override
+    public void crossBelow(double[] a, double[] b, boolean[] out) {
+        if (a.length == 0) {
+            return;
+        }
+        out[0] = false;
+        for (int i = 1; i < a.length; i++) {
+            out[i] = a[i] < b[i] && a[i - 1] >= b[i - 1];
+        }
+    }
+
+    /**
+     * {@code values[0, n)}를 제자리에서 누적합으로 바꾼다. 4개씩 묶어 블록 안은 {@code e[k] += e[k-1]},
+     * {@code e[k] += e[k-2]} 두 단계로 더한 뒤 이전 블록까지의 합을 더하고, 남은 꼬리는 순차로 더한다.
+     */
+    static void prefixSum(double[] values, int n) {
+        double carry = 0;
+        int bound = n - n % SCAN_BLOCK;
+        int i = 0;
+        for (; i < bound; i += SCAN_BLOCK) {
+            double d0 = values[i];
+            double d1 = values[i + 1];
+            double d2 = values[i + 2];
+            double d3 = values[i + 3];
+            double e0 = d0 + 0.0;
+            double e1 = d1 + d0;
+            double e2 = d2 + d1;
+            double e3 = d3 + d2;
+            double f0 = e0 + 0.0;
+            double f1 = e1 + 0.0;
+            double f2 = e2 + e0;
+            double f3 = e3 + e1;
+            values[i] = f0 + carry;
+            values[i + 1] = f1 + carry;
+            values[i + 2] = f2 + carry;
+            values[i + 3] = f3 + carry;
+            carry = values[i + 3];
+        }
+        for (; i < n; i++) {
+            carry = values[i] + carry;
+            values[i] = carry;
+        }
+    }
+
+    private static double max(double x, double y) {
+        return x < y ? y : x;
+    }
+}
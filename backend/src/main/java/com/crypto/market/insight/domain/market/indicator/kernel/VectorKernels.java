@@ -0,0 +1,261 @@
+package com.crypto.market.insight.domain.market.indicator.kernel;
+
+import java.util.Arrays;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link IndicatorKernels}의 JDK Vector API({@code jdk.incubator.vector}) 구현
+ * <p>
+ * 원소별 연산(차분, 나눗셈, True Range, 비교)은 플랫폼이 선호하는 폭으로 처리하고, 이동 합계의 블록 누적합은
+ * {@link ScalarKernels}와 결과를 맞추려고 폭을 256비트(4레인)로 고정합니다. 배열 끝의 남는 원소는 스칼라로
+ * 처리합니다. 모듈이 없는 JVM에서는 이 클래스를 로드하지 않습니다 ({@link IndicatorKernels#select}).
+ */
+public final class VectorKernels implements IndicatorKernels {
+
+    public static final VectorKernels INSTANCE = new VectorKernels();
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> SCAN = DoubleVector.SPECIES_256;
+
+    private VectorKernels() {
+    }
+
+    /**
+     * 선호 SIMD 폭이 블록 누적합 폭(256비트) 이상인지. 더 좁으면 256비트 연산이 에뮬레이션되어 스칼라보다 느리다.
+     */
+    static boolean isSupported() {
+        return SPECIES.vectorBitSize() >= SCAN.vectorBitSize();
+    }
+
+    @Override
+    public String name() {
+        return "vector-" + SPECIES.vectorBitSize();
+    }
+
+    @Override
+    public void rollingSum(double[] values, int period, double[] out) {
+        int n = values.length;
+        int head = Math.min(period, n);
+        System.arraycopy(values, 0, out, 0, head);
+        int i = head;
+        for (int bound = head + SPECIES.loopBound(n - head); i < bound; i += SPECIES.length()) {
+            DoubleVector entering = DoubleVector.fromArray(SPECIES, values, i);
+            DoubleVector leaving = DoubleVector.fromArray(SPECIES, values, i - period);
+            entering.sub(leaving).intoArray(out, i);
+        }
+        for (; i < n; i++) {
+            out[i] = values[i] - values[i - period];
+        }
+        prefixSum(out, n);
+        Arrays.fill(out, 0, Math.min(period - 1, n), Double.NaN);
+    }
+
+    @Override
+    public void rollingMean(double[] values, int period, double[] out) {
+        rollingSum(values, period, out);
+        double divisor = period;
+        int n = values.length;
+        int i = Math.max(period - 1, 0);
+        for (int bound = i + SPECIES.loopBound(Math.max(n - i, 0)); i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, out, i).div(divisor).intoArray(out, i);
+        }
+        for (; i < n; i++) {
+            out[i] = out[i] / divisor;
+        }
+    }
+
+    @Override
+    public void rollingVariance(double[] values, int period, double[] out) {
+        int n = values.length;
+        if (n == 0) {
+            return;
+        }
+        double reference = values[0];
+        double[] shifted = new double[n];
+        double[] squares = new double[n];
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += SPECIES.length()) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, values, i).sub(reference);
+            x.intoArray(shifted, i);
+            x.mul(x).intoArray(squares, i);
+        }
+        for (; i < n; i++) {
+            double x = values[i] - reference;
+            shifted[i] = x;
+            squares[i] = x * x;
+        }
+        rollingSum(shifted, period, out);
+        rollingSum(squares, period, shifted);
+        double divisor = period;
+        i = Math.max(period - 1, 0);
+        for (int bound = i + SPECIES.loopBound(Math.max(n - i, 0)); i < bound; i += SPECIES.length()) {
+            DoubleVector sum = DoubleVector.fromArray(SPECIES, out, i);
+            DoubleVector variance = DoubleVector.fromArray(SPECIES, shifted, i)
+                    .sub(sum.mul(sum).div(divisor))
+                    .div(divisor);
+            variance.blend(0, variance.compare(VectorOperators.LT, 0)).intoArray(out, i);
+        }
+        for (; i < n; i++) {
+            double sum = out[i];
+            double variance = (shifted[i] - sum * sum / divisor) / divisor;
+            out[i] = variance < 0 ? 0 : variance;
+        }
+    }
+
+    @Override
+    public void trueRange(double[] high, double[] low, double[] close, double[] out) {
+        int n = high.length;
+        if (n == 0) {
+            return;
+        }
+        out[0] = high[0] - low[0];
+        int i = 1;
+        for (int bound = 1 + SPECIES.loopBound(n - 1); i < bound; i += SPECIES.length()) {
+            DoubleVector h = DoubleVector.fromArray(SPECIES, high, i);
+            DoubleVector l = DoubleVector.fromArray(SPECIES, low, i);
+            DoubleVector previous = DoubleVector.fromArray(SPECIES, close, i - 1);
+            DoubleVector range = max(h.sub(l), max(h.sub(previous).abs(), l.sub(previous).abs()));
+            range.intoArray(out, i);
+        }
+        for (; i < n; i++) {
+            double previous = close[i - 1];
+            out[i] = max(high[i] - low[i], max(Math.abs(high[i] - previous), Math.abs(low[i] - previous)));
+        }
+    }
+
+    @Override
+    public void greaterThan(double[] a, double[] b, boolean[] out) {
+        compare(a, b, VectorOperators.GT, out);
+        for (int i = SPECIES.loopBound(a.length); i < a.length; i++) {
+            out[i] = a[i] > b[i];
+        }
+    }
+
+    @Override
+    public void lessThan(double[] a, double[] b, boolean[] out) {
+        compare(a, b, VectorOperators.LT, out);
+        for (int i = SPECIES.loopBound(a.length); i < a.length; i++) {
+            out[i] = a[i] < b[i];
+        }
+    }
+
+    @Override
+    public void greaterOrEqual(double[] a, double[] b, boolean[] out) {
+        compare(a, b, VectorOperators.GE, out);
+        for (int i = SPECIES.loopBound(a.length); i < a.length; i++) {
+            out[i] = a[i] >= b[i];
+        }
+    }
+
+    @Override
+    public void lessOrEqual(double[] a, double[] b, boolean[] out) {
+        compare(a, b, VectorOperators.LE, out);
+        for (int i = SPECIES.loopBound(a.length); i < a.length; i++) {
+            out[i] = a[i] <= b[i];
+        }
+    }
+
+    @Override
+    public void greaterThan(double[] a, double threshold, boolean[] out) {
+        compare(a, threshold, VectorOperators.GT, out);
+        for (int i = SPECIES.loopBound(a.length); i < a.length; i++) {
+            out[i] = a[i] > threshold;
+        }
+    }
+
+    @Override
+    public void lessThan(double[] a, double threshold, boolean[] out) {
+        compare(a, threshold, VectorOperators.LT, out);
+        for (int i = SPECIES.loopBound(a.length); i < a.length; i++) {
+            out[i] = a[i] < threshold;
+        }
+    }
+
+    @Override
+    public void crossAbove(double[] a, double[] b, boolean[] out) {
+        if (a.length == 0) {
+            return;
+        }
+        out[0] = false;
+        int i = cross(a, b, VectorOperators.GT, VectorOperators.LE, out);
+        for (; i < a.length; i++) {
+            out[i] = a[i] > b[i] && a[i - 1] <= b[i - 1];
+        }
+    }
+
+    @Override
+    public void crossBelow(double[] a, double[] b, boolean[] out) {
+        if (a.length == 0) {
+            return;
+        }
+        out[0] = false;
+        int i = cross(a, b, VectorOperators.LT, VectorOperators.GE, out);
+        for (; i < a.length; i++) {
+            out[i] = a[i] < b[i] && a[i - 1] >= b[i - 1];
+        }
+    }
+
+    /**
+     * {@link ScalarKernels#prefixSum}와 같은 순서의 블록 누적합. 블록 안은 0 벡터에서 밀어 넣은 시프트를 두 번
+     * 더하고({@code [0, e0, e1, e2]}, {@code [0, 0, e0, e1]}), 이전 블록까지의 합을 더한다.
+     */
+    private static void prefixSum(double[] values, int n) {
+        DoubleVector zero = DoubleVector.zero(SCAN);
+        int last = SCAN.length() - 1;
+        double carry = 0;
+        int i = 0;
+        for (int bound = SCAN.loopBound(n); i < bound; i += SCAN.length()) {
+            DoubleVector e = DoubleVector.fromArray(SCAN, values, i);
+            e = e.add(zero.slice(last, e));
+            e = e.add(zero.slice(last - 1, e));
+            e = e.add(carry);
+            e.intoArray(values, i);
+            carry = e.lane(last);
+        }
+        for (; i < n; i++) {
+            carry = values[i] + carry;
+            values[i] = carry;
+        }
+    }
+
+    private static void compare(double[] a, double[] b, VectorOperators.Comparison op, boolean[] out) {
+        for (int i = 0, bound = SPECIES.loopBound(a.length); i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, a, i)
+                    .compare(op, DoubleVector.fromArray(SPECIES, b, i))
+                    .intoArray(out, i);
+        }
+    }
+
+    private static void compare(double[] a, double threshold, VectorOperators.Comparison op, boolean[] out) {
+        for (int i = 0, bound = SPECIES.loopBound(a.length); i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, a, i).compare(op, threshold).intoArray(out, i);
+        }
+    }
+
+    /**
+     * {@code a[i] op b[i] && a[i - 1] previousOp b[i - 1]}를 벡터 구간만큼 기록하고, 남은 시작 인덱스를 반환한다.
+     */
+    private static int cross(double[] a, double[] b, VectorOperators.Comparison op,
+                             VectorOperators.Comparison previousOp, boolean[] out) {
+        int i = 1;
+        for (int bound = 1 + SPECIES.loopBound(a.length - 1); i < bound; i += SPECIES.length()) {
+            VectorMask<Double> now = DoubleVector.fromArray(SPECIES, a, i)
+                    .compare(op, DoubleVector.fromArray(SPECIES, b, i));
+            VectorMask<Double> before = DoubleVector.fromArray(SPECIES, a, i - 1)
+                    .compare(previousOp, DoubleVector.fromArray(SPECIES, b, i - 1));
+            now.and(before).intoArray(out, i);
+        }
+        return i;
+    }
+
+    private static DoubleVector max(DoubleVector x, DoubleVector y) {
+        return x.blend(y, x.compare(VectorOperators.LT, y));
+    }
+
+    private static double max(double x, double y) {
+        return x < y ? y : x;
+    }
+}
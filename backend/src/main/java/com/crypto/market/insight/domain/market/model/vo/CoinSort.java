@@ -0,0 +1,31 @@
+package com.crypto.market.insight.domain.market.model.vo;
+
+import com.crypto.market.insight.domain.market.dto.CoinMarketData;
+import java.math.BigDecimal;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 코인 목록 정렬 기준
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CoinSort {
+
+    MARKET_CAP("market_cap", CoinMarketData::marketCap),
+    VOLUME("volume", CoinMarketData::totalVolume),
+    PRICE_CHANGE_24H("price_change_24h", CoinMarketData::priceChangePercentage24h);
+
+    private final String value;
+    private final Function<CoinMarketData, BigDecimal> key;
+
+    public static CoinSort fromValue(String value) {
+        for (CoinSort sort : values()) {
+            if (sort.value.equals(value)) {
+                return sort;
+            }
+        }
+        return null;
+    }
+}
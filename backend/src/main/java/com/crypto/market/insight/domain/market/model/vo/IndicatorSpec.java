@@ -0,0 +1,120 @@
+package com.crypto.market.insight.domain.market.model.vo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * 지표 종류와 파라미터
+ * <p>
+ * 요청 형식은 {@code 종류[:파라미터...]}이며(예: {@code sma:50}, {@code macd:12:26:9}, {@code bb:20:2}),
+ * 생략한 파라미터는 {@link IndicatorType#getDefaults()}로 채웁니다. {@link #key()}는 기본값을 채운 정규화된 표기라
+ * {@code macd}와 {@code macd:12:26:9}가 같은 키가 됩니다.
+ *
+ * @param type   지표 종류
+ * @param params 기본값까지 채운 파라미터
+ */
+public record IndicatorSpec(IndicatorType type, List<Double> params) {
+
+    public static final int MAX_PERIOD = 500;
+    public static final double MAX_MULTIPLIER = 10;
+
+    public IndicatorSpec {
+        params = List.copyOf(params);
+    }
+
+    /**
+     * @throws IllegalArgumentException 종류를 모르거나 파라미터가 범위를 벗어난 경우
+     */
+    public static IndicatorSpec parse(String value) {
+        String[] parts = value.trim().toLowerCase(Locale.ROOT).split(":");
+        IndicatorType type = IndicatorType.fromValue(parts[0]);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown indicator: " + parts[0]);
+        }
+        List<Double> defaults = type.getDefaults();
+        if (parts.length - 1 > defaults.size()) {
+            throw new IllegalArgumentException("Too many parameters for " + type.getValue() + ": " + value);
+        }
+
+        List<Double> params = new ArrayList<>(defaults);
+        for (int i = 1; i < parts.length; i++) {
+            try {
+                params.set(i - 1, Double.parseDouble(parts[i]));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid parameter for " + type.getValue() + ": " + parts[i]);
+            }
+        }
+        IndicatorSpec spec = new IndicatorSpec(type, params);
+        spec.validate();
+        return spec;
+    }
+
+    public int period() {
+        return (int) (double) params.get(0);
+    }
+
+    /**
+     * MACD 장기 기간
+     */
+    public int slowPeriod() {
+        return (int) (double) params.get(1);
+    }
+
+    /**
+     * MACD 시그널 기간
+     */
+    public int signalPeriod() {
+        return (int) (double) params.get(2);
+    }
+
+    /**
+     * 볼린저 밴드 표준편차 배수
+     */
+    public double multiplier() {
+        return params.get(1);
+    }
+
+    /**
+     * 마지막 봉에 값이 나오기까지 필요한 봉 수 (RSI는 변화량을 쓰므로 기간 + 1, MACD는 시그널 선 기준)
+     */
+    public int warmup() {
+        return switch (type) {
+            case SMA, EMA, BOLLINGER -> period();
+            case RSI -> period() + 1;
+            case MACD -> slowPeriod() + signalPeriod() - 1;
+        };
+    }
+
+    /**
+     * 정규화된 표기 (예: {@code macd(12,26,9)}, {@code bb(20,2)})
+     */
+    public String key() {
+        return params.stream()
+                .map(IndicatorSpec::format)
+                .collect(Collectors.joining(",", type.getValue() + "(", ")"));
+    }
+
+    private void validate() {
+        int periods = type == IndicatorType.BOLLINGER ? 1 : params.size();
+        for (int i = 0; i < periods; i++) {
+            double period = params.get(i);
+            if (period != Math.rint(period) || period < 1 || period > MAX_PERIOD) {
+                throw new IllegalArgumentException(
+                        "Period must be an integer between 1 and " + MAX_PERIOD + ": " + format(period));
+            }
+        }
+        if (type == IndicatorType.MACD && period() >= slowPeriod()) {
+            throw new IllegalArgumentException("MACD fast period must be shorter than slow period: " + key());
+        }
+        if (type == IndicatorType.BOLLINGER && !(multiplier() > 0 && multiplier() <= MAX_MULTIPLIER)) {
+            throw new IllegalArgumentException(
+                    "Bollinger multiplier must be in (0, " + format(MAX_MULTIPLIER) + "]: " + format(multiplier()));
+        }
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
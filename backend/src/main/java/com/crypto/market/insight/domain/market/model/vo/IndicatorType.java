@@ -0,0 +1,40 @@
+package com.crypto.market.insight.domain.market.model.vo;
+
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * 기술적 지표 종류
+ * <p>
+ * {@code lines}는 지표가 내는 출력 선의 이름이고, {@code defaults}는 요청에서 생략한 파라미터의 기본값입니다
+ * (순서대로 SMA/EMA/RSI는 기간, MACD는 단기/장기/시그널 기간, 볼린저 밴드는 기간/표준편차 배수).
+ */
+@Getter
+public enum IndicatorType {
+
+    SMA("sma", List.of("sma"), 20),
+    EMA("ema", List.of("ema"), 20),
+    RSI("rsi", List.of("rsi"), 14),
+    MACD("macd", List.of("macd", "signal", "histogram"), 12, 26, 9),
+    BOLLINGER("bb", List.of("middle", "upper", "lower"), 20, 2);
+
+    private final String value;
+    private final List<String> lines;
+    private final List<Double> defaults;
+
+    IndicatorType(String value, List<String> lines, double... defaults) {
+        this.value = value;
+        this.lines = lines;
+        this.defaults = Arrays.stream(defaults).boxed().toList();
+    }
+
+    public static IndicatorType fromValue(String value) {
+        for (IndicatorType type : values()) {
+            if (type.value.equals(value)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,136 @@
+package com.crypto.market.insight.domain.market.model.vo;
+
+import java.util.Arrays;
+
+/**
+ * OHLC 캔들을 컬럼별 primitive 배열에 누적하는 버퍼
+ * <p>
+ * 캔들마다 객체를 만들지 않고 timestamp/open/high/low/close를 각각 {@code long[]}, {@code double[]}에 저장합니다.
+ * 단일 스레드에서 채운 뒤 읽는 용도입니다.
+ */
+public final class OhlcColumnBuffer {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private long[] timestamps;
+    private double[] open;
+    private double[] high;
+    private double[] low;
+    private double[] close;
+    private int size;
+
+    public OhlcColumnBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public OhlcColumnBuffer(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.timestamps = new long[capacity];
+        this.open = new double[capacity];
+        this.high = new double[capacity];
+        this.low = new double[capacity];
+        this.close = new double[capacity];
+    }
+
+    public void add(long timestamp, double open, double high, double low, double close) {
+        if (size == timestamps.length) {
+            grow();
+        }
+        this.timestamps[size] = timestamp;
+        this.open[size] = open;
+        this.high[size] = high;
+        this.low[size] = low;
+        this.close[size] = close;
+        size++;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long timestamp(int index) {
+        return timestamps[index];
+    }
+
+    public double open(int index) {
+        return open[index];
+    }
+
+    public double high(int index) {
+        return high[index];
+    }
+
+    public double low(int index) {
+        return low[index];
+    }
+
+    public double close(int index) {
+        return close[index];
+    }
+
+    /**
+     * timestamp 오름차순으로 정렬한다. 업스트림 응답은 보통 이미 정렬되어 있어 삽입 정렬로 충분하다.
+     */
+    public void sortByTimestamp() {
+        for (int i = 1; i < size; i++) {
+            long t = timestamps[i];
+            if (timestamps[i - 1] <= t) {
+                continue;
+            }
+            double o = open[i];
+            double h = high[i];
+            double l = low[i];
+            double c = close[i];
+            int j = i - 1;
+            while (j >= 0 && timestamps[j] > t) {
+                timestamps[j + 1] = timestamps[j];
+                open[j + 1] = open[j];
+                high[j + 1] = high[j];
+                low[j + 1] = low[j];
+                close[j + 1] = close[j];
+                j--;
+            }
+            timestamps[j + 1] = t;
+            open[j + 1] = o;
+            high[j + 1] = h;
+            low[j + 1] = l;
+            close[j + 1] = c;
+        }
+    }
+
+    /**
+     * 채워진 길이만큼 잘라낸 컬럼 복사본 (버퍼는 재사용 가능)
+     */
+    public long[] timestampsCopy() {
+        return Arrays.copyOf(timestamps, size);
+    }
+
+    public double[] openCopy() {
+        return Arrays.copyOf(open, size);
+    }
+
+    public double[] highCopy() {
+        return Arrays.copyOf(high, size);
+    }
+
+    public double[] lowCopy() {
+        return Arrays.copyOf(low, size);
+    }
+
+    public double[] closeCopy() {
+        return Arrays.copyOf(close, size);
+    }
+
+    private void grow() {
+        int capacity = timestamps.length * 2;
+        timestamps = Arrays.copyOf(timestamps, capacity);
+        open = Arrays.copyOf(open, capacity);
+        high = Arrays.copyOf(high, capacity);
+        low = Arrays.copyOf(low, capacity);
+        close = Arrays.copyOf(close, capacity);
+    }
+}
@@ -0,0 +1,288 @@
+package com.crypto.market.insight.domain.market.model.vo;
+
+import com.crypto.market.insight.domain.market.dto.OhlcData;
+import com.crypto.market.insight.domain.market.dto.OhlcSeriesDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 불변 컬럼형 OHLC 시계열
+ * <p>
+ * 캔들마다 {@link OhlcData}(Long + BigDecimal 4개)를 두는 대신 timestamp는 {@code long[]},
+ * 가격은 {@code double[]} 컬럼에 저장합니다 (캔들당 40바이트).
+ * timestamp는 오름차순이며, {@link #slice}/{@link #range}는 배열을 복사하지 않는 뷰를 반환합니다.
+ * <p>
+ * {@link #version()}은 업스트림에서 새로 만들어진 시계열마다 증가하며, 뷰와 파생 시계열, L2에서 복원한 시계열은
+ * 원본의 버전을 유지합니다.
+ */
+@JsonDeserialize(using = OhlcSeriesDeserializer.class)
+public final class OhlcSeries {
+
+    private static final AtomicLong VERSION_SEQUENCE = new AtomicLong();
+    private static final OhlcSeries EMPTY = new OhlcSeries(0L, new long[0], new double[0], new double[0],
+            new double[0], new double[0], 0, 0);
+
+    private final long version;
+    private final long[] timestamps;
+    private final double[] open;
+    private final double[] high;
+    private final double[] low;
+    private final double[] close;
+    private final int offset;
+    private final int length;
+
+    private OhlcSeries(long version, long[] timestamps, double[] open, double[] high, double[] low, double[] close,
+                       int offset, int length) {
+        this.version = version;
+        this.timestamps = timestamps;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public static OhlcSeries empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 컬럼 배열로 새 시계열을 만든다. 배열은 복사하지 않으므로 호출 후 수정하면 안 된다.
+     *
+     * @throws IllegalArgumentException 컬럼 길이가 다르거나 timestamp가 오름차순이 아닌 경우
+     */
+    public static OhlcSeries of(long[] timestamps, double[] open, double[] high, double[] low, double[] close) {
+        return new OhlcSeries(VERSION_SEQUENCE.incrementAndGet(), validate(timestamps, open, high, low, close),
+                open, high, low, close, 0, timestamps.length);
+    }
+
+    /**
+     * 직렬화해 두었던 시계열을 원래 버전으로 되살린다 (L2 승격 등).
+     * 내용이 같으므로 새 버전을 발급하지 않아 버전으로 묶인 파생 캐시가 그대로 유지된다.
+     *
+     * @throws IllegalArgumentException 컬럼 길이가 다르거나 timestamp가 오름차순이 아닌 경우
+     */
+    public static OhlcSeries restore(long version, long[] timestamps, double[] open, double[] high, double[] low,
+                                     double[] close) {
+        if (timestamps.length == 0) {
+            return EMPTY;
+        }
+        return new OhlcSeries(version, validate(timestamps, open, high, low, close),
+                open, high, low, close, 0, timestamps.length);
+    }
+
+    /**
+     * 버퍼 내용을 복사해 시계열을 만든다. timestamp 순서가 어긋나 있으면 버퍼를 먼저 정렬한다.
+     */
+    public static OhlcSeries from(OhlcColumnBuffer buffer) {
+        if (buffer.size() == 0) {
+            return EMPTY;
+        }
+        buffer.sortByTimestamp();
+        return of(buffer.timestampsCopy(), buffer.openCopy(), buffer.highCopy(), buffer.lowCopy(), buffer.closeCopy());
+    }
+
+    /**
+     * OhlcData 목록으로 시계열을 만든다. null 캔들은 건너뛴다.
+     */
+    public static OhlcSeries from(List<OhlcData> candles) {
+        OhlcColumnBuffer buffer = new OhlcColumnBuffer(candles.size());
+        for (OhlcData candle : candles) {
+            if (candle != null) {
+                buffer.add(candle.timestamp(), candle.open().doubleValue(), candle.high().doubleValue(),
+                        candle.low().doubleValue(), candle.close().doubleValue());
+            }
+        }
+        return from(buffer);
+    }
+
+    /**
+     * 이 시계열에서 계산한 파생 시계열 (리샘플링 등). 원본과 같은 버전을 갖는다.
+     */
+    public OhlcSeries derive(long[] timestamps, double[] open, double[] high, double[] low, double[] close) {
+        return new OhlcSeries(version, validate(timestamps, open, high, low, close),
+                open, high, low, close, 0, timestamps.length);
+    }
+
+    /**
+     * 최근 구간을 합친 새 시계열 (새 버전)
+     * <p>
+     * 이 시계열에서 {@code fromMillis} 이후이면서 tail 시작 전인 캔들은 그대로 두고, 겹치는 구간(진행 중이던
+     * 마지막 캔들 포함)은 tail 값으로 바꾸며 새로 마감된 캔들은 뒤에 붙인다. tail이 비어 있으면 이 시계열을 반환한다.
+     *
+     * @param tail       업스트림에서 받은 최근 구간
+     * @param fromMillis 유지할 구간의 시작 시각 (포함, 조회 기간 밖으로 밀려난 캔들은 버린다)
+     */
+    public OhlcSeries mergeTail(OhlcSeries tail, long fromMillis) {
+        if (tail.isEmpty()) {
+            return this;
+        }
+        int from = lowerBound(fromMillis);
+        int kept = Math.max(0, lowerBound(tail.firstTimestamp()) - from);
+        int tailFrom = tail.lowerBound(fromMillis);
+        int appended = tail.length - tailFrom;
+        int n = kept + appended;
+
+        long[] mergedTimestamps = new long[n];
+        double[] mergedOpen = new double[n];
+        double[] mergedHigh = new double[n];
+        double[] mergedLow = new double[n];
+        double[] mergedClose = new double[n];
+        int head = offset + from;
+        System.arraycopy(timestamps, head, mergedTimestamps, 0, kept);
+        System.arraycopy(open, head, mergedOpen, 0, kept);
+        System.arraycopy(high, head, mergedHigh, 0, kept);
+        System.arraycopy(low, head, mergedLow, 0, kept);
+        System.arraycopy(close, head, mergedClose, 0, kept);
+        int tailHead = tail.offset + tailFrom;
+        System.arraycopy(tail.timestamps, tailHead, mergedTimestamps, kept, appended);
+        System.arraycopy(tail.open, tailHead, mergedOpen, kept, appended);
+        System.arraycopy(tail.high, tailHead, mergedHigh, kept, appended);
+        System.arraycopy(tail.low, tailHead, mergedLow, kept, appended);
+        System.arraycopy(tail.close, tailHead, mergedClose, kept, appended);
+        return of(mergedTimestamps, mergedOpen, mergedHigh, mergedLow, mergedClose);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    public long timestamp(int index) {
+        return timestamps[offset + checkIndex(index)];
+    }
+
+    public double open(int index) {
+        return open[offset + checkIndex(index)];
+    }
+
+    public double high(int index) {
+        return high[offset + checkIndex(index)];
+    }
+
+    public double low(int index) {
+        return low[offset + checkIndex(index)];
+    }
+
+    public double close(int index) {
+        return close[offset + checkIndex(index)];
+    }
+
+    public long firstTimestamp() {
+        return timestamp(0);
+    }
+
+    public long lastTimestamp() {
+        return timestamp(length - 1);
+    }
+
+    /**
+     * 인덱스 범위 뷰 (복사 없음)
+     *
+     * @param fromIndex 시작 인덱스 (포함)
+     * @param toIndex   끝 인덱스 (제외)
+     */
+    public OhlcSeries slice(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("slice [" + fromIndex + ", " + toIndex + ") of " + length);
+        }
+        if (fromIndex == 0 && toIndex == length) {
+            return this;
+        }
+        return new OhlcSeries(version, timestamps, open, high, low, close, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * 시간 범위 뷰. 이진 탐색으로 O(log n)에 경계를 찾는다 (복사 없음).
+     *
+     * @param fromMillis 시작 시각 (포함, Unix 밀리초)
+     * @param toMillis   끝 시각 (제외, Unix 밀리초)
+     */
+    public OhlcSeries range(long fromMillis, long toMillis) {
+        int from = lowerBound(fromMillis);
+        int to = Math.max(from, lowerBound(toMillis));
+        return slice(from, to);
+    }
+
+    /**
+     * timestamp가 주어진 시각 이상인 첫 인덱스 (없으면 size())
+     */
+    public int lowerBound(long timestampMillis) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[offset + mid] < timestampMillis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public double[] opens() {
+        return Arrays.copyOfRange(open, offset, offset + length);
+    }
+
+    public double[] closes() {
+        return Arrays.copyOfRange(close, offset, offset + length);
+    }
+
+    public double[] highs() {
+        return Arrays.copyOfRange(high, offset, offset + length);
+    }
+
+    public double[] lows() {
+        return Arrays.copyOfRange(low, offset, offset + length);
+    }
+
+    public long[] timestamps() {
+        return Arrays.copyOfRange(timestamps, offset, offset + length);
+    }
+
+    public OhlcData toOhlcData(int index) {
+        return new OhlcData(
+                timestamp(index),
+                BigDecimal.valueOf(open(index)),
+                BigDecimal.valueOf(high(index)),
+                BigDecimal.valueOf(low(index)),
+                BigDecimal.valueOf(close(index))
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "OhlcSeries[version=" + version + ", size=" + length
+                + (length > 0 ? ", from=" + firstTimestamp() + ", to=" + lastTimestamp() : "") + "]";
+    }
+
+    private int checkIndex(int index) {
+        return Objects.checkIndex(index, length);
+    }
+
+    private static long[] validate(long[] timestamps, double[] open, double[] high, double[] low, double[] close) {
+        int n = timestamps.length;
+        if (open.length != n || high.length != n || low.length != n || close.length != n) {
+            throw new IllegalArgumentException("OHLC column lengths differ");
+        }
+        for (int i = 1; i < n; i++) {
+            if (timestamps[i] < timestamps[i - 1]) {
+                throw new IllegalArgumentException("OHLC timestamps must be ascending");
+            }
+        }
+        return timestamps;
+    }
+}
@@ -1,19 +1,42 @@
 package com.crypto.market.insight.domain.market.model.vo;
 
+import java.time.Duration;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 차트 타임프레임
+ * <p>
+ * {@code days}는 업스트림에서 받을 기준 시계열의 조회 기간, {@code sourceInterval}은 그 시계열의 봉 간격이고,
+ * {@code interval}은 기준 시계열을 리샘플링할 봉 간격입니다.
+ * CoinGecko는 days=1~2이면 30분봉, 3~30이면 4시간봉, 31 이상이면 4일봉을 줍니다. 1h는 30분봉에서, 4h/1d는 같은
+ * 30일치 4시간봉 시계열에서 만들어 캐시 항목을 공유하고, 1w는 4시간봉 30일로는 4~5봉뿐이라 1년치 4일봉에서 만듭니다.
+ * <p>
+ * {@code historyDays}는 스크리너가 쓰는 종가 이력({@code /market_chart})의 조회 기간입니다. 차트용 기준 시계열은
+ * 1d가 30봉뿐이라 sma(200) 같은 긴 지표를 평가할 수 없으므로, 1h/4h는 1시간 간격 종가를 240봉 분량만큼,
+ * 1d/1w는 1년치 일 종가를 받아 리샘플링합니다 (공개 API가 주는 최대 1년).
+ */
 @Getter
 @RequiredArgsConstructor
 public enum Timeframe {
 
-    ONE_HOUR("1h", "1"),
-    FOUR_HOURS("4h", "1"),
-    ONE_DAY("1d", "30"),
-    ONE_WEEK("1w", "90");
+    ONE_HOUR("1h", "1", Duration.ofMinutes(30), Duration.ofHours(1), "10"),
+    FOUR_HOURS("4h", "30", Duration.ofHours(4), Duration.ofHours(4), "40"),
+    ONE_DAY("1d", "30", Duration.ofHours(4), Duration.ofDays(1), "365"),
+    ONE_WEEK("1w", "365", Duration.ofDays(4), Duration.ofDays(7), "365");
 
     private final String value;
     private final String days;
+    private final Duration sourceInterval;
+    private final Duration interval;
+    private final String historyDays;
+
+    /**
+     * 종가 이력의 조회 기간에 들어가는 리샘플링한 봉 수 (업스트림 응답에 따라 한 봉 정도 더 있을 수 있다)
+     */
+    public int historyBars() {
+        return (int) (Duration.ofDays(Long.parseLong(historyDays)).toMillis() / interval.toMillis());
+    }
 
     public static Timeframe fromValue(String value) {
         for (Timeframe timeframe : values()) {
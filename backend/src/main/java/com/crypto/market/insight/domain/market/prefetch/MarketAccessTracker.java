@@ -0,0 +1,137 @@
+package com.crypto.market.insight.domain.market.prefetch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.Objects;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 요청이 접근한 캐시 키와 프리페치한 캐시 키를 추적
+ * <p>
+ * 프리페처는 최근 요청이 없는 키를 더 이상 갱신하지 않고, 프리페치한 키에 대한 요청이
+ * 캐시에서 응답되었는지({@code market.prefetch.requests{result=hit|miss}})로 효과를 측정합니다.
+ * <p>
+ * 두 기록 모두 {@code idle-timeout}이 지나면 만료되고 키 수도 제한되어, 프리페처가 꺼져 있거나
+ * 프리페치 대상에서 빠진 키가 있어도 메모리가 계속 늘지 않습니다.
+ */
+@Component
+public class MarketAccessTracker {
+
+    /**
+     * 기록별 최대 키 수
+     */
+    private static final int MAX_TRACKED_KEYS = 100_000;
+
+    private final CacheManager cacheManager;
+    /**
+     * idle-timeout 안에 사용자 요청이 있었던 키 (쓰기 후 만료)
+     */
+    private final Cache<TrackedKey, Boolean> recentAccess;
+    /**
+     * 프리페치한 키 (프리페처가 대상으로 확인할 때마다 연장되고, 대상에서 빠지면 만료)
+     */
+    private final Cache<TrackedKey, Boolean> prefetched;
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public MarketAccessTracker(CacheManager cacheManager, MeterRegistry meterRegistry,
+                               @Value("${app.market.prefetch.idle-timeout}") long idleTimeoutSeconds) {
+        this(cacheManager, meterRegistry, Duration.ofSeconds(idleTimeoutSeconds), Ticker.systemTicker());
+    }
+
+    public MarketAccessTracker(CacheManager cacheManager, MeterRegistry meterRegistry, Duration idleTimeout,
+                               Ticker ticker) {
+        this.cacheManager = cacheManager;
+        this.recentAccess = Caffeine.newBuilder()
+                .expireAfterWrite(idleTimeout)
+                .maximumSize(MAX_TRACKED_KEYS)
+                .ticker(ticker)
+                .build();
+        this.prefetched = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .maximumSize(MAX_TRACKED_KEYS)
+                .ticker(ticker)
+                .build();
+        this.hits = Counter.builder("market.prefetch.requests")
+                .description("프리페치한 키에 대한 요청 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("market.prefetch.requests")
+                .description("프리페치한 키에 대한 요청 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("market.prefetch.hit.ratio", this, MarketAccessTracker::hitRatio)
+                .description("프리페치한 키에 대한 요청의 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자 요청의 캐시 접근 기록. 캐시 조회 전에 호출해야 적중 여부를 판단할 수 있다.
+     */
+    public void recordAccess(String cacheName, Object key) {
+        TrackedKey trackedKey = new TrackedKey(cacheName, key);
+        recentAccess.put(trackedKey, Boolean.TRUE);
+        if (prefetched.getIfPresent(trackedKey) != null) {
+            (isCached(cacheName, key) ? hits : misses).increment();
+        }
+    }
+
+    public void recordPrefetch(String cacheName, Object key) {
+        prefetched.put(new TrackedKey(cacheName, key), Boolean.TRUE);
+    }
+
+    /**
+     * 프리페치 대상 여부. 처음 보는 키는 한 번 예열하고, 이후에는 idle-timeout 안에 요청이 있었던 키만 갱신한다.
+     * 계속 대상으로 확인되는 키는 프리페치 기록이 유지되어 다시 예열하지 않는다.
+     */
+    public boolean isWanted(String cacheName, Object key) {
+        TrackedKey trackedKey = new TrackedKey(cacheName, key);
+        if (prefetched.getIfPresent(trackedKey) == null) {
+            return true;
+        }
+        return recentAccess.getIfPresent(trackedKey) != null;
+    }
+
+    /**
+     * 캐시 적재를 유발하지 않고 항목 존재 여부를 확인한다.
+     */
+    public boolean isCached(String cacheName, Object key) {
+        if (Objects.requireNonNull(cacheManager.getCache(cacheName)) instanceof CaffeineCache caffeineCache) {
+            return caffeineCache.getNativeCache().asMap().containsKey(key);
+        }
+        return false;
+    }
+
+    /**
+     * 만료된 기록을 바로 정리한다 (Caffeine은 평소 읽기/쓰기 중에 조금씩 정리한다)
+     */
+    public void cleanUp() {
+        recentAccess.cleanUp();
+        prefetched.cleanUp();
+    }
+
+    /**
+     * 추적 중인 키 수 (사용자 요청 기록 + 프리페치 기록)
+     */
+    public long trackedKeys() {
+        return recentAccess.estimatedSize() + prefetched.estimatedSize();
+    }
+
+    public double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private record TrackedKey(String cacheName, Object key) {
+    }
+}
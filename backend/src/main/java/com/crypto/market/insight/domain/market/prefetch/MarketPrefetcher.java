@@ -0,0 +1,195 @@
+package com.crypto.market.insight.domain.market.prefetch;
+
+import com.crypto.market.insight.config.CacheConfig;
+import com.crypto.market.insight.domain.market.cache.CoinMarketsKey;
+import com.crypto.market.insight.domain.market.cache.OhlcKey;
+import com.crypto.market.insight.domain.market.client.CoinGeckoClient;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter.Priority;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter;
+import com.crypto.market.insight.domain.market.dto.CoinMarketData;
+import com.crypto.market.insight.domain.market.model.vo.Timeframe;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배포 직후나 TTL 만료 후 첫 사용자가 업스트림 지연을 겪지 않도록 캐시를 미리 채우는 프리페처
+ * <ul>
+ *     <li>{@code /coins/markets} 첫 K 페이지</li>
+ *     <li>시가총액 순위 상위 N개 코인의 모든 {@link Timeframe} OHLC</li>
+ * </ul>
+ * 실행마다 업스트림 호출 예산을 넘지 않으며, 사용자 요청보다 낮은 우선순위로 레이트 리미터 토큰을 사용합니다.
+ * 한 번 예열한 뒤 최근 요청이 없는 키는 갱신하지 않습니다 ({@link MarketAccessTracker}).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.market.prefetch.enabled", havingValue = "true")
+public class MarketPrefetcher {
+
+    private static final String VS_CURRENCY = "usd";
+
+    private final CoinGeckoClient coinGeckoClient;
+    private final CacheManager cacheManager;
+    private final MarketAccessTracker accessTracker;
+    private final MeterRegistry meterRegistry;
+    private final int coinPages;
+    private final int perPage;
+    private final int topCoins;
+    private final int budget;
+    private final Duration refreshMargin;
+
+    public MarketPrefetcher(
+            CoinGeckoClient coinGeckoClient,
+            CacheManager cacheManager,
+            MarketAccessTracker accessTracker,
+            MeterRegistry meterRegistry,
+            @Value("${app.market.prefetch.coin-pages}") int coinPages,
+            @Value("${app.market.prefetch.per-page}") int perPage,
+            @Value("${app.market.prefetch.top-coins}") int topCoins,
+            @Value("${app.market.prefetch.budget}") int budget,
+            @Value("${app.market.prefetch.refresh-margin}") long refreshMarginSeconds) {
+        this.coinGeckoClient = coinGeckoClient;
+        this.cacheManager = cacheManager;
+        this.accessTracker = accessTracker;
+        this.meterRegistry = meterRegistry;
+        this.coinPages = coinPages;
+        this.perPage = perPage;
+        this.topCoins = topCoins;
+        this.budget = budget;
+        this.refreshMargin = Duration.ofSeconds(refreshMarginSeconds);
+    }
+
+    @Scheduled(initialDelayString = "${app.market.prefetch.initial-delay}",
+            fixedDelayString = "${app.market.prefetch.interval}")
+    public void prefetch() {
+        int calls = CoinGeckoRateLimiter.withPriority(Priority.BACKGROUND, this::run);
+        log.debug("Prefetch finished: upstreamCalls={}, hitRatio={}", calls, accessTracker.hitRatio());
+    }
+
+    /**
+     * 프리페치 1회 실행
+     *
+     * @return 이번 실행의 업스트림 호출 수
+     */
+    public int run() {
+        Budget remaining = new Budget(budget);
+
+        List<CoinMarketData> coins = new ArrayList<>();
+        for (int page = 1; page <= coinPages; page++) {
+            int currentPage = page;
+            List<CoinMarketData> pageCoins = prefetch(CacheConfig.COIN_MARKETS,
+                    new CoinMarketsKey(VS_CURRENCY, null, perPage, page), remaining,
+                    () -> coinGeckoClient.fetchCoinsMarkets(VS_CURRENCY, null, perPage, currentPage));
+            if (pageCoins != null) {
+                coins.addAll(pageCoins);
+            }
+        }
+
+        List<String> days = Arrays.stream(Timeframe.values())
+                .map(Timeframe::getDays)
+                .distinct()
+                .toList();
+        coins.stream()
+                .filter(coin -> coin.marketCapRank() != null)
+                .sorted(Comparator.comparing(CoinMarketData::marketCapRank))
+                .limit(topCoins)
+                .forEach(coin -> days.forEach(d -> prefetch(CacheConfig.OHLC,
+                        new OhlcKey(coin.id(), VS_CURRENCY, d), remaining,
+                        () -> coinGeckoClient.fetchOhlc(coin.id(), VS_CURRENCY, d))));
+
+        accessTracker.cleanUp();
+        return remaining.used;
+    }
+
+    /**
+     * 캐시에 없거나 곧 만료/갱신될 키만 예산 안에서 업스트림에서 다시 채운다.
+     *
+     * @return 캐시의 현재 값 (갱신했다면 새 값, 없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T prefetch(String cacheName, Object key, Budget remaining, Supplier<T> fetcher) {
+        CaffeineCache cache = caffeineCache(cacheName);
+        T current = (T) cache.getNativeCache().asMap().get(key);
+
+        if (!accessTracker.isWanted(cacheName, key)) {
+            count(cacheName, "idle");
+            return current;
+        }
+        if (current != null && !isStale(cache, key)) {
+            count(cacheName, "fresh");
+            return current;
+        }
+        if (!remaining.tryAcquire()) {
+            count(cacheName, "over_budget");
+            return current;
+        }
+
+        try {
+            T value = fetcher.get();
+            cache.put(key, value);
+            accessTracker.recordPrefetch(cacheName, key);
+            count(cacheName, "fetched");
+            return value;
+        } catch (RuntimeException e) {
+            log.warn("Prefetch failed: cache={}, key={}, error={}", cacheName, key, e.getMessage());
+            count(cacheName, "failed");
+            return current;
+        }
+    }
+
+    /**
+     * 다음 실행 전에 soft TTL(refresh-ahead) 또는 만료 시간에 도달하는 항목인지 확인
+     */
+    private boolean isStale(CaffeineCache cache, Object key) {
+        Policy<Object, Object> policy = cache.getNativeCache().policy();
+        Optional<Duration> age = policy.expireAfterWrite().flatMap(expiration -> expiration.ageOf(key));
+        Optional<Duration> staleAfter = policy.refreshAfterWrite().map(Policy.FixedRefresh::getRefreshesAfter)
+                .or(() -> policy.expireAfterWrite().map(Policy.FixedExpiration::getExpiresAfter));
+        if (age.isEmpty() || staleAfter.isEmpty()) {
+            return false;
+        }
+        return age.get().plus(refreshMargin).compareTo(staleAfter.get()) >= 0;
+    }
+
+    private CaffeineCache caffeineCache(String cacheName) {
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(cacheName));
+        return (CaffeineCache) cache;
+    }
+
+    private void count(String cacheName, String result) {
+        meterRegistry.counter("market.prefetch.keys", "cache", cacheName, "result", result).increment();
+    }
+
+    private static final class Budget {
+
+        private final int limit;
+        private int used;
+
+        private Budget(int limit) {
+            this.limit = limit;
+        }
+
+        private boolean tryAcquire() {
+            if (used >= limit) {
+                return false;
+            }
+            used++;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.crypto.market.insight.domain.market.resample;
+
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import com.crypto.market.insight.domain.market.model.vo.Timeframe;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * OHLC 리샘플링
+ * <p>
+ * 짧은 간격의 기준 시계열을 N분/N시간/일/주 봉으로 묶습니다. 기준 시계열을 한 번만 순회하며
+ * primitive 배열에 직접 기록합니다. 버킷은 UTC 기준으로 정렬되고, 주 단위 간격은 월요일 00:00(UTC)에 맞춥니다.
+ * <p>
+ * CoinGecko {@code /ohlc}의 캔들 timestamp는 봉 마감 시각이므로 {@code timestamp - 기준 간격}(봉 시작 시각)으로
+ * 버킷을 정하고, 결과 봉의 timestamp도 같은 규칙으로 버킷 마감 시각을 씁니다. 예를 들어 00:00에 마감한 4시간봉은
+ * 전날 일봉에 들어갑니다. 기준 간격이 목표 간격의 약수가 아니면(4일봉 → 주봉) 기준 캔들은 시작 시각이 속한 버킷에
+ * 통째로 배정되므로 경계가 근사치입니다.
+ * <p>
+ * 첫 버킷이 버킷 시작 시각 이후부터 채워졌다면 일부 구간만 담긴 불완전한 봉이므로 버리고(버킷이 하나뿐이면 유지),
+ * 마지막 버킷은 진행 중인 봉으로 그대로 둡니다. 결과는 {@link OhlcSeries#derive}로 만들어 기준 시계열과 같은 버전을 갖습니다.
+ */
+public final class OhlcResampler {
+
+    private static final long WEEK_MILLIS = Duration.ofDays(7).toMillis();
+
+    /** 1970-01-01(목)에서 첫 월요일(1970-01-05)까지 */
+    private static final long MONDAY_OFFSET_MILLIS = Duration.ofDays(4).toMillis();
+
+    private OhlcResampler() {
+    }
+
+    /**
+     * 타임프레임의 기준 시계열({@link Timeframe#getDays()}로 받은 시계열)을 타임프레임 간격으로 묶는다.
+     */
+    public static OhlcSeries resample(OhlcSeries base, Timeframe timeframe) {
+        return resample(base, timeframe.getSourceInterval(), timeframe.getInterval());
+    }
+
+    /**
+     * @param base           timestamp(봉 마감 시각) 오름차순 기준 시계열
+     * @param sourceInterval 기준 시계열의 봉 간격
+     * @param interval       목표 봉 간격 (기준 간격과 같으면 기준 캔들이 그대로 한 봉씩 된다)
+     */
+    public static OhlcSeries resample(OhlcSeries base, Duration sourceInterval, Duration interval) {
+        long intervalMillis = interval.toMillis();
+        long offsetMillis = intervalMillis % WEEK_MILLIS == 0 ? MONDAY_OFFSET_MILLIS : 0L;
+        return resample(base, sourceInterval.toMillis(), intervalMillis, offsetMillis);
+    }
+
+    /**
+     * @param sourceIntervalMillis 기준 봉 간격 (ms, 0이면 timestamp를 봉 시작 시각으로 본다)
+     * @param intervalMillis       목표 봉 간격 (ms)
+     * @param offsetMillis         버킷 정렬 기준 (epoch + offset이 버킷 경계)
+     */
+    public static OhlcSeries resample(OhlcSeries base, long sourceIntervalMillis, long intervalMillis,
+                                      long offsetMillis) {
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("interval must be positive: " + intervalMillis);
+        }
+        if (sourceIntervalMillis < 0) {
+            throw new IllegalArgumentException("source interval must not be negative: " + sourceIntervalMillis);
+        }
+        int n = base.size();
+        if (n == 0) {
+            return base;
+        }
+        // 결과 timestamp는 버킷 시작 + closeShift (마감 시각 규칙이면 버킷 마감 시각)
+        long closeShift = sourceIntervalMillis > 0 ? intervalMillis : 0L;
+
+        long[] timestamps = new long[n];
+        double[] open = new double[n];
+        double[] high = new double[n];
+        double[] low = new double[n];
+        double[] close = new double[n];
+
+        int start = 0;
+        long firstStart = base.timestamp(0) - sourceIntervalMillis;
+        long firstBucket = bucketOf(firstStart, intervalMillis, offsetMillis);
+        if (firstBucket != firstStart) {
+            while (start < n
+                    && bucketOf(base.timestamp(start) - sourceIntervalMillis, intervalMillis, offsetMillis)
+                    == firstBucket) {
+                start++;
+            }
+            if (start == n) {
+                start = 0;
+            }
+        }
+
+        int count = 0;
+        long current = Long.MIN_VALUE;
+        boolean aligned = true;
+        for (int i = start; i < n; i++) {
+            long bucket = bucketOf(base.timestamp(i) - sourceIntervalMillis, intervalMillis, offsetMillis);
+            aligned &= bucket + closeShift == base.timestamp(i);
+            if (bucket != current) {
+                current = bucket;
+                timestamps[count] = bucket + closeShift;
+                open[count] = base.open(i);
+                high[count] = base.high(i);
+                low[count] = base.low(i);
+                close[count] = base.close(i);
+                count++;
+            } else {
+                int last = count - 1;
+                high[last] = Math.max(high[last], base.high(i));
+                low[last] = Math.min(low[last], base.low(i));
+                close[last] = base.close(i);
+            }
+        }
+
+        if (count == n && aligned) {
+            return base;
+        }
+        return base.derive(
+                Arrays.copyOf(timestamps, count),
+                Arrays.copyOf(open, count),
+                Arrays.copyOf(high, count),
+                Arrays.copyOf(low, count),
+                Arrays.copyOf(close, count));
+    }
+
+    private static long bucketOf(long timestamp, long intervalMillis, long offsetMillis) {
+        return Math.floorDiv(timestamp - offsetMillis, intervalMillis) * intervalMillis + offsetMillis;
+    }
+}
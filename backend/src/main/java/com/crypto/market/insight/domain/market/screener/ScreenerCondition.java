@@ -0,0 +1,175 @@
+package com.crypto.market.insight.domain.market.screener;
+
+import com.crypto.market.insight.domain.market.indicator.kernel.IndicatorKernels;
+import com.crypto.market.insight.domain.market.model.vo.IndicatorSpec;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스크리너 조건 하나 ({@code 피연산자 비교 피연산자})
+ * <p>
+ * 피연산자는 {@code close}(마지막 봉 종가), 숫자, 지표({@link IndicatorSpec} 표기에 선택적으로 {@code .출력선})이고,
+ * 지표는 {@code rsi:14}와 {@code rsi(14)} 표기를 모두 받습니다(예: {@code rsi(14) < 30},
+ * {@code close above sma:200}, {@code macd.histogram > 0}, {@code close < bb:20:2.lower}).
+ * 비교는 {@code <, <=, >, >=}와 {@code below}, {@code above}입니다.
+ *
+ * @param left       왼쪽 피연산자
+ * @param comparison 비교 연산
+ * @param right      오른쪽 피연산자
+ */
+public record ScreenerCondition(Operand left, Comparison comparison, Operand right) {
+
+    private static final Pattern CONDITION = Pattern.compile("^(.+?)\\s*(<=|>=|<|>|\\sabove\\s|\\sbelow\\s)\\s*(.+)$");
+    private static final Pattern LINE = Pattern.compile("^(.+)\\.([a-z]+)$");
+
+    /**
+     * @throws IllegalArgumentException 형식이 틀렸거나 지표/출력 선을 모르는 경우
+     */
+    public static ScreenerCondition parse(String value) {
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        Matcher matcher = CONDITION.matcher(normalized);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid condition: " + value);
+        }
+        Comparison comparison = Comparison.fromSymbol(matcher.group(2).trim());
+        return new ScreenerCondition(Operand.parse(matcher.group(1)), comparison, Operand.parse(matcher.group(3)));
+    }
+
+    /**
+     * 두 값을 비교한다. 어느 한쪽이라도 NaN(워밍업 구간)이면 false
+     */
+    public boolean test(double leftValue, double rightValue) {
+        return switch (comparison) {
+            case LT -> leftValue < rightValue;
+            case LE -> leftValue <= rightValue;
+            case GT -> leftValue > rightValue;
+            case GE -> leftValue >= rightValue;
+        };
+    }
+
+    /**
+     * 코인별 값 배열을 한 번에 비교한다 ({@link #test}와 같은 결과, NaN이면 false).
+     */
+    public void test(IndicatorKernels kernels, double[] leftValues, double[] rightValues, boolean[] out) {
+        switch (comparison) {
+            case LT -> kernels.lessThan(leftValues, rightValues, out);
+            case LE -> kernels.lessOrEqual(leftValues, rightValues, out);
+            case GT -> kernels.greaterThan(leftValues, rightValues, out);
+            case GE -> kernels.greaterOrEqual(leftValues, rightValues, out);
+        }
+    }
+
+    /**
+     * 조건이 읽는 지표 (피연산자 순서, 중복 포함)
+     */
+    public List<IndicatorSpec> specs() {
+        return List.of(left, right).stream()
+                .filter(Line.class::isInstance)
+                .map(operand -> ((Line) operand).spec())
+                .toList();
+    }
+
+    /**
+     * 정규화된 표기 (예: {@code rsi(14) < 30}, {@code close > sma(200)})
+     */
+    public String key() {
+        return left.key() + " " + comparison.getSymbol() + " " + right.key();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Comparison {
+        LT("<"), LE("<="), GT(">"), GE(">=");
+
+        private final String symbol;
+
+        private static Comparison fromSymbol(String symbol) {
+            return switch (symbol) {
+                case "<", "below" -> LT;
+                case "<=" -> LE;
+                case ">", "above" -> GT;
+                case ">=" -> GE;
+                default -> throw new IllegalArgumentException("Unknown comparison: " + symbol);
+            };
+        }
+    }
+
+    /**
+     * 조건의 피연산자
+     */
+    public sealed interface Operand permits Close, Constant, Line {
+
+        /**
+         * 정규화된 표기 (지표는 {@link IndicatorSpec#key()}, 첫 출력 선이 아니면 {@code .출력선}을 붙인다)
+         */
+        String key();
+
+        private static Operand parse(String value) {
+            String operand = value.trim();
+            if (operand.equals("close")) {
+                return new Close();
+            }
+            try {
+                double constant = Double.parseDouble(operand);
+                if (Double.isFinite(constant)) {
+                    return new Constant(constant);
+                }
+            } catch (NumberFormatException e) {
+                // 숫자가 아니면 지표
+            }
+
+            String line = null;
+            Matcher matcher = LINE.matcher(operand);
+            if (matcher.matches()) {
+                operand = matcher.group(1);
+                line = matcher.group(2);
+            }
+            // rsi(14), bb(20,2) 표기를 rsi:14, bb:20:2로 바꾼다
+            if (operand.endsWith(")") && operand.indexOf('(') > 0) {
+                operand = operand.substring(0, operand.length() - 1).replace('(', ':').replace(',', ':');
+            }
+            IndicatorSpec spec = IndicatorSpec.parse(operand.replace(" ", ""));
+            List<String> lines = spec.type().getLines();
+            int index = line == null ? 0 : lines.indexOf(line);
+            if (index < 0) {
+                throw new IllegalArgumentException(
+                        "Unknown line for " + spec.type().getValue() + ": " + line + ". Valid values: " + lines);
+            }
+            return new Line(spec, index);
+        }
+    }
+
+    /**
+     * 마지막 봉 종가
+     */
+    public record Close() implements Operand {
+
+        @Override
+        public String key() {
+            return "close";
+        }
+    }
+
+    public record Constant(double value) implements Operand {
+
+        @Override
+        public String key() {
+            return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+        }
+    }
+
+    /**
+     * 지표의 {@code line}번째 출력 선({@link IndicatorSpec#type()}의 선 순서)의 마지막 봉 값
+     */
+    public record Line(IndicatorSpec spec, int line) implements Operand {
+
+        @Override
+        public String key() {
+            return line == 0 ? spec.key() : spec.key() + "." + spec.type().getLines().get(line);
+        }
+    }
+}
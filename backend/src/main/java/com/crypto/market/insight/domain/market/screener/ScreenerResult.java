@@ -0,0 +1,51 @@
+package com.crypto.market.insight.domain.market.screener;
+
+import com.crypto.market.insight.domain.market.dto.CoinMarketData;
+import com.crypto.market.insight.domain.market.model.vo.Timeframe;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스크리너 실행 결과
+ *
+ * @param timeframe     조건을 평가한 타임프레임
+ * @param conditions    모두 만족해야 하는 조건
+ * @param marketVersion 대상 코인 목록을 가져온 마켓 스냅샷 버전 (스냅샷이 없어 업스트림 목록을 썼으면 null)
+ * @param screened      대상 코인 수
+ * @param evaluated     시계열이 있어 조건을 평가한 코인 수
+ * @param insufficient  평가했지만 봉이 부족해(워밍업 구간) 값이 없는 피연산자가 있던 코인 수
+ * @param missing       캐시에 없고 업스트림 예산을 넘었거나 조회에 실패해 평가하지 못한 코인 수
+ * @param fetched       이번 요청에서 업스트림으로 조회한 시계열 수
+ * @param stale         soft TTL이 지난 캐시 값으로 평가한 코인 수
+ * @param matches       조건을 모두 만족한 코인 (대상 목록 순서)
+ */
+public record ScreenerResult(
+        Timeframe timeframe,
+        List<ScreenerCondition> conditions,
+        Long marketVersion,
+        int screened,
+        int evaluated,
+        int insufficient,
+        int missing,
+        int fetched,
+        int stale,
+        List<Match> matches
+) {
+
+    /**
+     * 평가하지 못한 코인, 오래된 값으로 평가한 코인, 봉이 부족해 조건을 판단하지 못한 코인이 있으면 전체 결과의
+     * 일부로 본다.
+     */
+    public boolean partial() {
+        return missing > 0 || stale > 0 || insufficient > 0;
+    }
+
+    /**
+     * @param coin   코인
+     * @param close  마지막 봉 종가
+     * @param values 상수를 뺀 피연산자 표기({@link ScreenerCondition.Operand#key()})별 마지막 봉 값
+     * @param stale  soft TTL이 지난 캐시 값으로 평가했는지
+     */
+    public record Match(CoinMarketData coin, double close, Map<String, Double> values, boolean stale) {
+    }
+}
@@ -0,0 +1,451 @@
+package com.crypto.market.insight.domain.market.screener;
+
+import com.crypto.market.insight.common.cache.TieredCaffeineCache;
+import com.crypto.market.insight.common.exception.BusinessException;
+import com.crypto.market.insight.common.exception.ErrorCode;
+import com.crypto.market.insight.config.CacheConfig;
+import com.crypto.market.insight.config.MarketExecutorConfig;
+import com.crypto.market.insight.domain.market.cache.CloseHistoryKey;
+import com.crypto.market.insight.domain.market.client.CoinGeckoClient;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter.Priority;
+import com.crypto.market.insight.domain.market.dto.CoinMarketData;
+import com.crypto.market.insight.domain.market.indicator.IndicatorPlan;
+import com.crypto.market.insight.domain.market.indicator.kernel.IndicatorKernels;
+import com.crypto.market.insight.domain.market.model.vo.IndicatorSpec;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import com.crypto.market.insight.domain.market.model.vo.Timeframe;
+import com.crypto.market.insight.domain.market.resample.OhlcResampler;
+import com.crypto.market.insight.domain.market.screener.ScreenerCondition.Close;
+import com.crypto.market.insight.domain.market.screener.ScreenerCondition.Constant;
+import com.crypto.market.insight.domain.market.screener.ScreenerCondition.Line;
+import com.crypto.market.insight.domain.market.screener.ScreenerCondition.Operand;
+import com.crypto.market.insight.domain.market.screener.ScreenerResult.Match;
+import com.crypto.market.insight.domain.market.universe.MarketUniverse;
+import com.crypto.market.insight.domain.market.universe.MarketUniverseService;
+import com.github.benmanes.caffeine.cache.Policy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+/**
+ * 시가총액 상위 코인 전체에 지표 조건을 평가하는 스크리너
+ * <p>
+ * 대상 코인은 마켓 스냅샷({@link MarketUniverseService})의 순위순 상위 {@code max-coins}개이며(스냅샷이 아직 없으면
+ * 업스트림 목록), 시계열은 타임프레임의 종가 이력({@link CoinGeckoClient#getCloseHistory})이며 OHLC 캐시(L1, 없으면
+ * L2)에서 refresh-ahead나 L1 승격을 일으키지 않고 읽습니다. 캐시에 없는
+ * 코인은 요청당 {@code budget}개까지만 마켓 실행기에서 병렬로 업스트림에서 조회하고({@code fetch-timeout} 안에 끝나지
+ * 않으면 기다리지 않음), 나머지는 평가하지 않고 누락으로 집계합니다. soft TTL이 지난 값은 그대로 평가하되 결과에
+ * 표시합니다. 누락이나 오래된 값, 봉이 부족한 코인이 있으면 결과는 부분 결과입니다.
+ * <p>
+ * 종가 이력은 차트용 OHLC보다 길어 1d에서도 sma(200) 같은 지표를 평가할 수 있습니다. 그래도 이력의 봉 수
+ * ({@link Timeframe#historyBars()})보다 워밍업이 긴 지표는 어떤 코인에서도 값이 나오지 않으므로 요청을 거부합니다.
+ * <p>
+ * 조건이 읽는 지표는 하나의 {@link IndicatorPlan}으로 합쳐 코인마다 종가를 한 번만 훑고, 코인별 계산은 전용
+ * {@link ForkJoinPool}에서 구간을 나눠 병렬로 실행합니다. 피연산자 값은 코인별 배열로 모아 조건마다
+ * {@link IndicatorKernels} 비교 한 번으로 모든 코인을 평가합니다.
+ */
+@Slf4j
+@Service
+public class ScreenerService {
+
+    public static final int MAX_CONDITIONS = 10;
+
+    private static final String VS_CURRENCY = "usd";
+    private static final int PER_PAGE = 250;
+    private static final Pattern AND = Pattern.compile("\\s+and(?:\\s+|$)|&&", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * fork-join 작업을 더 나누지 않는 코인 수
+     */
+    private static final int LEAF_SIZE = 8;
+
+    private final CoinGeckoClient coinGeckoClient;
+    private final MarketUniverseService marketUniverseService;
+    private final CacheManager cacheManager;
+    private final Executor marketExecutor;
+    private final ForkJoinPool screenerPool;
+    private final IndicatorKernels indicatorKernels;
+    private final int maxCoins;
+    private final int budget;
+    private final long fetchTimeoutMillis;
+
+    public ScreenerService(
+            CoinGeckoClient coinGeckoClient,
+            MarketUniverseService marketUniverseService,
+            CacheManager cacheManager,
+            @Qualifier(MarketExecutorConfig.MARKET_EXECUTOR) Executor marketExecutor,
+            @Qualifier(MarketExecutorConfig.SCREENER_POOL) ForkJoinPool screenerPool,
+            IndicatorKernels indicatorKernels,
+            @Value("${app.market.screener.max-coins}") int maxCoins,
+            @Value("${app.market.screener.budget}") int budget,
+            @Value("${app.market.screener.fetch-timeout}") long fetchTimeoutMillis) {
+        this.coinGeckoClient = coinGeckoClient;
+        this.marketUniverseService = marketUniverseService;
+        this.cacheManager = cacheManager;
+        this.marketExecutor = marketExecutor;
+        this.screenerPool = screenerPool;
+        this.indicatorKernels = indicatorKernels;
+        this.maxCoins = maxCoins;
+        this.budget = budget;
+        this.fetchTimeoutMillis = fetchTimeoutMillis;
+    }
+
+    /**
+     * {@code and}로 이은 조건을 파싱한다. 같은 조건은 하나로 합치고 요청 순서를 유지한다.
+     */
+    public List<ScreenerCondition> parseConditions(String conditions) {
+        Map<String, ScreenerCondition> parsed = new LinkedHashMap<>();
+        for (String condition : AND.split(conditions == null ? "" : conditions.trim())) {
+            if (condition.isBlank()) {
+                continue;
+            }
+            try {
+                ScreenerCondition screenerCondition = ScreenerCondition.parse(condition);
+                parsed.putIfAbsent(screenerCondition.key(), screenerCondition);
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException(ErrorCode.INVALID_PARAMETER, e.getMessage());
+            }
+        }
+        if (parsed.isEmpty() || parsed.size() > MAX_CONDITIONS) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER,
+                    "Conditions must contain between 1 and " + MAX_CONDITIONS + " entries");
+        }
+        return List.copyOf(parsed.values());
+    }
+
+    /**
+     * @throws BusinessException 조건의 지표 워밍업이 타임프레임의 봉 수보다 긴 경우
+     */
+    public ScreenerResult screen(Timeframe timeframe, List<ScreenerCondition> conditions) {
+        requireWarmup(timeframe, conditions);
+        MarketUniverse universe = marketUniverseService.current();
+        List<CoinMarketData> coins = universe != null
+                ? universe.coins().subList(0, Math.min(universe.size(), maxCoins))
+                : fetchCoins();
+
+        int size = coins.size();
+        OhlcSeries[] series = new OhlcSeries[size];
+        boolean[] stale = new boolean[size];
+        CaffeineCache cache = (CaffeineCache) Objects.requireNonNull(cacheManager.getCache(CacheConfig.OHLC));
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            CloseHistoryKey key = new CloseHistoryKey(coins.get(i).id(), VS_CURRENCY, timeframe.getHistoryDays());
+            Cached cached = peek(cache, key);
+            series[i] = cached.series();
+            stale[i] = cached.stale();
+            if (series[i] == null) {
+                missing.add(i);
+            }
+        }
+        int fetched = fetchMissing(coins, timeframe, missing, series);
+
+        Screen screen = new Screen(timeframe, conditions);
+        double[][] values = new double[screen.operands.size()][size];
+        double[] closes = new double[size];
+        screenerPool.invoke(new EvaluateTask(screen, series, values, closes, 0, size));
+        boolean[] matched = screen.match(indicatorKernels, series, values);
+
+        int evaluated = 0;
+        int insufficient = 0;
+        int staleCount = 0;
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (series[i] == null) {
+                continue;
+            }
+            evaluated++;
+            insufficient += screen.insufficient(values, i) ? 1 : 0;
+            staleCount += stale[i] ? 1 : 0;
+            if (matched[i]) {
+                matches.add(screen.toMatch(coins.get(i), closes[i], values, i, stale[i]));
+            }
+        }
+        ScreenerResult result = new ScreenerResult(timeframe, conditions,
+                universe != null ? universe.version() : null, size, evaluated, insufficient, size - evaluated,
+                fetched, staleCount, List.copyOf(matches));
+        log.debug("Screener finished: timeframe={}, screened={}, matched={}, missing={}, fetched={}, stale={}",
+                timeframe.getValue(), size, matches.size(), result.missing(), fetched, staleCount);
+        return result;
+    }
+
+    /**
+     * 조건이 읽는 지표 중 워밍업이 타임프레임 종가 이력의 봉 수보다 긴 지표가 있으면 거부한다.
+     */
+    private static void requireWarmup(Timeframe timeframe, List<ScreenerCondition> conditions) {
+        int bars = timeframe.historyBars();
+        for (ScreenerCondition condition : conditions) {
+            for (IndicatorSpec spec : condition.specs()) {
+                if (spec.warmup() > bars) {
+                    throw new BusinessException(ErrorCode.INVALID_PARAMETER,
+                            spec.key() + " needs " + spec.warmup() + " bars but timeframe " + timeframe.getValue()
+                                    + " has " + bars);
+                }
+            }
+        }
+    }
+
+    /**
+     * 마켓 스냅샷이 아직 없을 때 업스트림(캐시된) 시가총액 순위 목록에서 대상 코인을 가져온다.
+     */
+    private List<CoinMarketData> fetchCoins() {
+        List<CoinMarketData> coins = new ArrayList<>(maxCoins);
+        for (int page = 1; coins.size() < maxCoins; page++) {
+            List<CoinMarketData> pageCoins = coinGeckoClient.getCoinsMarkets(VS_CURRENCY, null, PER_PAGE, page);
+            coins.addAll(pageCoins.subList(0, Math.min(pageCoins.size(), maxCoins - coins.size())));
+            if (pageCoins.size() < PER_PAGE) {
+                break;
+            }
+        }
+        return coins;
+    }
+
+    /**
+     * 캐시에 있는 시계열과 soft TTL(refresh-ahead가 아니면 만료 시간)에 도달했는지 여부.
+     * L1은 refresh-ahead를 일으키지 않도록 조용히 읽고, L1에 없으면 L2 항목을 승격하지 않고 읽는다.
+     * 승격하면 L1 기록 시각이 새로 정해져 오래된 값이 최신으로 보이므로, L2 값은 L2에 기록된 시각으로 판단한다.
+     */
+    private static Cached peek(CaffeineCache cache, CloseHistoryKey key) {
+        Policy<Object, Object> policy = cache.getNativeCache().policy();
+        Object value = policy.getIfPresentQuietly(key);
+        Optional<Duration> age = policy.expireAfterWrite().flatMap(expiration -> expiration.ageOf(key));
+        if (value == null && cache instanceof TieredCaffeineCache tiered) {
+            age = tiered.getL2().ageOf(key);
+            value = tiered.getL2().peek(key);
+        }
+        Optional<Duration> staleAfter = policy.refreshAfterWrite().map(Policy.FixedRefresh::getRefreshesAfter)
+                .or(() -> policy.expireAfterWrite().map(Policy.FixedExpiration::getExpiresAfter));
+        boolean stale = age.isPresent() && staleAfter.isPresent() && age.get().compareTo(staleAfter.get()) >= 0;
+        return new Cached(value instanceof OhlcSeries ohlc ? ohlc : null, stale);
+    }
+
+    /**
+     * 캐시에 없는 시계열을 순위순으로 예산만큼 마켓 실행기에서 병렬로 조회한다. 실패했거나 {@code fetch-timeout}
+     * 안에 끝나지 않은 코인은 누락으로 남긴다 (늦게 끝난 조회는 캐시에 남아 다음 요청에서 쓰인다).
+     * 한 요청이 수십 번 호출하는 일괄 조회라 차트 요청의 토큰을 빼앗지 않도록 백그라운드 우선순위로 조회한다.
+     *
+     * @return 조회를 시도한 시계열 수
+     */
+    private int fetchMissing(List<CoinMarketData> coins, Timeframe timeframe, List<Integer> missing,
+                             OhlcSeries[] series) {
+        List<Integer> targets = missing.subList(0, Math.min(missing.size(), Math.max(0, budget)));
+        List<CompletableFuture<OhlcSeries>> futures = targets.stream()
+                .map(index -> CompletableFuture.supplyAsync(() -> {
+                    String coinId = coins.get(index).id();
+                    try {
+                        return CoinGeckoRateLimiter.withPriority(Priority.BACKGROUND, () ->
+                                coinGeckoClient.getCloseHistory(coinId, VS_CURRENCY, timeframe.getHistoryDays()));
+                    } catch (RuntimeException e) {
+                        log.debug("Screener fetch failed: coinId={}, error={}", coinId, e.getMessage());
+                        return null;
+                    }
+                }, marketExecutor))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .orTimeout(fetchTimeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> null)
+                .join();
+        int timedOut = 0;
+        for (int t = 0; t < targets.size(); t++) {
+            CompletableFuture<OhlcSeries> future = futures.get(t);
+            timedOut += future.isDone() ? 0 : 1;
+            series[targets.get(t)] = future.getNow(null);
+        }
+        if (timedOut > 0) {
+            log.debug("Screener fetch timed out: timeframe={}, pending={}", timeframe.getValue(), timedOut);
+        }
+        return targets.size();
+    }
+
+    /**
+     * 캐시에서 읽은 시계열 (없으면 null)
+     *
+     * @param stale soft TTL이 지난 값인지
+     */
+    private record Cached(OhlcSeries series, boolean stale) {
+    }
+
+    /**
+     * 요청 하나의 조건과 합친 지표 계획. 평가 작업들이 공유하는 불변 객체
+     */
+    private static final class Screen {
+
+        private final Timeframe timeframe;
+        private final List<ScreenerCondition> conditions;
+        private final List<Operand> operands = new ArrayList<>();
+        private final IndicatorPlan plan;
+
+        /**
+         * {@code operands}와 같은 순서의 계획 열 (지표가 아니면 -1)
+         */
+        private final int[] columns;
+
+        /**
+         * 조건별 왼쪽/오른쪽 피연산자의 {@code operands} 인덱스
+         */
+        private final int[] lefts;
+        private final int[] rights;
+
+        private Screen(Timeframe timeframe, List<ScreenerCondition> conditions) {
+            this.timeframe = timeframe;
+            this.conditions = conditions;
+            this.lefts = new int[conditions.size()];
+            this.rights = new int[conditions.size()];
+            Map<String, Integer> specIndexes = new LinkedHashMap<>();
+            List<IndicatorSpec> specs = new ArrayList<>();
+            for (int c = 0; c < conditions.size(); c++) {
+                ScreenerCondition condition = conditions.get(c);
+                lefts[c] = operand(condition.left());
+                rights[c] = operand(condition.right());
+                for (IndicatorSpec spec : condition.specs()) {
+                    if (specIndexes.putIfAbsent(spec.key(), specs.size()) == null) {
+                        specs.add(spec);
+                    }
+                }
+            }
+            this.plan = IndicatorPlan.of(specs);
+            this.columns = new int[operands.size()];
+            for (int o = 0; o < operands.size(); o++) {
+                columns[o] = operands.get(o) instanceof Line line
+                        ? plan.column(specIndexes.get(line.spec().key()), line.line())
+                        : -1;
+            }
+        }
+
+        private int operand(Operand operand) {
+            int index = operands.indexOf(operand);
+            if (index < 0) {
+                operands.add(operand);
+                index = operands.size() - 1;
+            }
+            return index;
+        }
+
+        /**
+         * 코인 하나의 시계열로 지표를 계산해 피연산자 값({@code values[피연산자][coin]})과 마지막 봉 종가를
+         * 기록한다. 봉이 없으면 모두 NaN이다. 종가 이력의 점은 그 시각의 가격이므로 봉 시작 시각 기준으로 묶는다.
+         */
+        private void evaluate(OhlcSeries base, int coin, double[][] values, double[] closes) {
+            OhlcSeries series = OhlcResampler.resample(base, Duration.ZERO, timeframe.getInterval());
+            int n = series.size();
+            if (n == 0) {
+                closes[coin] = Double.NaN;
+                for (double[] operandValues : values) {
+                    operandValues[coin] = Double.NaN;
+                }
+                return;
+            }
+            double[] seriesCloses = series.closes();
+            double[] block = plan.newBlock(n);
+            plan.execute(seriesCloses, block);
+
+            double close = seriesCloses[n - 1];
+            closes[coin] = close;
+            for (int o = 0; o < values.length; o++) {
+                values[o][coin] = switch (operands.get(o)) {
+                    case Close ignored -> close;
+                    case Constant constant -> constant.value();
+                    case Line ignored -> block[columns[o] * n + n - 1];
+                };
+            }
+        }
+
+        /**
+         * 조건마다 모든 코인의 피연산자 값을 커널로 한 번에 비교해, 시계열이 있고 조건을 모두 만족한 코인을 표시한다.
+         */
+        private boolean[] match(IndicatorKernels kernels, OhlcSeries[] series, double[][] values) {
+            int size = series.length;
+            boolean[] matched = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                matched[i] = series[i] != null;
+            }
+            boolean[] hits = new boolean[size];
+            for (int c = 0; c < conditions.size(); c++) {
+                conditions.get(c).test(kernels, values[lefts[c]], values[rights[c]], hits);
+                for (int i = 0; i < size; i++) {
+                    matched[i] &= hits[i];
+                }
+            }
+            return matched;
+        }
+
+        /**
+         * 값이 없는(NaN) 피연산자가 있는지 (봉이 부족한 워밍업 구간)
+         */
+        private boolean insufficient(double[][] values, int coin) {
+            for (double[] operandValues : values) {
+                if (Double.isNaN(operandValues[coin])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 응답 항목. 상수를 뺀 피연산자 값만 담는다
+         */
+        private Match toMatch(CoinMarketData coin, double close, double[][] values, int index, boolean stale) {
+            Map<String, Double> matchValues = new LinkedHashMap<>();
+            for (int o = 0; o < values.length; o++) {
+                if (!(operands.get(o) instanceof Constant)) {
+                    matchValues.put(operands.get(o).key(), values[o][index]);
+                }
+            }
+            return new Match(coin, close, matchValues, stale);
+        }
+    }
+
+    /**
+     * {@code [from, to)} 구간 코인의 피연산자 값을 계산한다. 시계열이 없는 코인은 건너뛴다.
+     */
+    private static final class EvaluateTask extends RecursiveAction {
+
+        private final Screen screen;
+        private final OhlcSeries[] series;
+        private final double[][] values;
+        private final double[] closes;
+        private final int from;
+        private final int to;
+
+        private EvaluateTask(Screen screen, OhlcSeries[] series, double[][] values, double[] closes,
+                             int from, int to) {
+            this.screen = screen;
+            this.series = series;
+            this.values = values;
+            this.closes = closes;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                for (int i = from; i < to; i++) {
+                    if (series[i] != null) {
+                        screen.evaluate(series[i], i, values, closes);
+                    }
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new EvaluateTask(screen, series, values, closes, from, mid),
+                    new EvaluateTask(screen, series, values, closes, mid, to));
+        }
+    }
+}
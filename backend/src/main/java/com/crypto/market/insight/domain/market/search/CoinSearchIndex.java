@@ -0,0 +1,187 @@
+package com.crypto.market.insight.domain.market.search;
+
+import com.crypto.market.insight.domain.market.dto.CoinListEntry;
+import com.crypto.market.insight.domain.market.dto.CoinMarketData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 전체 코인(ID/심볼/이름)에 대한 불변 검색 인덱스
+ * <p>
+ * 코인은 시가총액 순위순으로 저장하고(순위 없는 코인은 ID순으로 뒤에), 검색 결과는 일치 종류별로
+ * 완전 일치 → 접두사 일치 → 부분 문자열 일치 순이며 같은 종류 안에서는 순위순입니다.
+ * 완전/접두사 일치는 정렬된 검색어(term) 배열의 이진 탐색으로 찾고, 부분 문자열 일치는 순위순으로 훑다가
+ * 요청한 페이지를 채우면 멈춥니다.
+ */
+public final class CoinSearchIndex {
+
+    private static final Comparator<CoinMarketData> BY_RANK =
+            Comparator.comparing(CoinMarketData::marketCapRank);
+
+    private final CoinMarketData[] coins;
+    private final String[] ids;
+    private final String[] symbols;
+    private final String[] names;
+    private final String[] terms;
+    private final int[] termCoins;
+
+    private CoinSearchIndex(CoinMarketData[] coins) {
+        this.coins = coins;
+        int n = coins.length;
+        this.ids = new String[n];
+        this.symbols = new String[n];
+        this.names = new String[n];
+
+        List<Term> termList = new ArrayList<>(n * 3);
+        for (int i = 0; i < n; i++) {
+            ids[i] = normalize(coins[i].id());
+            symbols[i] = normalize(coins[i].symbol());
+            names[i] = normalize(coins[i].name());
+            addTerm(termList, ids[i], i);
+            if (!symbols[i].equals(ids[i])) {
+                addTerm(termList, symbols[i], i);
+            }
+            if (!names[i].equals(ids[i]) && !names[i].equals(symbols[i])) {
+                addTerm(termList, names[i], i);
+            }
+        }
+        termList.sort(Comparator.comparing(Term::text).thenComparingInt(Term::coin));
+        this.terms = new String[termList.size()];
+        this.termCoins = new int[termList.size()];
+        for (int t = 0; t < terms.length; t++) {
+            terms[t] = termList.get(t).text();
+            termCoins[t] = termList.get(t).coin();
+        }
+    }
+
+    /**
+     * @param universe 전체 코인 목록 ({@code /coins/list})
+     * @param ranked   시세와 순위가 있는 코인 ({@code /coins/markets}). 같은 ID면 이 값을 검색 결과로 쓴다.
+     */
+    public static CoinSearchIndex build(List<CoinListEntry> universe, List<CoinMarketData> ranked) {
+        Map<String, CoinMarketData> byId = new LinkedHashMap<>();
+        ranked.stream()
+                .filter(coin -> coin.id() != null && coin.marketCapRank() != null)
+                .sorted(BY_RANK)
+                .forEach(coin -> byId.putIfAbsent(coin.id(), coin));
+
+        Map<String, CoinMarketData> unranked = new HashMap<>();
+        for (CoinListEntry entry : universe) {
+            if (entry.id() != null && !byId.containsKey(entry.id())) {
+                unranked.putIfAbsent(entry.id(), new CoinMarketData(entry.id(), entry.symbol(), entry.name(),
+                        null, null, null, null, null, null, null, null, null, null, null, null));
+            }
+        }
+
+        List<CoinMarketData> coins = new ArrayList<>(byId.size() + unranked.size());
+        coins.addAll(byId.values());
+        unranked.values().stream()
+                .sorted(Comparator.comparing(CoinMarketData::id))
+                .forEach(coins::add);
+        return new CoinSearchIndex(coins.toArray(CoinMarketData[]::new));
+    }
+
+    public int size() {
+        return coins.length;
+    }
+
+    /**
+     * @param keyword 검색어 (대소문자 무시, 앞뒤 공백 무시)
+     * @param offset  건너뛸 결과 수
+     * @param limit   최대 결과 수
+     */
+    public List<CoinMarketData> search(String keyword, long offset, int limit) {
+        String query = normalize(keyword);
+        if (query.isEmpty() || limit <= 0 || offset >= coins.length) {
+            return List.of();
+        }
+        int wanted = (int) Math.min(coins.length, offset + limit);
+
+        BitSet matched = new BitSet(coins.length);
+        int[] exact = new int[8];
+        int exactCount = 0;
+        int[] prefix = new int[8];
+        int prefixCount = 0;
+        for (int t = lowerBound(query); t < terms.length && terms[t].startsWith(query); t++) {
+            if (terms[t].length() == query.length()) {
+                exact = append(exact, exactCount++, termCoins[t]);
+            } else {
+                prefix = append(prefix, prefixCount++, termCoins[t]);
+            }
+        }
+
+        int[] result = new int[wanted];
+        int count = collect(exact, exactCount, matched, result, 0);
+        count = collect(prefix, prefixCount, matched, result, count);
+        for (int i = 0; i < coins.length && count < wanted; i++) {
+            if (!matched.get(i)
+                    && (symbols[i].contains(query) || names[i].contains(query) || ids[i].contains(query))) {
+                result[count++] = i;
+            }
+        }
+
+        if (offset >= count) {
+            return List.of();
+        }
+        List<CoinMarketData> page = new ArrayList<>(count - (int) offset);
+        for (int i = (int) offset; i < count; i++) {
+            page.add(coins[result[i]]);
+        }
+        return page;
+    }
+
+    /**
+     * 순위순으로 정렬해 중복 없이 결과 뒤에 붙인다.
+     */
+    private static int collect(int[] candidates, int size, BitSet matched, int[] result, int count) {
+        Arrays.sort(candidates, 0, size);
+        for (int i = 0; i < size && count < result.length; i++) {
+            int coin = candidates[i];
+            if (!matched.get(coin)) {
+                matched.set(coin);
+                result[count++] = coin;
+            }
+        }
+        return count;
+    }
+
+    private static void addTerm(List<Term> terms, String text, int coin) {
+        if (!text.isEmpty()) {
+            terms.add(new Term(text, coin));
+        }
+    }
+
+    private static int[] append(int[] array, int size, int value) {
+        int[] target = size == array.length ? Arrays.copyOf(array, size * 2) : array;
+        target[size] = value;
+        return target;
+    }
+
+    private int lowerBound(String query) {
+        int low = 0;
+        int high = terms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (terms[mid].compareTo(query) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(String value) {
+        return value != null ? value.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    private record Term(String text, int coin) {
+    }
+}
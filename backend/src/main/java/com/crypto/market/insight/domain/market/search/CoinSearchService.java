@@ -0,0 +1,134 @@
+package com.crypto.market.insight.domain.market.search;
+
+import com.crypto.market.insight.domain.market.client.CoinGeckoClient;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter.Priority;
+import com.crypto.market.insight.domain.market.dto.CoinListEntry;
+import com.crypto.market.insight.domain.market.dto.CoinMarketData;
+import com.crypto.market.insight.domain.market.universe.MarketUniverse;
+import com.crypto.market.insight.domain.market.universe.MarketUniverseService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전체 코인 검색 인덱스를 백그라운드에서 다시 만들어 교체
+ * <p>
+ * 전체 목록({@code /coins/list})은 주기적으로 1회 호출해 보관하고, 순위와 시세는 {@link MarketUniverseService}의
+ * 스냅샷을 사용해 스냅샷이 교체될 때마다 인덱스를 다시 만듭니다. 검색 요청 자체는 업스트림을 호출하지 않습니다.
+ * 갱신이 실패하면 이전 인덱스를 그대로 사용합니다. 첫 인덱스가 만들어지기 전에는 {@link #currentIndex()}가
+ * null입니다.
+ * <p>
+ * 스냅샷 버전마다 만든 인덱스를 {@link MarketUniverseService}와 같은 수({@code retained-versions})만큼 보관해,
+ * 버전을 고정한 요청은 {@link #index(long)}로 그 버전의 순위/시세로 검색할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class CoinSearchService {
+
+    private final CoinGeckoClient coinGeckoClient;
+    private final MarketUniverseService marketUniverseService;
+    private final boolean enabled;
+
+    private final int retainedVersions;
+
+    private volatile List<CoinListEntry> universe;
+
+    /**
+     * 최신 인덱스가 맨 앞인 불변 목록
+     */
+    private volatile List<VersionedIndex> indices = List.of();
+
+    public CoinSearchService(
+            CoinGeckoClient coinGeckoClient,
+            MarketUniverseService marketUniverseService,
+            MeterRegistry meterRegistry,
+            @Value("${app.market.search.enabled}") boolean enabled,
+            @Value("${app.market.universe.retained-versions}") int retainedVersions) {
+        this.coinGeckoClient = coinGeckoClient;
+        this.marketUniverseService = marketUniverseService;
+        this.enabled = enabled;
+        this.retainedVersions = Math.max(1, retainedVersions);
+        marketUniverseService.addListener(this::rebuild);
+        Gauge.builder("market.search.index.size", this, service -> {
+                    CoinSearchIndex current = service.currentIndex();
+                    return current != null ? current.size() : 0;
+                })
+                .description("검색 인덱스의 코인 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${app.market.search.initial-delay}",
+            fixedDelayString = "${app.market.search.interval}")
+    public void scheduledRefresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            CoinGeckoRateLimiter.withPriority(Priority.BACKGROUND, this::refresh);
+        } catch (RuntimeException e) {
+            log.warn("Coin search index refresh failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 업스트림에서 전체 목록을 받아 현재 마켓 스냅샷의 순위/시세와 함께 인덱스를 다시 만든다.
+     *
+     * @return 새 인덱스
+     */
+    public CoinSearchIndex refresh() {
+        universe = coinGeckoClient.fetchCoinsList();
+        return rebuild(marketUniverseService.current());
+    }
+
+    /**
+     * 보관한 전체 목록과 주어진 스냅샷으로 인덱스를 다시 만든다. 전체 목록이 아직 없으면 스냅샷만 사용한다.
+     */
+    private synchronized CoinSearchIndex rebuild(MarketUniverse marketUniverse) {
+        List<CoinListEntry> entries = universe != null ? universe : List.of();
+        List<CoinMarketData> ranked = marketUniverse != null ? marketUniverse.coins() : List.of();
+        CoinSearchIndex built = CoinSearchIndex.build(entries, ranked);
+        long marketVersion = marketUniverse != null ? marketUniverse.version() : 0L;
+
+        // 같은 스냅샷으로 다시 만들었으면(전체 목록 갱신) 그 버전의 인덱스를 교체한다
+        List<VersionedIndex> next = new ArrayList<>(retainedVersions);
+        next.add(new VersionedIndex(marketVersion, built));
+        for (VersionedIndex previous : indices) {
+            if (next.size() < retainedVersions && previous.marketVersion() != marketVersion) {
+                next.add(previous);
+            }
+        }
+        indices = List.copyOf(next);
+        log.debug("Coin search index rebuilt: coins={}, ranked={}, marketVersion={}",
+                built.size(), ranked.size(), marketVersion);
+        return built;
+    }
+
+    /**
+     * 현재 인덱스 (아직 만들어지지 않았으면 null). 교체될 때마다 새 인스턴스이므로 응답 캐시 버전으로 쓸 수 있다.
+     */
+    public CoinSearchIndex currentIndex() {
+        List<VersionedIndex> current = indices;
+        return current.isEmpty() ? null : current.getFirst().index();
+    }
+
+    /**
+     * 보관 중인 해당 마켓 스냅샷 버전으로 만든 인덱스 (이미 밀려났거나 없는 버전이면 null)
+     */
+    public CoinSearchIndex index(long marketVersion) {
+        for (VersionedIndex versioned : indices) {
+            if (versioned.marketVersion() == marketVersion) {
+                return versioned.index();
+            }
+        }
+        return null;
+    }
+
+    private record VersionedIndex(long marketVersion, CoinSearchIndex index) {
+    }
+}
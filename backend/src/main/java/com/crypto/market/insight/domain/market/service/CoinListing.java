@@ -0,0 +1,21 @@
+package com.crypto.market.insight.domain.market.service;
+
+import com.crypto.market.insight.domain.market.dto.MarketDto.CoinListResponse;
+import com.crypto.market.insight.domain.market.universe.MarketUniverse;
+import java.util.function.Supplier;
+
+/**
+ * 코인 목록 요청을 응답할 방법
+ *
+ * @param cacheKey 직렬화된 응답 캐시의 정규화한 요청 키
+ * @param source   응답을 만드는 원본 데이터 (검색 인덱스, 마켓 스냅샷 또는 업스트림 목록). 응답 캐시의 버전으로 쓴다.
+ * @param universe 목록을 정렬한 마켓 스냅샷 (X-Market-Version 헤더로 알린다, 검색이거나 업스트림 목록이면 null)
+ * @param body     응답 본문을 만드는 함수 (응답 캐시 미스일 때만 호출)
+ */
+public record CoinListing(
+        String cacheKey,
+        Object source,
+        MarketUniverse universe,
+        Supplier<CoinListResponse> body
+) {
+}
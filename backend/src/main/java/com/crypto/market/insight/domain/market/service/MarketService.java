@@ -2,14 +2,34 @@ package com.crypto.market.insight.domain.market.service;
 
 import com.crypto.market.insight.common.exception.BusinessException;
 import com.crypto.market.insight.common.exception.ErrorCode;
+import com.crypto.market.insight.config.CacheConfig;
+import com.crypto.market.insight.domain.market.cache.CoinMarketsKey;
+import com.crypto.market.insight.domain.market.cache.OhlcKey;
+import com.crypto.market.insight.domain.market.client.CoinDetailBatchLoader;
 import com.crypto.market.insight.domain.market.client.CoinGeckoClient;
 import com.crypto.market.insight.domain.market.dto.CoinMarketData;
-import com.crypto.market.insight.domain.market.dto.OhlcData;
+import com.crypto.market.insight.domain.market.dto.MarketDto.CoinListResponse;
+import com.crypto.market.insight.domain.market.dto.MarketDto.CoinSummary;
+import com.crypto.market.insight.domain.market.indicator.IndicatorService;
+import com.crypto.market.insight.domain.market.indicator.IndicatorValues;
+import com.crypto.market.insight.domain.market.model.vo.CoinSort;
+import com.crypto.market.insight.domain.market.model.vo.IndicatorSpec;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
 import com.crypto.market.insight.domain.market.model.vo.Timeframe;
+import com.crypto.market.insight.domain.market.prefetch.MarketAccessTracker;
+import com.crypto.market.insight.domain.market.resample.OhlcResampler;
+import com.crypto.market.insight.domain.market.search.CoinSearchIndex;
+import com.crypto.market.insight.domain.market.search.CoinSearchService;
+import com.crypto.market.insight.domain.market.universe.MarketUniverse;
+import com.crypto.market.insight.domain.market.universe.MarketUniverseService;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -17,29 +37,148 @@ import org.springframework.stereotype.Service;
 public class MarketService {
 
     private static final String DEFAULT_VS_CURRENCY = "usd";
+    private static final int MAX_INDICATORS = 10;
 
     private final CoinGeckoClient coinGeckoClient;
+    private final CoinDetailBatchLoader coinDetailBatchLoader;
+    private final MarketAccessTracker marketAccessTracker;
+    private final CoinSearchService coinSearchService;
+    private final MarketUniverseService marketUniverseService;
+    private final IndicatorService indicatorService;
 
-    public List<CoinMarketData> getCoins(int page, int size, String keyword) {
-        List<CoinMarketData> coins = coinGeckoClient.getCoinsMarkets(DEFAULT_VS_CURRENCY, null, size, page);
+    /**
+     * 코인 목록 요청을 응답할 방법을 정한다.
+     * <p>
+     * 검색어가 있으면 전체 코인 검색 인덱스에서 찾고(업스트림 호출 없음), 검색도 고정한 스냅샷 버전의 순위/시세로
+     * 응답한다. 검색어가 없으면 마켓 스냅샷에서 정렬하되, 시가총액순은 스냅샷 밖의 깊은 페이지만 업스트림 목록으로
+     * 응답한다. 업스트림 목록은 시가총액 내림차순뿐이므로 검색이 아니면 다른 정렬은 거절하고, 검색 인덱스가 아직
+     * 없으면 업스트림 페이지를 검색어로 필터링한다.
+     *
+     * @param keyword       검색어 (앞뒤 공백을 빼고 소문자로 정규화, 비어 있으면 검색하지 않음)
+     * @param marketVersion 고정할 마켓 스냅샷 버전 (없으면 null)
+     * @throws BusinessException 정렬 기준/방향이 유효하지 않거나 업스트림 목록으로 응답할 수 없는 정렬인 경우
+     */
+    public CoinListing getCoins(int page, int size, String keyword, String sort, String order, Long marketVersion) {
+        CoinSort coinSort = parseSort(sort);
+        Direction direction = parseOrder(order);
+        String query = keyword != null ? keyword.trim().toLowerCase(Locale.ROOT) : "";
+        boolean hasKeyword = !query.isEmpty();
 
-        if (keyword == null || keyword.isBlank()) {
-            return coins;
+        MarketUniverse universe = getUniverse(marketVersion);
+        CoinSearchIndex index = getSearchIndex(universe);
+        if (index != null && hasKeyword) {
+            long version = universe != null ? universe.version() : 0L;
+            return new CoinListing("coins:search:" + version + ":" + page + ":" + size + ":" + query, index, null,
+                    () -> toResponse(index.search(query, (long) (page - 1) * size, size), page, size));
+        }
+
+        if (universe != null && !hasKeyword
+                && (coinSort != CoinSort.MARKET_CAP || universe.covers((long) page * size))) {
+            String key = "coins:" + universe.version() + ":" + coinSort.getValue() + ":" + direction
+                    + ":" + page + ":" + size;
+            return new CoinListing(key, universe, universe,
+                    () -> toResponse(universe.page(coinSort, direction, page, size), page, size));
         }
 
-        String lowerKeyword = keyword.toLowerCase();
+        if (!hasKeyword) {
+            requireUpstreamOrder(universe, coinSort, direction);
+        }
+        List<CoinMarketData> coins = getCoinsPage(page, size);
+        String key = "coins:" + coinSort.getValue() + ":" + direction + ":" + page + ":" + size + ":" + query;
+        return new CoinListing(key, coins, null,
+                () -> toResponse(filterByKeyword(coins, query), page, size));
+    }
+
+    /**
+     * 요청한 버전의 마켓 스냅샷. 버전이 없거나 이미 보관 기간이 지났으면 현재 스냅샷 (아직 없으면 null)
+     */
+    public MarketUniverse getUniverse(Long version) {
+        MarketUniverse pinned = version != null ? marketUniverseService.get(version) : null;
+        return pinned != null ? pinned : marketUniverseService.current();
+    }
+
+    /**
+     * 마켓 스냅샷 버전으로 만든 검색 인덱스. 보관 기간이 지났거나 스냅샷이 없으면 현재 인덱스 (아직 없으면 null)
+     */
+    private CoinSearchIndex getSearchIndex(MarketUniverse universe) {
+        CoinSearchIndex pinned = universe != null ? coinSearchService.index(universe.version()) : null;
+        return pinned != null ? pinned : coinSearchService.currentIndex();
+    }
+
+    /**
+     * 검색어 필터 전의 코인 목록 페이지 (캐시된 목록 그대로)
+     */
+    private List<CoinMarketData> getCoinsPage(int page, int size) {
+        marketAccessTracker.recordAccess(CacheConfig.COIN_MARKETS,
+                new CoinMarketsKey(DEFAULT_VS_CURRENCY, null, size, page));
+        return coinGeckoClient.getCoinsMarkets(DEFAULT_VS_CURRENCY, null, size, page);
+    }
+
+    /**
+     * symbol 또는 name에 정규화한 검색어가 포함된 코인 (대소문자 무시, 검색어가 비어 있으면 목록 그대로)
+     */
+    private static List<CoinMarketData> filterByKeyword(List<CoinMarketData> coins, String query) {
+        if (query.isEmpty()) {
+            return coins;
+        }
         return coins.stream()
-                .filter(coin -> coin.symbol().toLowerCase().contains(lowerKeyword)
-                        || coin.name().toLowerCase().contains(lowerKeyword))
+                .filter(coin -> coin.symbol().toLowerCase(Locale.ROOT).contains(query)
+                        || coin.name().toLowerCase(Locale.ROOT).contains(query))
+                .toList();
+    }
+
+    private static CoinListResponse toResponse(List<CoinMarketData> coins, int page, int size) {
+        List<CoinSummary> summaries = coins.stream()
+                .map(CoinSummary::from)
                 .toList();
+        return CoinListResponse.of(summaries, page, size);
+    }
+
+    private CoinSort parseSort(String sort) {
+        CoinSort coinSort = CoinSort.fromValue(sort);
+        if (coinSort == null) {
+            String validValues = Arrays.stream(CoinSort.values())
+                    .map(CoinSort::getValue)
+                    .collect(Collectors.joining(", "));
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER,
+                    "Invalid sort: " + sort + ". Valid values: " + validValues);
+        }
+        return coinSort;
+    }
+
+    /**
+     * 스냅샷 없이 업스트림 목록(시가총액 내림차순)으로 응답할 수 있는 정렬인지 확인한다.
+     *
+     * @param universe 마켓 스냅샷 (없으면 null)
+     * @throws BusinessException 스냅샷이 없어 다른 정렬을 할 수 없거나, 스냅샷 밖 페이지를 시가총액 오름차순으로
+     *                           요청한 경우
+     */
+    private void requireUpstreamOrder(MarketUniverse universe, CoinSort sort, Direction direction) {
+        if (sort == CoinSort.MARKET_CAP && direction == Direction.DESC) {
+            return;
+        }
+        String requested = sort.getValue() + " " + direction.name().toLowerCase(Locale.ROOT);
+        if (universe == null) {
+            throw new BusinessException(ErrorCode.MARKET_SNAPSHOT_UNAVAILABLE,
+                    "Market snapshot is not ready; cannot sort by " + requested);
+        }
+        throw new BusinessException(ErrorCode.INVALID_PARAMETER,
+                "Sort " + requested + " is only supported within the market snapshot (top " + universe.size()
+                        + " coins)");
+    }
+
+    private Direction parseOrder(String order) {
+        return Direction.fromOptionalString(order)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_PARAMETER,
+                        "Invalid order: " + order + ". Valid values: asc, desc"));
     }
 
     public CoinMarketData getCoinDetail(String coinId) {
-        List<CoinMarketData> result = coinGeckoClient.getCoinsMarkets(DEFAULT_VS_CURRENCY, coinId);
-        if (result.isEmpty()) {
+        CoinMarketData coin = coinDetailBatchLoader.get(DEFAULT_VS_CURRENCY, coinId);
+        if (coin == null) {
             throw new BusinessException(ErrorCode.COIN_NOT_FOUND);
         }
-        return result.getFirst();
+        return coin;
     }
 
     public Timeframe parseTimeframe(String timeframe) {
@@ -54,7 +193,58 @@ public class MarketService {
         return tf;
     }
 
-    public List<OhlcData> getOhlcv(String coinId, Timeframe timeframe) {
+    /**
+     * 지표 요청을 파싱한다. 기본값을 채워 같은 지표가 되는 요청은 하나로 합치고 요청 순서를 유지한다.
+     */
+    public List<IndicatorSpec> parseIndicators(List<String> indicators) {
+        Map<String, IndicatorSpec> specs = new LinkedHashMap<>();
+        for (String indicator : indicators) {
+            if (indicator.isBlank()) {
+                continue;
+            }
+            try {
+                IndicatorSpec spec = IndicatorSpec.parse(indicator);
+                specs.putIfAbsent(spec.key(), spec);
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException(ErrorCode.INVALID_PARAMETER, e.getMessage());
+            }
+        }
+        if (specs.isEmpty() || specs.size() > MAX_INDICATORS) {
+            throw new BusinessException(ErrorCode.INVALID_PARAMETER,
+                    "Indicators must contain between 1 and " + MAX_INDICATORS + " entries");
+        }
+        return List.copyOf(specs.values());
+    }
+
+    /**
+     * 리샘플링한 시계열의 지표 (지표별로 캐시된 결과 재사용)
+     */
+    public List<IndicatorValues> computeIndicators(String coinId, Timeframe timeframe, OhlcSeries series,
+                                                   List<IndicatorSpec> specs) {
+        return indicatorService.compute(coinId, timeframe, series, specs);
+    }
+
+    public OhlcSeries getOhlcv(String coinId, Timeframe timeframe) {
+        return resample(getOhlcvBase(coinId, timeframe), timeframe);
+    }
+
+    /**
+     * 타임프레임의 기준 시계열 (리샘플링 전, 캐시된 시계열 그대로)
+     */
+    public OhlcSeries getOhlcvBase(String coinId, Timeframe timeframe) {
+        marketAccessTracker.recordAccess(CacheConfig.OHLC,
+                new OhlcKey(coinId, DEFAULT_VS_CURRENCY, timeframe.getDays()));
         return coinGeckoClient.getOhlc(coinId, DEFAULT_VS_CURRENCY, timeframe.getDays());
     }
+
+    /**
+     * 스냅샷 시각 이후의 봉을 뺀 시계열 뷰 (복사 없음). 고정한 버전의 목록/상세 시세보다 늦은 봉이 차트에 섞이지 않게 한다.
+     */
+    public OhlcSeries asOf(OhlcSeries base, MarketUniverse universe) {
+        return base.slice(0, base.lowerBound(universe.refreshedAt() + 1));
+    }
+
+    public OhlcSeries resample(OhlcSeries base, Timeframe timeframe) {
+        return OhlcResampler.resample(base, timeframe);
+    }
 }
@@ -0,0 +1,306 @@
+package com.crypto.market.insight.domain.market.store;
+
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한 시계열(coinId, vsCurrency, granularity)의 마감된 캔들을 저장하는 append-only 메모리 매핑 파일
+ * <p>
+ * 형식: 16바이트 헤더(magic, format version, 캔들 수) 뒤에 timestamp 오름차순의 40바이트 고정 길이 레코드
+ * (long timestamp, double open/high/low/close). 레코드를 먼저 쓰고 헤더의 캔들 수를 마지막에 갱신하므로
+ * 중간에 프로세스가 종료되어도 커밋된 캔들까지만 읽힙니다.
+ * <p>
+ * 시간 범위 조회는 {@value #INDEX_STRIDE}개마다 timestamp를 모아둔 메모리 내 희소 인덱스를 이진 탐색한 뒤
+ * 블록 하나만 훑습니다.
+ * <p>
+ * 닫힌 파일은 비어 있는 것처럼 읽히고 쓰기는 {@link IOException}으로 실패합니다. 저장소가 사용 빈도가 낮은 파일을
+ * 닫아도 진행 중인 조회가 예외 대신 업스트림 조회로 넘어가게 하기 위함입니다.
+ */
+public final class CandleFile implements Closeable {
+
+    static final int HEADER_BYTES = 16;
+    static final int RECORD_BYTES = 40;
+
+    private static final int MAGIC = 0x4F484C43; // "OHLC"
+    private static final int FORMAT_VERSION = 1;
+    private static final int INDEX_STRIDE = 64;
+    private static final int INITIAL_CAPACITY = 512;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private MappedByteBuffer buffer;
+    private boolean closed;
+    private int capacity;
+    private int count;
+    private long[] index = new long[8];
+
+    private CandleFile(Path path, FileChannel channel) throws IOException {
+        this.path = path;
+        this.channel = channel;
+
+        long size = channel.size();
+        if (size < HEADER_BYTES) {
+            map(INITIAL_CAPACITY);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, FORMAT_VERSION);
+            buffer.putLong(8, 0L);
+            return;
+        }
+
+        int storedCapacity = (int) ((size - HEADER_BYTES) / RECORD_BYTES);
+        map(Math.max(storedCapacity, INITIAL_CAPACITY));
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IOException("Not a candle file: " + path);
+        }
+        count = (int) Math.min(buffer.getLong(8), storedCapacity);
+        for (int i = 0; i < count; i += INDEX_STRIDE) {
+            addIndex(i);
+        }
+    }
+
+    /**
+     * 파일을 열거나 새로 만든다.
+     */
+    public static CandleFile open(Path path) throws IOException {
+        Files.createDirectories(path.getParent());
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new CandleFile(path, channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public boolean isOpen() {
+        lock.readLock().lock();
+        try {
+            return !closed;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return closed ? 0 : count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @throws IllegalStateException 비어 있는 경우
+     */
+    public long firstTimestamp() {
+        lock.readLock().lock();
+        try {
+            requireNotEmpty();
+            return timestamp(0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @throws IllegalStateException 비어 있는 경우
+     */
+    public long lastTimestamp() {
+        lock.readLock().lock();
+        try {
+            requireNotEmpty();
+            return timestamp(count - 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 마지막으로 저장된 캔들보다 새로운 캔들만 뒤에 추가한다.
+     *
+     * @return 추가한 캔들 수
+     */
+    public int append(OhlcSeries candles) throws IOException {
+        lock.writeLock().lock();
+        try {
+            requireOpen();
+            return appendLocked(candles);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 캔들을 버리고 주어진 캔들로 다시 쓴다 (더 오래된 구간을 받았거나 중간이 비는 경우).
+     */
+    public void reset(OhlcSeries candles) throws IOException {
+        lock.writeLock().lock();
+        try {
+            requireOpen();
+            count = 0;
+            buffer.putLong(8, 0L);
+            appendLocked(candles);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 시간 범위 조회
+     *
+     * @param fromMillis 시작 시각 (포함)
+     * @param toMillis   끝 시각 (제외)
+     */
+    public OhlcSeries read(long fromMillis, long toMillis) {
+        lock.readLock().lock();
+        try {
+            if (closed) {
+                return OhlcSeries.empty();
+            }
+            int from = lowerBound(fromMillis);
+            int to = Math.max(from, lowerBound(toMillis));
+            int length = to - from;
+            if (length == 0) {
+                return OhlcSeries.empty();
+            }
+
+            long[] timestamps = new long[length];
+            double[] open = new double[length];
+            double[] high = new double[length];
+            double[] low = new double[length];
+            double[] close = new double[length];
+            for (int i = 0; i < length; i++) {
+                int position = position(from + i);
+                timestamps[i] = buffer.getLong(position);
+                open[i] = buffer.getDouble(position + 8);
+                high[i] = buffer.getDouble(position + 16);
+                low[i] = buffer.getDouble(position + 24);
+                close[i] = buffer.getDouble(position + 32);
+            }
+            return OhlcSeries.of(timestamps, open, high, low, close);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 변경 내용을 디스크에 반영하고 파일을 닫는다. 매핑된 버퍼는 참조를 끊어 GC가 해제하게 한다.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            buffer.force();
+            buffer = null;
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int appendLocked(OhlcSeries candles) throws IOException {
+        int appended = 0;
+        long last = count > 0 ? timestamp(count - 1) : Long.MIN_VALUE;
+        for (int i = candles.lowerBound(last == Long.MIN_VALUE ? last : last + 1); i < candles.size(); i++) {
+            if (count == capacity) {
+                map(capacity * 2);
+            }
+            int position = position(count);
+            buffer.putLong(position, candles.timestamp(i));
+            buffer.putDouble(position + 8, candles.open(i));
+            buffer.putDouble(position + 16, candles.high(i));
+            buffer.putDouble(position + 24, candles.low(i));
+            buffer.putDouble(position + 32, candles.close(i));
+            if (count % INDEX_STRIDE == 0) {
+                addIndex(count);
+            }
+            count++;
+            appended++;
+        }
+        buffer.putLong(8, count);
+        return appended;
+    }
+
+    /**
+     * timestamp가 주어진 시각 이상인 첫 레코드 번호 (희소 인덱스 이진 탐색 + 블록 스캔)
+     */
+    private int lowerBound(long timestampMillis) {
+        int blocks = (count + INDEX_STRIDE - 1) / INDEX_STRIDE;
+        int low = 0;
+        int high = blocks;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (index[mid] < timestampMillis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        int start = low == 0 ? 0 : (low - 1) * INDEX_STRIDE;
+        int end = Math.min(low * INDEX_STRIDE, count);
+        for (int i = start; i < end; i++) {
+            if (timestamp(i) >= timestampMillis) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private void addIndex(int record) {
+        int block = record / INDEX_STRIDE;
+        if (block == index.length) {
+            index = Arrays.copyOf(index, index.length * 2);
+        }
+        index[block] = timestamp(record);
+    }
+
+    private long timestamp(int record) {
+        return buffer.getLong(position(record));
+    }
+
+    private static int position(int record) {
+        return HEADER_BYTES + record * RECORD_BYTES;
+    }
+
+    private void map(int records) throws IOException {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) records * RECORD_BYTES);
+        capacity = records;
+    }
+
+    private void requireOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Candle file is closed: " + path);
+        }
+    }
+
+    private void requireNotEmpty() {
+        if (closed || count == 0) {
+            throw new IllegalStateException("Candle file is empty: " + path);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.crypto.market.insight.domain.market.store;
+
+import com.crypto.market.insight.domain.market.model.vo.OhlcColumnBuffer;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 디스크의 OHLC 이력 저장소
+ * <p>
+ * 마감된 캔들은 바뀌지 않으므로 {@code (coinId, vsCurrency, granularity)}별 {@link CandleFile}에 보관하고,
+ * 업스트림에서는 저장된 마지막 캔들 이후의 최근 구간만 같은 간격의 더 작은 {@code days}로 받아 이어 붙입니다.
+ * 저장소가 요청 구간의 시작을 덮지 못하거나 더 작은 {@code days}가 없으면 전체를 받아 저장합니다.
+ * 외부 서비스 없이 단일 서버의 로컬 디렉터리만 사용하며, 저장 실패는 경고만 남기고 업스트림 응답을 그대로 사용합니다.
+ * <p>
+ * 열어 둔 파일(파일 디스크립터와 메모리 매핑)은 최근 사용 순으로 {@code max-open-files}개까지만 유지하고
+ * 가장 오래 사용하지 않은 파일부터 닫습니다. 닫힌 파일은 다음 조회 때 다시 엽니다.
+ */
+@Slf4j
+@Component
+public class CandleStore {
+
+    private static final Pattern SAFE_SEGMENT = Pattern.compile("[a-z0-9][a-z0-9._-]{0,127}");
+    private static final String FILE_SUFFIX = ".candles";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final Clock clock;
+    private final int maxOpenFiles;
+    /**
+     * 열어 둔 파일 (접근 순서, {@link #openLock}으로 보호)
+     */
+    private final Map<SeriesId, CandleFile> files = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock openLock = new ReentrantLock();
+
+    @Autowired
+    public CandleStore(
+            @Value("${app.market.candle-store.enabled}") boolean enabled,
+            @Value("${app.market.candle-store.directory}") String directory,
+            @Value("${app.market.candle-store.max-open-files}") int maxOpenFiles) {
+        this(enabled, Path.of(directory), maxOpenFiles, Clock.systemUTC());
+    }
+
+    public CandleStore(boolean enabled, Path directory, int maxOpenFiles, Clock clock) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.maxOpenFiles = Math.max(1, maxOpenFiles);
+        this.clock = clock;
+        if (enabled) {
+            log.info("Candle store enabled: directory={}", directory.toAbsolutePath());
+        }
+    }
+
+    /**
+     * 저장소를 사용하지 않고 항상 업스트림을 그대로 호출하는 인스턴스
+     */
+    public static CandleStore disabled() {
+        return new CandleStore(false, null, 1, Clock.systemUTC());
+    }
+
+    /**
+     * 요청 구간의 OHLC 시계열을 저장된 이력과 업스트림 최근 구간으로 구성한다.
+     *
+     * @param coinId     코인 ID
+     * @param vsCurrency 기준 통화
+     * @param days       요청 days
+     * @param upstream   days 값으로 업스트림 OHLC를 조회하는 함수
+     */
+    public OhlcSeries load(String coinId, String vsCurrency, String days, Function<String, OhlcSeries> upstream) {
+        if (!enabled || !isSafe(coinId) || !isSafe(vsCurrency)) {
+            return upstream.apply(days);
+        }
+
+        SeriesId id = new SeriesId(coinId, vsCurrency, Granularity.fromDays(days));
+        long now = clock.millis();
+        CandleFile file = openIfExists(id);
+        Optional<String> tailDays = tailDays(file, id.granularity(), days, now);
+
+        if (tailDays.isEmpty()) {
+            OhlcSeries full = upstream.apply(days);
+            persist(id, file, full, now);
+            return full;
+        }
+
+        OhlcSeries tail = upstream.apply(tailDays.get());
+        if (tail.isEmpty()) {
+            // 최근 구간이 비어 있어도 저장된 이력은 응답한다
+            return read(id, file, windowStart(days, now), Long.MAX_VALUE);
+        }
+        persist(id, file, tail, now);
+        OhlcSeries history = read(id, file, windowStart(days, now), tail.firstTimestamp());
+        log.debug("Candle store tail fetch: series={}, days={}, tailDays={}, stored={}, fetched={}",
+                id, days, tailDays.get(), history.size(), tail.size());
+        return concat(history, tail);
+    }
+
+    /**
+     * 저장소를 거치지 않고 받은 시계열(캐시 갱신 시의 최근 구간 등)의 마감된 캔들을 저장한다.
+     *
+     * @param days 시계열의 캔들 간격을 결정하는 days
+     */
+    public void record(String coinId, String vsCurrency, String days, OhlcSeries series) {
+        if (!enabled || series.isEmpty() || !isSafe(coinId) || !isSafe(vsCurrency)) {
+            return;
+        }
+        SeriesId id = new SeriesId(coinId, vsCurrency, Granularity.fromDays(days));
+        persist(id, openIfExists(id), series, clock.millis());
+    }
+
+    private Optional<String> tailDays(CandleFile file, Granularity granularity, String days, long now) {
+        if (file == null || file.isEmpty() || Granularity.isMax(days)) {
+            return Optional.empty();
+        }
+        try {
+            if (file.firstTimestamp() > windowStart(days, now) + granularity.getInterval().toMillis()) {
+                return Optional.empty();
+            }
+            return granularity.tailDays(Duration.ofMillis(Math.max(0, now - file.lastTimestamp())), days);
+        } catch (IllegalStateException e) {
+            // 확인하는 사이에 다른 요청이 파일을 닫았다
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 파일이 그 사이 닫혔으면 다시 열어 읽는다.
+     */
+    private OhlcSeries read(SeriesId id, CandleFile file, long fromMillis, long toMillis) {
+        CandleFile current = file.isOpen() ? file : openIfExists(id);
+        return current == null ? OhlcSeries.empty() : current.read(fromMillis, toMillis);
+    }
+
+    /**
+     * 마감된 캔들만 저장한다. 마지막 캔들은 진행 중일 수 있으므로 제외한다.
+     */
+    private void persist(SeriesId id, CandleFile file, OhlcSeries series, long now) {
+        int closed = Math.max(0, series.size() - 1);
+        while (closed > 0 && series.timestamp(closed - 1) > now) {
+            closed--;
+        }
+        if (closed == 0) {
+            return;
+        }
+        OhlcSeries candles = series.slice(0, closed);
+
+        try {
+            CandleFile target = file != null && file.isOpen() ? file : open(id);
+            long gapLimit = id.granularity().getInterval().toMillis();
+            if (!target.isEmpty() && (candles.firstTimestamp() < target.firstTimestamp()
+                    || candles.firstTimestamp() > target.lastTimestamp() + gapLimit)) {
+                target.reset(candles);
+            } else {
+                target.append(candles);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Candle store write failed: series={}, error={}", id, e.getMessage());
+        }
+    }
+
+    private CandleFile openIfExists(SeriesId id) {
+        CandleFile file = opened(id);
+        if (file != null || !Files.exists(path(id))) {
+            return file;
+        }
+        try {
+            return open(id);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Candle store open failed: series={}, error={}", id, e.getMessage());
+            return null;
+        }
+    }
+
+    private CandleFile opened(SeriesId id) {
+        openLock.lock();
+        try {
+            return files.get(id);
+        } finally {
+            openLock.unlock();
+        }
+    }
+
+    private CandleFile open(SeriesId id) throws IOException {
+        openLock.lock();
+        try {
+            CandleFile file = files.get(id);
+            if (file == null) {
+                file = CandleFile.open(path(id));
+                files.put(id, file);
+                evictLeastRecentlyUsed();
+            }
+            return file;
+        } finally {
+            openLock.unlock();
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        Iterator<Map.Entry<SeriesId, CandleFile>> iterator = files.entrySet().iterator();
+        while (files.size() > maxOpenFiles && iterator.hasNext()) {
+            Map.Entry<SeriesId, CandleFile> eldest = iterator.next();
+            iterator.remove();
+            close(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    /**
+     * 현재 열려 있는 파일 수
+     */
+    public int openFiles() {
+        openLock.lock();
+        try {
+            return files.size();
+        } finally {
+            openLock.unlock();
+        }
+    }
+
+    private Path path(SeriesId id) {
+        return directory.resolve(id.coinId())
+                .resolve(id.vsCurrency())
+                .resolve(id.granularity().name().toLowerCase() + FILE_SUFFIX);
+    }
+
+    private static long windowStart(String days, long now) {
+        return Granularity.isMax(days) ? Long.MIN_VALUE : now - Duration.ofDays(Long.parseLong(days)).toMillis();
+    }
+
+    private static boolean isSafe(String segment) {
+        return segment != null && SAFE_SEGMENT.matcher(segment).matches();
+    }
+
+    private static OhlcSeries concat(OhlcSeries history, OhlcSeries recent) {
+        if (history.isEmpty()) {
+            return recent;
+        }
+        OhlcColumnBuffer buffer = new OhlcColumnBuffer(history.size() + recent.size());
+        append(buffer, history);
+        append(buffer, recent);
+        return OhlcSeries.from(buffer);
+    }
+
+    private static void append(OhlcColumnBuffer buffer, OhlcSeries series) {
+        for (int i = 0; i < series.size(); i++) {
+            buffer.add(series.timestamp(i), series.open(i), series.high(i), series.low(i), series.close(i));
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        openLock.lock();
+        try {
+            files.forEach(CandleStore::close);
+            files.clear();
+        } finally {
+            openLock.unlock();
+        }
+    }
+
+    private static void close(SeriesId id, CandleFile file) {
+        try {
+            file.close();
+        } catch (IOException e) {
+            log.warn("Candle store close failed: series={}, error={}", id, e.getMessage());
+        }
+    }
+
+    private record SeriesId(String coinId, String vsCurrency, Granularity granularity) {
+    }
+}
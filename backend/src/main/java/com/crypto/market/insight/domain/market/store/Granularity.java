@@ -0,0 +1,68 @@
+package com.crypto.market.insight.domain.market.store;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.Getter;
+
+/**
+ * CoinGecko {@code /coins/{id}/ohlc} 캔들 간격
+ * <p>
+ * 간격은 {@code days} 파라미터로 결정됩니다: 1~2일은 30분봉, 3~30일은 4시간봉, 31일 이상은 4일봉.
+ * {@code validDays}는 해당 간격을 돌려주는 API 허용 값(1/7/14/30/90/180/365/max)입니다.
+ */
+@Getter
+public enum Granularity {
+
+    THIRTY_MINUTES(Duration.ofMinutes(30), List.of(1)),
+    FOUR_HOURS(Duration.ofHours(4), List.of(7, 14, 30)),
+    FOUR_DAYS(Duration.ofDays(4), List.of(90, 180, 365));
+
+    private static final String MAX_DAYS = "max";
+
+    private final Duration interval;
+    private final List<Integer> validDays;
+
+    Granularity(Duration interval, List<Integer> validDays) {
+        this.interval = interval;
+        this.validDays = validDays;
+    }
+
+    /**
+     * @param days API days 파라미터 (숫자 또는 "max")
+     */
+    public static Granularity fromDays(String days) {
+        if (MAX_DAYS.equals(days)) {
+            return FOUR_DAYS;
+        }
+        int value = Integer.parseInt(days);
+        if (value <= 2) {
+            return THIRTY_MINUTES;
+        }
+        return value <= 30 ? FOUR_HOURS : FOUR_DAYS;
+    }
+
+    public static boolean isMax(String days) {
+        return MAX_DAYS.equals(days);
+    }
+
+    /**
+     * 저장된 마지막 캔들 이후 구간(gap)을 같은 간격으로 받을 수 있는 가장 작은 days 값.
+     * 요청한 days보다 작지 않으면 이득이 없으므로 빈 값을 반환한다.
+     *
+     * @param gap           현재 시각 - 저장된 마지막 캔들 시각
+     * @param requestedDays 원래 요청한 days
+     */
+    public Optional<String> tailDays(Duration gap, String requestedDays) {
+        if (isMax(requestedDays)) {
+            return Optional.empty();
+        }
+        int requested = Integer.parseInt(requestedDays);
+        Duration needed = gap.plus(interval);
+        return validDays.stream()
+                .filter(days -> days < requested)
+                .filter(days -> Duration.ofDays(days).compareTo(needed) >= 0)
+                .findFirst()
+                .map(String::valueOf);
+    }
+}
@@ -0,0 +1,120 @@
+package com.crypto.market.insight.domain.market.universe;
+
+import com.crypto.market.insight.domain.market.dto.CoinMarketData;
+import com.crypto.market.insight.domain.market.model.vo.CoinSort;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Sort.Direction;
+
+/**
+ * 한 시점의 전체 마켓 스냅샷 (불변)
+ * <p>
+ * 스냅샷을 만들 때 정렬 기준({@link CoinSort})과 방향마다 정렬된 배열을 한 번 만들어 두고, 페이지 조회는
+ * 배열의 부분 리스트 뷰를 반환합니다 (요소 복사 없음). 값이 없는(null) 코인은 방향과 관계없이 뒤에 둡니다.
+ * <p>
+ * 스냅샷마다 단조 증가하는 {@link #version()}이 있어, 클라이언트가 {@value #VERSION_HEADER} 헤더로 같은 버전을
+ * 지정하면 목록/상세/차트를 한 시점의 데이터로 맞춰 받을 수 있습니다.
+ */
+public final class MarketUniverse {
+
+    /**
+     * 응답한 스냅샷 버전을 알리고, 요청에서 고정할 버전을 지정하는 헤더
+     */
+    public static final String VERSION_HEADER = "X-Market-Version";
+
+    private final long version;
+    private final List<CoinMarketData> coins;
+    private final Map<String, CoinMarketData> byId;
+    private final Map<CoinSort, CoinMarketData[]> descending = new EnumMap<>(CoinSort.class);
+    private final Map<CoinSort, CoinMarketData[]> ascending = new EnumMap<>(CoinSort.class);
+    private final boolean complete;
+    private final long refreshedAt;
+
+    /**
+     * @param version     스냅샷 버전 (이전 스냅샷보다 큼, 보통 만든 시각의 Unix 밀리초)
+     * @param coins       {@code /coins/markets} 시가총액 순위순 응답을 이어 붙인 목록
+     * @param complete    업스트림의 마지막 페이지까지 받았는지 (false면 {@link #covers}가 크기로 판단)
+     * @param refreshedAt 스냅샷을 만든 시각 (Unix 밀리초)
+     */
+    public MarketUniverse(long version, List<CoinMarketData> coins, boolean complete, long refreshedAt) {
+        this.version = version;
+        this.coins = List.copyOf(coins);
+        this.complete = complete;
+        this.refreshedAt = refreshedAt;
+        this.byId = new HashMap<>(this.coins.size() * 2);
+        for (CoinMarketData coin : this.coins) {
+            byId.putIfAbsent(coin.id(), coin);
+        }
+        CoinMarketData[] array = this.coins.toArray(CoinMarketData[]::new);
+        for (CoinSort sort : CoinSort.values()) {
+            Comparator<BigDecimal> values = Comparator.naturalOrder();
+            descending.put(sort, sorted(array, sort, values.reversed()));
+            ascending.put(sort, sorted(array, sort, values));
+        }
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return coins.size();
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public long refreshedAt() {
+        return refreshedAt;
+    }
+
+    /**
+     * 시가총액 순위순 전체 목록
+     */
+    public List<CoinMarketData> coins() {
+        return coins;
+    }
+
+    /**
+     * 스냅샷에 담긴 코인 (없으면 null)
+     */
+    public CoinMarketData find(String coinId) {
+        return byId.get(coinId);
+    }
+
+    /**
+     * 스냅샷이 {@code [0, toIndex)} 구간을 모두 담고 있는지
+     */
+    public boolean covers(long toIndex) {
+        return complete || toIndex <= coins.size();
+    }
+
+    /**
+     * 정렬된 배열의 페이지 뷰. 범위를 벗어나면 빈 목록을 반환한다.
+     *
+     * @param page 1부터 시작
+     */
+    public List<CoinMarketData> page(CoinSort sort, Direction direction, int page, int size) {
+        CoinMarketData[] sorted = (direction.isAscending() ? ascending : descending).get(sort);
+        long from = (long) (page - 1) * size;
+        if (from >= sorted.length) {
+            return List.of();
+        }
+        int to = (int) Math.min(sorted.length, from + size);
+        return Collections.unmodifiableList(Arrays.asList(sorted).subList((int) from, to));
+    }
+
+    private static CoinMarketData[] sorted(CoinMarketData[] coins, CoinSort sort, Comparator<BigDecimal> values) {
+        CoinMarketData[] copy = coins.clone();
+        // 안정 정렬이므로 같은 값은 시가총액 순위순을 유지한다
+        Arrays.sort(copy, Comparator.comparing(sort.getKey(), Comparator.nullsLast(values)));
+        return copy;
+    }
+}
@@ -0,0 +1,163 @@
+package com.crypto.market.insight.domain.market.universe;
+
+import com.crypto.market.insight.domain.market.client.CoinGeckoClient;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter.Priority;
+import com.crypto.market.insight.domain.market.dto.CoinMarketData;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전체 마켓 스냅샷({@link MarketUniverse})을 주기적으로 다시 만들어 교체
+ * <p>
+ * 실행마다 {@code /coins/markets}를 페이지당 250개씩 최대 {@code pages}번, 사용자 요청보다 낮은 우선순위로
+ * 호출합니다. 목록 요청은 페이지 크기/정렬과 관계없이 이 스냅샷에서 응답하므로 업스트림 호출 수가 사용자 트래픽과
+ * 무관하게 일정합니다. 갱신이 실패하면 이전 스냅샷을 그대로 사용하며, 첫 스냅샷이 만들어지기 전에는
+ * {@link #current()}가 null입니다.
+ * <p>
+ * 새 스냅샷은 별도로 다 만든 뒤 최근 {@code retained-versions}개의 불변 목록과 함께 하나의
+ * {@link AtomicReference}로 교체하므로, 읽는 쪽은 잠금 없이 항상 완성된 한 버전을 봅니다. 보관 중인 이전 버전은
+ * {@link #get(long)}으로 조회할 수 있어 클라이언트가 여러 요청에 걸쳐 같은 버전을 고정할 수 있습니다.
+ * <p>
+ * 버전은 스냅샷을 만든 시각(Unix 밀리초)이며, 같은 밀리초에 다시 만들면 이전 버전 + 1입니다.
+ * 재시작한 뒤에도 버전이 줄어들지 않으므로 클라이언트가 재시작 전 버전을 보내도 다른 스냅샷과 섞이지 않습니다.
+ */
+@Slf4j
+@Component
+public class MarketUniverseService {
+
+    private static final String VS_CURRENCY = "usd";
+    private static final int PER_PAGE = 250;
+
+    private final CoinGeckoClient coinGeckoClient;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int pages;
+    private final int retainedVersions;
+    private final List<Consumer<MarketUniverse>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 최신 버전이 맨 앞인 불변 목록
+     */
+    private final AtomicReference<List<MarketUniverse>> versions = new AtomicReference<>(List.of());
+
+    @Autowired
+    public MarketUniverseService(
+            CoinGeckoClient coinGeckoClient,
+            MeterRegistry meterRegistry,
+            @Value("${app.market.universe.enabled}") boolean enabled,
+            @Value("${app.market.universe.pages}") int pages,
+            @Value("${app.market.universe.retained-versions}") int retainedVersions) {
+        this(coinGeckoClient, meterRegistry, enabled, pages, retainedVersions, Clock.systemUTC());
+    }
+
+    public MarketUniverseService(CoinGeckoClient coinGeckoClient, MeterRegistry meterRegistry, boolean enabled,
+                                 int pages, int retainedVersions, Clock clock) {
+        this.coinGeckoClient = coinGeckoClient;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.pages = pages;
+        this.retainedVersions = Math.max(1, retainedVersions);
+        Gauge.builder("market.universe.size", this, service -> {
+                    MarketUniverse universe = service.current();
+                    return universe != null ? universe.size() : 0;
+                })
+                .description("마켓 스냅샷의 코인 수")
+                .register(meterRegistry);
+        Gauge.builder("market.universe.version", this, service -> {
+                    MarketUniverse universe = service.current();
+                    return universe != null ? universe.version() : 0;
+                })
+                .description("현재 마켓 스냅샷 버전")
+                .register(meterRegistry);
+        Gauge.builder("market.universe.age", this, service -> {
+                    MarketUniverse universe = service.current();
+                    return universe != null ? (service.clock.millis() - universe.refreshedAt()) / 1000.0 : 0;
+                })
+                .description("마켓 스냅샷 경과 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${app.market.universe.initial-delay}",
+            fixedDelayString = "${app.market.universe.interval}")
+    public void scheduledRefresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            CoinGeckoRateLimiter.withPriority(Priority.BACKGROUND, this::refresh);
+        } catch (RuntimeException e) {
+            log.warn("Market universe refresh failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 업스트림에서 시가총액 순위순 페이지를 받아 다음 버전의 스냅샷을 만들고 교체한 뒤 리스너에 알린다.
+     *
+     * @return 새 스냅샷
+     */
+    public synchronized MarketUniverse refresh() {
+        List<CoinMarketData> coins = new ArrayList<>(pages * PER_PAGE);
+        for (int page = 1; page <= pages; page++) {
+            List<CoinMarketData> pageCoins = coinGeckoClient.fetchCoinsMarkets(VS_CURRENCY, null, PER_PAGE, page);
+            coins.addAll(pageCoins);
+            if (pageCoins.size() < PER_PAGE) {
+                break;
+            }
+        }
+        // 페이지가 덜 찼으면 업스트림의 마지막 페이지까지 받은 것
+        boolean complete = coins.size() < pages * PER_PAGE;
+        // 갱신은 한 번에 하나씩이므로 다음 버전을 다 만든 뒤 한 번에 교체한다
+        List<MarketUniverse> previous = versions.get();
+        long refreshedAt = clock.millis();
+        long version = previous.isEmpty() ? refreshedAt : Math.max(refreshedAt, previous.getFirst().version() + 1);
+        MarketUniverse universe = new MarketUniverse(version, coins, complete, refreshedAt);
+        List<MarketUniverse> next = new ArrayList<>(retainedVersions);
+        next.add(universe);
+        next.addAll(previous.subList(0, Math.min(previous.size(), retainedVersions - 1)));
+        versions.set(List.copyOf(next));
+        log.info("Market universe refreshed: version={}, coins={}, complete={}",
+                universe.version(), universe.size(), complete);
+        listeners.forEach(listener -> listener.accept(universe));
+        return universe;
+    }
+
+    /**
+     * 현재 스냅샷 (아직 만들어지지 않았으면 null). 교체될 때마다 새 인스턴스이므로 응답 캐시 버전으로 쓸 수 있다.
+     */
+    public MarketUniverse current() {
+        List<MarketUniverse> snapshots = versions.get();
+        return snapshots.isEmpty() ? null : snapshots.getFirst();
+    }
+
+    /**
+     * 보관 중인 해당 버전의 스냅샷 (이미 밀려났거나 없는 버전이면 null)
+     */
+    public MarketUniverse get(long version) {
+        for (MarketUniverse universe : versions.get()) {
+            if (universe.version() == version) {
+                return universe;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 새 스냅샷이 교체될 때마다 갱신 스레드에서 호출된다.
+     */
+    public void addListener(Consumer<MarketUniverse> listener) {
+        listeners.add(listener);
+    }
+}
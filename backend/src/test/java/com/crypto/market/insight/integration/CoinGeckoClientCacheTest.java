@@ -3,7 +3,7 @@ package com.crypto.market.insight.integration;
 import com.crypto.market.insight.config.CacheConfig;
 import com.crypto.market.insight.domain.market.client.CoinGeckoClient;
 import com.crypto.market.insight.domain.market.dto.CoinMarketData;
-import com.crypto.market.insight.domain.market.dto.OhlcData;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -47,6 +47,11 @@ class CoinGeckoClientCacheTest {
     static void configureProperties(DynamicPropertyRegistry registry) {
         wireMockServer.start();
         registry.add("app.coingecko.base-url", () -> "http://localhost:" + wireMockServer.port());
+        registry.add("app.coingecko.rate-limit.requests-per-minute", () -> 6000);
+        registry.add("app.market.prefetch.enabled", () -> false);
+        registry.add("app.market.search.enabled", () -> false);
+        registry.add("app.market.universe.enabled", () -> false);
+        registry.add("app.market.candle-store.enabled", () -> false);
     }
 
     @BeforeEach
@@ -102,12 +107,12 @@ class CoinGeckoClientCacheTest {
                         """)));
 
         // when
-        List<OhlcData> first = coinGeckoClient.getOhlc("bitcoin", "usd", "7");
-        List<OhlcData> second = coinGeckoClient.getOhlc("bitcoin", "usd", "7");
+        OhlcSeries first = coinGeckoClient.getOhlc("bitcoin", "usd", "7");
+        OhlcSeries second = coinGeckoClient.getOhlc("bitcoin", "usd", "7");
 
         // then
-        assertThat(first).hasSize(1);
-        assertThat(second).hasSize(1);
+        assertThat(first.size()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
         verify(1, getRequestedFor(urlPathEqualTo("/coins/bitcoin/ohlc")));
     }
 
@@ -6,6 +6,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.crypto.market.insight.config.CacheConfig;
+import com.crypto.market.insight.domain.market.search.CoinSearchService;
 import com.github.tomakehurst.wiremock.WireMockServer;
 import java.util.Objects;
 import org.junit.jupiter.api.AfterAll;
@@ -18,6 +19,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -35,6 +37,9 @@ class MarketControllerIntegrationTest {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private CoinSearchService coinSearchService;
+
     @BeforeAll
     static void startWireMock() {
         wireMockServer.start();
@@ -50,11 +55,17 @@ class MarketControllerIntegrationTest {
     static void configureProperties(DynamicPropertyRegistry registry) {
         wireMockServer.start();
         registry.add("app.coingecko.base-url", () -> "http://localhost:" + wireMockServer.port());
+        registry.add("app.coingecko.rate-limit.requests-per-minute", () -> 6000);
+        registry.add("app.market.prefetch.enabled", () -> false);
+        registry.add("app.market.search.enabled", () -> false);
+        registry.add("app.market.universe.enabled", () -> false);
+        registry.add("app.market.candle-store.enabled", () -> false);
     }
 
     @BeforeEach
     void setUp() {
         Objects.requireNonNull(cacheManager.getCache(CacheConfig.COIN_MARKETS)).clear();
+        Objects.requireNonNull(cacheManager.getCache(CacheConfig.COIN_DETAIL)).clear();
         Objects.requireNonNull(cacheManager.getCache(CacheConfig.OHLC)).clear();
         wireMockServer.resetAll();
     }
@@ -85,6 +96,26 @@ class MarketControllerIntegrationTest {
                     .andExpect(jsonPath("$.size").value(10));
         }
 
+        @Test
+        @DisplayName("If-None-Match가 현재 ETag와 같으면 본문 없이 304를 응답한다")
+        void ifNoneMatch_returns304() throws Exception {
+            // given
+            stubFor(com.github.tomakehurst.wiremock.client.WireMock.get(urlPathEqualTo("/coins/markets"))
+                    .willReturn(okJson(coinsMarketsJson(BITCOIN_MARKET_JSON, ETHEREUM_MARKET_JSON))));
+            String etag = mockMvc.perform(get("/api/market/coins"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andExpect(jsonPath("$.coins.length()").value(2))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // when & then
+            mockMvc.perform(get("/api/market/coins")
+                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().bytes(new byte[0]));
+            verify(1, getRequestedFor(urlPathEqualTo("/coins/markets")));
+        }
+
         @Test
         @DisplayName("page가 0이면 422 에러")
         void invalidPage_returns422() throws Exception {
@@ -121,6 +152,36 @@ class MarketControllerIntegrationTest {
                     .andExpect(jsonPath("$.coins.length()").value(1))
                     .andExpect(jsonPath("$.coins[0].symbol").value("btc"));
         }
+
+        @Test
+        @DisplayName("마켓 스냅샷이 없으면 시가총액 내림차순 외 정렬은 업스트림 순서로 응답하지 않고 503 에러")
+        void sortWithoutSnapshot_returns503() throws Exception {
+            mockMvc.perform(get("/api/market/coins")
+                            .param("sort", "market_cap")
+                            .param("order", "asc"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.code").value("MARKET_SNAPSHOT_UNAVAILABLE"));
+            verify(0, anyRequestedFor(anyUrl()));
+        }
+
+        @Test
+        @DisplayName("검색 인덱스가 있으면 페이지 밖 코인까지 업스트림 호출 없이 검색한다")
+        void searchIndex_noUpstreamCall() throws Exception {
+            // given
+            stubFor(com.github.tomakehurst.wiremock.client.WireMock.get(urlPathEqualTo("/coins/list"))
+                    .willReturn(okJson(COINS_LIST_JSON)));
+            coinSearchService.refresh();
+            wireMockServer.resetRequests();
+
+            // when & then
+            mockMvc.perform(get("/api/market/coins")
+                            .param("keyword", "SOL")
+                            .param("size", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.coins.length()").value(1))
+                    .andExpect(jsonPath("$.coins[0].id").value("solana"));
+            verify(0, anyRequestedFor(anyUrl()));
+        }
     }
 
     @Nested
@@ -173,11 +234,11 @@ class MarketControllerIntegrationTest {
 
             // when & then
             mockMvc.perform(get("/api/market/coins/bitcoin/ohlcv")
-                            .param("timeframe", "1d"))
+                            .param("timeframe", "4h"))
                     .andExpect(status().isOk())
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.coinId").value("bitcoin"))
-                    .andExpect(jsonPath("$.timeframe").value("1d"))
+                    .andExpect(jsonPath("$.timeframe").value("4h"))
                     .andExpect(jsonPath("$.data").isArray())
                     .andExpect(jsonPath("$.data.length()").value(3))
                     .andExpect(jsonPath("$.data[0].timestamp").value(1709395200000L))
@@ -217,7 +278,7 @@ class MarketControllerIntegrationTest {
         void oneWeekTimeframe_success() throws Exception {
             // given
             stubFor(com.github.tomakehurst.wiremock.client.WireMock.get(urlPathEqualTo("/coins/bitcoin/ohlc"))
-                    .withQueryParam("days", equalTo("90"))
+                    .withQueryParam("days", equalTo("365"))
                     .willReturn(okJson(OHLC_SINGLE_JSON)));
 
             // when & then
@@ -227,4 +288,90 @@ class MarketControllerIntegrationTest {
                     .andExpect(jsonPath("$.timeframe").value("1w"));
         }
     }
+
+    @Nested
+    @DisplayName("GET /api/market/coins/{coinId}/indicators")
+    class GetIndicators {
+
+        @Test
+        @DisplayName("종가로 계산한 지표를 봉 순서대로 응답하고 워밍업 구간은 null이다")
+        void success() throws Exception {
+            // given
+            stubFor(com.github.tomakehurst.wiremock.client.WireMock.get(urlPathEqualTo("/coins/bitcoin/ohlc"))
+                    .willReturn(okJson(OHLC_DATA_JSON)));
+
+            // when & then
+            mockMvc.perform(get("/api/market/coins/bitcoin/indicators")
+                            .param("timeframe", "4h")
+                            .param("indicators", "sma:2,macd"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.timestamps.length()").value(3))
+                    .andExpect(jsonPath("$.indicators.length()").value(2))
+                    .andExpect(jsonPath("$.indicators[0].key").value("sma(2)"))
+                    .andExpect(jsonPath("$.indicators[0].lines.sma[0]").doesNotExist())
+                    .andExpect(jsonPath("$.indicators[0].lines.sma[1]").value(61992.0))
+                    .andExpect(jsonPath("$.indicators[0].lines.sma[2]").value(62103.5))
+                    .andExpect(jsonPath("$.indicators[1].key").value("macd(12,26,9)"))
+                    .andExpect(jsonPath("$.indicators[1].lines.signal.length()").value(3));
+        }
+
+        @Test
+        @DisplayName("잘못된 지표 시 400 에러")
+        void invalidIndicator_returns400() throws Exception {
+            mockMvc.perform(get("/api/market/coins/bitcoin/indicators")
+                            .param("indicators", "sma:0"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("INVALID_PARAMETER"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/market/screener")
+    class Screener {
+
+        @Test
+        @DisplayName("조건을 만족한 코인을 응답하고 시계열을 받지 못한 코인이 있으면 부분 결과로 표시한다")
+        void success() throws Exception {
+            // given - 마켓 스냅샷이 없으므로 업스트림 목록을 쓰고, ethereum 종가 이력은 스텁이 없어 실패한다
+            stubFor(com.github.tomakehurst.wiremock.client.WireMock.get(urlPathEqualTo("/coins/markets"))
+                    .willReturn(okJson(coinsMarketsJson(BITCOIN_MARKET_JSON, ETHEREUM_MARKET_JSON))));
+            stubFor(com.github.tomakehurst.wiremock.client.WireMock.get(urlPathEqualTo("/coins/bitcoin/market_chart"))
+                    .withQueryParam("days", equalTo("40"))
+                    .willReturn(okJson(MARKET_CHART_JSON)));
+
+            // when & then
+            mockMvc.perform(get("/api/market/screener")
+                            .param("timeframe", "4h")
+                            .param("conditions", "close below SMA(2) and sma:2 > 62000"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.conditions[0]").value("close < sma(2)"))
+                    .andExpect(jsonPath("$.screened").value(2))
+                    .andExpect(jsonPath("$.fetched").value(2))
+                    .andExpect(jsonPath("$.missing").value(1))
+                    .andExpect(jsonPath("$.partial").value(true))
+                    .andExpect(jsonPath("$.matches.length()").value(1))
+                    .andExpect(jsonPath("$.matches[0].coin.id").value("bitcoin"))
+                    .andExpect(jsonPath("$.matches[0].close").value(62068.0))
+                    .andExpect(jsonPath("$.matches[0].values['sma(2)']").value(62103.5));
+        }
+
+        @Test
+        @DisplayName("잘못된 조건 시 400 에러")
+        void invalidCondition_returns400() throws Exception {
+            mockMvc.perform(get("/api/market/screener")
+                            .param("conditions", "rsi(14) ~ 30"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("INVALID_PARAMETER"));
+        }
+
+        @Test
+        @DisplayName("워밍업이 타임프레임의 봉 수보다 긴 지표면 400 에러")
+        void warmupExceedsTimeframe_returns400() throws Exception {
+            mockMvc.perform(get("/api/market/screener")
+                            .param("timeframe", "1w")
+                            .param("conditions", "rsi(14) < 30 and close above sma(200)"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value("INVALID_PARAMETER"));
+        }
+    }
 }
@@ -0,0 +1,100 @@
+package com.crypto.market.insight.load;
+
+import static com.crypto.market.insight.support.fixture.MarketFixture.OHLC_DATA_JSON;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crypto.market.insight.domain.market.client.CoinGeckoClient;
+import com.crypto.market.insight.domain.market.client.RequestCoalescer;
+import com.crypto.market.insight.domain.market.store.CandleStore;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 느린 업스트림(WireMock 지연 응답) 앞에서 플랫폼 스레드 풀과 가상 스레드의 동시 처리량 비교
+ * <p>
+ * 기본 테스트에서는 제외되며 {@code ./gradlew loadTest}로 실행합니다.
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    private static final int REQUESTS = 400;
+    private static final int PLATFORM_THREADS = 40;
+    private static final int UPSTREAM_DELAY_MILLIS = 200;
+
+    @RegisterExtension
+    static WireMockExtension upstream = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort().containerThreads(REQUESTS + 50).jettyAcceptQueueSize(REQUESTS))
+            .build();
+
+    private CoinGeckoClient client;
+
+    @BeforeEach
+    void setUp() {
+        upstream.stubFor(get(urlPathMatching("/coins/.+/ohlc"))
+                .willReturn(okJson(OHLC_DATA_JSON).withFixedDelay(UPSTREAM_DELAY_MILLIS)));
+
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(5000);
+        factory.setReadTimeout(30000);
+        RestClient restClient = RestClient.builder()
+                .baseUrl(upstream.baseUrl())
+                .requestFactory(factory)
+                .build();
+        client = new CoinGeckoClient(restClient, new RequestCoalescer(new SimpleMeterRegistry()),
+                CandleStore.disabled());
+    }
+
+    @Test
+    @DisplayName("가상 스레드는 스레드 수 상한 없이 느린 업스트림 호출을 동시에 처리한다")
+    void virtualThreads_outperformBoundedPlatformPool() throws Exception {
+        // given
+        Duration platform;
+        try (ExecutorService executor = Executors.newFixedThreadPool(PLATFORM_THREADS)) {
+            platform = run(executor);
+        }
+
+        // when
+        Duration virtual;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            virtual = run(executor);
+        }
+
+        // then
+        assertThat(platform.toMillis())
+                .as("platform(%d threads) elapsed", PLATFORM_THREADS)
+                .isGreaterThanOrEqualTo((long) REQUESTS / PLATFORM_THREADS * UPSTREAM_DELAY_MILLIS);
+        assertThat(virtual.multipliedBy(2))
+                .as("virtual=%dms x 2 vs platform=%dms", virtual.toMillis(), platform.toMillis())
+                .isLessThan(platform);
+    }
+
+    private Duration run(ExecutorService executor) throws Exception {
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            String coinId = "coin-" + i;
+            futures.add(executor.submit(() -> client.fetchOhlc(coinId, "usd", "1")));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+}
@@ -2,6 +2,7 @@ package com.crypto.market.insight.slice.config;
 
 import com.crypto.market.insight.config.CacheConfig;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +17,9 @@ class CacheConfigTest {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     @DisplayName("CacheManager에 coinMarkets 캐시가 등록되어 있다")
     void cacheManager_hasCoinMarketsCache() {
@@ -27,4 +31,32 @@ class CacheConfigTest {
     void cacheManager_hasOhlcCache() {
         assertThat(cacheManager.getCache(CacheConfig.OHLC)).isNotNull();
     }
+
+    @Test
+    @DisplayName("CacheManager에 indicator 캐시가 자체 힙 예산으로 등록되어 있다")
+    void cacheManager_hasIndicatorCache() {
+        assertThat(cacheManager.getCache(CacheConfig.INDICATOR)).isNotNull();
+        assertThat(meterRegistry.get("cache.max.weight").tag("cache", CacheConfig.INDICATOR).gauge().value())
+                .isEqualTo(8388608.0);
+    }
+
+    @Test
+    @DisplayName("마켓 캐시가 캐시 이름 태그로 Micrometer에 바인딩되어 있다")
+    void marketCaches_boundToMeterRegistry() {
+        assertThat(meterRegistry.find("cache.gets").functionCounters())
+                .extracting(counter -> counter.getId().getTag("cache"))
+                .contains(CacheConfig.COIN_MARKETS, CacheConfig.COIN_DETAIL, CacheConfig.OHLC,
+                        CacheConfig.INDICATOR);
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", CacheConfig.OHLC).functionCounter())
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("캐시별 힙 예산과 현재 가중치 합 게이지가 등록되어 있다")
+    void weightGauges_registered() {
+        assertThat(meterRegistry.get("cache.max.weight").tag("cache", CacheConfig.OHLC).gauge().value())
+                .isEqualTo(33554432.0);
+        assertThat(meterRegistry.get("cache.weighted.size").tag("cache", CacheConfig.COIN_MARKETS).gauge().value())
+                .isGreaterThanOrEqualTo(0.0);
+    }
 }
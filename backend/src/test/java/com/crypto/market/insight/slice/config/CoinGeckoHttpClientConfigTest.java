@@ -0,0 +1,37 @@
+package com.crypto.market.insight.slice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CoinGeckoHttpClientConfigTest {
+
+    @Autowired
+    private ClientHttpRequestFactory coinGeckoRequestFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("기본 설정은 커넥션 풀 기반 요청 팩토리를 사용한다")
+    void requestFactory_isPooled() {
+        assertThat(coinGeckoRequestFactory).isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+    }
+
+    @Test
+    @DisplayName("커넥션 풀 상태별 게이지가 등록되어 있다")
+    void poolGauges_registered() {
+        assertThat(meterRegistry.find("coingecko.http.pool.connections").gauges())
+                .extracting(gauge -> gauge.getId().getTag("state"))
+                .containsExactlyInAnyOrder("leased", "idle", "pending", "max");
+        assertThat(meterRegistry.get("coingecko.http.pool.connections").tag("state", "max").gauge().value())
+                .isEqualTo(20.0);
+    }
+}
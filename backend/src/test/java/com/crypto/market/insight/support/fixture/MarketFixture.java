@@ -2,6 +2,7 @@ package com.crypto.market.insight.support.fixture;
 
 import com.crypto.market.insight.domain.market.dto.CoinMarketData;
 import com.crypto.market.insight.domain.market.dto.OhlcData;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -66,8 +67,26 @@ public final class MarketFixture {
 
     public static final String OHLC_SINGLE_JSON = "[[1709395200000, 61942, 62211, 61721, 61845]]";
 
+    public static final String MARKET_CHART_JSON = """
+            {
+                "prices": [[1709395200000, 61845], [1709409600000, 62139], [1709424000000, 62068]],
+                "market_caps": [[1709395200000, 1215000000000], [1709409600000, 1221000000000],
+                    [1709424000000, 1219000000000]],
+                "total_volumes": [[1709395200000, 28000000000], [1709409600000, 27500000000],
+                    [1709424000000, 27900000000]]
+            }
+            """;
+
     public static final String EMPTY_ARRAY_JSON = "[]";
 
+    public static final String COINS_LIST_JSON = """
+            [
+                {"id": "bitcoin", "symbol": "btc", "name": "Bitcoin"},
+                {"id": "ethereum", "symbol": "eth", "name": "Ethereum"},
+                {"id": "solana", "symbol": "sol", "name": "Solana"}
+            ]
+            """;
+
     // === Object Fixtures ===
 
     public static CoinMarketData bitcoin() {
@@ -151,4 +170,8 @@ public final class MarketFixture {
                 ohlc(1709424000000L, "62171", "62210", "61821", "62068")
         );
     }
+
+    public static OhlcSeries defaultOhlcSeries() {
+        return OhlcSeries.from(defaultOhlcList());
+    }
 }
@@ -0,0 +1,225 @@
+package com.crypto.market.insight.unit.common.cache;
+
+import static com.crypto.market.insight.support.fixture.MarketFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crypto.market.insight.common.cache.OffHeapTier;
+import com.crypto.market.insight.common.cache.TieredCacheManager;
+import com.crypto.market.insight.common.cache.TieredCaffeineCache;
+import com.crypto.market.insight.domain.market.cache.MarketCacheCodec;
+import com.crypto.market.insight.domain.market.dto.CoinMarketData;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TieredCaffeineCacheTest {
+
+    private static final String CACHE = "ohlc";
+    private static final Duration FRESH_FOR = Duration.ofSeconds(60);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private OffHeapTier l2;
+    private TieredCaffeineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        l2 = new OffHeapTier(CACHE, MarketCacheCodec.INSTANCE, 1024 * 1024, FRESH_FOR, Duration.ofSeconds(300),
+                meterRegistry, nanos::get);
+
+        TieredCacheManager cacheManager = new TieredCacheManager();
+        cacheManager.registerCustomCache(CACHE, Caffeine.newBuilder()
+                .maximumSize(10)
+                .executor(Runnable::run)
+                .evictionListener((key, value, cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        l2.demote(key);
+                    }
+                })
+                .build(), l2);
+        cache = (TieredCaffeineCache) cacheManager.getCache(CACHE);
+    }
+
+    @Test
+    @DisplayName("L1에서 밀려난 항목은 L2에서 승격되어 로더를 호출하지 않는다")
+    void evictedFromL1_promotedFromL2() {
+        // given
+        OhlcSeries series = defaultOhlcSeries();
+        cache.put("bitcoin:usd:1", series);
+        resizeL1(0);
+        resizeL1(10);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        OhlcSeries promoted = cache.get("bitcoin:usd:1", () -> {
+            loads.incrementAndGet();
+            return OhlcSeries.empty();
+        });
+
+        // then
+        assertThat(loads).hasValue(0);
+        assertThat(promoted.closes()).containsExactly(series.closes());
+        assertThat(promoted.version()).isEqualTo(series.version());
+        assertThat(cache.getNativeCache().asMap()).containsKey("bitcoin:usd:1");
+        assertThat(counter("cache.l2.demotions")).isEqualTo(1.0);
+        assertThat(counter("cache.l2.promotions")).isEqualTo(1.0);
+        assertThat(l2.bytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("refresh 기준 시간이 지난 L2 항목은 승격하지 않는다")
+    void staleL2Entry_notPromoted() {
+        // given
+        List<CoinMarketData> coins = defaultCoins();
+        cache.put("usd:null:10:1", coins);
+        cache.getNativeCache().invalidate("usd:null:10:1");
+        nanos.addAndGet(FRESH_FOR.plusSeconds(1).toNanos());
+
+        // when
+        Object value = cache.get("usd:null:10:1");
+
+        // then
+        assertThat(value).isNull();
+        assertThat(meterRegistry.get("cache.l2.gets").tag("result", "stale").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("peek은 승격으로 집계하지 않고 refresh 기준 시간이 지난 항목도 반환하며, 나이는 L2 기록 시각 기준이다")
+    void peek_returnsStaleEntryWithAge() {
+        // given
+        OhlcSeries series = defaultOhlcSeries();
+        l2.put("bitcoin:usd:1", series);
+        nanos.addAndGet(FRESH_FOR.plusSeconds(1).toNanos());
+
+        // when
+        Object value = l2.peek("bitcoin:usd:1");
+
+        // then
+        assertThat(value).isInstanceOf(OhlcSeries.class);
+        assertThat(((OhlcSeries) value).version()).isEqualTo(series.version());
+        assertThat(l2.ageOf("bitcoin:usd:1")).contains(FRESH_FOR.plusSeconds(1));
+        assertThat(l2.ageOf("ethereum:usd:1")).isEmpty();
+        assertThat(counter("cache.l2.promotions")).isZero();
+    }
+
+    @Test
+    @DisplayName("L1 미스는 L2에서 찾고, L2에도 없으면 로더 결과를 L2에 기록한다")
+    void getOrLoad_writesThroughToL2() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        Object first = l2.get("usd:bitcoin", key -> {
+            loads.incrementAndGet();
+            return bitcoin();
+        });
+        Object second = l2.get("usd:bitcoin", key -> {
+            loads.incrementAndGet();
+            return bitcoin();
+        });
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(first).isEqualTo(bitcoin());
+        assertThat(second).isEqualTo(bitcoin());
+        assertThat(l2.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("evict와 clear는 두 계층 모두에서 항목을 제거한다")
+    void evictAndClear_removeFromBothTiers() {
+        // given
+        cache.put("bitcoin:usd:1", defaultOhlcSeries());
+
+        // when
+        cache.evict("bitcoin:usd:1");
+
+        // then
+        assertThat(cache.get("bitcoin:usd:1")).isNull();
+        assertThat(l2.size()).isZero();
+
+        // when
+        cache.put("bitcoin:usd:7", defaultOhlcSeries());
+        cache.clear();
+
+        // then
+        assertThat(l2.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("직렬화할 수 없는 값은 L1에만 보관한다")
+    void unsupportedValue_keptOnlyInL1() {
+        // when
+        cache.put("plain", "value");
+
+        // then
+        assertThat(cache.get("plain").get()).isEqualTo("value");
+        assertThat(l2.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("L2는 maxBytes 안에서 블록을 재사용하고, 제거되거나 만료된 항목의 블록은 반환한다")
+    void offHeapBytes_boundedAndReleased() {
+        // given - 180봉 시계열은 약 7KB라 32KB에는 네 개까지만 들어간다
+        OffHeapTier small = new OffHeapTier("small", MarketCacheCodec.INSTANCE, 32 * 1024, FRESH_FOR,
+                Duration.ofSeconds(300), meterRegistry, nanos::get);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            small.put("bitcoin:usd:" + i, series(180));
+        }
+
+        // then - 블록이 모자라면 기존 항목을 내보내고, 할당량은 maxBytes를 넘지 않는다
+        assertThat(small.size()).isEqualTo(4);
+        assertThat(small.get("bitcoin:usd:19")).isNotNull();
+        assertThat(small.reservedBytes()).isLessThanOrEqualTo(32 * 1024);
+
+        // when
+        small.clear();
+
+        // then
+        assertThat(small.bytes()).isZero();
+
+        // when - 만료된 항목의 블록을 새 항목이 재사용한다
+        for (int i = 0; i < 4; i++) {
+            small.put("bitcoin:usd:" + i, series(180));
+        }
+        nanos.addAndGet(Duration.ofSeconds(301).toNanos());
+        for (int i = 4; i < 8; i++) {
+            small.put("bitcoin:usd:" + i, series(180));
+        }
+
+        // then
+        assertThat(small.size()).isEqualTo(4);
+        assertThat(small.get("bitcoin:usd:7")).isNotNull();
+        assertThat(small.reservedBytes()).isLessThanOrEqualTo(32 * 1024);
+    }
+
+    private void resizeL1(long maximumSize) {
+        cache.getNativeCache().policy().eviction().orElseThrow().setMaximum(maximumSize);
+        cache.getNativeCache().cleanUp();
+    }
+
+    private static OhlcSeries series(int size) {
+        long[] timestamps = new long[size];
+        double[] prices = new double[size];
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = 1709395200000L + i * 3_600_000L;
+            prices[i] = 60000 + i;
+        }
+        return OhlcSeries.of(timestamps, prices, prices, prices, prices);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).tag("cache", CACHE).counter().count();
+    }
+}
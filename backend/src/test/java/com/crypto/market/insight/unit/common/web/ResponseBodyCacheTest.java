@@ -0,0 +1,83 @@
+package com.crypto.market.insight.unit.common.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crypto.market.insight.common.web.ResponseBodyCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+class ResponseBodyCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResponseBodyCache cache =
+            new ResponseBodyCache(new ObjectMapper(), meterRegistry, true, 1_048_576, 256);
+    private final AtomicInteger serializations = new AtomicInteger();
+
+    @Test
+    @DisplayName("원본 버전이 같으면 다시 직렬화하지 않고 같은 바이트와 ETag를 응답한다")
+    void respond_sameVersion_reusesBytes() {
+        // given
+        ResponseEntity<byte[]> first = cache.respond("k", 1L, null, () -> body("a"));
+
+        // when
+        ResponseEntity<byte[]> second = cache.respond("k", 1L, null, () -> body("b"));
+
+        // then
+        assertThat(serializations).hasValue(1);
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(second.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag()).startsWith("\"");
+        assertThat(meterRegistry.get("http.response.cache.requests").tag("result", "hit").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("원본 버전이 바뀌면 새로 직렬화하고 내용이 다르면 ETag도 바뀐다")
+    void respond_newVersion_reserializes() {
+        // given
+        ResponseEntity<byte[]> first = cache.respond("k", 1L, null, () -> body("a"));
+
+        // when
+        ResponseEntity<byte[]> second = cache.respond("k", 2L, null, () -> body("b"));
+
+        // then
+        assertThat(serializations).hasValue(2);
+        assertThat(new String(second.getBody())).contains("\"b\"");
+        assertThat(second.getHeaders().getETag()).isNotEqualTo(first.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("gzip을 허용하는 요청에는 큰 본문을 gzip 바이트와 별도 ETag로 응답한다")
+    void respond_acceptsGzip_returnsCompressedBody() throws IOException {
+        // given
+        Map<String, Object> large = Map.of("value", "x".repeat(1000));
+        ResponseEntity<byte[]> plain = cache.respond("k", 1L, null, () -> large);
+
+        // when
+        ResponseEntity<byte[]> gzipped = cache.respond("k", 1L, "br, gzip;q=0.8", () -> large);
+
+        // then
+        assertThat(gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getHeaders().getETag()).isNotEqualTo(plain.getHeaders().getETag());
+        assertThat(gzipped.getBody().length).isLessThan(plain.getBody().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain.getBody());
+        }
+        assertThat(cache.respond("k", 1L, "gzip;q=0", () -> large).getHeaders()
+                .containsKey(HttpHeaders.CONTENT_ENCODING)).isFalse();
+    }
+
+    private Object body(String value) {
+        serializations.incrementAndGet();
+        return List.of(value);
+    }
+}
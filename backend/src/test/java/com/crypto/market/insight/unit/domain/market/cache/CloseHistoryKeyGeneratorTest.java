@@ -0,0 +1,47 @@
+package com.crypto.market.insight.unit.domain.market.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.crypto.market.insight.domain.market.cache.CloseHistoryKey;
+import com.crypto.market.insight.domain.market.cache.CloseHistoryKeyGenerator;
+import com.crypto.market.insight.domain.market.cache.OhlcKey;
+import com.crypto.market.insight.domain.market.client.CoinGeckoClient;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CloseHistoryKeyGeneratorTest {
+
+    private final CloseHistoryKeyGenerator keyGenerator = new CloseHistoryKeyGenerator();
+
+    @Test
+    @DisplayName("getCloseHistory 파라미터로 CloseHistoryKey를 만든다")
+    void generate_closeHistory() throws Exception {
+        // given
+        Method method = CoinGeckoClient.class.getMethod("getCloseHistory",
+                String.class, String.class, String.class);
+
+        // when
+        Object key = keyGenerator.generate(null, method, "bitcoin", "usd", "365");
+
+        // then
+        assertThat(key).isEqualTo(new CloseHistoryKey("bitcoin", "usd", "365"))
+                .hasSameHashCodeAs(new CloseHistoryKey("bitcoin", "usd", "365"))
+                .hasToString("closes:bitcoin:usd:365");
+        assertThat(key).isNotEqualTo(new CloseHistoryKey("bitcoin", "usd", "7"))
+                .isNotEqualTo(new OhlcKey("bitcoin", "usd", "365"));
+    }
+
+    @Test
+    @DisplayName("파라미터 구성이 다른 메서드면 예외가 발생한다")
+    void generate_otherSignature_throws() throws Exception {
+        // given
+        Method method = CoinGeckoClient.class.getMethod("getCoinsMarkets",
+                String.class, String.class, int.class, int.class);
+
+        // when & then
+        assertThatThrownBy(() -> keyGenerator.generate(null, method, "usd", null, 10, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,45 @@
+package com.crypto.market.insight.unit.domain.market.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.crypto.market.insight.domain.market.cache.CoinMarketsKey;
+import com.crypto.market.insight.domain.market.cache.CoinMarketsKeyGenerator;
+import com.crypto.market.insight.domain.market.client.CoinGeckoClient;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CoinMarketsKeyGeneratorTest {
+
+    private final CoinMarketsKeyGenerator keyGenerator = new CoinMarketsKeyGenerator();
+
+    @Test
+    @DisplayName("getCoinsMarkets 파라미터로 CoinMarketsKey를 만들고 ids가 null이어도 비교할 수 있다")
+    void generate_coinMarkets() throws Exception {
+        // given
+        Method method = CoinGeckoClient.class.getMethod("getCoinsMarkets",
+                String.class, String.class, int.class, int.class);
+
+        // when
+        Object key = keyGenerator.generate(null, method, "usd", null, 10, 1);
+
+        // then
+        assertThat(key).isEqualTo(new CoinMarketsKey("usd", null, 10, 1))
+                .hasSameHashCodeAs(new CoinMarketsKey("usd", null, 10, 1))
+                .hasToString("usd:null:10:1");
+        assertThat(key).isNotEqualTo(new CoinMarketsKey("usd", "bitcoin", 10, 1))
+                .isNotEqualTo(new CoinMarketsKey("usd", null, 10, 2));
+    }
+
+    @Test
+    @DisplayName("파라미터 구성이 다른 메서드면 예외가 발생한다")
+    void generate_otherSignature_throws() throws Exception {
+        // given
+        Method method = CoinGeckoClient.class.getMethod("getOhlc", String.class, String.class, String.class);
+
+        // when & then
+        assertThatThrownBy(() -> keyGenerator.generate(null, method, "bitcoin", "usd", "30"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.crypto.market.insight.unit.domain.market.cache;
+
+import static com.crypto.market.insight.support.fixture.MarketFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crypto.market.insight.domain.market.cache.MarketCacheCodec;
+import com.crypto.market.insight.domain.market.dto.CoinMarketData;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MarketCacheCodecTest {
+
+    private final MarketCacheCodec codec = MarketCacheCodec.INSTANCE;
+
+    @Test
+    @DisplayName("OHLC 시계열을 캔들당 40바이트 컬럼 형식으로 직렬화하고 같은 버전으로 복원한다")
+    void ohlcSeries_roundTrip() {
+        // given
+        OhlcSeries series = defaultOhlcSeries();
+
+        // when
+        byte[] encoded = codec.encode(series);
+        OhlcSeries decoded = (OhlcSeries) codec.decode(ByteBuffer.wrap(encoded));
+
+        // then
+        assertThat(encoded).hasSize(1 + Long.BYTES + Integer.BYTES + series.size() * 40);
+        assertThat(decoded.version()).isEqualTo(series.version());
+        assertThat(decoded.timestamps()).containsExactly(series.timestamps());
+        assertThat(decoded.opens()).containsExactly(series.opens());
+        assertThat(decoded.highs()).containsExactly(series.highs());
+        assertThat(decoded.lows()).containsExactly(series.lows());
+        assertThat(decoded.closes()).containsExactly(series.closes());
+    }
+
+    @Test
+    @DisplayName("코인 마켓 목록을 null 필드와 BigDecimal scale까지 그대로 복원한다")
+    void coinList_roundTrip() {
+        // given
+        CoinMarketData partial = new CoinMarketData("new-coin", "new", "New Coin", null, null, null, null,
+                null, null, null, null, null, null, null, null);
+        List<CoinMarketData> coins = List.of(bitcoin(), ethereum(), partial);
+
+        // when
+        Object decoded = codec.decode(ByteBuffer.wrap(codec.encode(coins)));
+
+        // then
+        assertThat(decoded).isEqualTo(coins);
+    }
+
+    @Test
+    @DisplayName("단일 코인과 빈 시계열을 복원한다")
+    void singleCoinAndEmptySeries_roundTrip() {
+        // when
+        Object coin = codec.decode(ByteBuffer.wrap(codec.encode(bitcoin())));
+        Object series = codec.decode(ByteBuffer.wrap(codec.encode(OhlcSeries.empty())));
+
+        // then
+        assertThat(coin).isEqualTo(bitcoin());
+        assertThat(series).isSameAs(OhlcSeries.empty());
+    }
+
+    @Test
+    @DisplayName("마켓 데이터가 아닌 값은 지원하지 않는다")
+    void supports_onlyMarketValues() {
+        assertThat(codec.supports(defaultOhlcSeries())).isTrue();
+        assertThat(codec.supports(defaultCoins())).isTrue();
+        assertThat(codec.supports(List.of())).isTrue();
+        assertThat(codec.supports(List.of("bitcoin"))).isFalse();
+        assertThat(codec.supports("bitcoin")).isFalse();
+    }
+}
@@ -0,0 +1,92 @@
+package com.crypto.market.insight.unit.domain.market.cache;
+
+import static com.crypto.market.insight.support.fixture.MarketFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crypto.market.insight.domain.market.cache.MarketValueWeigher;
+import com.crypto.market.insight.domain.market.dto.CoinMarketData;
+import com.crypto.market.insight.domain.market.indicator.IndicatorCalculator;
+import com.crypto.market.insight.domain.market.indicator.IndicatorValues;
+import com.crypto.market.insight.domain.market.model.vo.IndicatorSpec;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MarketValueWeigherTest {
+
+    private final MarketValueWeigher weigher = MarketValueWeigher.INSTANCE;
+
+    @Test
+    @DisplayName("코인 목록의 가중치는 항목 수에 비례한다")
+    void coinList_weighsByCount() {
+        // given
+        List<CoinMarketData> page = Collections.nCopies(250, bitcoin());
+
+        // when
+        int pageWeight = weigher.weigh("usd:null:250:1", page);
+        int singleWeight = weigher.weigh("usd:bitcoin", bitcoin());
+
+        // then
+        assertThat(pageWeight).isGreaterThan(100 * singleWeight);
+        assertThat(MarketValueWeigher.estimate(page))
+                .isGreaterThanOrEqualTo(250 * MarketValueWeigher.estimate(bitcoin()));
+    }
+
+    @Test
+    @DisplayName("OHLC 시계열은 캔들당 40바이트로 추정한다")
+    void ohlcSeries_weighsByCandles() {
+        // given
+        OhlcSeries shortSeries = series(48);
+        OhlcSeries longSeries = series(540);
+
+        // when
+        long shortBytes = MarketValueWeigher.estimate(shortSeries);
+        long longBytes = MarketValueWeigher.estimate(longSeries);
+
+        // then
+        assertThat(longBytes - shortBytes).isEqualTo((540 - 48) * 40L);
+        assertThat(weigher.weigh("bitcoin:usd:90", longSeries))
+                .isGreaterThan(weigher.weigh("bitcoin:usd:1", shortSeries));
+    }
+
+    @Test
+    @DisplayName("null 필드가 많은 코인은 더 가볍다")
+    void coin_nullFieldsWeighLess() {
+        // given
+        CoinMarketData partial = new CoinMarketData("new-coin", "new", "New Coin", null, null, null, null,
+                null, null, null, null, null, null, null, null);
+
+        // when & then
+        assertThat(MarketValueWeigher.estimate(partial)).isLessThan(MarketValueWeigher.estimate(bitcoin()));
+        assertThat(weigher.weigh("usd:new-coin", partial)).isPositive();
+    }
+
+    @Test
+    @DisplayName("지표 결과는 출력 선 수와 길이에 비례한다")
+    void indicatorValues_weighByLinesAndLength() {
+        // given
+        OhlcSeries series = series(180);
+        IndicatorValues sma = IndicatorCalculator.compute(series.closes(), IndicatorSpec.parse("sma:20"));
+        IndicatorValues macd = IndicatorCalculator.compute(series.closes(), IndicatorSpec.parse("macd"));
+
+        // when
+        long smaBytes = MarketValueWeigher.estimate(sma);
+        long macdBytes = MarketValueWeigher.estimate(macd);
+
+        // then
+        assertThat(smaBytes).isGreaterThan(180L * Double.BYTES);
+        assertThat(macdBytes - smaBytes).isGreaterThan(2 * 180L * Double.BYTES);
+    }
+
+    private static OhlcSeries series(int candles) {
+        long[] timestamps = new long[candles];
+        double[] prices = new double[candles];
+        for (int i = 0; i < candles; i++) {
+            timestamps[i] = 1709395200000L + i * 1_800_000L;
+            prices[i] = 60000 + i;
+        }
+        return OhlcSeries.of(timestamps, prices, prices, prices, prices);
+    }
+}
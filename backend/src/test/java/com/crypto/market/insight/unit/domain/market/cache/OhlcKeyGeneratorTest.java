@@ -0,0 +1,44 @@
+package com.crypto.market.insight.unit.domain.market.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.crypto.market.insight.domain.market.cache.OhlcKey;
+import com.crypto.market.insight.domain.market.cache.OhlcKeyGenerator;
+import com.crypto.market.insight.domain.market.client.CoinGeckoClient;
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OhlcKeyGeneratorTest {
+
+    private final OhlcKeyGenerator keyGenerator = new OhlcKeyGenerator();
+
+    @Test
+    @DisplayName("getOhlc 파라미터로 OhlcKey를 만든다")
+    void generate_ohlc() throws Exception {
+        // given
+        Method method = CoinGeckoClient.class.getMethod("getOhlc", String.class, String.class, String.class);
+
+        // when
+        Object key = keyGenerator.generate(null, method, "bitcoin", "usd", "30");
+
+        // then
+        assertThat(key).isEqualTo(new OhlcKey("bitcoin", "usd", "30"))
+                .hasSameHashCodeAs(new OhlcKey("bitcoin", "usd", "30"))
+                .hasToString("bitcoin:usd:30");
+        assertThat(key).isNotEqualTo(new OhlcKey("bitcoin", "usd", "7"));
+    }
+
+    @Test
+    @DisplayName("파라미터 구성이 다른 메서드면 예외가 발생한다")
+    void generate_otherSignature_throws() throws Exception {
+        // given
+        Method method = CoinGeckoClient.class.getMethod("getCoinsMarkets",
+                String.class, String.class, int.class, int.class);
+
+        // when & then
+        assertThatThrownBy(() -> keyGenerator.generate(null, method, "usd", null, 10, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,198 @@
+package com.crypto.market.insight.unit.domain.market.client;
+
+import static com.crypto.market.insight.support.fixture.MarketFixture.*;
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.crypto.market.insight.common.exception.ErrorCode;
+import com.crypto.market.insight.config.CacheConfig;
+import com.crypto.market.insight.domain.market.client.CoinDetailBatchLoader;
+import com.crypto.market.insight.domain.market.client.CoinGeckoClient;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter.Priority;
+import com.crypto.market.insight.domain.market.client.RequestCoalescer;
+import com.crypto.market.insight.domain.market.dto.CoinMarketData;
+import com.crypto.market.insight.domain.market.exception.CoinGeckoApiException;
+import com.crypto.market.insight.domain.market.store.CandleStore;
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.web.client.RestClient;
+
+@WireMockTest
+class CoinDetailBatchLoaderTest {
+
+    private CoinGeckoClient client;
+    private CaffeineCacheManager cacheManager;
+    private CoinDetailBatchLoader loader;
+
+    @BeforeEach
+    void setUp(WireMockRuntimeInfo wmRuntimeInfo) {
+        RestClient restClient = RestClient.builder()
+                .baseUrl(wmRuntimeInfo.getHttpBaseUrl())
+                .build();
+        client = new CoinGeckoClient(restClient, new RequestCoalescer(new SimpleMeterRegistry()),
+                CandleStore.disabled());
+        cacheManager = new CaffeineCacheManager(CacheConfig.COIN_DETAIL);
+        loader = new CoinDetailBatchLoader(client, cacheManager, 50, 5000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loader.shutdown();
+    }
+
+    @Test
+    @DisplayName("윈도우 안의 상세 조회는 하나의 ids 요청으로 합쳐진다")
+    void concurrentLookups_areBatchedIntoSingleRequest() {
+        // given
+        stubFor(get(urlPathEqualTo("/coins/markets"))
+                .withQueryParam("ids", equalTo("bitcoin,ethereum"))
+                .withQueryParam("per_page", equalTo("250"))
+                .willReturn(okJson(coinsMarketsJson(BITCOIN_MARKET_JSON, ETHEREUM_MARKET_JSON))));
+
+        // when
+        CompletableFuture<CoinMarketData> btc = CompletableFuture.supplyAsync(() -> loader.get("usd", "bitcoin"));
+        sleep(10);
+        CompletableFuture<CoinMarketData> eth = CompletableFuture.supplyAsync(() -> loader.get("usd", "ethereum"));
+
+        // then
+        assertThat(btc.join().id()).isEqualTo("bitcoin");
+        assertThat(eth.join().id()).isEqualTo("ethereum");
+        verify(1, getRequestedFor(urlPathEqualTo("/coins/markets")));
+    }
+
+    @Test
+    @DisplayName("배치 결과는 코인별 캐시 항목으로 저장되어 재조회 시 업스트림을 호출하지 않는다")
+    void cachedPerCoin_afterBatch() {
+        // given
+        stubFor(get(urlPathEqualTo("/coins/markets"))
+                .willReturn(okJson(coinsMarketsJson(BITCOIN_MARKET_JSON))));
+
+        // when
+        loader.get("usd", "bitcoin");
+        CoinMarketData second = loader.get("usd", "bitcoin");
+
+        // then
+        assertThat(second.id()).isEqualTo("bitcoin");
+        verify(1, getRequestedFor(urlPathEqualTo("/coins/markets")));
+    }
+
+    @Test
+    @DisplayName("응답에 없는 코인은 null을 반환한다")
+    void unknownCoin_returnsNull() {
+        // given
+        stubFor(get(urlPathEqualTo("/coins/markets"))
+                .willReturn(okJson(EMPTY_ARRAY_JSON)));
+
+        // when
+        CoinMarketData result = loader.get("usd", "unknown-coin");
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    @DisplayName("적재를 기다리는 스레드가 모두 막혀 있어도 flush는 별도 스레드에서 실행된다")
+    void loadAsync_doesNotNeedCallerExecutor() throws Exception {
+        // given
+        stubFor(get(urlPathEqualTo("/coins/markets"))
+                .willReturn(okJson(coinsMarketsJson(BITCOIN_MARKET_JSON, ETHEREUM_MARKET_JSON))));
+        ExecutorService single = Executors.newFixedThreadPool(1);
+
+        // when - 유일한 실행기 스레드가 적재 결과를 기다린다
+        try {
+            Future<CoinMarketData> btc = single.submit(() -> loader.load("usd:bitcoin"));
+            CoinMarketData eth = loader.loadAsync("usd:ethereum").get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(btc.get(5, TimeUnit.SECONDS).id()).isEqualTo("bitcoin");
+            assertThat(eth.id()).isEqualTo("ethereum");
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("배치가 제한 시간 안에 끝나지 않으면 대기를 멈추고 타임아웃 예외가 발생한다")
+    void load_slowUpstream_timesOut() {
+        // given
+        stubFor(get(urlPathEqualTo("/coins/markets"))
+                .willReturn(okJson(coinsMarketsJson(BITCOIN_MARKET_JSON)).withFixedDelay(2000)));
+        loader.shutdown();
+        loader = new CoinDetailBatchLoader(client, cacheManager, 10, 200);
+
+        // when & then
+        assertThatThrownBy(() -> loader.load("usd:bitcoin"))
+                .isInstanceOf(CoinGeckoApiException.class)
+                .satisfies(ex -> assertThat(((CoinGeckoApiException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.COINGECKO_TIMEOUT));
+    }
+
+    @Test
+    @DisplayName("조회 중 Error가 발생해도 배치의 대기 중인 호출은 타임아웃을 기다리지 않고 실패한다")
+    void flush_error_failsPendingFutures() {
+        // given
+        CoinGeckoClient failing = mock(CoinGeckoClient.class);
+        when(failing.fetchCoinsMarkets(anyString(), anyString(), anyInt(), anyInt()))
+                .thenThrow(new LinkageError("broken"));
+        loader.shutdown();
+        loader = new CoinDetailBatchLoader(failing, cacheManager, 10, 5000);
+
+        // when & then
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> loader.load("usd:bitcoin")).isInstanceOf(LinkageError.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(2000);
+    }
+
+    @Test
+    @DisplayName("배치는 합류한 호출자 중 가장 높은 우선순위로 업스트림을 호출한다")
+    void flush_usesHighestCallerPriority() throws Exception {
+        // given
+        List<Priority> priorities = new CopyOnWriteArrayList<>();
+        CoinGeckoClient recording = mock(CoinGeckoClient.class);
+        when(recording.fetchCoinsMarkets(anyString(), anyString(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            priorities.add(CoinGeckoRateLimiter.currentPriority());
+            return List.of();
+        });
+        loader.shutdown();
+        loader = new CoinDetailBatchLoader(recording, cacheManager, 50, 5000);
+
+        // when - 재적재만 모인 배치와, 재적재와 대화형 조회가 섞인 배치
+        CoinGeckoRateLimiter.withPriority(Priority.BACKGROUND, () -> loader.loadAsync("usd:bitcoin"))
+                .get(5, TimeUnit.SECONDS);
+        CompletableFuture<CoinMarketData> reload =
+                CoinGeckoRateLimiter.withPriority(Priority.BACKGROUND, () -> loader.loadAsync("usd:ethereum"));
+        CompletableFuture<CoinMarketData> interactive = loader.loadAsync("usd:solana");
+        reload.get(5, TimeUnit.SECONDS);
+        interactive.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(priorities).containsExactly(Priority.BACKGROUND, Priority.INTERACTIVE);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -6,12 +6,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.crypto.market.insight.common.exception.ErrorCode;
+import com.crypto.market.insight.domain.market.cache.CloseHistoryKey;
+import com.crypto.market.insight.domain.market.cache.CoinMarketsKey;
+import com.crypto.market.insight.domain.market.cache.OhlcKey;
 import com.crypto.market.insight.domain.market.client.CoinGeckoClient;
+import com.crypto.market.insight.domain.market.client.RequestCoalescer;
 import com.crypto.market.insight.domain.market.dto.CoinMarketData;
-import com.crypto.market.insight.domain.market.dto.OhlcData;
 import com.crypto.market.insight.domain.market.exception.CoinGeckoApiException;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import com.crypto.market.insight.domain.market.store.CandleStore;
 import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +28,9 @@ import org.springframework.web.client.RestClient;
 @WireMockTest
 class CoinGeckoClientTest {
 
+    private static final long FOUR_HOURS = 4 * 60 * 60 * 1000L;
+    private static final long DAY = 24 * 60 * 60 * 1000L;
+
     private CoinGeckoClient client;
 
     @BeforeEach
@@ -29,7 +38,8 @@ class CoinGeckoClientTest {
         RestClient restClient = RestClient.builder()
                 .baseUrl(wmRuntimeInfo.getHttpBaseUrl())
                 .build();
-        client = new CoinGeckoClient(restClient);
+        client = new CoinGeckoClient(restClient, new RequestCoalescer(new SimpleMeterRegistry()),
+                CandleStore.disabled());
     }
 
     @Test
@@ -77,13 +87,13 @@ class CoinGeckoClientTest {
                 .willReturn(okJson(OHLC_DATA_JSON)));
 
         // when
-        List<OhlcData> result = client.getOhlc("bitcoin", "usd", "7");
+        OhlcSeries result = client.getOhlc("bitcoin", "usd", "7");
 
         // then
-        assertThat(result).hasSize(3);
-        assertThat(result.getFirst().timestamp()).isEqualTo(1709395200000L);
-        assertThat(result.getFirst().open()).isEqualByComparingTo("61942");
-        assertThat(result.getFirst().close()).isEqualByComparingTo("61845");
+        assertThat(result.size()).isEqualTo(3);
+        assertThat(result.timestamp(0)).isEqualTo(1709395200000L);
+        assertThat(result.open(0)).isEqualTo(61942.0);
+        assertThat(result.close(0)).isEqualTo(61845.0);
     }
 
     @Test
@@ -94,10 +104,157 @@ class CoinGeckoClientTest {
                 .willReturn(okJson(EMPTY_ARRAY_JSON)));
 
         // when
-        List<OhlcData> result = client.getOhlc("bitcoin", "usd", "1");
+        OhlcSeries result = client.getOhlc("bitcoin", "usd", "1");
 
         // then
-        assertThat(result).isEmpty();
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("getCloseHistory - market_chart 가격을 종가 시계열로 조회한다")
+    void getCloseHistory_returnsCloseSeries() {
+        // given
+        stubFor(get(urlPathEqualTo("/coins/bitcoin/market_chart"))
+                .withQueryParam("vs_currency", equalTo("usd"))
+                .withQueryParam("days", equalTo("365"))
+                .willReturn(okJson(MARKET_CHART_JSON)));
+
+        // when
+        OhlcSeries result = client.getCloseHistory("bitcoin", "usd", "365");
+
+        // then
+        assertThat(result.timestamps()).containsExactly(1709395200000L, 1709409600000L, 1709424000000L);
+        assertThat(result.closes()).containsExactly(61845.0, 62139.0, 62068.0);
+    }
+
+    @Test
+    @DisplayName("load - 캐시 키를 해석해 coinMarkets를 재적재한다")
+    void load_coinMarketsKey_fetchesMarkets() {
+        // given
+        stubFor(get(urlPathEqualTo("/coins/markets"))
+                .withQueryParam("vs_currency", equalTo("usd"))
+                .withQueryParam("ids", equalTo("bitcoin"))
+                .withQueryParam("per_page", equalTo("100"))
+                .withQueryParam("page", equalTo("2"))
+                .willReturn(okJson(coinsMarketsJson(BITCOIN_MARKET_JSON))));
+
+        // when
+        Object result = client.load(new CoinMarketsKey("usd", "bitcoin", 100, 2));
+
+        // then
+        assertThat(result).asList().hasSize(1);
+    }
+
+    @Test
+    @DisplayName("load - 캐시 키를 해석해 OHLC를 재적재한다")
+    void load_ohlcKey_fetchesOhlc() {
+        // given
+        stubFor(get(urlPathEqualTo("/coins/bitcoin/ohlc"))
+                .withQueryParam("vs_currency", equalTo("usd"))
+                .withQueryParam("days", equalTo("30"))
+                .willReturn(okJson(OHLC_DATA_JSON)));
+
+        // when
+        Object result = client.load(new OhlcKey("bitcoin", "usd", "30"));
+
+        // then
+        assertThat(result).isInstanceOfSatisfying(OhlcSeries.class,
+                series -> assertThat(series.size()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("load - 종가 이력 키는 market_chart를 다시 받는다")
+    void load_closeHistoryKey_fetchesMarketChart() {
+        // given
+        stubFor(get(urlPathEqualTo("/coins/bitcoin/market_chart"))
+                .withQueryParam("days", equalTo("40"))
+                .willReturn(okJson(MARKET_CHART_JSON)));
+
+        // when
+        Object result = client.reload(new CloseHistoryKey("bitcoin", "usd", "40"), defaultOhlcSeries());
+
+        // then
+        verify(1, getRequestedFor(urlPathEqualTo("/coins/bitcoin/market_chart")));
+        assertThat(result).isInstanceOfSatisfying(OhlcSeries.class,
+                series -> assertThat(series.size()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("reload - 캐시된 OHLC는 작은 days로 최근 구간만 받아 합친다")
+    void reload_ohlc_mergesTail() {
+        // given - 4시간봉 30일 시계열, 마지막 캔들은 진행 중
+        long last = System.currentTimeMillis() / FOUR_HOURS * FOUR_HOURS;
+        OhlcSeries cached = fourHourSeries(last - 29 * DAY, last, 1.0);
+        stubFor(get(urlPathEqualTo("/coins/bitcoin/ohlc"))
+                .withQueryParam("days", equalTo("7"))
+                .willReturn(okJson(ohlcJson(last - 6 * DAY, last, 2.0))));
+
+        // when
+        Object result = client.reload(new OhlcKey("bitcoin", "usd", "30"), cached);
+
+        // then
+        verify(0, getRequestedFor(urlPathEqualTo("/coins/bitcoin/ohlc")).withQueryParam("days", equalTo("30")));
+        assertThat(result).isInstanceOfSatisfying(OhlcSeries.class, series -> {
+            assertThat(series.firstTimestamp()).isEqualTo(cached.firstTimestamp());
+            assertThat(series.lastTimestamp()).isEqualTo(last);
+            assertThat(series.close(series.size() - 1)).isEqualTo(2.0);
+            assertThat(series.close(0)).isEqualTo(1.0);
+        });
+    }
+
+    @Test
+    @DisplayName("reload - 조회 기간 밖으로 밀려난 캔들은 기간의 10%만큼 쌓이기 전까지 버리지 않는다")
+    void reload_ohlc_keepsHeadWithinTrimMargin() {
+        // given - 조회 기간(30일)보다 하루 긴 시계열
+        long last = System.currentTimeMillis() / FOUR_HOURS * FOUR_HOURS;
+        OhlcSeries cached = fourHourSeries(last - 31 * DAY, last, 1.0);
+        stubFor(get(urlPathEqualTo("/coins/bitcoin/ohlc"))
+                .withQueryParam("days", equalTo("7"))
+                .willReturn(okJson(ohlcJson(last - 6 * DAY, last, 2.0))));
+
+        // when
+        Object result = client.reload(new OhlcKey("bitcoin", "usd", "30"), cached);
+
+        // then - 앞부분이 그대로여야 지표를 이어서 계산할 수 있다
+        assertThat(result).isInstanceOfSatisfying(OhlcSeries.class,
+                series -> assertThat(series.firstTimestamp()).isEqualTo(cached.firstTimestamp()));
+    }
+
+    @Test
+    @DisplayName("reload - 밀려난 구간이 기간의 10%를 넘으면 조회 기간 밖 캔들을 한 번에 버린다")
+    void reload_ohlc_trimsHeadBeyondMargin() {
+        // given - 조회 기간(30일)보다 나흘 긴 시계열
+        long last = System.currentTimeMillis() / FOUR_HOURS * FOUR_HOURS;
+        OhlcSeries cached = fourHourSeries(last - 34 * DAY, last, 1.0);
+        stubFor(get(urlPathEqualTo("/coins/bitcoin/ohlc"))
+                .withQueryParam("days", equalTo("7"))
+                .willReturn(okJson(ohlcJson(last - 6 * DAY, last, 2.0))));
+
+        // when
+        Object result = client.reload(new OhlcKey("bitcoin", "usd", "30"), cached);
+
+        // then
+        assertThat(result).isInstanceOfSatisfying(OhlcSeries.class, series -> {
+            assertThat(series.firstTimestamp()).isGreaterThan(last - 30 * DAY - FOUR_HOURS);
+            assertThat(series.lastTimestamp()).isEqualTo(last);
+        });
+    }
+
+    @Test
+    @DisplayName("reload - 더 작은 days가 없으면 전체 구간을 다시 받는다")
+    void reload_ohlcOneDay_fetchesFullWindow() {
+        // given
+        stubFor(get(urlPathEqualTo("/coins/bitcoin/ohlc"))
+                .withQueryParam("days", equalTo("1"))
+                .willReturn(okJson(OHLC_DATA_JSON)));
+
+        // when
+        Object result = client.reload(new OhlcKey("bitcoin", "usd", "1"), defaultOhlcSeries());
+
+        // then
+        verify(1, getRequestedFor(urlPathEqualTo("/coins/bitcoin/ohlc")).withQueryParam("days", equalTo("1")));
+        assertThat(result).isInstanceOfSatisfying(OhlcSeries.class,
+                series -> assertThat(series.size()).isEqualTo(3));
     }
 
     @Test
@@ -112,7 +269,8 @@ class CoinGeckoClientTest {
                 .baseUrl(wmRuntimeInfo.getHttpBaseUrl())
                 .requestFactory(factory)
                 .build();
-        CoinGeckoClient clientWithTimeout = new CoinGeckoClient(timeoutClient);
+        CoinGeckoClient clientWithTimeout = new CoinGeckoClient(timeoutClient,
+                new RequestCoalescer(new SimpleMeterRegistry()), CandleStore.disabled());
 
         stubFor(get(urlPathEqualTo("/coins/markets"))
                 .willReturn(ok().withFixedDelay(500)));
@@ -125,4 +283,27 @@ class CoinGeckoClientTest {
                     assertThat(e.getErrorCode()).isEqualTo(ErrorCode.COINGECKO_TIMEOUT);
                 });
     }
+
+    private static OhlcSeries fourHourSeries(long from, long to, double price) {
+        int n = (int) ((to - from) / FOUR_HOURS) + 1;
+        long[] timestamps = new long[n];
+        double[] prices = new double[n];
+        for (int i = 0; i < n; i++) {
+            timestamps[i] = from + i * FOUR_HOURS;
+            prices[i] = price;
+        }
+        return OhlcSeries.of(timestamps, prices, prices.clone(), prices.clone(), prices.clone());
+    }
+
+    private static String ohlcJson(long from, long to, double price) {
+        StringBuilder json = new StringBuilder("[");
+        for (long t = from; t <= to; t += FOUR_HOURS) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append('[').append(t).append(',').append(price).append(',').append(price).append(',')
+                    .append(price).append(',').append(price).append(']');
+        }
+        return json.append(']').toString();
+    }
 }
@@ -0,0 +1,80 @@
+package com.crypto.market.insight.unit.domain.market.client;
+
+import static com.crypto.market.insight.support.fixture.MarketFixture.*;
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.crypto.market.insight.domain.market.client.CoinGeckoMetricsInterceptor;
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+@WireMockTest
+class CoinGeckoMetricsInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RestClient restClient;
+
+    @BeforeEach
+    void setUp(WireMockRuntimeInfo wmRuntimeInfo) {
+        meterRegistry = new SimpleMeterRegistry();
+        restClient = RestClient.builder()
+                .baseUrl(wmRuntimeInfo.getHttpBaseUrl() + "/api/v3")
+                .requestInterceptor(new CoinGeckoMetricsInterceptor(meterRegistry))
+                .build();
+    }
+
+    @Test
+    @DisplayName("코인 ID를 제외한 경로 템플릿과 상태/결과 태그로 호출 시간을 기록한다")
+    void intercept_recordsTimerByPathTemplate() {
+        // given
+        stubFor(get(urlPathMatching("/api/v3/coins/.+/ohlc")).willReturn(okJson(OHLC_DATA_JSON)));
+
+        // when
+        restClient.get().uri("/coins/bitcoin/ohlc").retrieve().toBodilessEntity();
+        restClient.get().uri("/coins/ethereum/ohlc").retrieve().toBodilessEntity();
+
+        // then
+        Timer timer = meterRegistry.get("coingecko.http.requests")
+                .tag("path", "/coins/{id}/ohlc")
+                .tag("status", "200")
+                .tag("outcome", "SUCCESS")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("서버 오류 응답은 SERVER_ERROR 결과로 기록한다")
+    void intercept_serverError_recordsOutcome() {
+        // given
+        stubFor(get(urlPathEqualTo("/api/v3/coins/markets")).willReturn(serverError()));
+
+        // when
+        assertThatThrownBy(() -> restClient.get().uri("/coins/markets").retrieve().toBodilessEntity())
+                .isInstanceOf(HttpServerErrorException.class);
+
+        // then
+        assertThat(meterRegistry.get("coingecko.http.requests")
+                .tag("path", "/coins/markets")
+                .tag("status", "500")
+                .tag("outcome", "SERVER_ERROR")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 경로는 other로 묶어 태그 수를 제한한다")
+    void pathTemplate_unknownPath_isOther() {
+        assertThat(CoinGeckoMetricsInterceptor.pathTemplate("/api/v3/coins/markets")).isEqualTo("/coins/markets");
+        assertThat(CoinGeckoMetricsInterceptor.pathTemplate("/coins/bitcoin/ohlc")).isEqualTo("/coins/{id}/ohlc");
+        assertThat(CoinGeckoMetricsInterceptor.pathTemplate("/coins/list")).isEqualTo("/coins/list");
+        assertThat(CoinGeckoMetricsInterceptor.pathTemplate("/coins/bitcoin/market_chart")).isEqualTo("other");
+        assertThat(CoinGeckoMetricsInterceptor.pathTemplate("/coins/a/b/ohlc")).isEqualTo("other");
+    }
+}
@@ -0,0 +1,122 @@
+package com.crypto.market.insight.unit.domain.market.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.crypto.market.insight.common.exception.ErrorCode;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter.Priority;
+import com.crypto.market.insight.domain.market.exception.CoinGeckoApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CoinGeckoRateLimiterTest {
+
+    private CoinGeckoRateLimiter limiter(int requestsPerMinute, int burst, int backgroundReserve, long maxWaitMillis) {
+        return new CoinGeckoRateLimiter(requestsPerMinute, burst, backgroundReserve, 10, maxWaitMillis, 60,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("burst 만큼은 대기 없이 토큰을 발급한다")
+    void acquire_withinBurst_grantsImmediately() {
+        // given
+        CoinGeckoRateLimiter limiter = limiter(30, 3, 0, 0);
+
+        // when & then
+        assertThatCode(() -> {
+            limiter.acquire();
+            limiter.acquire();
+            limiter.acquire();
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("토큰이 없고 최대 대기 시간이 지나면 rate limit 예외가 발생한다")
+    void acquire_exhausted_throwsAfterMaxWait() {
+        // given
+        CoinGeckoRateLimiter limiter = limiter(1, 1, 0, 50);
+        limiter.acquire();
+
+        // when & then
+        assertThatThrownBy(limiter::acquire)
+                .isInstanceOf(CoinGeckoApiException.class)
+                .satisfies(ex -> assertThat(((CoinGeckoApiException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.COINGECKO_RATE_LIMIT));
+    }
+
+    @Test
+    @DisplayName("토큰이 보충되면 대기 후 발급한다")
+    void acquire_waitsForRefill() {
+        // given - 초당 100개 보충
+        CoinGeckoRateLimiter limiter = limiter(6000, 1, 0, 1000);
+        limiter.acquire();
+
+        // when & then
+        assertThatCode(limiter::acquire).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Retry-After 동안은 토큰이 있어도 발급하지 않는다")
+    void onRateLimited_pausesUntilRetryAfter() {
+        // given
+        CoinGeckoRateLimiter limiter = limiter(6000, 10, 0, 50);
+
+        // when
+        limiter.onRateLimited("5");
+
+        // then
+        assertThatThrownBy(limiter::acquire).isInstanceOf(CoinGeckoApiException.class);
+    }
+
+    @Test
+    @DisplayName("Retry-After가 최대 대기 시간을 넘으면 기다리지 않고 바로 거절한다")
+    void onRateLimited_beyondMaxWait_failsFast() {
+        // given
+        CoinGeckoRateLimiter limiter = limiter(6000, 10, 0, 5000);
+        limiter.onRateLimited("60");
+
+        // when
+        long start = System.nanoTime();
+        assertThatThrownBy(limiter::acquire).isInstanceOf(CoinGeckoApiException.class);
+
+        // then
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("BACKGROUND 요청은 예약분을 남겨두고 INTERACTIVE 요청만 예약분을 사용한다")
+    void backgroundPriority_keepsReserveForInteractive() {
+        // given
+        CoinGeckoRateLimiter limiter = limiter(1, 2, 1, 50);
+        limiter.acquire(Priority.BACKGROUND);
+
+        // when & then
+        assertThatThrownBy(() -> limiter.acquire(Priority.BACKGROUND))
+                .isInstanceOf(CoinGeckoApiException.class);
+        assertThatCode(() -> limiter.acquire(Priority.INTERACTIVE)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("withPriority는 현재 스레드의 우선순위를 작업 동안만 변경한다")
+    void withPriority_appliesOnlyDuringTask() {
+        // given
+        CoinGeckoRateLimiter limiter = limiter(1, 2, 1, 50);
+
+        // when
+        CoinGeckoRateLimiter.withPriority(Priority.BACKGROUND, () -> {
+            limiter.acquire();
+            return null;
+        });
+
+        // then - BACKGROUND는 예약분을 쓸 수 없지만 기본 우선순위(INTERACTIVE)는 사용 가능
+        assertThatThrownBy(() -> CoinGeckoRateLimiter.withPriority(Priority.BACKGROUND, () -> {
+            limiter.acquire();
+            return null;
+        })).isInstanceOf(CoinGeckoApiException.class);
+        assertThatCode(limiter::acquire).doesNotThrowAnyException();
+    }
+}
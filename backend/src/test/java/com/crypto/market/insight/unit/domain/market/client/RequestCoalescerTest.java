@@ -0,0 +1,216 @@
+package com.crypto.market.insight.unit.domain.market.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter.Priority;
+import com.crypto.market.insight.domain.market.client.RequestCoalescer;
+import com.crypto.market.insight.domain.market.exception.CoinGeckoApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescer coalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new RequestCoalescer(meterRegistry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 호출은 한 번만 실행되고 결과를 공유한다")
+    void concurrentCalls_sameKey_shareSingleCall() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        List<Future<String>> futures = submitAll(() -> coalescer.execute("ohlc", "bitcoin:usd:1", () -> {
+            calls.incrementAndGet();
+            await(release);
+            return "result";
+        }));
+        waitForFollowers(CALLERS - 1);
+        release.countDown();
+
+        // then
+        for (Future<String> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(meterRegistry.get("coingecko.coalescer.requests").tag("role", "follower").counter().count())
+                .isEqualTo(CALLERS - 1);
+    }
+
+    @Test
+    @DisplayName("leader의 예외는 합류한 호출에도 그대로 전달된다")
+    void concurrentCalls_leaderFails_followersReceiveSameException() throws Exception {
+        // given
+        CoinGeckoApiException failure = CoinGeckoApiException.rateLimitExceeded();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        List<Future<String>> futures = submitAll(() -> coalescer.execute("ohlc", "bitcoin:usd:1", () -> {
+            await(release);
+            throw failure;
+        }));
+        waitForFollowers(CALLERS - 1);
+        release.countDown();
+
+        // then
+        for (Future<String> future : futures) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .hasCause(failure);
+        }
+    }
+
+    @Test
+    @DisplayName("leader가 Error로 끝나도 합류한 호출이 멈추지 않고 같은 Error를 받는다")
+    void concurrentCalls_leaderThrowsError_followersComplete() throws Exception {
+        // given
+        StackOverflowError failure = new StackOverflowError("leader");
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        List<Future<String>> futures = submitAll(() -> coalescer.execute("ohlc", "bitcoin:usd:1", () -> {
+            await(release);
+            throw failure;
+        }));
+        waitForFollowers(CALLERS - 1);
+        release.countDown();
+
+        // then
+        for (Future<String> future : futures) {
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .hasCause(failure);
+        }
+    }
+
+    @Test
+    @DisplayName("INTERACTIVE 호출은 BACKGROUND leader에 합류하지 않고 자신의 우선순위로 호출한다")
+    void interactiveCall_doesNotInheritBackgroundPriority() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        List<Priority> priorities = new CopyOnWriteArrayList<>();
+        Future<String> background = executor.submit(() -> coalescer.execute("ohlc", "bitcoin:usd:1",
+                Priority.BACKGROUND, () -> {
+                    priorities.add(CoinGeckoRateLimiter.currentPriority());
+                    await(release);
+                    return "background";
+                }));
+        waitForLeaders(1);
+
+        // when
+        String interactive = coalescer.execute("ohlc", "bitcoin:usd:1", Priority.INTERACTIVE, () -> {
+            priorities.add(CoinGeckoRateLimiter.currentPriority());
+            return "interactive";
+        });
+        release.countDown();
+
+        // then
+        assertThat(interactive).isEqualTo("interactive");
+        assertThat(background.get(5, TimeUnit.SECONDS)).isEqualTo("background");
+        assertThat(priorities).containsExactly(Priority.BACKGROUND, Priority.INTERACTIVE);
+    }
+
+    @Test
+    @DisplayName("BACKGROUND 호출은 진행 중인 INTERACTIVE 호출에 합류한다")
+    void backgroundCall_joinsInteractiveFlight() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> interactive = executor.submit(() -> coalescer.execute("ohlc", "bitcoin:usd:1",
+                Priority.INTERACTIVE, () -> {
+                    calls.incrementAndGet();
+                    await(release);
+                    return "result";
+                }));
+        waitForLeaders(1);
+
+        // when
+        Future<String> background = executor.submit(() -> coalescer.execute("ohlc", "bitcoin:usd:1",
+                Priority.BACKGROUND, () -> "background"));
+        waitForFollowers(1);
+        release.countDown();
+
+        // then
+        assertThat(background.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(interactive.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("호출이 끝나면 같은 키라도 새로 실행한다")
+    void sequentialCalls_executeEachTime() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        coalescer.execute("coinMarkets", "usd:null:10:1", calls::incrementAndGet);
+        coalescer.execute("coinMarkets", "usd:null:10:1", calls::incrementAndGet);
+
+        // then
+        assertThat(calls).hasValue(2);
+    }
+
+    private List<Future<String>> submitAll(Callable<String> task) {
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(task));
+        }
+        return futures;
+    }
+
+    private void waitForFollowers(int expected) throws InterruptedException {
+        waitForRole("follower", expected);
+    }
+
+    private void waitForLeaders(int expected) throws InterruptedException {
+        waitForRole("leader", expected);
+    }
+
+    private void waitForRole(String role, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            var counter = meterRegistry.find("coingecko.coalescer.requests").tag("role", role).counter();
+            if (counter != null && counter.count() >= expected) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.crypto.market.insight.unit.domain.market.dto;
+
+import static com.crypto.market.insight.support.fixture.MarketFixture.OHLC_DATA_JSON;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crypto.market.insight.domain.market.dto.OhlcColumnarParser;
+import com.crypto.market.insight.domain.market.model.vo.OhlcColumnBuffer;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OhlcColumnarParserTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    @DisplayName("OHLC 배열 응답을 컬럼 버퍼에 기록한다")
+    void parse_writesColumns() throws Exception {
+        // given
+        OhlcColumnBuffer buffer = new OhlcColumnBuffer(1);
+
+        // when
+        int added = parse(OHLC_DATA_JSON, buffer);
+
+        // then
+        assertThat(added).isEqualTo(3);
+        assertThat(buffer.size()).isEqualTo(3);
+        assertThat(buffer.timestamp(0)).isEqualTo(1709395200000L);
+        assertThat(buffer.open(0)).isEqualTo(61942.0);
+        assertThat(buffer.high(0)).isEqualTo(62211.0);
+        assertThat(buffer.low(0)).isEqualTo(61721.0);
+        assertThat(buffer.close(2)).isEqualTo(62068.0);
+        assertThat(buffer.closeCopy()).containsExactly(61845.0, 62139.0, 62068.0);
+    }
+
+    @Test
+    @DisplayName("짧은 배열과 배열이 아닌 요소는 건너뛴다")
+    void parse_skipsInvalidCandles() throws Exception {
+        // given
+        String json = """
+                [
+                    [1709395200000, 61942, 62211],
+                    {"unexpected": true},
+                    7,
+                    [1709409600000, 61828.5, 62139, 61726, 62139, 999]
+                ]
+                """;
+        OhlcColumnBuffer buffer = new OhlcColumnBuffer();
+
+        // when
+        int added = parse(json, buffer);
+
+        // then
+        assertThat(added).isEqualTo(1);
+        assertThat(buffer.timestamp(0)).isEqualTo(1709409600000L);
+        assertThat(buffer.open(0)).isEqualTo(61828.5);
+    }
+
+    @Test
+    @DisplayName("배열이 아닌 응답은 아무것도 기록하지 않는다")
+    void parse_nonArrayPayload_writesNothing() throws Exception {
+        // given
+        OhlcColumnBuffer buffer = new OhlcColumnBuffer();
+
+        // when
+        int added = parse("{\"error\": \"coin not found\"}", buffer);
+
+        // then
+        assertThat(added).isZero();
+        assertThat(buffer.size()).isZero();
+    }
+
+    private int parse(String json, OhlcColumnBuffer buffer) throws Exception {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            return OhlcColumnarParser.parse(parser, buffer);
+        }
+    }
+}
@@ -109,4 +109,66 @@ class OhlcDataTest {
         // then
         assertThat(result).isNull();
     }
+
+    @Test
+    @DisplayName("요소가 5개 미만인 배열은 null을 반환한다")
+    void deserialize_shortArray_returnsNull() throws Exception {
+        // given
+        String json = "[1709395200000, 61942, 62211]";
+
+        // when
+        OhlcData result = objectMapper.readValue(json, OhlcData.class);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    @DisplayName("배열이 아닌 노드는 null을 반환한다")
+    void deserialize_nonArrayNode_returnsNull() throws Exception {
+        // given
+        String json = "{\"timestamp\": 1709395200000}";
+
+        // when
+        OhlcData result = objectMapper.readValue(json, OhlcData.class);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    @DisplayName("리스트 안의 잘못된 캔들은 null로 두고 다음 캔들을 계속 읽는다")
+    void deserialize_listWithInvalidCandles_continuesParsing() throws Exception {
+        // given
+        String json = """
+                [
+                    [1709395200000, 61942, 62211],
+                    {"unexpected": true},
+                    [1709409600000, 61828, 62139, 61726, 62139, 999]
+                ]
+                """;
+
+        // when
+        List<OhlcData> result = objectMapper.readValue(json, new TypeReference<>() {});
+
+        // then
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0)).isNull();
+        assertThat(result.get(1)).isNull();
+        assertThat(result.get(2).timestamp()).isEqualTo(1709409600000L);
+        assertThat(result.get(2).close()).isEqualByComparingTo(new BigDecimal("62139"));
+    }
+
+    @Test
+    @DisplayName("문자열로 전달된 가격도 BigDecimal로 변환한다")
+    void deserialize_stringPrices() throws Exception {
+        // given
+        String json = "[1709395200000, \"61942.5\", \"62211\", \"61721\", \"61845\"]";
+
+        // when
+        OhlcData result = objectMapper.readValue(json, OhlcData.class);
+
+        // then
+        assertThat(result.open()).isEqualByComparingTo(new BigDecimal("61942.5"));
+    }
 }
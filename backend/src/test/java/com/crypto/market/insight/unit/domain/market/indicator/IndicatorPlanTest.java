@@ -0,0 +1,100 @@
+package com.crypto.market.insight.unit.domain.market.indicator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crypto.market.insight.domain.market.indicator.IndicatorCalculator;
+import com.crypto.market.insight.domain.market.indicator.IndicatorPlan;
+import com.crypto.market.insight.domain.market.indicator.IndicatorValues;
+import com.crypto.market.insight.domain.market.model.vo.IndicatorSpec;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IndicatorPlanTest {
+
+    private static final double[] CLOSES = randomWalk(1_500);
+
+    @Test
+    @DisplayName("공유하는 EMA와 이동 합계, 같은 출력 선은 한 열로 합친다")
+    void of_deduplicatesSharedColumns() {
+        // given
+        List<IndicatorSpec> specs = specs("ema:12", "ema:26", "macd:12:26:9", "rsi:14", "bb:20:2", "sma:20");
+
+        // when
+        IndicatorPlan plan = IndicatorPlan.of(specs);
+
+        // then - ema 2 + macd 3 + rsi 1 + bb 3 (sma:20은 bb 가운데 선과 같은 열)
+        assertThat(plan.width()).isEqualTo(9);
+        assertThat(plan.column(5, 0)).isEqualTo(plan.column(4, 0));
+    }
+
+    @Test
+    @DisplayName("한 번에 계산한 결과는 지표별로 따로 계산한 결과와 비트 단위로 같다")
+    void compute_matchesPerIndicatorCalculation() {
+        // given - 처리 구간(512봉) 경계를 넘는 길이
+        List<IndicatorSpec> specs = specs("sma:20", "ema:20", "rsi:14", "macd", "bb", "bb:20:2.5", "macd:5:10:3");
+
+        // when
+        List<IndicatorValues> fused = IndicatorPlan.of(specs).compute(CLOSES);
+
+        // then
+        for (int i = 0; i < specs.size(); i++) {
+            IndicatorValues expected = IndicatorCalculator.compute(CLOSES, specs.get(i));
+            assertThat(fused.get(i).spec()).isEqualTo(specs.get(i));
+            for (String line : expected.lines().keySet()) {
+                assertThat(fused.get(i).lines().get(line)).containsExactly(expected.lines().get(line));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("블록 실행은 열 c의 봉 i를 block[c * length + i]에 기록한다")
+    void execute_writesColumnsIntoSingleBlock() {
+        // given
+        List<IndicatorSpec> specs = specs("macd", "rsi:14");
+        IndicatorPlan plan = IndicatorPlan.of(specs);
+        double[] block = plan.newBlock(CLOSES.length);
+
+        // when
+        plan.execute(CLOSES, block);
+
+        // then
+        List<IndicatorValues> expected = plan.compute(CLOSES);
+        int n = CLOSES.length;
+        int histogram = plan.column(0, 2);
+        int rsi = plan.column(1, 0);
+        assertThat(block).hasSize(plan.width() * n);
+        assertThat(Arrays.copyOfRange(block, histogram * n, (histogram + 1) * n))
+                .containsExactly(expected.get(0).lines().get("histogram"));
+        assertThat(Arrays.copyOfRange(block, rsi * n, (rsi + 1) * n))
+                .containsExactly(expected.get(1).lines().get("rsi"));
+    }
+
+    @Test
+    @DisplayName("빈 시계열은 빈 결과를 반환한다")
+    void compute_emptySeries() {
+        // when
+        List<IndicatorValues> result = IndicatorPlan.of(specs("sma:20", "macd")).compute(new double[0]);
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(1).lines().get("signal")).isEmpty();
+    }
+
+    private static List<IndicatorSpec> specs(String... values) {
+        return Arrays.stream(values).map(IndicatorSpec::parse).toList();
+    }
+
+    private static double[] randomWalk(int n) {
+        Random random = new Random(42);
+        double[] values = new double[n];
+        double price = 60_000;
+        for (int i = 0; i < n; i++) {
+            price *= 1 + random.nextGaussian() * 0.01;
+            values[i] = price;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,178 @@
+package com.crypto.market.insight.unit.domain.market.indicator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crypto.market.insight.config.CacheConfig;
+import com.crypto.market.insight.domain.market.indicator.IndicatorCalculator;
+import com.crypto.market.insight.domain.market.indicator.IndicatorService;
+import com.crypto.market.insight.domain.market.indicator.IndicatorValues;
+import com.crypto.market.insight.domain.market.model.vo.IndicatorSpec;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import com.crypto.market.insight.domain.market.model.vo.Timeframe;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+class IndicatorServiceTest {
+
+    private static final IndicatorSpec RSI = IndicatorSpec.parse("rsi:14");
+    private static final IndicatorSpec EMA = IndicatorSpec.parse("ema:20");
+    private static final List<IndicatorSpec> ALL = List.of(IndicatorSpec.parse("sma:20"), EMA, RSI,
+            IndicatorSpec.parse("macd"), IndicatorSpec.parse("bb:20:2"));
+
+    private Cache<Object, Object> nativeCache;
+    private IndicatorService service;
+
+    @BeforeEach
+    void setUp() {
+        nativeCache = Caffeine.newBuilder().recordStats().build();
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(CacheConfig.INDICATOR, nativeCache);
+        service = new IndicatorService(cacheManager, 1800, 8L << 20);
+    }
+
+    @Test
+    @DisplayName("같은 시계열 버전의 같은 지표는 조합이 달라도 다시 계산하지 않는다")
+    void compute_sameVersion_reusesPerIndicator() {
+        // given
+        OhlcSeries series = series(100);
+        List<IndicatorValues> first = service.compute("bitcoin", Timeframe.FOUR_HOURS, series, List.of(RSI, EMA));
+
+        // when
+        List<IndicatorValues> second = service.compute("bitcoin", Timeframe.FOUR_HOURS, series, List.of(EMA));
+
+        // then
+        assertThat(second.getFirst()).isSameAs(first.get(1));
+        assertThat(nativeCache.stats().hitCount()).isEqualTo(1);
+        assertThat(nativeCache.stats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("OHLC가 갱신되어 시계열 버전이 바뀌면 새로 계산한다")
+    void compute_newVersion_recomputes() {
+        // given
+        OhlcSeries series = series(100);
+        IndicatorValues before = service.compute("bitcoin", Timeframe.FOUR_HOURS, series, List.of(RSI)).getFirst();
+
+        // when
+        OhlcSeries refreshed = series.mergeTail(series(101), series.firstTimestamp());
+        IndicatorValues after = service.compute("bitcoin", Timeframe.FOUR_HOURS, refreshed, List.of(RSI)).getFirst();
+
+        // then
+        assertThat(refreshed.version()).isNotEqualTo(series.version());
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.lines().get("rsi")).hasSize(101);
+    }
+
+    @Test
+    @DisplayName("같은 버전을 스냅샷 시각으로 자른 뷰는 별도 항목으로 계산한다")
+    void compute_truncatedView_separateEntry() {
+        // given
+        OhlcSeries series = series(100);
+        service.compute("bitcoin", Timeframe.FOUR_HOURS, series, List.of(RSI));
+
+        // when
+        IndicatorValues truncated = service.compute("bitcoin", Timeframe.FOUR_HOURS, series.slice(0, 90),
+                List.of(RSI)).getFirst();
+
+        // then
+        assertThat(truncated.lines().get("rsi")).hasSize(90);
+        assertThat(nativeCache.estimatedSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("갱신으로 봉이 붙으면 이어서 계산한 값이 일괄 계산과 비트 단위로 같다")
+    void compute_appendedCandles_matchesBatch() {
+        // given - 마지막 봉은 진행 중이라 갱신 후 종가가 바뀐다
+        service.compute("bitcoin", Timeframe.FOUR_HOURS, series(100, 59000), ALL);
+
+        // when
+        OhlcSeries refreshed = series(103);
+        List<IndicatorValues> streamed = service.compute("bitcoin", Timeframe.FOUR_HOURS, refreshed, ALL);
+
+        // then
+        assertMatchesBatch(refreshed, streamed);
+    }
+
+    @Test
+    @DisplayName("진행 중인 마지막 봉만 바뀌어도 일괄 계산과 같고, 이어서 여러 번 갱신해도 같다")
+    void compute_openCandleUpdates_matchBatch() {
+        // given
+        service.compute("bitcoin", Timeframe.FOUR_HOURS, series(100, 59000), ALL);
+        service.compute("bitcoin", Timeframe.FOUR_HOURS, series(100, 61000), ALL);
+
+        // when
+        OhlcSeries refreshed = series(101, 60500);
+        List<IndicatorValues> streamed = service.compute("bitcoin", Timeframe.FOUR_HOURS, refreshed, ALL);
+
+        // then
+        assertMatchesBatch(refreshed, streamed);
+    }
+
+    @Test
+    @DisplayName("시계열 앞부분이 바뀌면 새 시계열로 일괄 계산한다")
+    void compute_headChanged_recomputes() {
+        // given
+        service.compute("bitcoin", Timeframe.FOUR_HOURS, series(100), ALL);
+
+        // when - 조회 기간 밖으로 밀려난 첫 봉을 버린 시계열
+        OhlcSeries full = series(101);
+        OhlcSeries trimmed = OhlcSeries.of(
+                Arrays.copyOfRange(full.timestamps(), 1, 101), Arrays.copyOfRange(full.opens(), 1, 101),
+                Arrays.copyOfRange(full.highs(), 1, 101), Arrays.copyOfRange(full.lows(), 1, 101),
+                Arrays.copyOfRange(full.closes(), 1, 101));
+        List<IndicatorValues> result = service.compute("bitcoin", Timeframe.FOUR_HOURS, trimmed, ALL);
+
+        // then
+        assertMatchesBatch(trimmed, result);
+    }
+
+    @Test
+    @DisplayName("스냅샷 시각으로 자른 과거 뷰를 계산해도 최신 시계열의 이어서 계산에 영향을 주지 않는다")
+    void compute_truncatedView_keepsLatestStream() {
+        // given
+        OhlcSeries live = series(100, 59000);
+        service.compute("bitcoin", Timeframe.FOUR_HOURS, live, ALL);
+        service.compute("bitcoin", Timeframe.FOUR_HOURS, live.slice(0, 80), ALL);
+
+        // when
+        OhlcSeries refreshed = series(102);
+        List<IndicatorValues> streamed = service.compute("bitcoin", Timeframe.FOUR_HOURS, refreshed, ALL);
+
+        // then
+        assertMatchesBatch(refreshed, streamed);
+    }
+
+    private static void assertMatchesBatch(OhlcSeries series, List<IndicatorValues> actual) {
+        for (IndicatorValues values : actual) {
+            IndicatorValues expected = IndicatorCalculator.compute(series.closes(), values.spec());
+            assertThat(values.lines().keySet()).containsExactlyElementsOf(expected.lines().keySet());
+            expected.lines().forEach((line, expectedValues) ->
+                    assertThat(values.lines().get(line)).as(values.spec().key() + "." + line)
+                            .containsExactly(expectedValues));
+        }
+    }
+
+    private static OhlcSeries series(int candles) {
+        return series(candles, 60000 + 500 * Math.sin((candles - 1) / 5.0));
+    }
+
+    /**
+     * 4시간 간격 캔들, 마지막 캔들의 종가만 {@code lastClose}
+     */
+    private static OhlcSeries series(int candles, double lastClose) {
+        long[] timestamps = new long[candles];
+        double[] prices = new double[candles];
+        for (int i = 0; i < candles; i++) {
+            timestamps[i] = 1709395200000L + i * 14_400_000L;
+            prices[i] = 60000 + 500 * Math.sin(i / 5.0);
+        }
+        prices[candles - 1] = lastClose;
+        return OhlcSeries.of(timestamps, prices, prices, prices, prices);
+    }
+}
@@ -0,0 +1,200 @@
+package com.crypto.market.insight.unit.domain.market.indicator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.crypto.market.insight.domain.market.indicator.BollingerBands;
+import com.crypto.market.insight.domain.market.indicator.Ema;
+import com.crypto.market.insight.domain.market.indicator.Indicators;
+import com.crypto.market.insight.domain.market.indicator.Macd;
+import com.crypto.market.insight.domain.market.indicator.Rsi;
+import com.crypto.market.insight.domain.market.indicator.Sma;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IndicatorsTest {
+
+    private static final double[] CLOSES = randomWalk(300);
+
+    @Test
+    @DisplayName("SMA는 워밍업 구간이 NaN이고 창 평균과 같다")
+    void sma_matchesWindowAverage() {
+        // given
+        double[] values = {1, 2, 3, 4, 5};
+        double[] out = new double[values.length];
+
+        // when
+        Indicators.sma(values, 3, out);
+
+        // then
+        assertThat(out[0]).isNaN();
+        assertThat(out[1]).isNaN();
+        assertThat(new double[] {out[2], out[3], out[4]}).containsExactly(2.0, 3.0, 4.0);
+    }
+
+    @Test
+    @DisplayName("EMA는 첫 기간의 단순 평균으로 시작해 지수 평활한다")
+    void ema_seedsWithSimpleAverage() {
+        // given
+        double[] values = {2, 4, 6, 8};
+        double[] out = new double[values.length];
+
+        // when
+        Indicators.ema(values, 3, out);
+
+        // then - alpha = 2 / (3 + 1) = 0.5
+        assertThat(out[1]).isNaN();
+        assertThat(out[2]).isEqualTo(4.0);
+        assertThat(out[3]).isEqualTo(6.0);
+    }
+
+    @Test
+    @DisplayName("RSI는 Wilder 평활을 쓰고 변화가 없으면 50이다")
+    void rsi_wilderSmoothing() {
+        // given
+        double[] values = {61845, 62139, 62068, 62068};
+        double[] out = new double[values.length];
+        double[] flat = new double[] {1, 1, 1};
+        double[] flatOut = new double[flat.length];
+
+        // when
+        Indicators.rsi(values, 2, out);
+        Indicators.rsi(flat, 2, flatOut);
+
+        // then - 평균 상승 (294 + 0) / 2, 평균 하락 (0 + 71) / 2
+        assertThat(out[1]).isNaN();
+        assertThat(out[2]).isCloseTo(100 - 100 / (1 + 147 / 35.5), within(1e-9));
+        assertThat(out[3]).isCloseTo(100 - 100 / (1 + 73.5 / 17.75), within(1e-9));
+        assertThat(flatOut[2]).isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("볼린저 밴드는 창마다 직접 구한 모집단 표준편차와 같다")
+    void bollinger_matchesDirectStandardDeviation() {
+        // given
+        int n = CLOSES.length;
+        double[] middle = new double[n];
+        double[] upper = new double[n];
+        double[] lower = new double[n];
+
+        // when
+        Indicators.bollinger(CLOSES, 20, 2, middle, upper, lower);
+
+        // then
+        assertThat(upper[18]).isNaN();
+        for (int i = 19; i < n; i++) {
+            double mean = 0;
+            for (int j = i - 19; j <= i; j++) {
+                mean += CLOSES[j];
+            }
+            mean /= 20;
+            double variance = 0;
+            for (int j = i - 19; j <= i; j++) {
+                variance += (CLOSES[j] - mean) * (CLOSES[j] - mean);
+            }
+            double band = 2 * Math.sqrt(variance / 20);
+            assertThat(middle[i]).isCloseTo(mean, within(1e-6));
+            assertThat(upper[i]).isCloseTo(mean + band, within(1e-6));
+            assertThat(lower[i]).isCloseTo(mean - band, within(1e-6));
+        }
+    }
+
+    @Test
+    @DisplayName("MACD 시그널은 장기 EMA가 준비된 뒤 시그널 기간이 지나야 나온다")
+    void macd_warmsUpAfterSlowAndSignal() {
+        // given
+        int n = CLOSES.length;
+        double[] macd = new double[n];
+        double[] signal = new double[n];
+        double[] histogram = new double[n];
+
+        // when
+        Indicators.macd(CLOSES, 12, 26, 9, macd, signal, histogram);
+
+        // then
+        assertThat(macd[24]).isNaN();
+        assertThat(macd[25]).isNotNaN();
+        assertThat(signal[32]).isNaN();
+        assertThat(signal[33]).isNotNaN();
+        assertThat(histogram[n - 1]).isEqualTo(macd[n - 1] - signal[n - 1]);
+    }
+
+    @Test
+    @DisplayName("스트리밍 지표를 한 봉씩 갱신한 값은 일괄 계산과 비트 단위로 같다")
+    void streaming_matchesBatch() {
+        // given
+        int n = CLOSES.length;
+        double[] sma = new double[n];
+        double[] ema = new double[n];
+        double[] rsi = new double[n];
+        double[] macd = new double[n];
+        double[] signal = new double[n];
+        double[] histogram = new double[n];
+        double[] middle = new double[n];
+        double[] upper = new double[n];
+        double[] lower = new double[n];
+        Indicators.sma(CLOSES, 20, sma);
+        Indicators.ema(CLOSES, 20, ema);
+        Indicators.rsi(CLOSES, 14, rsi);
+        Indicators.macd(CLOSES, 12, 26, 9, macd, signal, histogram);
+        Indicators.bollinger(CLOSES, 20, 2, middle, upper, lower);
+
+        Sma streamingSma = new Sma(20);
+        Ema streamingEma = new Ema(20);
+        Rsi streamingRsi = new Rsi(14);
+        Macd streamingMacd = new Macd(12, 26, 9);
+        BollingerBands streamingBands = new BollingerBands(20, 2);
+
+        // when & then
+        for (int i = 0; i < n; i++) {
+            assertThat(streamingSma.update(CLOSES[i])).isEqualTo(sma[i]);
+            assertThat(streamingEma.update(CLOSES[i])).isEqualTo(ema[i]);
+            assertThat(streamingRsi.update(CLOSES[i])).isEqualTo(rsi[i]);
+            streamingMacd.update(CLOSES[i]);
+            assertThat(new double[] {streamingMacd.macd(), streamingMacd.signal(), streamingMacd.histogram()})
+                    .containsExactly(macd[i], signal[i], histogram[i]);
+            streamingBands.update(CLOSES[i]);
+            assertThat(new double[] {streamingBands.middle(), streamingBands.upper(), streamingBands.lower()})
+                    .containsExactly(middle[i], upper[i], lower[i]);
+        }
+        assertThat(streamingMacd.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("스트리밍 지표의 복사본은 원본과 독립적으로 이어서 갱신된다")
+    void streaming_copy_continuesIndependently() {
+        // given
+        Macd original = new Macd(12, 26, 9);
+        for (int i = 0; i < 150; i++) {
+            original.update(CLOSES[i]);
+        }
+        Macd copy = original.copy();
+
+        // when
+        copy.update(CLOSES[150] * 2);
+        for (int i = 150; i < CLOSES.length; i++) {
+            original.update(CLOSES[i]);
+        }
+        Macd replayed = new Macd(12, 26, 9);
+        for (double close : CLOSES) {
+            replayed.update(close);
+        }
+
+        // then
+        assertThat(copy.macd()).isNotEqualTo(original.macd());
+        assertThat(new double[] {original.macd(), original.signal(), original.histogram()})
+                .containsExactly(replayed.macd(), replayed.signal(), replayed.histogram());
+    }
+
+    private static double[] randomWalk(int n) {
+        Random random = new Random(42);
+        double[] values = new double[n];
+        double price = 60_000;
+        for (int i = 0; i < n; i++) {
+            price *= 1 + random.nextGaussian() * 0.01;
+            values[i] = price;
+        }
+        return values;
+    }
+}
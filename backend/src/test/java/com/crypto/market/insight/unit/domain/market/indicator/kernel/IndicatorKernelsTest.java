@@ -0,0 +1,188 @@
+package com.crypto.market.insight.unit.domain.market.indicator.kernel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.crypto.market.insight.domain.market.indicator.kernel.IndicatorKernels;
+import com.crypto.market.insight.domain.market.indicator.kernel.ScalarKernels;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IndicatorKernelsTest {
+
+    private final IndicatorKernels scalar = ScalarKernels.INSTANCE;
+
+    @Test
+    @DisplayName("이동 평균은 워밍업 구간이 NaN이고 창 평균과 같다")
+    void rollingMean_matchesWindowAverage() {
+        // given
+        double[] values = {1, 2, 3, 4, 5, 6, 7};
+        double[] out = new double[values.length];
+
+        // when
+        scalar.rollingMean(values, 3, out);
+
+        // then
+        assertThat(out[0]).isNaN();
+        assertThat(out[1]).isNaN();
+        assertThat(new double[] {out[2], out[3], out[4], out[5], out[6]}).containsExactly(2.0, 3.0, 4.0, 5.0, 6.0);
+    }
+
+    @Test
+    @DisplayName("기간이 길이보다 길면 모두 NaN이다")
+    void rollingSum_periodLongerThanSeries() {
+        // given
+        double[] values = {1, 2};
+        double[] out = new double[values.length];
+
+        // when
+        scalar.rollingSum(values, 5, out);
+
+        // then
+        assertThat(out[0]).isNaN();
+        assertThat(out[1]).isNaN();
+    }
+
+    @Test
+    @DisplayName("이동 분산은 창의 모집단 분산과 같고 값이 같으면 0이다")
+    void rollingVariance_matchesPopulationVariance() {
+        // given
+        double[] values = randomWalk(1_003);
+        double[] out = new double[values.length];
+        double[] flat = {62000, 62000, 62000, 62000, 62000};
+        double[] flatOut = new double[flat.length];
+
+        // when
+        scalar.rollingVariance(values, 20, out);
+        scalar.rollingVariance(flat, 3, flatOut);
+
+        // then
+        for (int i = 19; i < values.length; i++) {
+            assertThat(Math.sqrt(out[i])).isCloseTo(Math.sqrt(populationVariance(values, i - 19, i + 1)),
+                    within(1e-6));
+        }
+        assertThat(new double[] {flatOut[2], flatOut[3], flatOut[4]}).containsExactly(0.0, 0.0, 0.0);
+    }
+
+    @Test
+    @DisplayName("True Range는 직전 종가와의 갭을 포함한다")
+    void trueRange_includesGapFromPreviousClose() {
+        // given
+        double[] high = {62100, 62300, 63500};
+        double[] low = {61800, 62000, 63200};
+        double[] close = {62000, 62100, 63400};
+        double[] out = new double[high.length];
+
+        // when
+        scalar.trueRange(high, low, close, out);
+
+        // then - 첫 봉은 고가-저가, 세 번째 봉은 직전 종가 62100에서 갭 상승
+        assertThat(out).containsExactly(300.0, 300.0, 1400.0);
+    }
+
+    @Test
+    @DisplayName("돌파는 직전 봉이 반대편일 때만 참이다")
+    void crossAbove_onlyOnCrossingBar() {
+        // given
+        double[] fast = {1, 2, 4, 5, 3};
+        double[] slow = {3, 3, 3, 3, 3};
+        boolean[] above = new boolean[fast.length];
+        boolean[] below = new boolean[fast.length];
+
+        // when
+        scalar.crossAbove(fast, slow, above);
+        scalar.crossBelow(fast, slow, below);
+
+        // then
+        assertThat(above).containsExactly(false, false, true, false, false);
+        assertThat(below).containsExactly(false, false, false, false, false);
+    }
+
+    @Test
+    @DisplayName("Vector API를 끄면 스칼라 커널을 선택한다")
+    void select_scalarWhenDisabled() {
+        // when & then
+        assertThat(IndicatorKernels.select(false)).isSameAs(ScalarKernels.INSTANCE);
+    }
+
+    @Test
+    @DisplayName("Vector API 커널은 스칼라 커널과 비트 단위로 같은 결과를 낸다")
+    void vector_bitIdenticalToScalar() {
+        assumeTrue(IndicatorKernels.vectorAvailable(), "jdk.incubator.vector 모듈 없음");
+
+        // given
+        IndicatorKernels vector = IndicatorKernels.select(true);
+        Random random = new Random(7);
+
+        // when & then - 블록(4) 경계와 꼬리, 워밍업이 길이보다 긴 경우를 포함
+        for (int n : new int[] {0, 1, 5, 63, 1_027}) {
+            double[] close = randomWalk(n);
+            double[] high = new double[n];
+            double[] low = new double[n];
+            for (int i = 0; i < n; i++) {
+                high[i] = close[i] + random.nextDouble() * 200;
+                low[i] = close[i] - random.nextDouble() * 200;
+            }
+
+            for (int period : new int[] {1, 3, 20}) {
+                double[] expected = new double[n];
+                double[] actual = new double[n];
+                scalar.rollingSum(close, period, expected);
+                vector.rollingSum(close, period, actual);
+                assertThat(actual).containsExactly(expected);
+
+                scalar.rollingMean(close, period, expected);
+                vector.rollingMean(close, period, actual);
+                assertThat(actual).containsExactly(expected);
+
+                scalar.rollingVariance(close, period, expected);
+                vector.rollingVariance(close, period, actual);
+                assertThat(actual).containsExactly(expected);
+            }
+
+            double[] expected = new double[n];
+            double[] actual = new double[n];
+            scalar.trueRange(high, low, close, expected);
+            vector.trueRange(high, low, close, actual);
+            assertThat(actual).containsExactly(expected);
+
+            boolean[] expectedSignals = new boolean[n];
+            boolean[] actualSignals = new boolean[n];
+            scalar.crossAbove(close, high, expectedSignals);
+            vector.crossAbove(close, high, actualSignals);
+            assertThat(actualSignals).containsExactly(expectedSignals);
+            scalar.lessOrEqual(close, high, expectedSignals);
+            vector.lessOrEqual(close, high, actualSignals);
+            assertThat(actualSignals).containsExactly(expectedSignals);
+            scalar.greaterThan(close, 62000, expectedSignals);
+            vector.greaterThan(close, 62000, actualSignals);
+            assertThat(actualSignals).containsExactly(expectedSignals);
+        }
+    }
+
+    private static double populationVariance(double[] values, int from, int to) {
+        double mean = 0;
+        for (int i = from; i < to; i++) {
+            mean += values[i];
+        }
+        mean /= to - from;
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += (values[i] - mean) * (values[i] - mean);
+        }
+        return sum / (to - from);
+    }
+
+    private static double[] randomWalk(int size) {
+        Random random = new Random(42);
+        double[] values = new double[size];
+        double price = 62000;
+        for (int i = 0; i < size; i++) {
+            price += random.nextGaussian() * 150;
+            values[i] = price;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,46 @@
+package com.crypto.market.insight.unit.domain.market.model.vo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.crypto.market.insight.domain.market.model.vo.IndicatorSpec;
+import com.crypto.market.insight.domain.market.model.vo.IndicatorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class IndicatorSpecTest {
+
+    @Test
+    @DisplayName("생략한 파라미터를 기본값으로 채워 같은 지표는 같은 키가 된다")
+    void parse_fillsDefaults() {
+        // when
+        IndicatorSpec shorthand = IndicatorSpec.parse(" MACD ");
+        IndicatorSpec explicit = IndicatorSpec.parse("macd:12:26:9");
+
+        // then
+        assertThat(shorthand).isEqualTo(explicit);
+        assertThat(shorthand.key()).isEqualTo("macd(12,26,9)");
+        assertThat(IndicatorSpec.parse("bb:20:2.5").key()).isEqualTo("bb(20,2.5)");
+        assertThat(IndicatorSpec.parse("rsi").type()).isEqualTo(IndicatorType.RSI);
+    }
+
+    @Test
+    @DisplayName("워밍업은 마지막 봉에 값이 나오기까지 필요한 봉 수다")
+    void warmup() {
+        // when & then - RSI는 변화량 기준, MACD는 장기 EMA 이후 시그널 EMA까지
+        assertThat(IndicatorSpec.parse("sma:200").warmup()).isEqualTo(200);
+        assertThat(IndicatorSpec.parse("rsi:14").warmup()).isEqualTo(15);
+        assertThat(IndicatorSpec.parse("macd").warmup()).isEqualTo(34);
+        assertThat(IndicatorSpec.parse("bb:20:2").warmup()).isEqualTo(20);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"vwap", "sma:0", "sma:1.5", "sma:501", "sma:20:5", "ema:x", "macd:26:12", "bb:20:0"})
+    @DisplayName("모르는 지표나 범위를 벗어난 파라미터면 예외가 발생한다")
+    void parse_invalid_throws(String value) {
+        // when & then
+        assertThatThrownBy(() -> IndicatorSpec.parse(value)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
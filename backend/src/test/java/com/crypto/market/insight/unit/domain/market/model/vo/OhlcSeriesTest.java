@@ -0,0 +1,135 @@
+package com.crypto.market.insight.unit.domain.market.model.vo;
+
+import static com.crypto.market.insight.support.fixture.MarketFixture.OHLC_DATA_JSON;
+import static com.crypto.market.insight.support.fixture.MarketFixture.defaultOhlcSeries;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.crypto.market.insight.domain.market.dto.MarketDto.OhlcvResponse;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OhlcSeriesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("OHLC 응답을 컬럼형 시계열로 역직렬화한다")
+    void deserialize_buildsColumns() throws Exception {
+        // when
+        OhlcSeries series = objectMapper.readValue(OHLC_DATA_JSON, OhlcSeries.class);
+
+        // then
+        assertThat(series.size()).isEqualTo(3);
+        assertThat(series.firstTimestamp()).isEqualTo(1709395200000L);
+        assertThat(series.lastTimestamp()).isEqualTo(1709424000000L);
+        assertThat(series.closes()).containsExactly(61845.0, 62139.0, 62068.0);
+    }
+
+    @Test
+    @DisplayName("순서가 어긋난 캔들은 timestamp 순으로 정렬한다")
+    void deserialize_unorderedCandles_sorted() throws Exception {
+        // given
+        String json = """
+                [
+                    [1709409600000, 2, 2, 2, 2],
+                    [1709395200000, 1, 1, 1, 1]
+                ]
+                """;
+
+        // when
+        OhlcSeries series = objectMapper.readValue(json, OhlcSeries.class);
+
+        // then
+        assertThat(series.timestamps()).containsExactly(1709395200000L, 1709409600000L);
+        assertThat(series.closes()).containsExactly(1.0, 2.0);
+    }
+
+    @Test
+    @DisplayName("range - 이진 탐색으로 시간 범위 뷰를 만든다")
+    void range_returnsView() {
+        // given
+        OhlcSeries series = defaultOhlcSeries();
+
+        // when
+        OhlcSeries view = series.range(1709409600000L, 1709424000001L);
+
+        // then
+        assertThat(view.size()).isEqualTo(2);
+        assertThat(view.firstTimestamp()).isEqualTo(1709409600000L);
+        assertThat(view.close(1)).isEqualTo(62068.0);
+        assertThat(view.version()).isEqualTo(series.version());
+        assertThat(series.range(0L, 1L).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("slice - 뷰의 범위를 벗어난 인덱스는 거부한다")
+    void slice_outOfBounds_throwsException() {
+        // given
+        OhlcSeries view = defaultOhlcSeries().slice(1, 2);
+
+        // when & then
+        assertThat(view.timestamp(0)).isEqualTo(1709409600000L);
+        assertThatThrownBy(() -> view.close(1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> view.slice(0, 2)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    @DisplayName("mergeTail - 진행 중이던 캔들을 바꾸고 새 캔들을 붙이며 기간 밖 캔들은 버린다")
+    void mergeTail_replacesOpenCandleAndAppends() {
+        // given - 16:00, 20:00, 00:00 캐시 / 00:00(갱신), 04:00 최근 구간
+        OhlcSeries cached = defaultOhlcSeries();
+        OhlcSeries tail = OhlcSeries.of(new long[]{1709424000000L, 1709438400000L}, new double[]{62171, 62100},
+                new double[]{62300, 62400}, new double[]{61821, 62000}, new double[]{62250, 62380});
+
+        // when
+        OhlcSeries merged = cached.mergeTail(tail, 1709409600000L);
+
+        // then
+        assertThat(merged.timestamps()).containsExactly(1709409600000L, 1709424000000L, 1709438400000L);
+        assertThat(merged.closes()).containsExactly(62139.0, 62250.0, 62380.0);
+        assertThat(merged.version()).isNotEqualTo(cached.version());
+        assertThat(cached.mergeTail(OhlcSeries.empty(), 0L)).isSameAs(cached);
+    }
+
+    @Test
+    @DisplayName("of - 오름차순이 아닌 timestamp는 거부한다")
+    void of_unorderedTimestamps_throwsException() {
+        assertThatThrownBy(() -> OhlcSeries.of(new long[]{2, 1}, new double[2], new double[2], new double[2],
+                new double[2])).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("응답 직렬화는 캔들별 객체 배열 형식을 유지한다")
+    void serialize_writesCandleObjects() throws Exception {
+        // given
+        OhlcSeries series = OhlcSeries.of(new long[]{1709395200000L}, new double[]{61942},
+                new double[]{62211.5}, new double[]{61721}, new double[]{61845});
+
+        // when
+        String json = objectMapper.writeValueAsString(OhlcvResponse.of("bitcoin", "1d", series));
+
+        // then
+        assertThat(json).isEqualTo("{\"coinId\":\"bitcoin\",\"timeframe\":\"1d\",\"data\":"
+                + "[{\"timestamp\":1709395200000,\"open\":61942.0,\"high\":62211.5,\"low\":61721.0,"
+                + "\"close\":61845.0}]}");
+    }
+
+    @Test
+    @DisplayName("아주 작거나 큰 가격도 지수 표기 없이 직렬화한다")
+    void serialize_writesPlainDecimals() throws Exception {
+        // given
+        OhlcSeries series = OhlcSeries.of(new long[]{1709395200000L}, new double[]{0.00001234},
+                new double[]{12345678.5}, new double[]{0.00000001}, new double[]{2.5E7});
+
+        // when
+        String json = objectMapper.writeValueAsString(OhlcvResponse.of("pepe", "1d", series));
+
+        // then
+        assertThat(json)
+                .contains("\"open\":0.00001234,\"high\":12345678.5,\"low\":0.00000001,\"close\":25000000.0")
+                .doesNotContain("E");
+    }
+}
@@ -0,0 +1,170 @@
+package com.crypto.market.insight.unit.domain.market.prefetch;
+
+import static com.crypto.market.insight.support.fixture.MarketFixture.*;
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crypto.market.insight.config.CacheConfig;
+import com.crypto.market.insight.domain.market.cache.CoinMarketsKey;
+import com.crypto.market.insight.domain.market.cache.OhlcKey;
+import com.crypto.market.insight.domain.market.client.CoinGeckoClient;
+import com.crypto.market.insight.domain.market.client.RequestCoalescer;
+import com.crypto.market.insight.domain.market.prefetch.MarketAccessTracker;
+import com.crypto.market.insight.domain.market.prefetch.MarketPrefetcher;
+import com.crypto.market.insight.domain.market.store.CandleStore;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.web.client.RestClient;
+
+@WireMockTest
+class MarketPrefetcherTest {
+
+    private CoinGeckoClient client;
+    private CaffeineCacheManager cacheManager;
+    private MarketAccessTracker tracker;
+    private SimpleMeterRegistry meterRegistry;
+    private final AtomicLong nanos = new AtomicLong();
+
+    @BeforeEach
+    void setUp(WireMockRuntimeInfo wmRuntimeInfo) {
+        RestClient restClient = RestClient.builder()
+                .baseUrl(wmRuntimeInfo.getHttpBaseUrl())
+                .build();
+        meterRegistry = new SimpleMeterRegistry();
+        client = new CoinGeckoClient(restClient, new RequestCoalescer(meterRegistry),
+                CandleStore.disabled());
+        cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(CacheConfig.COIN_MARKETS,
+                Caffeine.newBuilder().expireAfterWrite(60, TimeUnit.SECONDS).build());
+        cacheManager.registerCustomCache(CacheConfig.OHLC,
+                Caffeine.newBuilder().expireAfterWrite(300, TimeUnit.SECONDS).build());
+        tracker = new MarketAccessTracker(cacheManager, meterRegistry, Duration.ofSeconds(1800), nanos::get);
+
+        stubFor(get(urlPathEqualTo("/coins/markets"))
+                .willReturn(okJson(coinsMarketsJson(BITCOIN_MARKET_JSON, ETHEREUM_MARKET_JSON))));
+        stubFor(get(urlPathMatching("/coins/.+/ohlc"))
+                .willReturn(okJson(OHLC_DATA_JSON)));
+    }
+
+    @Test
+    @DisplayName("첫 페이지와 상위 코인의 타임프레임별 OHLC를 예열한다")
+    void run_warmsPagesAndTopCoinOhlc() {
+        // given
+        MarketPrefetcher prefetcher = prefetcher(1, 20, 0);
+
+        // when
+        int calls = prefetcher.run();
+
+        // then - 4h/1d는 같은 days=30 기준 시계열을 리샘플링하므로 OHLC는 days=1/30/365 3회
+        assertThat(calls).isEqualTo(4);
+        verify(1, getRequestedFor(urlPathEqualTo("/coins/markets")));
+        verify(3, getRequestedFor(urlPathEqualTo("/coins/bitcoin/ohlc")));
+        verify(0, getRequestedFor(urlPathEqualTo("/coins/ethereum/ohlc")));
+        assertThat(tracker.isCached(CacheConfig.OHLC, new OhlcKey("bitcoin", "usd", "30"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("실행당 업스트림 호출 예산을 넘지 않는다")
+    void run_respectsBudget() {
+        // given
+        MarketPrefetcher prefetcher = prefetcher(1, 2, 0);
+
+        // when
+        int calls = prefetcher.run();
+
+        // then
+        assertThat(calls).isEqualTo(2);
+        verify(2, anyRequestedFor(anyUrl()));
+    }
+
+    @Test
+    @DisplayName("아직 신선한 항목은 다시 조회하지 않는다")
+    void run_freshEntries_notRefetched() {
+        // given
+        MarketPrefetcher prefetcher = prefetcher(1, 20, 0);
+        prefetcher.run();
+
+        // when
+        int calls = prefetcher.run();
+
+        // then
+        assertThat(calls).isZero();
+    }
+
+    @Test
+    @DisplayName("예열 후 요청이 없던 키는 갱신하지 않고, 요청된 키만 갱신한다")
+    void run_idleKeys_skipped() {
+        // given - refresh margin이 TTL보다 커서 매 실행마다 갱신 대상
+        MarketPrefetcher prefetcher = prefetcher(1, 20, 3600);
+        prefetcher.run();
+        OhlcKey accessedKey = new OhlcKey("bitcoin", "usd", "30");
+        tracker.recordAccess(CacheConfig.OHLC, accessedKey);
+        tracker.recordAccess(CacheConfig.COIN_MARKETS, new CoinMarketsKey("usd", null, 10, 1));
+
+        // when
+        int calls = prefetcher.run();
+
+        // then
+        assertThat(calls).isEqualTo(2);
+        verify(2, getRequestedFor(urlPathEqualTo("/coins/bitcoin/ohlc")).withQueryParam("days", equalTo("30")));
+        verify(1, getRequestedFor(urlPathEqualTo("/coins/bitcoin/ohlc")).withQueryParam("days", equalTo("1")));
+        verify(1, getRequestedFor(urlPathEqualTo("/coins/bitcoin/ohlc")).withQueryParam("days", equalTo("365")));
+    }
+
+    @Test
+    @DisplayName("프리페치한 키에 대한 요청의 캐시 적중률을 기록한다")
+    void recordAccess_prefetchedKeys_reportsHitRatio() {
+        // given
+        prefetcher(1, 20, 0).run();
+        OhlcKey cachedKey = new OhlcKey("bitcoin", "usd", "1");
+        OhlcKey evictedKey = new OhlcKey("bitcoin", "usd", "90");
+        cacheManager.getCache(CacheConfig.OHLC).evict(evictedKey);
+
+        // when
+        tracker.recordAccess(CacheConfig.OHLC, cachedKey);
+        tracker.recordAccess(CacheConfig.OHLC, cachedKey);
+        tracker.recordAccess(CacheConfig.OHLC, cachedKey);
+        tracker.recordAccess(CacheConfig.OHLC, evictedKey);
+        tracker.recordAccess(CacheConfig.OHLC, new OhlcKey("ethereum", "usd", "1"));
+
+        // then - 프리페치하지 않은 키(ethereum)는 집계하지 않는다
+        assertThat(tracker.hitRatio()).isEqualTo(0.75);
+        assertThat(meterRegistry.get("market.prefetch.requests").tag("result", "hit").counter().count())
+                .isEqualTo(3.0);
+        assertThat(meterRegistry.get("market.prefetch.hit.ratio").gauge().value()).isEqualTo(0.75);
+    }
+
+    @Test
+    @DisplayName("idle-timeout이 지나면 요청/프리페치 기록을 정리하고, 정리된 키는 한 번 다시 예열한다")
+    void tracker_expiresIdleRecords() {
+        // given
+        MarketPrefetcher prefetcher = prefetcher(1, 20, 0);
+        prefetcher.run();
+        for (int i = 0; i < 100; i++) {
+            tracker.recordAccess(CacheConfig.OHLC, new OhlcKey("coin-" + i, "usd", "1"));
+        }
+        assertThat(tracker.trackedKeys()).isGreaterThan(100);
+
+        // when
+        nanos.addAndGet(Duration.ofSeconds(1801).toNanos());
+        tracker.cleanUp();
+
+        // then
+        assertThat(tracker.trackedKeys()).isZero();
+        assertThat(tracker.isWanted(CacheConfig.OHLC, new OhlcKey("bitcoin", "usd", "1"))).isTrue();
+    }
+
+    private MarketPrefetcher prefetcher(int topCoins, int budget, long refreshMarginSeconds) {
+        return new MarketPrefetcher(client, cacheManager, tracker, meterRegistry,
+                1, 10, topCoins, budget, refreshMarginSeconds);
+    }
+}
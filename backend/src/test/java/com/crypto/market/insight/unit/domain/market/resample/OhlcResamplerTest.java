@@ -0,0 +1,188 @@
+package com.crypto.market.insight.unit.domain.market.resample;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import com.crypto.market.insight.domain.market.model.vo.Timeframe;
+import com.crypto.market.insight.domain.market.resample.OhlcResampler;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OhlcResamplerTest {
+
+    private static final long MONDAY = Instant.parse("2024-03-04T00:00:00Z").toEpochMilli();
+
+    @Test
+    @DisplayName("30분봉을 1시간봉으로 묶고 봉 마감 시각을 timestamp로 쓴다")
+    void resample_halfHourToHourly() {
+        // given - 00:30, 01:00, 01:30, 02:00에 마감한 30분봉
+        OhlcSeries base = series(MONDAY + Duration.ofMinutes(30).toMillis(), Duration.ofMinutes(30), 4);
+
+        // when
+        OhlcSeries result = OhlcResampler.resample(base, Timeframe.ONE_HOUR);
+
+        // then
+        assertThat(result.timestamps())
+                .containsExactly(MONDAY + Duration.ofHours(1).toMillis(), MONDAY + Duration.ofHours(2).toMillis());
+        assertThat(result.opens()).containsExactly(100.0, 102.0);
+        assertThat(result.highs()).containsExactly(111.0, 113.0);
+        assertThat(result.lows()).containsExactly(90.0, 92.0);
+        assertThat(result.closes()).containsExactly(102.0, 104.0);
+    }
+
+    @Test
+    @DisplayName("4시간봉을 UTC 일봉으로 묶고 마지막 진행 중인 봉은 유지한다")
+    void resample_fourHourToDaily() {
+        // given - 월요일 04:00~24:00에 마감한 6개 + 다음 날 2개
+        OhlcSeries base = series(MONDAY + Duration.ofHours(4).toMillis(), Duration.ofHours(4), 8);
+
+        // when
+        OhlcSeries result = OhlcResampler.resample(base, Timeframe.ONE_DAY);
+
+        // then
+        assertThat(result.timestamps())
+                .containsExactly(MONDAY + Duration.ofDays(1).toMillis(), MONDAY + Duration.ofDays(2).toMillis());
+        assertThat(result.opens()).containsExactly(100.0, 106.0);
+        assertThat(result.highs()).containsExactly(115.0, 117.0);
+        assertThat(result.lows()).containsExactly(90.0, 96.0);
+        assertThat(result.closes()).containsExactly(106.0, 108.0);
+    }
+
+    @Test
+    @DisplayName("00:00에 마감한 4시간봉은 전날 일봉에 속한다")
+    void resample_closeAtMidnight_belongsToPreviousDay() {
+        // given - 월요일 00:00(일요일 20:00 시작)부터 24:00까지 마감한 4시간봉 7개
+        OhlcSeries base = series(MONDAY, Duration.ofHours(4), 7);
+
+        // when
+        OhlcSeries result = OhlcResampler.resample(base, Timeframe.ONE_DAY);
+
+        // then - 일요일 봉은 20:00부터만 채워져 버리고, 월요일 봉은 04:00~24:00 마감 6개로 만든다
+        assertThat(result.timestamps()).containsExactly(MONDAY + Duration.ofDays(1).toMillis());
+        assertThat(result.opens()).containsExactly(101.0);
+        assertThat(result.closes()).containsExactly(107.0);
+    }
+
+    @Test
+    @DisplayName("주봉은 월요일 00:00(UTC)에 정렬한다")
+    void resample_weekly_alignedToMonday() {
+        // given - 월요일부터 8일 (각 일봉은 다음 날 00:00 마감)
+        OhlcSeries base = series(MONDAY + Duration.ofDays(1).toMillis(), Duration.ofDays(1), 8);
+
+        // when
+        OhlcSeries result = OhlcResampler.resample(base, Duration.ofDays(1), Duration.ofDays(7));
+
+        // then
+        assertThat(result.timestamps())
+                .containsExactly(MONDAY + Duration.ofDays(7).toMillis(), MONDAY + Duration.ofDays(14).toMillis());
+        assertThat(result.closes()).containsExactly(107.0, 108.0);
+    }
+
+    @Test
+    @DisplayName("4일봉은 시작 시각이 속한 월요일 주봉에 통째로 들어가고 주봉 timestamp는 다음 월요일 00:00이다")
+    void resample_fourDayToWeekly_bucketEdges() {
+        // given - 토(전주)/수/일/목/월에 시작한 4일봉. 토요일과 일요일에 시작한 봉은 월요일 경계를 걸친다
+        OhlcSeries base = series(MONDAY + Duration.ofDays(2).toMillis(), Duration.ofDays(4), 5);
+
+        // when
+        OhlcSeries result = OhlcResampler.resample(base, Timeframe.ONE_WEEK);
+
+        // then - 토요일 시작 봉은 전주 첫 버킷이라 버리고, 일요일 시작 봉은 다음 주에 걸쳐도 시작 주에 남는다
+        assertThat(result.timestamps()).containsExactly(
+                MONDAY + Duration.ofDays(7).toMillis(),
+                MONDAY + Duration.ofDays(14).toMillis(),
+                MONDAY + Duration.ofDays(21).toMillis());
+        assertThat(result.opens()).containsExactly(101.0, 103.0, 104.0);
+        assertThat(result.highs()).containsExactly(112.0, 113.0, 114.0);
+        assertThat(result.lows()).containsExactly(91.0, 93.0, 94.0);
+        assertThat(result.closes()).containsExactly(103.0, 104.0, 105.0);
+    }
+
+    @Test
+    @DisplayName("버킷 시작 이후부터 채워진 첫 봉은 불완전하므로 버린다")
+    void resample_partialLeadingBucket_dropped() {
+        // given - 월요일 16:00에 시작한(20:00 마감) 4시간봉부터
+        OhlcSeries base = series(MONDAY + Duration.ofHours(20).toMillis(), Duration.ofHours(4), 4);
+
+        // when
+        OhlcSeries result = OhlcResampler.resample(base, Timeframe.ONE_DAY);
+
+        // then
+        assertThat(result.timestamps()).containsExactly(MONDAY + Duration.ofDays(2).toMillis());
+        assertThat(result.opens()).containsExactly(102.0);
+    }
+
+    @Test
+    @DisplayName("버킷이 하나뿐이면 불완전해도 유지한다")
+    void resample_singlePartialBucket_kept() {
+        // given
+        OhlcSeries base = series(MONDAY + Duration.ofHours(20).toMillis(), Duration.ofHours(4), 2);
+
+        // when
+        OhlcSeries result = OhlcResampler.resample(base, Timeframe.ONE_DAY);
+
+        // then
+        assertThat(result.timestamps()).containsExactly(MONDAY + Duration.ofDays(1).toMillis());
+        assertThat(result.closes()).containsExactly(102.0);
+    }
+
+    @Test
+    @DisplayName("기준 간격과 같은 간격이면 기준 시계열을 그대로 반환한다")
+    void resample_sameInterval_returnsBase() {
+        // given
+        OhlcSeries base = series(MONDAY + Duration.ofHours(4).toMillis(), Duration.ofHours(4), 3);
+
+        // when
+        OhlcSeries result = OhlcResampler.resample(base, Timeframe.FOUR_HOURS);
+
+        // then
+        assertThat(result).isSameAs(base);
+    }
+
+    @Test
+    @DisplayName("리샘플링 결과는 기준 시계열의 버전을 유지한다")
+    void resample_keepsVersion() {
+        // given
+        OhlcSeries base = series(MONDAY, Duration.ofHours(4), 12);
+
+        // when
+        OhlcSeries result = OhlcResampler.resample(base, Timeframe.ONE_DAY);
+
+        // then
+        assertThat(result.version()).isEqualTo(base.version());
+    }
+
+    @Test
+    @DisplayName("빈 시계열은 그대로 반환하고, 0 이하 간격은 예외를 던진다")
+    void resample_emptyAndInvalidInterval() {
+        // given
+        OhlcSeries empty = OhlcSeries.empty();
+
+        // when & then
+        assertThat(OhlcResampler.resample(empty, Timeframe.ONE_DAY)).isSameAs(empty);
+        assertThatThrownBy(() -> OhlcResampler.resample(empty, Duration.ofHours(4), Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * i번째 캔들: open 100+i, high 110+i, low 90+i, close 101+i
+     */
+    private static OhlcSeries series(long start, Duration step, int size) {
+        long[] timestamps = new long[size];
+        double[] open = new double[size];
+        double[] high = new double[size];
+        double[] low = new double[size];
+        double[] close = new double[size];
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = start + i * step.toMillis();
+            open[i] = 100 + i;
+            high[i] = 110 + i;
+            low[i] = 90 + i;
+            close[i] = 101 + i;
+        }
+        return OhlcSeries.of(timestamps, open, high, low, close);
+    }
+}
@@ -0,0 +1,67 @@
+package com.crypto.market.insight.unit.domain.market.screener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.crypto.market.insight.domain.market.model.vo.IndicatorSpec;
+import com.crypto.market.insight.domain.market.screener.ScreenerCondition;
+import com.crypto.market.insight.domain.market.screener.ScreenerCondition.Close;
+import com.crypto.market.insight.domain.market.screener.ScreenerCondition.Comparison;
+import com.crypto.market.insight.domain.market.screener.ScreenerCondition.Constant;
+import com.crypto.market.insight.domain.market.screener.ScreenerCondition.Line;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ScreenerConditionTest {
+
+    @Test
+    @DisplayName("괄호/콜론 표기와 above/below를 같은 정규화된 조건으로 파싱한다")
+    void parse_normalizes() {
+        // when
+        ScreenerCondition rsi = ScreenerCondition.parse("RSI(14) < 30");
+        ScreenerCondition sma = ScreenerCondition.parse("close above SMA:200");
+
+        // then
+        assertThat(rsi).isEqualTo(new ScreenerCondition(
+                new Line(IndicatorSpec.parse("rsi:14"), 0), Comparison.LT, new Constant(30)));
+        assertThat(rsi.key()).isEqualTo("rsi(14) < 30");
+        assertThat(sma.left()).isEqualTo(new Close());
+        assertThat(sma.key()).isEqualTo("close > sma(200)");
+        assertThat(ScreenerCondition.parse("ema:12 below ema(26)").key()).isEqualTo("ema(12) < ema(26)");
+    }
+
+    @Test
+    @DisplayName("여러 선을 내는 지표는 선 이름으로 고른다")
+    void parse_selectsLine() {
+        // when
+        ScreenerCondition histogram = ScreenerCondition.parse("macd.histogram>=0");
+        ScreenerCondition lower = ScreenerCondition.parse("close <= bb(20,2.5).lower");
+
+        // then
+        assertThat(histogram.left()).isEqualTo(new Line(IndicatorSpec.parse("macd"), 2));
+        assertThat(histogram.key()).isEqualTo("macd(12,26,9).histogram >= 0");
+        assertThat(lower.key()).isEqualTo("close <= bb(20,2.5).lower");
+        assertThat(lower.specs()).containsExactly(IndicatorSpec.parse("bb:20:2.5"));
+    }
+
+    @Test
+    @DisplayName("값이 NaN(워밍업 구간)이면 만족하지 않는다")
+    void test_nan_false() {
+        // given
+        ScreenerCondition condition = ScreenerCondition.parse("rsi < 30");
+
+        // when & then
+        assertThat(condition.test(25, 30)).isTrue();
+        assertThat(condition.test(Double.NaN, 30)).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"close", "close = 3", "rsi < foo", "macd.foo > 0", "sma:0 < close", "< 30"})
+    @DisplayName("형식이 틀렸거나 모르는 지표/선이면 예외가 발생한다")
+    void parse_invalid_throws(String value) {
+        // when & then
+        assertThatThrownBy(() -> ScreenerCondition.parse(value)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,314 @@
+package com.crypto.market.insight.unit.domain.market.screener;
+
+import static com.crypto.market.insight.support.fixture.MarketFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crypto.market.insight.common.cache.OffHeapTier;
+import com.crypto.market.insight.common.cache.TieredCacheManager;
+import com.crypto.market.insight.common.exception.BusinessException;
+import com.crypto.market.insight.config.CacheConfig;
+import com.crypto.market.insight.domain.market.cache.MarketCacheCodec;
+import com.crypto.market.insight.domain.market.cache.CloseHistoryKey;
+import com.crypto.market.insight.domain.market.client.CoinGeckoClient;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter;
+import com.crypto.market.insight.domain.market.client.CoinGeckoRateLimiter.Priority;
+import com.crypto.market.insight.domain.market.dto.CoinMarketData;
+import com.crypto.market.insight.domain.market.indicator.kernel.ScalarKernels;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import com.crypto.market.insight.domain.market.model.vo.Timeframe;
+import com.crypto.market.insight.domain.market.screener.ScreenerResult;
+import com.crypto.market.insight.domain.market.screener.ScreenerResult.Match;
+import com.crypto.market.insight.domain.market.screener.ScreenerService;
+import com.crypto.market.insight.domain.market.universe.MarketUniverse;
+import com.crypto.market.insight.domain.market.universe.MarketUniverseService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+class ScreenerServiceTest {
+
+    private static final long START = 1709395200000L;
+    private static final long HOUR = 3_600_000L;
+    private static final long DAY = 24 * HOUR;
+
+    private final CoinGeckoClient coinGeckoClient = mock(CoinGeckoClient.class);
+    private final MarketUniverseService marketUniverseService = mock(MarketUniverseService.class);
+    private final AtomicLong nanos = new AtomicLong();
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+    private TieredCacheManager cacheManager;
+    private OffHeapTier l2;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        l2 = new OffHeapTier(CacheConfig.OHLC, MarketCacheCodec.INSTANCE, 1024 * 1024, Duration.ofSeconds(300),
+                Duration.ofSeconds(1800), new SimpleMeterRegistry(), nanos::get);
+        cacheManager = new TieredCacheManager();
+        cacheManager.registerCustomCache(CacheConfig.OHLC, Caffeine.newBuilder()
+                .refreshAfterWrite(Duration.ofSeconds(300))
+                .expireAfterWrite(Duration.ofSeconds(1800))
+                .ticker(nanos::get)
+                .executor(Runnable::run)
+                .build(key -> OhlcSeries.empty()), l2);
+        cache = cacheManager.getCache(CacheConfig.OHLC);
+
+        List<CoinMarketData> coins = List.of(coin("rising", "up", "Rising"), coin("falling", "down", "Falling"),
+                coin("listed", "lst", "Listed"), coin("extra", "ext", "Extra"));
+        when(marketUniverseService.current()).thenReturn(new MarketUniverse(3L, coins, true, 0L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("캐시된 시계열로 모든 조건을 만족하는 코인만 순위순으로 응답한다")
+    void screen_matchesCachedSeries() {
+        // given
+        cache.put(key("rising"), hourly(40, 1));
+        cache.put(key("falling"), hourly(40, -1));
+        cache.put(key("listed"), hourly(40, 2));
+        cache.put(key("extra"), hourly(40, 0.5));
+        ScreenerService service = service(0);
+
+        // when
+        ScreenerResult result = service.screen(Timeframe.ONE_HOUR,
+                service.parseConditions("RSI(14) > 50 and close above SMA(20)"));
+
+        // then
+        assertThat(result.marketVersion()).isEqualTo(3L);
+        assertThat(result.matches()).extracting(match -> match.coin().id())
+                .containsExactly("rising", "listed", "extra");
+        Match first = result.matches().getFirst();
+        assertThat(first.close()).isEqualTo(138.5);
+        assertThat(first.values()).containsOnlyKeys("rsi(14)", "close", "sma(20)");
+        assertThat(result.evaluated()).isEqualTo(4);
+        assertThat(result.partial()).isFalse();
+        verify(coinGeckoClient, never()).getCloseHistory(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 시계열은 예산만큼만 조회하고 나머지는 누락으로 부분 결과를 표시한다")
+    void screen_fetchesWithinBudget() {
+        // given
+        cache.put(key("rising"), hourly(40, 1));
+        when(coinGeckoClient.getCloseHistory("falling", "usd", "10")).thenReturn(hourly(40, 1));
+        when(coinGeckoClient.getCloseHistory("listed", "usd", "10")).thenThrow(new IllegalStateException("upstream"));
+        ScreenerService service = service(2);
+
+        // when
+        ScreenerResult result = service.screen(Timeframe.ONE_HOUR, service.parseConditions("close > sma:20"));
+
+        // then - extra는 예산을 넘어 조회하지 않고, listed는 조회에 실패했다
+        assertThat(result.matches()).extracting(match -> match.coin().id()).containsExactly("rising", "falling");
+        assertThat(result.fetched()).isEqualTo(2);
+        assertThat(result.missing()).isEqualTo(2);
+        assertThat(result.partial()).isTrue();
+        verify(coinGeckoClient, never()).getCloseHistory("extra", "usd", "10");
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 시계열은 차트 요청보다 낮은 백그라운드 우선순위로 조회한다")
+    void screen_fetchesAtBackgroundPriority() {
+        // given
+        List<Priority> priorities = new CopyOnWriteArrayList<>();
+        when(coinGeckoClient.getCloseHistory(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+            priorities.add(CoinGeckoRateLimiter.currentPriority());
+            return hourly(40, 1);
+        });
+        ScreenerService service = service(4);
+
+        // when
+        ScreenerResult result = service.screen(Timeframe.ONE_HOUR, service.parseConditions("close > sma:20"));
+
+        // then - 호출 스레드의 우선순위는 그대로다
+        assertThat(result.fetched()).isEqualTo(4);
+        assertThat(priorities).hasSize(4).containsOnly(Priority.BACKGROUND);
+        assertThat(CoinGeckoRateLimiter.currentPriority()).isEqualTo(Priority.INTERACTIVE);
+    }
+
+    @Test
+    @DisplayName("L1에 없으면 L2의 시계열을 승격하지 않고 평가하며, soft TTL은 L2 기록 시각 기준으로 표시한다")
+    void screen_usesL2AndFlagsStale() {
+        // given - listed는 L2에만 400초 전에 기록되었다
+        l2.put(key("listed"), hourly(40, 1));
+        nanos.addAndGet(Duration.ofSeconds(400).toNanos());
+        cache.put(key("rising"), hourly(40, 1));
+        ScreenerService service = service(0);
+
+        // when
+        ScreenerResult first = service.screen(Timeframe.ONE_HOUR, service.parseConditions("close > sma:20"));
+        ScreenerResult second = service.screen(Timeframe.ONE_HOUR, service.parseConditions("close > sma:20"));
+
+        // then - 승격했다면 두 번째 평가에서 L1 기록 시각 기준으로 최신처럼 보였을 것이다
+        assertThat(first.matches()).extracting(Match::stale).containsExactly(false, true);
+        assertThat(second.matches()).extracting(Match::stale).containsExactly(false, true);
+        assertThat(first.stale()).isEqualTo(1);
+        assertThat(first.partial()).isTrue();
+        assertThat(((CaffeineCache) cache).getNativeCache().asMap()).doesNotContainKey(key("listed"));
+    }
+
+    @Test
+    @DisplayName("업스트림 조회가 대기 제한 안에 끝나지 않으면 기다리지 않고 누락으로 집계한다")
+    void screen_fetchTimeout_countsMissing() throws InterruptedException {
+        // given
+        cache.put(key("falling"), hourly(40, 1));
+        cache.put(key("listed"), hourly(40, 1));
+        cache.put(key("extra"), hourly(40, 1));
+        CountDownLatch release = new CountDownLatch(1);
+        when(coinGeckoClient.getCloseHistory("rising", "usd", "10")).thenAnswer(invocation -> {
+            release.await();
+            return hourly(40, 1);
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ScreenerService service = service(executor, 4, 100);
+
+        try {
+            // when
+            ScreenerResult result = service.screen(Timeframe.ONE_HOUR, service.parseConditions("close > sma:20"));
+
+            // then
+            assertThat(result.fetched()).isEqualTo(1);
+            assertThat(result.missing()).isEqualTo(1);
+            assertThat(result.evaluated()).isEqualTo(3);
+            assertThat(result.partial()).isTrue();
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("1d는 1년치 일 종가로 평가하므로 rsi(14)와 sma(200)을 함께 쓰는 조건도 값이 나온다")
+    void screen_dailyHistory_evaluatesLongIndicators() {
+        // given - falling은 긴 상승 뒤 15일 연속 하락해 rsi(14)는 30 아래지만 종가는 아직 sma(200) 위다
+        cache.put(dailyKey("rising"), daily(365, 0));
+        cache.put(dailyKey("falling"), daily(365, 15));
+        cache.put(dailyKey("listed"), daily(60, 15));
+        ScreenerService service = service(0);
+
+        // when
+        ScreenerResult result = service.screen(Timeframe.ONE_DAY,
+                service.parseConditions("rsi(14) < 30 and close above sma(200)"));
+
+        // then - listed는 상장 60일이라 sma(200) 값이 없다
+        assertThat(result.matches()).extracting(match -> match.coin().id()).containsExactly("falling");
+        Match match = result.matches().getFirst();
+        assertThat(match.close()).isEqualTo(374.0);
+        assertThat(match.values().get("rsi(14)")).isLessThan(30);
+        assertThat(match.values().get("sma(200)")).isCloseTo(360.9, within(1e-9));
+        assertThat(result.evaluated()).isEqualTo(3);
+        assertThat(result.insufficient()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("워밍업이 타임프레임의 봉 수보다 긴 지표는 평가하지 않고 거부한다")
+    void screen_warmupExceedsTimeframe_throws() {
+        // given - 1w는 1년치 종가로도 52봉이라 sma(200)은 어떤 코인에서도 값이 나오지 않는다
+        ScreenerService service = service(0);
+
+        // when & then
+        assertThatThrownBy(() -> service.screen(Timeframe.ONE_WEEK,
+                service.parseConditions("rsi(14) < 30 and close above sma(200)")))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("sma(200) needs 200 bars but timeframe 1w has 52");
+        verify(marketUniverseService, never()).current();
+    }
+
+    @Test
+    @DisplayName("봉이 부족해 지표 값이 없으면 만족하지 않은 것으로 보고 따로 집계한다")
+    void screen_insufficientBars() {
+        // given
+        cache.put(key("rising"), hourly(10, 1));
+        ScreenerService service = service(0);
+
+        // when
+        ScreenerResult result = service.screen(Timeframe.ONE_HOUR, service.parseConditions("close > sma:20"));
+
+        // then
+        assertThat(result.matches()).isEmpty();
+        assertThat(result.evaluated()).isEqualTo(1);
+        assertThat(result.insufficient()).isEqualTo(1);
+        assertThat(result.partial()).isTrue();
+    }
+
+    @Test
+    @DisplayName("조건이 없거나 잘못되면 예외가 발생한다")
+    void parseConditions_invalid_throws() {
+        // given
+        ScreenerService service = service(0);
+
+        // when & then
+        assertThatThrownBy(() -> service.parseConditions(" ")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> service.parseConditions("rsi < 30 and vwap > 1"))
+                .isInstanceOf(BusinessException.class);
+        assertThat(service.parseConditions("rsi < 30 AND rsi(14) < 30 and")).hasSize(1);
+    }
+
+    private ScreenerService service(int budget) {
+        return service(Runnable::run, budget, 1000);
+    }
+
+    private ScreenerService service(Executor executor, int budget, long fetchTimeoutMillis) {
+        return new ScreenerService(coinGeckoClient, marketUniverseService, cacheManager, executor, pool,
+                ScalarKernels.INSTANCE, 250, budget, fetchTimeoutMillis);
+    }
+
+    private static CloseHistoryKey key(String coinId) {
+        return new CloseHistoryKey(coinId, "usd", "10");
+    }
+
+    private static CloseHistoryKey dailyKey(String coinId) {
+        return new CloseHistoryKey(coinId, "usd", "365");
+    }
+
+    /**
+     * {@code step}씩 오르내리며 봉마다 약간 흔들리는 1시간봉
+     */
+    private static OhlcSeries hourly(int size, double step) {
+        long[] timestamps = new long[size];
+        double[] closes = new double[size];
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = START + i * HOUR;
+            closes[i] = 100 + i * step + (i % 3 == 0 ? -0.5 : 0.5);
+        }
+        return OhlcSeries.of(timestamps, closes, closes, closes, closes);
+    }
+
+    /**
+     * 하루 1씩 오르다가 마지막 {@code drops}일은 5씩 내리는 일 종가
+     */
+    private static OhlcSeries daily(int size, int drops) {
+        long[] timestamps = new long[size];
+        double[] closes = new double[size];
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = START + i * DAY;
+            closes[i] = i < size - drops ? 100 + i : closes[i - 1] - 5;
+        }
+        return OhlcSeries.of(timestamps, closes, closes, closes, closes);
+    }
+}
@@ -0,0 +1,71 @@
+package com.crypto.market.insight.unit.domain.market.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crypto.market.insight.domain.market.dto.CoinListEntry;
+import com.crypto.market.insight.domain.market.dto.CoinMarketData;
+import com.crypto.market.insight.domain.market.search.CoinSearchIndex;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CoinSearchIndexTest {
+
+    private final CoinSearchIndex index = CoinSearchIndex.build(
+            List.of(
+                    new CoinListEntry("solana", "sol", "Solana"),
+                    new CoinListEntry("solar", "sxp", "Solar"),
+                    new CoinListEntry("wrapped-solana", "wsol", "Wrapped SOL"),
+                    new CoinListEntry("consol", "cns", "Consol"),
+                    new CoinListEntry("bitcoin", "btc", "Bitcoin")),
+            List.of(ranked("wrapped-solana", "wsol", "Wrapped SOL", 40),
+                    ranked("solar", "sxp", "Solar", 150),
+                    ranked("solana", "sol", "Solana", 5),
+                    ranked("bitcoin", "btc", "Bitcoin", 1)));
+
+    @Test
+    @DisplayName("완전 일치 → 접두사 일치 → 부분 일치 순, 같은 일치 안에서는 시가총액 순위순으로 찾는다")
+    void search_ranksByMatchThenMarketCap() {
+        // when
+        List<CoinMarketData> result = index.search("SOL ", 0, 10);
+
+        // then - 순위 없는 consol은 부분 일치 중 마지막
+        assertThat(result).extracting(CoinMarketData::id)
+                .containsExactly("solana", "solar", "wrapped-solana", "consol");
+    }
+
+    @Test
+    @DisplayName("offset/limit으로 결과를 페이지 단위로 나눈다")
+    void search_pages() {
+        // when & then
+        assertThat(index.search("sol", 1, 2)).extracting(CoinMarketData::id)
+                .containsExactly("solar", "wrapped-solana");
+        assertThat(index.search("sol", 4, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("/coins/markets에 없는 코인도 ID/심볼/이름만으로 검색되고, 있는 코인은 시세가 채워진다")
+    void search_unrankedCoinsIncluded() {
+        // when
+        CoinMarketData consol = index.search("cns", 0, 1).getFirst();
+        CoinMarketData bitcoin = index.search("btc", 0, 1).getFirst();
+
+        // then
+        assertThat(consol.name()).isEqualTo("Consol");
+        assertThat(consol.marketCapRank()).isNull();
+        assertThat(bitcoin.marketCapRank()).isEqualTo(1);
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("빈 검색어나 일치하는 코인이 없으면 빈 목록을 반환한다")
+    void search_noMatch_returnsEmpty() {
+        assertThat(index.search("  ", 0, 10)).isEmpty();
+        assertThat(index.search("doge", 0, 10)).isEmpty();
+    }
+
+    private static CoinMarketData ranked(String id, String symbol, String name, int rank) {
+        return new CoinMarketData(id, symbol, name, null, null, null, rank,
+                null, null, null, null, null, null, null, null);
+    }
+}
@@ -6,15 +6,27 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.crypto.market.insight.common.exception.BusinessException;
 import com.crypto.market.insight.common.exception.ErrorCode;
+import com.crypto.market.insight.domain.market.client.CoinDetailBatchLoader;
 import com.crypto.market.insight.domain.market.client.CoinGeckoClient;
+import com.crypto.market.insight.domain.market.dto.CoinListEntry;
 import com.crypto.market.insight.domain.market.dto.CoinMarketData;
-import com.crypto.market.insight.domain.market.dto.OhlcData;
+import com.crypto.market.insight.domain.market.dto.MarketDto.CoinSummary;
+import com.crypto.market.insight.domain.market.indicator.IndicatorService;
+import com.crypto.market.insight.domain.market.model.vo.IndicatorSpec;
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
 import com.crypto.market.insight.domain.market.model.vo.Timeframe;
+import com.crypto.market.insight.domain.market.prefetch.MarketAccessTracker;
+import com.crypto.market.insight.domain.market.search.CoinSearchIndex;
+import com.crypto.market.insight.domain.market.search.CoinSearchService;
+import com.crypto.market.insight.domain.market.service.CoinListing;
 import com.crypto.market.insight.domain.market.service.MarketService;
+import com.crypto.market.insight.domain.market.universe.MarketUniverse;
+import com.crypto.market.insight.domain.market.universe.MarketUniverseService;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -32,6 +44,21 @@ class MarketServiceTest {
     @Mock
     private CoinGeckoClient coinGeckoClient;
 
+    @Mock
+    private CoinDetailBatchLoader coinDetailBatchLoader;
+
+    @Mock
+    private MarketAccessTracker marketAccessTracker;
+
+    @Mock
+    private CoinSearchService coinSearchService;
+
+    @Mock
+    private MarketUniverseService marketUniverseService;
+
+    @Mock
+    private IndicatorService indicatorService;
+
     @InjectMocks
     private MarketService marketService;
 
@@ -40,18 +67,19 @@ class MarketServiceTest {
     class GetCoins {
 
         @Test
-        @DisplayName("코인 목록을 조회한다")
+        @DisplayName("스냅샷과 검색 인덱스가 없으면 업스트림 코인 목록으로 응답한다")
         void returnsCoins() {
             // given
             when(coinGeckoClient.getCoinsMarkets(eq("usd"), isNull(), anyInt(), anyInt()))
                     .thenReturn(defaultCoins());
 
             // when
-            List<CoinMarketData> result = marketService.getCoins(1, 10, null);
+            CoinListing listing = marketService.getCoins(1, 10, null, "market_cap", "desc", null);
 
             // then
-            assertThat(result).hasSize(2);
-            assertThat(result.getFirst().id()).isEqualTo("bitcoin");
+            assertThat(coinIds(listing)).containsExactly("bitcoin", "ethereum");
+            assertThat(listing.cacheKey()).isEqualTo("coins:market_cap:DESC:1:10:");
+            assertThat(listing.universe()).isNull();
         }
 
         @Test
@@ -62,11 +90,10 @@ class MarketServiceTest {
                     .thenReturn(defaultCoins());
 
             // when
-            List<CoinMarketData> result = marketService.getCoins(1, 10, "btc");
+            CoinListing listing = marketService.getCoins(1, 10, "btc", "market_cap", "desc", null);
 
             // then
-            assertThat(result).hasSize(1);
-            assertThat(result.getFirst().symbol()).isEqualTo("btc");
+            assertThat(coinIds(listing)).containsExactly("bitcoin");
         }
 
         @Test
@@ -77,11 +104,25 @@ class MarketServiceTest {
                     .thenReturn(defaultCoins());
 
             // when
-            List<CoinMarketData> result = marketService.getCoins(1, 10, "ether");
+            CoinListing listing = marketService.getCoins(1, 10, "ether", "market_cap", "desc", null);
 
             // then
-            assertThat(result).hasSize(1);
-            assertThat(result.getFirst().name()).isEqualTo("Ethereum");
+            assertThat(coinIds(listing)).containsExactly("ethereum");
+        }
+
+        @Test
+        @DisplayName("키워드는 앞뒤 공백을 빼고 소문자로 정규화해 필터링과 캐시 키에 쓴다")
+        void normalizesKeyword() {
+            // given
+            when(coinGeckoClient.getCoinsMarkets(eq("usd"), isNull(), anyInt(), anyInt()))
+                    .thenReturn(defaultCoins());
+
+            // when
+            CoinListing listing = marketService.getCoins(1, 10, "  BTC ", "market_cap", "desc", null);
+
+            // then
+            assertThat(coinIds(listing)).containsExactly("bitcoin");
+            assertThat(listing.cacheKey()).isEqualTo("coins:market_cap:DESC:1:10:btc");
         }
 
         @Test
@@ -92,10 +133,175 @@ class MarketServiceTest {
                     .thenReturn(defaultCoins());
 
             // when
-            List<CoinMarketData> result = marketService.getCoins(1, 10, "   ");
+            CoinListing listing = marketService.getCoins(1, 10, "   ", "market_cap", "desc", null);
+
+            // then
+            assertThat(coinIds(listing)).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("검색 인덱스가 있으면 업스트림 대신 전체 코인 인덱스에서 검색한다")
+        void searchesIndexWhenAvailable() {
+            // given
+            CoinSearchIndex index = CoinSearchIndex.build(
+                    List.of(new CoinListEntry("solana", "sol", "Solana")), defaultCoins());
+            when(coinSearchService.currentIndex()).thenReturn(index);
+
+            // when
+            CoinListing listing = marketService.getCoins(1, 10, "sol", "market_cap", "desc", null);
+
+            // then
+            assertThat(coinIds(listing)).containsExactly("solana");
+            assertThat(listing.cacheKey()).isEqualTo("coins:search:0:1:10:sol");
+            assertThat(listing.source()).isSameAs(index);
+            verifyNoInteractions(coinGeckoClient);
+        }
+
+        @Test
+        @DisplayName("고정한 스냅샷 버전의 검색 인덱스가 있으면 그 인덱스로 검색한다")
+        void searchIndex_pinnedVersion() {
+            // given
+            MarketUniverse pinned = new MarketUniverse(7L, defaultCoins(), true, 0L);
+            CoinSearchIndex pinnedIndex = CoinSearchIndex.build(
+                    List.of(new CoinListEntry("solana", "sol", "Solana")), defaultCoins());
+            when(marketUniverseService.get(7L)).thenReturn(pinned);
+            when(coinSearchService.index(7L)).thenReturn(pinnedIndex);
+
+            // when
+            CoinListing listing = marketService.getCoins(1, 10, "sol", "market_cap", "desc", 7L);
+
+            // then
+            assertThat(coinIds(listing)).containsExactly("solana");
+            assertThat(listing.cacheKey()).isEqualTo("coins:search:7:1:10:sol");
+            assertThat(listing.universe()).isNull();
+        }
+
+        @Test
+        @DisplayName("보관 기간이 지난 스냅샷 버전이면 현재 검색 인덱스로 검색한다")
+        void searchIndex_expiredVersion_usesCurrent() {
+            // given
+            CoinSearchIndex currentIndex = CoinSearchIndex.build(
+                    List.of(new CoinListEntry("solana", "sol", "Solana")), defaultCoins());
+            when(coinSearchService.currentIndex()).thenReturn(currentIndex);
+
+            // when
+            CoinListing listing = marketService.getCoins(1, 10, "sol", "market_cap", "desc", 3L);
+
+            // then
+            assertThat(listing.source()).isSameAs(currentIndex);
+            assertThat(coinIds(listing)).containsExactly("solana");
+        }
+
+        @Test
+        @DisplayName("마켓 스냅샷이 페이지를 담고 있으면 업스트림 대신 스냅샷에서 응답한다")
+        void listsFromUniverseWhenCovered() {
+            // given
+            MarketUniverse universe = new MarketUniverse(1L, defaultCoins(), true, 0L);
+            when(marketUniverseService.current()).thenReturn(universe);
+
+            // when
+            CoinListing listing = marketService.getCoins(1, 1, null, "market_cap", "desc", null);
+
+            // then
+            assertThat(coinIds(listing)).containsExactly("bitcoin");
+            assertThat(listing.cacheKey()).isEqualTo("coins:1:market_cap:DESC:1:1");
+            assertThat(listing.universe()).isSameAs(universe);
+            verifyNoInteractions(coinGeckoClient);
+        }
+    }
+
+    @Nested
+    @DisplayName("getCoins 정렬")
+    class GetCoinsSort {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"market_cap", "volume", "price_change_24h"})
+        @DisplayName("유효한 정렬 기준은 스냅샷 안에서 정렬한다")
+        void parsesValidSort(String sort) {
+            // given
+            when(marketUniverseService.current()).thenReturn(new MarketUniverse(1L, defaultCoins(), true, 0L));
+
+            // when
+            CoinListing listing = marketService.getCoins(1, 10, null, sort, "asc", null);
+
+            // then
+            assertThat(listing.cacheKey()).isEqualTo("coins:1:" + sort + ":ASC:1:10");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"price", "rank", "invalid"})
+        @DisplayName("유효하지 않은 정렬 기준이면 예외가 발생한다")
+        void throwsExceptionForInvalidSort(String invalidSort) {
+            // when & then
+            assertThatThrownBy(() -> marketService.getCoins(1, 10, null, invalidSort, "desc", null))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.INVALID_PARAMETER));
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 정렬 방향이면 예외가 발생한다")
+        void throwsExceptionForInvalidOrder() {
+            // when & then
+            assertThatThrownBy(() -> marketService.getCoins(1, 10, null, "market_cap", "up", null))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.INVALID_PARAMETER));
+        }
+
+        @Test
+        @DisplayName("시가총액 내림차순은 스냅샷 없이도 업스트림 목록으로 응답할 수 있다")
+        void marketCapDesc_allowed() {
+            // given
+            when(coinGeckoClient.getCoinsMarkets(eq("usd"), isNull(), anyInt(), anyInt()))
+                    .thenReturn(defaultCoins());
+
+            // when
+            CoinListing listing = marketService.getCoins(1, 10, null, "market_cap", "desc", null);
+
+            // then
+            assertThat(listing.source()).isEqualTo(defaultCoins());
+        }
+
+        @Test
+        @DisplayName("스냅샷이 없으면 다른 정렬은 503 예외가 발생한다")
+        void noSnapshot_otherSort_throws() {
+            // when & then
+            assertThatThrownBy(() -> marketService.getCoins(1, 10, null, "volume", "desc", null))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.MARKET_SNAPSHOT_UNAVAILABLE));
+            verifyNoInteractions(coinGeckoClient);
+        }
+
+        @Test
+        @DisplayName("스냅샷 밖 페이지를 시가총액 오름차순으로 요청하면 예외가 발생한다")
+        void beyondSnapshot_marketCapAsc_throws() {
+            // given
+            when(marketUniverseService.current()).thenReturn(new MarketUniverse(1L, defaultCoins(), false, 0L));
+
+            // when & then
+            assertThatThrownBy(() -> marketService.getCoins(1, 10, null, "market_cap", "asc", null))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> assertThat(((BusinessException) ex).getErrorCode())
+                            .isEqualTo(ErrorCode.INVALID_PARAMETER));
+            verifyNoInteractions(coinGeckoClient);
+        }
+
+        @Test
+        @DisplayName("스냅샷 밖 페이지의 시가총액 내림차순은 업스트림 목록으로 응답한다")
+        void beyondSnapshot_marketCapDesc_usesUpstream() {
+            // given
+            when(marketUniverseService.current()).thenReturn(new MarketUniverse(1L, defaultCoins(), false, 0L));
+            when(coinGeckoClient.getCoinsMarkets(eq("usd"), isNull(), anyInt(), anyInt()))
+                    .thenReturn(defaultCoins());
+
+            // when
+            CoinListing listing = marketService.getCoins(2, 10, null, "market_cap", "desc", null);
 
             // then
-            assertThat(result).hasSize(2);
+            assertThat(listing.cacheKey()).isEqualTo("coins:market_cap:DESC:2:10:");
+            assertThat(listing.universe()).isNull();
         }
     }
 
@@ -107,8 +313,8 @@ class MarketServiceTest {
         @DisplayName("코인 상세 정보를 조회한다")
         void returnsCoinDetail() {
             // given
-            when(coinGeckoClient.getCoinsMarkets("usd", "bitcoin"))
-                    .thenReturn(List.of(bitcoin()));
+            when(coinDetailBatchLoader.get("usd", "bitcoin"))
+                    .thenReturn(bitcoin());
 
             // when
             CoinMarketData result = marketService.getCoinDetail("bitcoin");
@@ -122,8 +328,8 @@ class MarketServiceTest {
         @DisplayName("존재하지 않는 코인 조회 시 예외가 발생한다")
         void throwsExceptionWhenCoinNotFound() {
             // given
-            when(coinGeckoClient.getCoinsMarkets("usd", "unknown"))
-                    .thenReturn(List.of());
+            when(coinDetailBatchLoader.get("usd", "unknown"))
+                    .thenReturn(null);
 
             // when & then
             assertThatThrownBy(() -> marketService.getCoinDetail("unknown"))
@@ -165,6 +371,33 @@ class MarketServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("parseIndicators")
+    class ParseIndicators {
+
+        @Test
+        @DisplayName("기본값을 채워 같은 지표는 하나로 합치고 요청 순서를 유지한다")
+        void deduplicatesEquivalentSpecs() {
+            // when
+            List<IndicatorSpec> result = marketService.parseIndicators(List.of("rsi", "macd", "rsi:14", ""));
+
+            // then
+            assertThat(result).extracting(IndicatorSpec::key).containsExactly("rsi(14)", "macd(12,26,9)");
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 지표면 예외가 발생한다")
+        void throwsExceptionForInvalidIndicator() {
+            // when & then
+            assertThatThrownBy(() -> marketService.parseIndicators(List.of("sma:20", "vwap")))
+                    .isInstanceOf(BusinessException.class)
+                    .satisfies(ex -> {
+                        BusinessException e = (BusinessException) ex;
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_PARAMETER);
+                    });
+        }
+    }
+
     @Nested
     @DisplayName("getOhlcv")
     class GetOhlcv {
@@ -174,14 +407,29 @@ class MarketServiceTest {
         void returnsOhlcvData() {
             // given
             when(coinGeckoClient.getOhlc("bitcoin", "usd", "30"))
-                    .thenReturn(defaultOhlcList());
+                    .thenReturn(defaultOhlcSeries());
 
             // when
-            List<OhlcData> result = marketService.getOhlcv("bitcoin", Timeframe.ONE_DAY);
+            OhlcSeries result = marketService.getOhlcv("bitcoin", Timeframe.FOUR_HOURS);
 
             // then
-            assertThat(result).hasSize(3);
-            assertThat(result.getFirst().timestamp()).isEqualTo(1709395200000L);
+            assertThat(result.size()).isEqualTo(3);
+            assertThat(result.firstTimestamp()).isEqualTo(1709395200000L);
+        }
+
+        @Test
+        @DisplayName("1d는 4시간봉 기준 시계열을 일봉으로 리샘플링한다")
+        void resamplesDailyFromFourHourSeries() {
+            // given - 2024-03-02 16:00, 20:00, 03-03 00:00 (UTC)에 마감한 4시간봉
+            when(coinGeckoClient.getOhlc("bitcoin", "usd", "30"))
+                    .thenReturn(defaultOhlcSeries());
+
+            // when
+            OhlcSeries result = marketService.getOhlcv("bitcoin", Timeframe.ONE_DAY);
+
+            // then - 세 봉 모두 03-02 12:00 이후 시작한 03-02 봉이고, 버킷이 하나뿐이라 마감 시각(03-03 00:00)으로 유지한다
+            assertThat(result.size()).isEqualTo(1);
+            assertThat(result.firstTimestamp()).isEqualTo(1709424000000L);
         }
 
         @Test
@@ -189,7 +437,7 @@ class MarketServiceTest {
         void useCorrectDaysForTimeframe() {
             // given
             when(coinGeckoClient.getOhlc("bitcoin", "usd", "1"))
-                    .thenReturn(List.of());
+                    .thenReturn(OhlcSeries.empty());
 
             // when
             marketService.getOhlcv("bitcoin", Timeframe.ONE_HOUR);
@@ -197,4 +445,10 @@ class MarketServiceTest {
             // then - no exception means correct days value was used
         }
     }
+
+    private static List<String> coinIds(CoinListing listing) {
+        return listing.body().get().coins().stream()
+                .map(CoinSummary::id)
+                .toList();
+    }
 }
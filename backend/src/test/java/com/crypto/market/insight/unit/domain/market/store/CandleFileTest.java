@@ -0,0 +1,107 @@
+package com.crypto.market.insight.unit.domain.market.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import com.crypto.market.insight.domain.market.store.CandleFile;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CandleFileTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("추가한 캔들은 다시 열어도 유지된다")
+    void append_persistsAcrossReopen() throws Exception {
+        // given
+        Path path = tempDir.resolve("bitcoin/usd/four_hours.candles");
+        try (CandleFile file = CandleFile.open(path)) {
+            file.append(series(0, 1000));
+        }
+
+        // when
+        try (CandleFile reopened = CandleFile.open(path)) {
+            // then
+            assertThat(reopened.size()).isEqualTo(1000);
+            assertThat(reopened.firstTimestamp()).isZero();
+            assertThat(reopened.lastTimestamp()).isEqualTo(999 * HOUR);
+            assertThat(reopened.read(500 * HOUR, 501 * HOUR).close(0)).isEqualTo(500.5);
+        }
+    }
+
+    @Test
+    @DisplayName("이미 저장된 시각 이전의 캔들은 추가하지 않는다")
+    void append_skipsAlreadyStoredCandles() throws Exception {
+        try (CandleFile file = CandleFile.open(tempDir.resolve("a.candles"))) {
+            // given
+            file.append(series(0, 10));
+
+            // when
+            int appended = file.append(series(5, 10));
+
+            // then
+            assertThat(appended).isEqualTo(5);
+            assertThat(file.size()).isEqualTo(15);
+            assertThat(file.lastTimestamp()).isEqualTo(14 * HOUR);
+        }
+    }
+
+    @Test
+    @DisplayName("시간 범위 조회는 희소 인덱스 블록 경계와 무관하게 정확하다")
+    void read_returnsExactRange() throws Exception {
+        try (CandleFile file = CandleFile.open(tempDir.resolve("b.candles"))) {
+            // given
+            file.append(series(0, 300));
+
+            // when
+            OhlcSeries range = file.read(63 * HOUR + 1, 129 * HOUR);
+
+            // then
+            assertThat(range.size()).isEqualTo(65);
+            assertThat(range.firstTimestamp()).isEqualTo(64 * HOUR);
+            assertThat(range.lastTimestamp()).isEqualTo(128 * HOUR);
+            assertThat(file.read(-10 * HOUR, 0).isEmpty()).isTrue();
+            assertThat(file.read(400 * HOUR, 500 * HOUR).isEmpty()).isTrue();
+            assertThat(file.read(Long.MIN_VALUE, Long.MAX_VALUE).size()).isEqualTo(300);
+        }
+    }
+
+    @Test
+    @DisplayName("reset은 저장된 캔들을 버리고 다시 쓴다")
+    void reset_rewritesFile() throws Exception {
+        try (CandleFile file = CandleFile.open(tempDir.resolve("c.candles"))) {
+            // given
+            file.append(series(100, 10));
+
+            // when
+            file.reset(series(0, 3));
+
+            // then
+            assertThat(file.size()).isEqualTo(3);
+            assertThat(file.lastTimestamp()).isEqualTo(2 * HOUR);
+        }
+    }
+
+    static OhlcSeries series(int startHour, int count) {
+        long[] timestamps = new long[count];
+        double[] open = new double[count];
+        double[] high = new double[count];
+        double[] low = new double[count];
+        double[] close = new double[count];
+        for (int i = 0; i < count; i++) {
+            int hour = startHour + i;
+            timestamps[i] = hour * HOUR;
+            open[i] = hour;
+            high[i] = hour + 1;
+            low[i] = hour - 1;
+            close[i] = hour + 0.5;
+        }
+        return OhlcSeries.of(timestamps, open, high, low, close);
+    }
+}
@@ -0,0 +1,158 @@
+package com.crypto.market.insight.unit.domain.market.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.crypto.market.insight.domain.market.model.vo.OhlcSeries;
+import com.crypto.market.insight.domain.market.store.CandleFile;
+import com.crypto.market.insight.domain.market.store.CandleStore;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CandleStoreTest {
+
+    private static final long FOUR_HOURS = Duration.ofHours(4).toMillis();
+    private static final long NOW = 1_710_000_000_000L / FOUR_HOURS * FOUR_HOURS;
+
+    @TempDir
+    Path tempDir;
+
+    private final List<String> requestedDays = new ArrayList<>();
+
+    @Test
+    @DisplayName("저장된 이력이 있으면 같은 간격의 더 작은 days로 최근 구간만 받아 이어 붙인다")
+    void load_withHistory_fetchesTailOnly() {
+        // given
+        CandleStore store = store(NOW);
+        OhlcSeries full = store.load("bitcoin", "usd", "30", upstream(NOW));
+
+        // when - 하루 뒤 재조회
+        long later = NOW + Duration.ofDays(1).toMillis();
+        OhlcSeries merged = store(later).load("bitcoin", "usd", "30", upstream(later));
+
+        // then
+        assertThat(requestedDays).containsExactly("30", "7");
+        assertThat(full.size()).isEqualTo(180);
+        assertThat(merged.lastTimestamp()).isEqualTo(later);
+        assertThat(merged.firstTimestamp()).isEqualTo(later - Duration.ofDays(30).toMillis());
+        for (int i = 1; i < merged.size(); i++) {
+            assertThat(merged.timestamp(i) - merged.timestamp(i - 1)).isEqualTo(FOUR_HOURS);
+        }
+    }
+
+    @Test
+    @DisplayName("이력이 오래되어 최근 구간을 작은 days로 덮을 수 없으면 전체를 받는다")
+    void load_staleHistory_fetchesFull() {
+        // given
+        store(NOW).load("bitcoin", "usd", "30", upstream(NOW));
+
+        // when
+        long later = NOW + Duration.ofDays(20).toMillis();
+        store(later).load("bitcoin", "usd", "30", upstream(later));
+
+        // then
+        assertThat(requestedDays).containsExactly("30", "30");
+    }
+
+    @Test
+    @DisplayName("진행 중일 수 있는 마지막 캔들은 저장하지 않는다")
+    void load_doesNotPersistOpenCandle() throws Exception {
+        // when
+        store(NOW).load("bitcoin", "usd", "30", upstream(NOW));
+
+        // then
+        Path file = tempDir.resolve("bitcoin/usd/four_hours.candles");
+        assertThat(Files.exists(file)).isTrue();
+        try (CandleFile candles = CandleFile.open(file)) {
+            assertThat(candles.size()).isEqualTo(179);
+            assertThat(candles.lastTimestamp()).isEqualTo(NOW - FOUR_HOURS);
+        }
+    }
+
+    @Test
+    @DisplayName("경로로 쓸 수 없는 코인 ID는 저장소를 거치지 않는다")
+    void load_unsafeCoinId_bypassesStore() throws Exception {
+        // when
+        store(NOW).load("../etc", "usd", "30", upstream(NOW));
+
+        // then
+        assertThat(requestedDays).containsExactly("30");
+        try (Stream<Path> paths = Files.list(tempDir)) {
+            assertThat(paths).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("최근 구간 응답이 비어 있으면 저장된 이력으로 응답한다")
+    void load_emptyTail_returnsStoredHistory() {
+        // given
+        store(NOW).load("bitcoin", "usd", "30", upstream(NOW));
+
+        // when
+        long later = NOW + Duration.ofDays(1).toMillis();
+        OhlcSeries series = store(later).load("bitcoin", "usd", "30", days -> {
+            requestedDays.add(days);
+            return OhlcSeries.empty();
+        });
+
+        // then
+        assertThat(requestedDays).containsExactly("30", "7");
+        assertThat(series.size()).isEqualTo(174);
+        assertThat(series.lastTimestamp()).isEqualTo(NOW - FOUR_HOURS);
+    }
+
+    @Test
+    @DisplayName("열어 둔 파일 수가 상한을 넘으면 가장 오래 사용하지 않은 파일을 닫고, 필요하면 다시 연다")
+    void load_exceedsMaxOpenFiles_closesLeastRecentlyUsed() {
+        // given
+        CandleStore store = store(NOW, 2);
+        store.load("bitcoin", "usd", "30", upstream(NOW));
+        store.load("ethereum", "usd", "30", upstream(NOW));
+        store.load("bitcoin", "usd", "30", upstream(NOW));
+
+        // when
+        store.load("solana", "usd", "30", upstream(NOW));
+        OhlcSeries reopened = store.load("ethereum", "usd", "30", upstream(NOW));
+
+        // then
+        assertThat(store.openFiles()).isEqualTo(2);
+        assertThat(reopened.size()).isEqualTo(180);
+        store.close();
+    }
+
+    private CandleStore store(long nowMillis) {
+        return store(nowMillis, 16);
+    }
+
+    private CandleStore store(long nowMillis, int maxOpenFiles) {
+        return new CandleStore(true, tempDir, maxOpenFiles,
+                Clock.fixed(Instant.ofEpochMilli(nowMillis), ZoneOffset.UTC));
+    }
+
+    /**
+     * days 구간의 4시간봉을 돌려주는 업스트림 (마지막 캔들 = 현재 시각)
+     */
+    private Function<String, OhlcSeries> upstream(long nowMillis) {
+        return days -> {
+            requestedDays.add(days);
+            int count = (int) (Duration.ofDays(Long.parseLong(days)).toMillis() / FOUR_HOURS);
+            long[] timestamps = new long[count];
+            double[] prices = new double[count];
+            for (int i = 0; i < count; i++) {
+                timestamps[i] = nowMillis - (long) (count - 1 - i) * FOUR_HOURS;
+                prices[i] = timestamps[i] / (double) FOUR_HOURS;
+            }
+            return OhlcSeries.of(timestamps, prices, prices.clone(), prices.clone(), prices.clone());
+        };
+    }
+}
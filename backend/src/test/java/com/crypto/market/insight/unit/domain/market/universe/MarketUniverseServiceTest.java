@@ -0,0 +1,105 @@
+package com.crypto.market.insight.unit.domain.market.universe;
+
+import static com.crypto.market.insight.support.fixture.MarketFixture.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.crypto.market.insight.domain.market.client.CoinGeckoClient;
+import com.crypto.market.insight.domain.market.universe.MarketUniverse;
+import com.crypto.market.insight.domain.market.universe.MarketUniverseService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MarketUniverseServiceTest {
+
+    private static final long NOW = 1709395200000L;
+
+    private final CoinGeckoClient coinGeckoClient = mock(CoinGeckoClient.class);
+    private MarketUniverseService service;
+
+    @BeforeEach
+    void setUp() {
+        when(coinGeckoClient.fetchCoinsMarkets(eq("usd"), isNull(), anyInt(), anyInt()))
+                .thenReturn(defaultCoins());
+        service = service(NOW);
+    }
+
+    @Test
+    @DisplayName("갱신할 때마다 버전이 올라가고 현재 스냅샷이 교체된다 (같은 밀리초면 이전 버전 + 1)")
+    void refresh_publishesNextVersion() {
+        // when
+        MarketUniverse first = service.refresh();
+        MarketUniverse second = service.refresh();
+
+        // then - 첫 페이지가 250개보다 적으므로 한 번만 호출하고 전체를 받은 것으로 본다
+        assertThat(first.version()).isEqualTo(NOW);
+        assertThat(second.version()).isEqualTo(NOW + 1);
+        assertThat(service.current()).isSameAs(second);
+        assertThat(second.isComplete()).isTrue();
+        verify(coinGeckoClient, times(2))
+                .fetchCoinsMarkets(eq("usd"), isNull(), eq(250), eq(1));
+    }
+
+    @Test
+    @DisplayName("최근 retained-versions개의 스냅샷만 버전으로 조회할 수 있다")
+    void get_returnsRetainedVersionsOnly() {
+        // given
+        MarketUniverse first = service.refresh();
+        MarketUniverse second = service.refresh();
+        MarketUniverse third = service.refresh();
+
+        // when & then
+        assertThat(service.get(third.version())).isSameAs(third);
+        assertThat(service.get(second.version())).isSameAs(second);
+        assertThat(service.get(first.version())).isNull();
+    }
+
+    @Test
+    @DisplayName("새 스냅샷이 교체된 뒤 리스너에 알린다")
+    void refresh_notifiesListeners() {
+        // given
+        List<Long> notified = new ArrayList<>();
+        service.addListener(universe -> {
+            assertThat(service.current()).isSameAs(universe);
+            notified.add(universe.version());
+        });
+
+        // when
+        service.refresh();
+
+        // then
+        assertThat(notified).containsExactly(NOW);
+    }
+
+    @Test
+    @DisplayName("버전은 스냅샷 시각에서 나오므로 재시작해도 이전 프로세스의 버전보다 크다")
+    void version_monotonicAcrossRestart() {
+        // given
+        MarketUniverse beforeRestart = service.refresh();
+        service.refresh();
+
+        // when
+        MarketUniverse afterRestart = service(NOW + 60_000).refresh();
+
+        // then
+        assertThat(afterRestart.version()).isEqualTo(afterRestart.refreshedAt()).isGreaterThan(beforeRestart.version());
+    }
+
+    private MarketUniverseService service(long nowMillis) {
+        return new MarketUniverseService(coinGeckoClient, new SimpleMeterRegistry(), true, 4, 2,
+                Clock.fixed(Instant.ofEpochMilli(nowMillis), ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,82 @@
+package com.crypto.market.insight.unit.domain.market.universe;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.crypto.market.insight.domain.market.dto.CoinMarketData;
+import com.crypto.market.insight.domain.market.model.vo.CoinSort;
+import com.crypto.market.insight.domain.market.universe.MarketUniverse;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort.Direction;
+
+class MarketUniverseTest {
+
+    private final MarketUniverse universe = new MarketUniverse(1L, List.of(
+            coin("bitcoin", 1, "900", "2.5"),
+            coin("ethereum", 2, "500", "-1.2"),
+            coin("tether", 3, "900", null),
+            coin("solana", 4, "300", "7.8")), false, 0L);
+
+    @Test
+    @DisplayName("거래량 내림차순으로 정렬하고 같은 값은 시가총액 순위순을 유지한다")
+    void page_volumeDescending_keepsRankForTies() {
+        // when
+        List<CoinMarketData> result = universe.page(CoinSort.VOLUME, Direction.DESC, 1, 10);
+
+        // then
+        assertThat(result).extracting(CoinMarketData::id)
+                .containsExactly("bitcoin", "tether", "ethereum", "solana");
+    }
+
+    @Test
+    @DisplayName("값이 없는 코인은 정렬 방향과 관계없이 뒤에 둔다")
+    void page_nullValues_sortedLast() {
+        // when
+        List<CoinMarketData> descending = universe.page(CoinSort.PRICE_CHANGE_24H, Direction.DESC, 1, 10);
+        List<CoinMarketData> ascending = universe.page(CoinSort.PRICE_CHANGE_24H, Direction.ASC, 1, 10);
+
+        // then
+        assertThat(descending).extracting(CoinMarketData::id)
+                .containsExactly("solana", "bitcoin", "ethereum", "tether");
+        assertThat(ascending).extracting(CoinMarketData::id)
+                .containsExactly("ethereum", "bitcoin", "solana", "tether");
+    }
+
+    @Test
+    @DisplayName("페이지는 정렬된 배열의 수정 불가 뷰이며 범위를 벗어나면 빈 목록이다")
+    void page_returnsUnmodifiableSlice() {
+        // when
+        List<CoinMarketData> second = universe.page(CoinSort.MARKET_CAP, Direction.DESC, 2, 3);
+
+        // then
+        assertThat(second).extracting(CoinMarketData::id).containsExactly("solana");
+        assertThat(universe.page(CoinSort.MARKET_CAP, Direction.DESC, 3, 3)).isEmpty();
+        assertThatThrownBy(() -> second.set(0, null)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("ID로 스냅샷에 담긴 코인을 찾는다")
+    void find_byId() {
+        // when & then
+        assertThat(universe.find("solana").marketCapRank()).isEqualTo(4);
+        assertThat(universe.find("unknown")).isNull();
+    }
+
+    @Test
+    @DisplayName("마지막 페이지까지 받은 스냅샷만 크기를 넘는 구간을 담고 있다고 본다")
+    void covers_dependsOnCompleteness() {
+        // when & then
+        assertThat(universe.covers(4)).isTrue();
+        assertThat(universe.covers(5)).isFalse();
+        assertThat(new MarketUniverse(2L, universe.coins(), true, 0L).covers(1000)).isTrue();
+    }
+
+    private static CoinMarketData coin(String id, int rank, String volume, String change) {
+        return new CoinMarketData(id, id, id, null, null, BigDecimal.valueOf(1000 - rank), rank,
+                new BigDecimal(volume), null, null, null, change != null ? new BigDecimal(change) : null,
+                null, null, null);
+    }
+}